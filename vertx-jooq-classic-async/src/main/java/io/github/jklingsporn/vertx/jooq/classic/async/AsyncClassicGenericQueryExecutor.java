@@ -1,10 +1,15 @@
 package io.github.jklingsporn.vertx.jooq.classic.async;
 
 import io.github.jklingsporn.vertx.jooq.shared.async.AbstractAsyncQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncSQLRowReadStream;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryTemplates;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.asyncsql.AsyncSQLClient;
 import io.vertx.ext.sql.ResultSet;
 import io.vertx.ext.sql.SQLConnection;
@@ -14,6 +19,7 @@ import org.jooq.Record;
 import org.jooq.ResultQuery;
 import org.jooq.exception.TooManyRowsException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -23,6 +29,9 @@ import java.util.function.Function;
 public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor<Future<List<JsonObject>>, Future<JsonObject>, Future<Integer>> {
 
     protected final AsyncSQLClient delegate;
+    private SQLConnection connection;
+    private boolean transactional;
+    private QueryTemplates templates = new QueryTemplates();
 
     public AsyncClassicGenericQueryExecutor(AsyncSQLClient delegate) {
         this.delegate = delegate;
@@ -30,12 +39,28 @@ public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor
 
     @Override
     public Future<Integer> execute(Query query) {
+        log(query);
+        return execute(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Executes a query that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the number of affected rows.
+     */
+    public Future<Integer> execute(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return execute(query.getSQL(), params);
+    }
+
+    private Future<Integer> execute(String sql, JsonArray params) {
         return getConnection().compose(sqlConnection -> {
-            log(query);
             Future<Integer> future = Future.future();
             sqlConnection.updateWithParams(
-                    query.getSQL(),
-                    getBindValues(query),
+                    sql,
+                    params,
                     this.<UpdateResult,Integer>executeAndClose(UpdateResult::getUpdated,
                             sqlConnection,
                             future)
@@ -44,16 +69,91 @@ public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor
         });
     }
 
+    /**
+     * Executes the queries one after another on one connection without a transaction.
+     * @param queries the queries
+     * @return the total number of affected rows.
+     * @see #executeAll(List, boolean)
+     */
+    public Future<Integer> executeAll(List<? extends Query> queries) {
+        return executeAll(queries, false);
+    }
+
+    @Override
+    public Future<Integer> executeAll(List<? extends Query> queries, boolean transactional) {
+        if(queries.isEmpty()){
+            return Future.succeededFuture(0);
+        }
+        Function<AsyncClassicGenericQueryExecutor, Future<Integer>> executeAll = executor -> {
+            Future<Integer> result = Future.succeededFuture(0);
+            for (Query query : queries) {
+                result = result.compose(rows -> executor.execute(query).map(updated -> rows + updated));
+            }
+            return result;
+        };
+        return transactional ? transaction(executeAll) : session(executeAll);
+    }
+
+    /**
+     * Executes the queries one after another on one connection. Each query is sent as soon as the previous one has
+     * completed, without releasing the connection in between.
+     * @param queries the queries
+     * @param transactional if <code>true</code>, the queries are executed in a transaction that is rolled back if
+     *                      one of the queries fails.
+     * @return the number of affected rows of each query in the order of <code>queries</code>.
+     */
+    public Future<List<Integer>> executeEach(List<? extends Query> queries, boolean transactional) {
+        Function<AsyncClassicGenericQueryExecutor, Future<List<Integer>>> executeEach = executor -> {
+            Future<List<Integer>> result = Future.succeededFuture(new ArrayList<>(queries.size()));
+            for (Query query : queries) {
+                result = result.compose(rows -> executor.execute(query).map(updated -> {
+                    rows.add(updated);
+                    return rows;
+                }));
+            }
+            return result;
+        };
+        return transactional ? transaction(executeEach) : session(executeEach);
+    }
 
     @Override
     public <Q extends Record> Future<List<JsonObject>> findManyJson(ResultQuery<Q> query) {
+        log(query);
+        return findManyJson(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before, e.g. a template registered at
+     * {@link #templates()}.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return a <code>Future</code> that completes with the rows.
+     */
+    public Future<List<JsonObject>> findManyJson(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return findManyJson(query.getSQL(), params);
+    }
+
+    private Future<List<JsonObject>> findManyJson(String sql, JsonArray params) {
+        return query(sql, params, ResultSet::getRows);
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement and maps the <code>ResultSet</code> before the connection is released.
+     * @param sql the SQL
+     * @param params the bind values, already converted into the types of the driver.
+     * @param resultMapper maps the result, e.g. reading the rows by index from <code>ResultSet#getResults()</code>.
+     * @param <X> the result type
+     * @return a <code>Future</code> that completes with the mapped result.
+     */
+    protected <X> Future<X> query(String sql, JsonArray params, Function<ResultSet, X> resultMapper) {
         return getConnection().compose(sqlConnection -> {
-            log(query);
-            Future<List<JsonObject>> future = Future.future();
+            Future<X> future = Future.future();
             sqlConnection.queryWithParams(
-                    query.getSQL(),
-                    getBindValues(query),
-                    this.<ResultSet,List<JsonObject>>executeAndClose(ResultSet::getRows, sqlConnection, future)
+                    sql,
+                    params,
+                    this.<ResultSet,X>executeAndClose(resultMapper, sqlConnection, future)
             );
             return future;
         });
@@ -61,36 +161,153 @@ public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor
 
     @Override
     public <Q extends Record> Future<JsonObject> findOneJson(ResultQuery<Q> query) {
+        log(query);
+        return findOneJson(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return a <code>Future</code> that completes with the row or <code>null</code> if there is no row.
+     */
+    public Future<JsonObject> findOneJson(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return findOneJson(query.getSQL(), params);
+    }
+
+    private Future<JsonObject> findOneJson(String sql, JsonArray params) {
+        return query(sql, params, rs -> {
+            List<JsonObject> rows = rs.getRows();
+            switch (rows.size()) {
+                case 0: return null;
+                case 1: return rows.get(0);
+                default: throw new TooManyRowsException(String.format("Found more than one row: %d", rows.size()));
+            }
+        });
+    }
+
+    /**
+     * Runs the query using <code>SQLConnection#queryStreamWithParams</code> and streams the rows as they arrive
+     * instead of buffering the whole result. The connection is released when the stream ends, fails or is cancelled.
+     * @param query
+     * @return a <code>ReadStream</code> that starts the query once a handler is set.
+     * @see AsyncSQLRowReadStream
+     */
+    public <Q extends Record> ReadStream<JsonObject> findManyJsonStream(ResultQuery<Q> query) {
+        log(query);
+        return AsyncSQLRowReadStream.byName(delegate, query.getSQL(), getBindValues(query), Function.identity());
+    }
+
+    /**
+     * Borrows one connection from the pool and runs the given function with a <code>QueryExecutor</code> that executes
+     * all queries on that connection. The connection is released once, when the returned <code>Future</code>
+     * completes. Because a connection can only run one query at a time, the queries of a session have to be chained
+     * and must not run concurrently. Calling this method on a <code>QueryExecutor</code> that is already bound to a
+     * connection reuses that connection. Streams always acquire a connection of their own.
+     * @param session a function that runs its queries using the given <code>QueryExecutor</code>.
+     * @param <X> the result type
+     * @return the result of the function.
+     */
+    public <X> Future<X> session(Function<AsyncClassicGenericQueryExecutor, Future<X>> session){
+        if(connection != null){
+            return session.apply(this);
+        }
         return getConnection().compose(sqlConnection -> {
-            log(query);
-            Future<JsonObject> future = Future.future();
-            sqlConnection.queryWithParams(
-                    query.getSQL(),
-                    getBindValues(query),
-                    this.<ResultSet,JsonObject>executeAndClose(rs -> {
-                                List<JsonObject> rows = rs.getRows();
-                                switch (rows.size()) {
-                                    case 0: return null;
-                                    case 1: return rows.get(0);
-                                    default: throw new TooManyRowsException(String.format("Found more than one row: %d", rows.size()));
-                                }
-                            },
-                            sqlConnection,
-                            future)
-            );
-            return future;
+            AsyncClassicGenericQueryExecutor sessionExecutor = newInstance();
+            sessionExecutor.connection = sqlConnection;
+            sessionExecutor.templates = templates;
+            Future<X> result = Future.future();
+            apply(session, sessionExecutor).setHandler(res -> {
+                sqlConnection.close();
+                result.handle(res);
+            });
+            return result;
+        });
+    }
+
+    /**
+     * Runs the given function in a transaction using one connection (see {@link #session(Function)}). The transaction
+     * is committed when the returned <code>Future</code> succeeds and rolled back when it fails. Calling this method on
+     * a <code>QueryExecutor</code> that is already bound to a transaction joins that transaction.
+     * @param transaction a function that runs its queries using the given <code>QueryExecutor</code>.
+     * @param <X> the result type
+     * @return the result of the function after the transaction has been committed.
+     */
+    public <X> Future<X> transaction(Function<AsyncClassicGenericQueryExecutor, Future<X>> transaction){
+        if(transactional){
+            return transaction.apply(this);
+        }
+        return session(sessionExecutor -> {
+            SQLConnection sqlConnection = sessionExecutor.connection;
+            Future<Void> begin = Future.future();
+            sqlConnection.setAutoCommit(false, begin);
+            return begin.compose(v -> {
+                sessionExecutor.transactional = true;
+                Future<X> result = Future.future();
+                apply(transaction, sessionExecutor).setHandler(res -> {
+                    sessionExecutor.transactional = false;
+                    Handler<AsyncResult<Void>> end = ended -> sqlConnection.setAutoCommit(true, autoCommit -> {
+                        if(res.failed()){
+                            result.fail(res.cause());
+                        }else if(ended.failed()){
+                            result.fail(ended.cause());
+                        }else{
+                            result.complete(res.result());
+                        }
+                    });
+                    if(res.succeeded()){
+                        sqlConnection.commit(end);
+                    }else{
+                        sqlConnection.rollback(end);
+                    }
+                });
+                return result;
+            });
         });
     }
 
     /**
-     * @return a Future that returns a SQLConnection or an Exception.
+     * Creates a new instance of this <code>QueryExecutor</code>. Subclasses should override this method so
+     * sessions can use them.
+     * @return a new instance of this <code>QueryExecutor</code>.
+     */
+    protected AsyncClassicGenericQueryExecutor newInstance(){
+        return new AsyncClassicGenericQueryExecutor(delegate);
+    }
+
+    private static <E, X> Future<X> apply(Function<E, Future<X>> function, E executor){
+        try{
+            return function.apply(executor);
+        }catch (RuntimeException e){
+            return Future.failedFuture(e);
+        }
+    }
+
+    /**
+     * @return a Future that returns a SQLConnection or an Exception. If this <code>QueryExecutor</code> is bound to a
+     * session, the connection of that session is returned.
      */
     protected Future<SQLConnection> getConnection(){
+        if(connection != null){
+            return Future.succeededFuture(connection);
+        }
         Future<SQLConnection> future = Future.future();
         delegate.getConnection(future);
         return future;
     }
 
+    /**
+     * Closes the connection unless it is the connection of the session this <code>QueryExecutor</code> is bound to.
+     * @param sqlConnection
+     */
+    protected void release(SQLConnection sqlConnection){
+        if(sqlConnection != connection){
+            sqlConnection.close();
+        }
+    }
+
 
     protected <V,U> Handler<AsyncResult<V>> executeAndClose(Function<V, U> func, SQLConnection sqlConnection, Future<U> resultFuture) {
         return rs -> {
@@ -103,8 +320,16 @@ public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor
             }catch(Throwable e) {
                 resultFuture.fail(e);
             }finally {
-                sqlConnection.close();
+                release(sqlConnection);
             }
         };
     }
+
+    /**
+     * @return the named query templates of this <code>QueryExecutor</code>. They are shared with the
+     * <code>QueryExecutors</code> of its sessions and transactions.
+     */
+    public QueryTemplates templates() {
+        return templates;
+    }
 }
@@ -1,8 +1,15 @@
 package io.github.jklingsporn.vertx.jooq.classic.async;
 
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncSQLRowReadStream;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.asyncsql.AsyncSQLClient;
 import io.vertx.ext.sql.UpdateResult;
 import org.jooq.InsertResultStep;
@@ -20,23 +27,75 @@ import java.util.stream.Collectors;
 public class AsyncClassicQueryExecutor<R extends UpdatableRecord<R>,P,T> extends AsyncClassicGenericQueryExecutor implements QueryExecutor<R,T,Future<List<P>>,Future<P>,Future<Integer>,Future<T>> {
 
     private final Function<JsonObject,P> pojoMapper;
+    private final AsyncPojoMapper<P> rowMapper;
 
     public AsyncClassicQueryExecutor(AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, Table<R> table) {
         super(delegate);
-        this.pojoMapper = convertFromSQL(table).andThen(pojoMapper);
+        this.pojoMapper = convertFromSQL(table).andThen(pojoMapper).andThen(VertxPojo::trackChanges);
+        this.rowMapper = null;
+    }
+
+    /**
+     * @param delegate the client used for query execution.
+     * @param pojoMapper creates a POJO from a row keyed by column name. Only used if the mapper is reflective.
+     * @param mapper the generated mapper of the table used to create the POJOs directly from the rows.
+     */
+    public AsyncClassicQueryExecutor(AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, RecordPojoMapper<R, P> mapper) {
+        super(delegate);
+        this.pojoMapper = convertFromSQL(mapper.getTable()).andThen(pojoMapper).andThen(VertxPojo::trackChanges);
+        this.rowMapper = mapper.isReflective() ? null : new AsyncPojoMapper<>(mapper, this::convertFromAsyncDriverTypes);
+    }
+
+    private AsyncClassicQueryExecutor(AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, AsyncPojoMapper<P> rowMapper) {
+        super(delegate);
+        this.pojoMapper = pojoMapper;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    protected AsyncClassicQueryExecutor<R, P, T> newInstance() {
+        return new AsyncClassicQueryExecutor<>(delegate, pojoMapper, rowMapper);
     }
 
 
     @Override
     public Future<List<P>> findMany(ResultQuery<R> query) {
+        if(rowMapper != null){
+            log(query);
+            return query(query.getSQL(), getBindValues(query), rs -> VertxPojo.trackChangesOfAll(rowMapper.map(rs)));
+        }
         return findManyJson(query).map(ls -> ls.stream().map(pojoMapper).collect(Collectors.toList()));
     }
 
+    @Override
+    public Future<List<P>> findMany(RenderedQuery query, Object... bindValues) {
+        if(rowMapper != null){
+            JsonArray params = getBindValues(query, bindValues);
+            log(query, params);
+            return query(query.getSQL(), params, rs -> VertxPojo.trackChangesOfAll(rowMapper.map(rs)));
+        }
+        return findManyJson(query, bindValues).map(ls -> ls.stream().map(pojoMapper).collect(Collectors.toList()));
+    }
+
     @Override
     public Future<P> findOne(ResultQuery<R> query) {
+        if(rowMapper != null){
+            log(query);
+            return query(query.getSQL(), getBindValues(query), rs -> VertxPojo.trackChanges(rowMapper.mapOne(rs)));
+        }
         return findOneJson(query).map(val -> val == null?null:pojoMapper.apply(val));
     }
 
+    @Override
+    public Future<P> findOne(RenderedQuery query, Object... bindValues) {
+        if(rowMapper != null){
+            JsonArray params = getBindValues(query, bindValues);
+            log(query, params);
+            return query(query.getSQL(), params, rs -> VertxPojo.trackChanges(rowMapper.mapOne(rs)));
+        }
+        return findOneJson(query, bindValues).map(val -> val == null?null:pojoMapper.apply(val));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Future<T> insertReturning(InsertResultStep<R> query, Function<Object, T> keyMapper) {
@@ -54,4 +113,37 @@ public class AsyncClassicQueryExecutor<R extends UpdatableRecord<R>,P,T> extends
         });
     }
 
+    @Override
+    public Future<Integer> afterExecute(Future<Integer> result, Runnable action) {
+        return afterwards(result, action);
+    }
+
+    @Override
+    public Future<T> afterInsertReturning(Future<T> result, Runnable action) {
+        return afterwards(result, action);
+    }
+
+    private static <X> Future<X> afterwards(Future<X> result, Runnable action) {
+        Future<X> completed = Future.future();
+        result.setHandler(res -> {
+            action.run();
+            completed.handle(res);
+        });
+        return completed;
+    }
+
+    /**
+     * Runs the query using <code>SQLConnection#queryStreamWithParams</code> and streams the POJOs as they arrive
+     * instead of buffering the whole result. The connection is released when the stream ends, fails or is cancelled.
+     * @param query
+     * @return a <code>ReadStream</code> that starts the query once a handler is set.
+     * @see AsyncSQLRowReadStream
+     */
+    public ReadStream<P> findManyStream(ResultQuery<R> query) {
+        log(query);
+        if(rowMapper != null){
+            return AsyncSQLRowReadStream.byIndex(delegate, query.getSQL(), getBindValues(query), columns -> rowMapper.forColumns(columns).andThen(VertxPojo::trackChanges));
+        }
+        return AsyncSQLRowReadStream.byName(delegate, query.getSQL(), getBindValues(query), pojoMapper);
+    }
 }
@@ -1,13 +1,26 @@
 package io.github.jklingsporn.vertx.jooq.classic.jdbc;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.AdaptiveBatchSize;
+import io.github.jklingsporn.vertx.jooq.shared.internal.BatchResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryTemplates;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCBatch;
 import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCTransaction;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.TableRecord;
+import org.jooq.UpdatableRecord;
 import org.jooq.impl.DSL;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -17,10 +30,25 @@ public class JDBCClassicGenericQueryExecutor implements JDBCQueryExecutor<Future
 
     protected final Vertx vertx;
     protected final Configuration configuration;
+    protected final JDBCWorkerPool workerPool;
+    private volatile boolean ordered = true;
+    private volatile AdaptiveBatchSize batchSize = AdaptiveBatchSize.create();
+    private QueryTemplates templates = new QueryTemplates();
+    private JDBCTransaction transaction;
 
     public JDBCClassicGenericQueryExecutor(Configuration configuration, Vertx vertx) {
+        this(configuration, vertx, JDBCWorkerPool.shared(vertx));
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public JDBCClassicGenericQueryExecutor(Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
         this.configuration = configuration;
         this.vertx = vertx;
+        this.workerPool = workerPool;
     }
 
     @Override
@@ -28,9 +56,235 @@ public class JDBCClassicGenericQueryExecutor implements JDBCQueryExecutor<Future
         return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))));
     }
 
+    /**
+     * Executes any <code>DSLContext</code>-aware function using the given execution mode.
+     * @param function
+     * @param ordered if <code>false</code>, this execution may run in parallel to other executions issued from the
+     *                same context.
+     * @param <X>
+     * @return the result of this operation.
+     */
+    public <X> Future<X> execute(Function<DSLContext, X> function, boolean ordered){
+        return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))), ordered);
+    }
+
+    /**
+     * Executes any <code>DSLContext</code>-aware function after all previous executions with the same
+     * <code>orderingKey</code> have completed. Executions with different keys may run in parallel.
+     * @param orderingKey the key, e.g. the primary key of the row that is changed.
+     * @param function
+     * @param <X>
+     * @return the result of this operation.
+     */
+    public <X> Future<X> executeOrdered(Object orderingKey, Function<DSLContext, X> function){
+        return executeBlocking(orderingKey, h -> h.complete(function.apply(DSL.using(configuration))));
+    }
+
+    /**
+     * Executes the queries in chunks using JDBC-batches. The chunks are sized like the chunks of
+     * {@link #insertBatch(List)} and are executed one after another in a single blocking execution.
+     * @param queries the queries to execute.
+     * @return the total number of affected rows.
+     * @see JDBCBatch#execute(DSLContext, List, AdaptiveBatchSize)
+     */
+    public Future<Integer> executeAll(List<? extends Query> queries){
+        if(queries.isEmpty()){
+            return Future.succeededFuture(0);
+        }
+        return executeBlocking(h -> h.complete(JDBCBatch.execute(DSL.using(configuration), queries, batchSize).getRows()));
+    }
+
+    /**
+     * Executes a query that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the number of affected rows.
+     * @see RenderedQuery#execute(DSLContext, Object...)
+     */
+    public Future<Integer> execute(RenderedQuery query, Object... bindValues){
+        return executeBlocking(h -> h.complete(query.execute(DSL.using(configuration), bindValues)));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before, e.g. a template registered at
+     * {@link #templates()}.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the result with the values of the selected fields.
+     * @see RenderedQuery#fetch(DSLContext, Object...)
+     */
+    public Future<Result<Record>> fetch(RenderedQuery query, Object... bindValues){
+        return executeBlocking(h -> h.complete(query.fetch(DSL.using(configuration), bindValues)));
+    }
+
+    /**
+     * Inserts the records in chunks using JDBC-batches instead of one multi-row <code>INSERT</code>. The size of the
+     * chunks adapts to the observed latency, see {@link #setBatchSize(AdaptiveBatchSize)}. All chunks are executed
+     * one after another in a single blocking execution. If a chunk fails, the chunks executed before are not rolled
+     * back unless this <code>QueryExecutor</code> is bound to a transaction.
+     * @param records the records to insert.
+     * @return the number of inserted rows per chunk.
+     * @see JDBCBatch#insert(DSLContext, List, AdaptiveBatchSize)
+     */
+    public Future<BatchResult> insertBatch(List<? extends TableRecord<?>> records){
+        return executeBlocking(h -> h.complete(JDBCBatch.insert(DSL.using(configuration), records, batchSize)));
+    }
+
+    /**
+     * Updates the records in chunks using JDBC-batches instead of one round trip per record. The chunks are sized
+     * like the chunks of {@link #insertBatch(List)} and are executed one after another in a single blocking execution.
+     * If a chunk fails, the chunks executed before are not rolled back unless this <code>QueryExecutor</code> is bound
+     * to a transaction.
+     * @param records the records to update.
+     * @return the number of updated rows of each record in the order of <code>records</code>.
+     * @see JDBCBatch#update(DSLContext, List, AdaptiveBatchSize)
+     */
+    public Future<List<Integer>> updateBatch(List<? extends UpdatableRecord<?>> records){
+        return executeBlocking(h -> h.complete(JDBCBatch.update(DSL.using(configuration), records, batchSize)));
+    }
+
+    /**
+     * Runs the given function in a transaction. All statements executed by the <code>QueryExecutor</code> passed to
+     * the function share one connection and are executed one after another. The transaction is committed when the
+     * returned <code>Future</code> succeeds and rolled back when it fails. Calling this method on a
+     * <code>QueryExecutor</code> that is already bound to a transaction joins that transaction.
+     * @param transaction a function that runs its statements using the given <code>QueryExecutor</code>.
+     * @param <X> the result type
+     * @return a <code>Future</code> that completes with the result of the function after the transaction has been
+     * committed, or fails after it has been rolled back.
+     */
+    public <X> Future<X> transaction(Function<JDBCClassicGenericQueryExecutor, Future<X>> transaction){
+        if(this.transaction != null){
+            return transaction.apply(this);
+        }
+        JDBCTransaction tx = new JDBCTransaction(configuration, workerPool);
+        Future<Configuration> begun = Future.future();
+        tx.begin(begun);
+        return begun.compose(txConfiguration -> {
+            JDBCClassicGenericQueryExecutor txExecutor = newInstance(txConfiguration);
+            txExecutor.transaction = tx;
+            txExecutor.batchSize = batchSize;
+            txExecutor.templates = templates;
+            Future<X> result;
+            try{
+                result = transaction.apply(txExecutor);
+            }catch (RuntimeException e){
+                result = Future.failedFuture(e);
+            }
+            Future<X> completed = Future.future();
+            result.setHandler(res -> {
+                if(res.succeeded()){
+                    tx.commit(commit -> {
+                        if(commit.succeeded()){
+                            completed.complete(res.result());
+                        }else{
+                            completed.fail(commit.cause());
+                        }
+                    });
+                }else{
+                    tx.rollback(rollback -> completed.fail(res.cause()));
+                }
+            });
+            return completed;
+        });
+    }
+
+    /**
+     * Creates a new instance of this <code>QueryExecutor</code>. Subclasses should override this method so
+     * transactions can use them.
+     * @param configuration the configuration of the new instance.
+     * @return a new instance of this <code>QueryExecutor</code>.
+     */
+    protected JDBCClassicGenericQueryExecutor newInstance(Configuration configuration){
+        return new JDBCClassicGenericQueryExecutor(configuration, vertx, workerPool);
+    }
+
     protected <X> Future<X> executeBlocking(Handler<Future<X>> blockingCodeHandler){
+        return executeBlocking(blockingCodeHandler, ordered);
+    }
+
+    protected <X> Future<X> executeBlocking(Handler<Future<X>> blockingCodeHandler, boolean ordered){
+        Future<X> future = Future.future();
+        if(transaction != null){
+            transaction.executeBlocking(blockingCodeHandler, future);
+        }else{
+            workerPool.executeBlocking(blockingCodeHandler, ordered, future);
+        }
+        return future;
+    }
+
+    protected <X> Future<X> executeBlocking(Object orderingKey, Handler<Future<X>> blockingCodeHandler){
         Future<X> future = Future.future();
-        vertx.executeBlocking(blockingCodeHandler,future);
+        if(transaction != null){
+            transaction.executeBlocking(blockingCodeHandler, future);
+        }else{
+            workerPool.executeBlocking(orderingKey, blockingCodeHandler, future);
+        }
         return future;
     }
+
+    /**
+     * @return the configuration used for query execution.
+     */
+    public Configuration configuration() {
+        return configuration;
+    }
+
+    /**
+     * @return the pool a <code>JDBCCursorReadStream</code> fetches its rows on: the pool of this
+     * <code>QueryExecutor</code> or, if it is bound to a transaction, a pool that executes the fetches as part of the
+     * transaction.
+     */
+    protected JDBCWorkerPool cursorWorkerPool() {
+        return transaction == null ? workerPool : transaction.asWorkerPool();
+    }
+
+    /**
+     * @return the pool used to execute the blocking code.
+     */
+    public JDBCWorkerPool workerPool() {
+        return workerPool;
+    }
+
+    /**
+     * @param ordered if <code>false</code>, queries issued from the same context are no longer executed one after
+     *                another but may run in parallel. Defaults to <code>true</code>.
+     * @return a reference to this
+     */
+    public JDBCClassicGenericQueryExecutor setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * @return whether queries issued from the same context are executed one after another.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * @param batchSize determines the size of the chunks of {@link #insertBatch(List)} and {@link #updateBatch(List)}. The instance is shared by
+     *                  all bulk operations of this <code>QueryExecutor</code>. Defaults to {@link AdaptiveBatchSize#create()}.
+     * @return a reference to this
+     */
+    public JDBCClassicGenericQueryExecutor setBatchSize(AdaptiveBatchSize batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @return the batch size used by bulk operations.
+     */
+    public AdaptiveBatchSize getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the named query templates of this <code>QueryExecutor</code>. They are shared with the
+     * <code>QueryExecutors</code> of its sessions and transactions.
+     */
+    public QueryTemplates templates() {
+        return templates;
+    }
 }
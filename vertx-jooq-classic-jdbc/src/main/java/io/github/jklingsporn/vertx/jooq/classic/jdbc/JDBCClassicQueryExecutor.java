@@ -1,9 +1,16 @@
 package io.github.jklingsporn.vertx.jooq.classic.jdbc;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCCursorReadStream;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
 import org.jooq.*;
+import org.jooq.impl.DSL;
 
 import java.util.List;
 import java.util.function.Function;
@@ -13,21 +20,60 @@ import java.util.function.Function;
  */
 public class JDBCClassicQueryExecutor<R extends UpdatableRecord<R>,P,T> extends JDBCClassicGenericQueryExecutor implements QueryExecutor<R,T,Future<List<P>>,Future<P>,Future<Integer>,Future<T>> {
 
-    private final Class<P> daoType;
+    private final RecordPojoMapper<R,P> mapper;
 
     public JDBCClassicQueryExecutor(Class<P> daoType, Configuration configuration, Vertx vertx) {
+        this(RecordPojoMapper.reflective(null, daoType), configuration, vertx);
+    }
+
+    /**
+     * @param mapper maps the fetched records to POJOs, e.g. the mapper of a generated DAO.
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     */
+    public JDBCClassicQueryExecutor(RecordPojoMapper<R,P> mapper, Configuration configuration, Vertx vertx) {
         super(configuration,vertx);
-        this.daoType = daoType;
+        this.mapper = mapper;
+    }
+
+    public JDBCClassicQueryExecutor(Class<P> daoType, Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
+        this(RecordPojoMapper.reflective(null, daoType), configuration, vertx, workerPool);
+    }
+
+    /**
+     * @param mapper maps the fetched records to POJOs, e.g. the mapper of a generated DAO.
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public JDBCClassicQueryExecutor(RecordPojoMapper<R,P> mapper, Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
+        super(configuration,vertx,workerPool);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected JDBCClassicQueryExecutor<R, P, T> newInstance(Configuration configuration) {
+        return new JDBCClassicQueryExecutor<>(mapper, configuration, vertx, workerPool);
     }
 
     @Override
     public Future<List<P>> findMany(ResultQuery<R> query) {
-        return executeBlocking(h->h.complete(query.fetchInto(daoType)));
+        return executeBlocking(h->h.complete(VertxPojo.trackChangesOfAll(mapper.map(query.fetch()))));
+    }
+
+    @Override
+    public Future<List<P>> findMany(RenderedQuery query, Object... bindValues) {
+        return executeBlocking(h->h.complete(VertxPojo.trackChangesOfAll(mapper.map(query.fetch(DSL.using(configuration), bindValues)))));
     }
 
     @Override
     public Future<P> findOne(ResultQuery<R> query) {
-        return executeBlocking(h->h.complete(query.fetchOneInto(daoType)));
+        return executeBlocking(h->h.complete(VertxPojo.trackChanges(mapper.map(query.fetchOne()))));
+    }
+
+    @Override
+    public Future<P> findOne(RenderedQuery query, Object... bindValues) {
+        return executeBlocking(h->h.complete(VertxPojo.trackChanges(mapper.map(query.fetchOne(DSL.using(configuration), bindValues)))));
     }
 
     @Override
@@ -40,5 +86,38 @@ public class JDBCClassicQueryExecutor<R extends UpdatableRecord<R>,P,T> extends
         return executeBlocking(h->h.complete(keyMapper.apply(query.fetchOne())));
     }
 
+    @Override
+    public Future<Integer> afterExecute(Future<Integer> result, Runnable action) {
+        return afterwards(result, action);
+    }
 
+    @Override
+    public Future<T> afterInsertReturning(Future<T> result, Runnable action) {
+        return afterwards(result, action);
+    }
+
+    private static <X> Future<X> afterwards(Future<X> result, Runnable action) {
+        Future<X> completed = Future.future();
+        result.setHandler(res -> {
+            action.run();
+            completed.handle(res);
+        });
+        return completed;
+    }
+
+    /**
+     * Runs the query using a lazy <code>Cursor</code> and streams the result: rows are fetched and mapped in chunks
+     * of <code>fetchSize</code> on the worker pool and the next chunk is only fetched after the previous one
+     * has been consumed by the (not paused) stream. Use this instead of {@link #findMany(ResultQuery)} for
+     * large results that should not be held in memory at once. Within a transaction, the chunks are fetched one after
+     * another with the other statements of the transaction, so the stream has to be consumed or closed before the
+     * transaction completes. Fetches after the transaction has completed fail.
+     * @param query
+     * @param fetchSize the number of rows fetched at once.
+     * @return a <code>ReadStream</code> that starts fetching rows once a handler is set.
+     * @see JDBCCursorReadStream
+     */
+    public ReadStream<P> findManyStream(ResultQuery<R> query, int fetchSize) {
+        return new JDBCCursorReadStream<>(cursorWorkerPool(), query, result -> VertxPojo.trackChangesOfAll(mapper.map(result)), fetchSize);
+    }
 }
@@ -0,0 +1,64 @@
+package io.github.jklingsporn.vertx.jooq.classic;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.AbstractCachingVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.EntityCache;
+import io.vertx.core.Future;
+import org.jooq.UpdatableRecord;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@code VertxDAO} that caches the POJOs of {@code findOneById} and {@code findManyByIds}, see
+ * {@link AbstractCachingVertxDAO}.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class CachingVertxDAO<R extends UpdatableRecord<R>, P, T> extends AbstractCachingVertxDAO<P, T, Future<List<P>>, Future<P>, Future<Integer>, Future<T>> implements VertxDAO<R, P, T> {
+
+    public CachingVertxDAO(VertxDAO<R, P, T> delegate, Function<P, T> keyFunction, EntityCache<T, P> cache) {
+        super(delegate, keyFunction, cache);
+    }
+
+    @Override
+    protected Future<P> findOneToFuture(Future<P> result) {
+        return result;
+    }
+
+    @Override
+    protected Future<P> findOneFromFuture(Supplier<Future<P>> result) {
+        return result.get();
+    }
+
+    @Override
+    protected Future<List<P>> findManyToFuture(Future<List<P>> result) {
+        return result;
+    }
+
+    @Override
+    protected Future<List<P>> findManyFromFuture(Supplier<Future<List<P>>> result) {
+        return result.get();
+    }
+
+    @Override
+    protected Future<Integer> executeToFuture(Future<Integer> result) {
+        return result;
+    }
+
+    @Override
+    protected Future<Integer> executeFromFuture(Supplier<Future<Integer>> result) {
+        return result.get();
+    }
+
+    @Override
+    protected Future<T> insertReturningToFuture(Future<T> result) {
+        return result;
+    }
+
+    @Override
+    protected Future<T> insertReturningFromFuture(Supplier<Future<T>> result) {
+        return result.get();
+    }
+}
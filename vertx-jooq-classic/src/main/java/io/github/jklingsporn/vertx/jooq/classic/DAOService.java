@@ -0,0 +1,16 @@
+package io.github.jklingsporn.vertx.jooq.classic;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.GenericDAOService;
+import io.vertx.core.Future;
+
+import java.util.List;
+
+/**
+ * The operations of a {@link VertxDAO} that address the rows by their POJOs or primary keys. They are implemented by
+ * every {@code VertxDAO} and by the {@link DAOServiceProxy}, which sends them over the event bus.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public interface DAOService<P, T> extends GenericDAOService<P, T, Future<List<P>>,Future<P>,Future<Integer>,Future<T>> {
+
+}
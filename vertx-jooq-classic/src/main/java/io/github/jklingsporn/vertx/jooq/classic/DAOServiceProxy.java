@@ -0,0 +1,82 @@
+package io.github.jklingsporn.vertx.jooq.classic;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.AbstractDAOServiceProxy;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceAction;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@link DAOService} that sends all operations over the event bus to a {@link DAOServiceVerticle}.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class DAOServiceProxy<P, T> extends AbstractDAOServiceProxy<P, T> implements DAOService<P, T> {
+
+    public DAOServiceProxy(Vertx vertx, String address, DAOServiceCodec codec) {
+        super(vertx, address, codec);
+    }
+
+    @Override
+    public Future<Integer> insert(P pojo) {
+        return request(DAOServiceAction.INSERT, pojo);
+    }
+
+    @Override
+    public Future<Integer> insert(Collection<P> pojos) {
+        return request(DAOServiceAction.INSERT_ALL, pojos);
+    }
+
+    @Override
+    public Future<T> insertReturningPrimary(P pojo) {
+        return request(DAOServiceAction.INSERT_RETURNING_PRIMARY, pojo);
+    }
+
+    @Override
+    public Future<Integer> update(P pojo) {
+        return request(DAOServiceAction.UPDATE, pojo);
+    }
+
+    @Override
+    public Future<Integer> update(Collection<P> pojos) {
+        return request(DAOServiceAction.UPDATE_ALL, pojos);
+    }
+
+    @Override
+    public Future<Integer> upsert(P pojo) {
+        return request(DAOServiceAction.UPSERT, pojo);
+    }
+
+    @Override
+    public Future<Integer> upsert(Collection<P> pojos) {
+        return request(DAOServiceAction.UPSERT_ALL, pojos);
+    }
+
+    @Override
+    public Future<Integer> deleteById(T id) {
+        return request(DAOServiceAction.DELETE_BY_ID, id);
+    }
+
+    @Override
+    public Future<Integer> deleteByIds(Collection<T> ids) {
+        return request(DAOServiceAction.DELETE_BY_IDS, ids);
+    }
+
+    @Override
+    public Future<P> findOneById(T id) {
+        return request(DAOServiceAction.FIND_ONE_BY_ID, id);
+    }
+
+    @Override
+    public Future<List<P>> findManyByIds(Collection<T> ids) {
+        return request(DAOServiceAction.FIND_MANY_BY_IDS, ids);
+    }
+
+    @Override
+    public Future<List<P>> findAll() {
+        return request(DAOServiceAction.FIND_ALL);
+    }
+}
@@ -1,6 +1,10 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture.async;
 
+import io.github.jklingsporn.vertx.jooq.completablefuture.ReadStreamPublisher;
 import io.github.jklingsporn.vertx.jooq.shared.async.AbstractAsyncQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncSQLRowReadStream;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryTemplates;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -15,7 +19,9 @@ import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.ResultQuery;
 import org.jooq.exception.TooManyRowsException;
+import org.reactivestreams.Publisher;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -27,19 +33,126 @@ public class AsyncCompletableFutureGenericQueryExecutor extends AbstractAsyncQue
 
     protected final Vertx vertx;
     protected final AsyncSQLClient delegate;
+    private SQLConnection connection;
+    private boolean transactional;
+    private QueryTemplates templates = new QueryTemplates();
 
     public AsyncCompletableFutureGenericQueryExecutor(Vertx vertx, AsyncSQLClient delegate) {
         this.vertx = vertx;
         this.delegate = delegate;
     }
 
+    /**
+     * Borrows one connection from the pool and runs the given function with a <code>QueryExecutor</code> that executes
+     * all queries on that connection. The connection is released once, when the returned <code>CompletableFuture</code>
+     * completes. Because a connection can only run one query at a time, the queries of a session have to be chained
+     * and must not run concurrently. Calling this method on a <code>QueryExecutor</code> that is already bound to a
+     * connection reuses that connection. Streams always acquire a connection of their own.
+     * @param session a function that runs its queries using the given <code>QueryExecutor</code>.
+     * @param <X> the result type
+     * @return the result of the function.
+     */
+    public <X> CompletableFuture<X> session(Function<AsyncCompletableFutureGenericQueryExecutor, CompletableFuture<X>> session){
+        if(connection != null){
+            return session.apply(this);
+        }
+        return getConnection().thenCompose(sqlConnection -> {
+            AsyncCompletableFutureGenericQueryExecutor sessionExecutor = newInstance();
+            sessionExecutor.connection = sqlConnection;
+            sessionExecutor.templates = templates;
+            CompletableFuture<X> result = new VertxCompletableFuture<>(vertx);
+            apply(session, sessionExecutor).whenComplete((res, x) -> {
+                sqlConnection.close();
+                if(x == null){
+                    result.complete(res);
+                }else{
+                    result.completeExceptionally(x);
+                }
+            });
+            return result;
+        });
+    }
 
+    /**
+     * Runs the given function in a transaction using one connection (see {@link #session(Function)}). The transaction
+     * is committed when the returned <code>CompletableFuture</code> succeeds and rolled back when it fails. Calling
+     * this method on a <code>QueryExecutor</code> that is already bound to a transaction joins that transaction.
+     * @param transaction a function that runs its queries using the given <code>QueryExecutor</code>.
+     * @param <X> the result type
+     * @return the result of the function after the transaction has been committed.
+     */
+    public <X> CompletableFuture<X> transaction(Function<AsyncCompletableFutureGenericQueryExecutor, CompletableFuture<X>> transaction){
+        if(transactional){
+            return transaction.apply(this);
+        }
+        return session(sessionExecutor -> {
+            SQLConnection sqlConnection = sessionExecutor.connection;
+            CompletableFuture<Void> begin = new VertxCompletableFuture<>(vertx);
+            sqlConnection.setAutoCommit(false, executeAndComplete(begin));
+            return begin.thenCompose(v -> {
+                sessionExecutor.transactional = true;
+                CompletableFuture<X> result = new VertxCompletableFuture<>(vertx);
+                apply(transaction, sessionExecutor).whenComplete((res, x) -> {
+                    sessionExecutor.transactional = false;
+                    Handler<AsyncResult<Void>> end = ended -> sqlConnection.setAutoCommit(true, autoCommit -> {
+                        if(x != null){
+                            result.completeExceptionally(x);
+                        }else if(ended.failed()){
+                            result.completeExceptionally(ended.cause());
+                        }else{
+                            result.complete(res);
+                        }
+                    });
+                    if(x == null){
+                        sqlConnection.commit(end);
+                    }else{
+                        sqlConnection.rollback(end);
+                    }
+                });
+                return result;
+            });
+        });
+    }
+
+    /**
+     * Creates a new instance of this <code>QueryExecutor</code>. Subclasses should override this method so
+     * sessions can use them.
+     * @return a new instance of this <code>QueryExecutor</code>.
+     */
+    protected AsyncCompletableFutureGenericQueryExecutor newInstance(){
+        return new AsyncCompletableFutureGenericQueryExecutor(vertx, delegate);
+    }
+
+    private <E, X> CompletableFuture<X> apply(Function<E, CompletableFuture<X>> function, E executor){
+        try{
+            return function.apply(executor);
+        }catch (RuntimeException e){
+            CompletableFuture<X> failed = new VertxCompletableFuture<>(vertx);
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private <V> Handler<AsyncResult<V>> executeAndComplete(CompletableFuture<V> cf){
+        return res -> {
+            if (res.succeeded()) {
+                cf.complete(res.result());
+            } else {
+                cf.completeExceptionally(res.cause());
+            }
+        };
+    }
 
     /**
-     * @return a CompletableFuture that returns a SQLConnection or an Exception.
+     * @return a CompletableFuture that returns a SQLConnection or an Exception. If this <code>QueryExecutor</code> is
+     * bound to a session, the connection of that session is returned.
      */
     protected CompletableFuture<SQLConnection> getConnection(){
         CompletableFuture<SQLConnection> cf = new VertxCompletableFuture<>(vertx);
+        if(connection != null){
+            cf.complete(connection);
+            return cf;
+        }
         delegate.getConnection(h -> {
             if (h.succeeded()) {
                 cf.complete(h.result());
@@ -59,31 +172,136 @@ public class AsyncCompletableFutureGenericQueryExecutor extends AbstractAsyncQue
                     cf.completeExceptionally(rs.cause());
                 }
             }finally {
-                sqlConnection.close();
+                release(sqlConnection);
             }
         };
     }
 
+    /**
+     * Closes the connection unless it is the connection of the session this <code>QueryExecutor</code> is bound to.
+     * @param sqlConnection
+     */
+    protected void release(SQLConnection sqlConnection){
+        if(sqlConnection != connection){
+            sqlConnection.close();
+        }
+    }
+
     @Override
     public CompletableFuture<Integer> execute(Query query) {
+        log(query);
+        return execute(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Executes a query that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the number of affected rows.
+     */
+    public CompletableFuture<Integer> execute(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return execute(query.getSQL(), params);
+    }
+
+    private CompletableFuture<Integer> execute(String sql, JsonArray params) {
         return getConnection().thenCompose(sqlConnection -> {
-            log(query);
             CompletableFuture<Integer> cf = new VertxCompletableFuture<>(vertx);
-            JsonArray bindValues = getBindValues(query);
-            sqlConnection.updateWithParams(query.getSQL(), bindValues, executeAndClose(UpdateResult::getUpdated,sqlConnection,cf));
+            sqlConnection.updateWithParams(sql, params, executeAndClose(UpdateResult::getUpdated,sqlConnection,cf));
             return cf;
         });
     }
 
+    /**
+     * Executes the queries one after another on one connection without a transaction.
+     * @param queries the queries
+     * @return the total number of affected rows.
+     * @see #executeAll(List, boolean)
+     */
+    public CompletableFuture<Integer> executeAll(List<? extends Query> queries) {
+        return executeAll(queries, false);
+    }
+
+    @Override
+    public CompletableFuture<Integer> executeAll(List<? extends Query> queries, boolean transactional) {
+        if(queries.isEmpty()){
+            CompletableFuture<Integer> result = new VertxCompletableFuture<>(vertx);
+            result.complete(0);
+            return result;
+        }
+        Function<AsyncCompletableFutureGenericQueryExecutor, CompletableFuture<Integer>> executeAll = executor -> {
+            CompletableFuture<Integer> result = new VertxCompletableFuture<>(vertx);
+            result.complete(0);
+            for (Query query : queries) {
+                result = result.thenCompose(rows -> executor.execute(query).thenApply(updated -> rows + updated));
+            }
+            return result;
+        };
+        return transactional ? transaction(executeAll) : session(executeAll);
+    }
+
+    /**
+     * Executes the queries one after another on one connection. Each query is sent as soon as the previous one has
+     * completed, without releasing the connection in between.
+     * @param queries the queries
+     * @param transactional if <code>true</code>, the queries are executed in a transaction that is rolled back if
+     *                      one of the queries fails.
+     * @return the number of affected rows of each query in the order of <code>queries</code>.
+     */
+    public CompletableFuture<List<Integer>> executeEach(List<? extends Query> queries, boolean transactional) {
+        Function<AsyncCompletableFutureGenericQueryExecutor, CompletableFuture<List<Integer>>> executeEach = executor -> {
+            CompletableFuture<List<Integer>> result = new VertxCompletableFuture<>(vertx);
+            result.complete(new ArrayList<>(queries.size()));
+            for (Query query : queries) {
+                result = result.thenCompose(rows -> executor.execute(query).thenApply(updated -> {
+                    rows.add(updated);
+                    return rows;
+                }));
+            }
+            return result;
+        };
+        return transactional ? transaction(executeEach) : session(executeEach);
+    }
+
     @Override
     public <Q extends Record> CompletableFuture<List<JsonObject>> findManyJson(ResultQuery<Q> query) {
+        log(query);
+        return findManyJson(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before, e.g. a template registered at
+     * {@link #templates()}.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return a <code>CompletableFuture</code> that completes with the rows.
+     */
+    public CompletableFuture<List<JsonObject>> findManyJson(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return findManyJson(query.getSQL(), params);
+    }
+
+    private CompletableFuture<List<JsonObject>> findManyJson(String sql, JsonArray params) {
+        return query(sql, params, ResultSet::getRows);
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement and maps the <code>ResultSet</code> before the connection is released.
+     * @param sql the SQL
+     * @param params the bind values, already converted into the types of the driver.
+     * @param resultMapper maps the result, e.g. reading the rows by index from <code>ResultSet#getResults()</code>.
+     * @param <X> the result type
+     * @return a <code>CompletableFuture</code> that completes with the mapped result.
+     */
+    protected <X> CompletableFuture<X> query(String sql, JsonArray params, Function<ResultSet, X> resultMapper) {
         return getConnection().thenCompose(sqlConnection -> {
-            log(query);
-            CompletableFuture<List<JsonObject>> cf = new VertxCompletableFuture<>(vertx);
+            CompletableFuture<X> cf = new VertxCompletableFuture<>(vertx);
             sqlConnection.queryWithParams(
-                    query.getSQL(),
-                    getBindValues(query),
-                    executeAndClose(ResultSet::getRows,
+                    sql,
+                    params,
+                    executeAndClose(resultMapper,
                             sqlConnection,
                             cf)
             );
@@ -93,19 +311,50 @@ public class AsyncCompletableFutureGenericQueryExecutor extends AbstractAsyncQue
 
     @Override
     public <Q extends Record> CompletableFuture<JsonObject> findOneJson(ResultQuery<Q> query) {
-        return getConnection().thenCompose(sqlConnection -> {
-            log(query);
-            CompletableFuture<JsonObject> cf = new VertxCompletableFuture<>(vertx);
-            sqlConnection.queryWithParams(query.getSQL(), getBindValues(query), executeAndClose(rs -> {
-                List<JsonObject> rows = rs.getRows();
-                switch (rows.size()) {
-                    case 0: return null;
-                    case 1: return rows.get(0);
-                    default: throw new TooManyRowsException(String.format("Found more than one row: %d", rows.size()));
-                }
-            }, sqlConnection, cf));
-            return cf;
+        log(query);
+        return findOneJson(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return a <code>CompletableFuture</code> that completes with the row or <code>null</code> if there is no row.
+     */
+    public CompletableFuture<JsonObject> findOneJson(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return findOneJson(query.getSQL(), params);
+    }
+
+    private CompletableFuture<JsonObject> findOneJson(String sql, JsonArray params) {
+        return query(sql, params, rs -> {
+            List<JsonObject> rows = rs.getRows();
+            switch (rows.size()) {
+                case 0: return null;
+                case 1: return rows.get(0);
+                default: throw new TooManyRowsException(String.format("Found more than one row: %d", rows.size()));
+            }
         });
     }
 
+    /**
+     * Runs the query using <code>SQLConnection#queryStreamWithParams</code> and streams the rows as they arrive
+     * instead of buffering the whole result. The connection is released when the stream ends, fails or is cancelled.
+     * @param query
+     * @return a <code>Publisher</code> that starts the query when the subscriber requests rows.
+     * @see AsyncSQLRowReadStream
+     */
+    public <Q extends Record> Publisher<JsonObject> findManyJsonStream(ResultQuery<Q> query) {
+        log(query);
+        return new ReadStreamPublisher<>(vertx.getOrCreateContext(), AsyncSQLRowReadStream.byName(delegate, query.getSQL(), getBindValues(query), Function.identity()));
+    }
+
+    /**
+     * @return the named query templates of this <code>QueryExecutor</code>. They are shared with the
+     * <code>QueryExecutors</code> of its sessions and transactions.
+     */
+    public QueryTemplates templates() {
+        return templates;
+    }
 }
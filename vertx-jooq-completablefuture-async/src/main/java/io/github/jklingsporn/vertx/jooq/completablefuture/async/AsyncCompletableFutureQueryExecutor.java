@@ -1,7 +1,14 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture.async;
 
+import io.github.jklingsporn.vertx.jooq.completablefuture.ReadStreamPublisher;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncSQLRowReadStream;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.asyncsql.AsyncSQLClient;
 import io.vertx.ext.sql.UpdateResult;
@@ -10,6 +17,7 @@ import org.jooq.InsertResultStep;
 import org.jooq.ResultQuery;
 import org.jooq.Table;
 import org.jooq.UpdatableRecord;
+import org.reactivestreams.Publisher;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -22,23 +30,76 @@ import java.util.stream.Collectors;
 public class AsyncCompletableFutureQueryExecutor <R extends UpdatableRecord<R>,P,T> extends AsyncCompletableFutureGenericQueryExecutor implements QueryExecutor<R,T,CompletableFuture<List<P>>,CompletableFuture<P>,CompletableFuture<Integer>,CompletableFuture<T>>{
 
     private final Function<JsonObject,P> pojoMapper;
+    private final AsyncPojoMapper<P> rowMapper;
 
     public AsyncCompletableFutureQueryExecutor(Vertx vertx, AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, Table<R> table) {
         super(vertx,delegate);
-        this.pojoMapper =  convertFromSQL(table).andThen(pojoMapper);
+        this.pojoMapper =  convertFromSQL(table).andThen(pojoMapper).andThen(VertxPojo::trackChanges);
+        this.rowMapper = null;
+    }
+
+    /**
+     * @param vertx the vertx instance
+     * @param delegate the client used for query execution.
+     * @param pojoMapper creates a POJO from a row keyed by column name. Only used if the mapper is reflective.
+     * @param mapper the generated mapper of the table used to create the POJOs directly from the rows.
+     */
+    public AsyncCompletableFutureQueryExecutor(Vertx vertx, AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, RecordPojoMapper<R, P> mapper) {
+        super(vertx,delegate);
+        this.pojoMapper =  convertFromSQL(mapper.getTable()).andThen(pojoMapper).andThen(VertxPojo::trackChanges);
+        this.rowMapper = mapper.isReflective() ? null : new AsyncPojoMapper<>(mapper, this::convertFromAsyncDriverTypes);
+    }
+
+    private AsyncCompletableFutureQueryExecutor(Vertx vertx, AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, AsyncPojoMapper<P> rowMapper) {
+        super(vertx,delegate);
+        this.pojoMapper = pojoMapper;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    protected AsyncCompletableFutureQueryExecutor<R, P, T> newInstance() {
+        return new AsyncCompletableFutureQueryExecutor<>(vertx, delegate, pojoMapper, rowMapper);
     }
 
 
     @Override
     public CompletableFuture<List<P>> findMany(ResultQuery<R> query) {
+        if(rowMapper != null){
+            log(query);
+            return query(query.getSQL(), getBindValues(query), rs -> VertxPojo.trackChangesOfAll(rowMapper.map(rs)));
+        }
         return findManyJson(query).thenApply(ls -> ls.stream().map(pojoMapper).collect(Collectors.toList()));
     }
 
+    @Override
+    public CompletableFuture<List<P>> findMany(RenderedQuery query, Object... bindValues) {
+        if(rowMapper != null){
+            JsonArray params = getBindValues(query, bindValues);
+            log(query, params);
+            return query(query.getSQL(), params, rs -> VertxPojo.trackChangesOfAll(rowMapper.map(rs)));
+        }
+        return findManyJson(query, bindValues).thenApply(ls -> ls.stream().map(pojoMapper).collect(Collectors.toList()));
+    }
+
     @Override
     public CompletableFuture<P> findOne(ResultQuery<R> query) {
+        if(rowMapper != null){
+            log(query);
+            return query(query.getSQL(), getBindValues(query), rs -> VertxPojo.trackChanges(rowMapper.mapOne(rs)));
+        }
         return findOneJson(query).thenApply(val -> val == null?null:pojoMapper.apply(val));
     }
 
+    @Override
+    public CompletableFuture<P> findOne(RenderedQuery query, Object... bindValues) {
+        if(rowMapper != null){
+            JsonArray params = getBindValues(query, bindValues);
+            log(query, params);
+            return query(query.getSQL(), params, rs -> VertxPojo.trackChanges(rowMapper.mapOne(rs)));
+        }
+        return findOneJson(query, bindValues).thenApply(val -> val == null?null:pojoMapper.apply(val));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public CompletableFuture<T> insertReturning(InsertResultStep<R> query, Function<Object, T> keyMapper) {
@@ -56,4 +117,28 @@ public class AsyncCompletableFutureQueryExecutor <R extends UpdatableRecord<R>,P
         });
     }
 
+    @Override
+    public CompletableFuture<Integer> afterExecute(CompletableFuture<Integer> result, Runnable action) {
+        return result.whenComplete((rows, error) -> action.run());
+    }
+
+    @Override
+    public CompletableFuture<T> afterInsertReturning(CompletableFuture<T> result, Runnable action) {
+        return result.whenComplete((key, error) -> action.run());
+    }
+
+    /**
+     * Runs the query using <code>SQLConnection#queryStreamWithParams</code> and streams the POJOs as they arrive
+     * instead of buffering the whole result. The connection is released when the stream ends, fails or is cancelled.
+     * @param query
+     * @return a <code>Publisher</code> that starts the query when the subscriber requests rows.
+     * @see AsyncSQLRowReadStream
+     */
+    public Publisher<P> findManyStream(ResultQuery<R> query) {
+        log(query);
+        if(rowMapper != null){
+            return new ReadStreamPublisher<>(vertx.getOrCreateContext(), AsyncSQLRowReadStream.byIndex(delegate, query.getSQL(), getBindValues(query), columns -> rowMapper.forColumns(columns).andThen(VertxPojo::trackChanges)));
+        }
+        return new ReadStreamPublisher<>(vertx.getOrCreateContext(), AsyncSQLRowReadStream.byName(delegate, query.getSQL(), getBindValues(query), pojoMapper));
+    }
 }
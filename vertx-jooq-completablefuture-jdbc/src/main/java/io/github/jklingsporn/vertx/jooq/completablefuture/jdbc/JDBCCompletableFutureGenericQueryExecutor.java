@@ -1,6 +1,13 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture.jdbc;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.AdaptiveBatchSize;
+import io.github.jklingsporn.vertx.jooq.shared.internal.BatchResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryTemplates;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCBatch;
 import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCTransaction;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -8,9 +15,15 @@ import io.vertx.core.Vertx;
 import me.escoffier.vertx.completablefuture.VertxCompletableFuture;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.TableRecord;
+import org.jooq.UpdatableRecord;
 import org.jooq.impl.DSL;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -20,10 +33,25 @@ public class JDBCCompletableFutureGenericQueryExecutor implements JDBCQueryExecu
 
     protected final Configuration configuration;
     protected final Vertx vertx;
+    protected final JDBCWorkerPool workerPool;
+    private volatile boolean ordered = true;
+    private volatile AdaptiveBatchSize batchSize = AdaptiveBatchSize.create();
+    private QueryTemplates templates = new QueryTemplates();
+    private JDBCTransaction transaction;
 
     public JDBCCompletableFutureGenericQueryExecutor(Configuration configuration, Vertx vertx) {
+        this(configuration, vertx, JDBCWorkerPool.shared(vertx));
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public JDBCCompletableFutureGenericQueryExecutor(Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
         this.configuration = configuration;
         this.vertx = vertx;
+        this.workerPool = workerPool;
     }
 
     @Override
@@ -31,17 +59,233 @@ public class JDBCCompletableFutureGenericQueryExecutor implements JDBCQueryExecu
         return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))));
     }
 
+    /**
+     * Executes any <code>DSLContext</code>-aware function using the given execution mode.
+     * @param function
+     * @param ordered if <code>false</code>, this execution may run in parallel to other executions issued from the
+     *                same context.
+     * @param <U>
+     * @return the result of this operation.
+     */
+    public <U> CompletableFuture<U> execute(Function<DSLContext, U> function, boolean ordered){
+        return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))), ordered);
+    }
+
+    /**
+     * Executes any <code>DSLContext</code>-aware function after all previous executions with the same
+     * <code>orderingKey</code> have completed. Executions with different keys may run in parallel.
+     * @param orderingKey the key, e.g. the primary key of the row that is changed.
+     * @param function
+     * @param <U>
+     * @return the result of this operation.
+     */
+    public <U> CompletableFuture<U> executeOrdered(Object orderingKey, Function<DSLContext, U> function){
+        return executeBlocking(orderingKey, h -> h.complete(function.apply(DSL.using(configuration))));
+    }
+
+    /**
+     * Executes the queries in chunks using JDBC-batches. The chunks are sized like the chunks of
+     * {@link #insertBatch(List)} and are executed one after another in a single blocking execution.
+     * @param queries the queries to execute.
+     * @return the total number of affected rows.
+     * @see JDBCBatch#execute(DSLContext, List, AdaptiveBatchSize)
+     */
+    public CompletableFuture<Integer> executeAll(List<? extends Query> queries){
+        if(queries.isEmpty()){
+            VertxCompletableFuture<Integer> result = new VertxCompletableFuture<>(vertx);
+            result.complete(0);
+            return result;
+        }
+        return executeBlocking(h -> h.complete(JDBCBatch.execute(DSL.using(configuration), queries, batchSize).getRows()));
+    }
+
+    /**
+     * Executes a query that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the number of affected rows.
+     * @see RenderedQuery#execute(DSLContext, Object...)
+     */
+    public CompletableFuture<Integer> execute(RenderedQuery query, Object... bindValues){
+        return executeBlocking(h -> h.complete(query.execute(DSL.using(configuration), bindValues)));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before, e.g. a template registered at
+     * {@link #templates()}.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the result with the values of the selected fields.
+     * @see RenderedQuery#fetch(DSLContext, Object...)
+     */
+    public CompletableFuture<Result<Record>> fetch(RenderedQuery query, Object... bindValues){
+        return executeBlocking(h -> h.complete(query.fetch(DSL.using(configuration), bindValues)));
+    }
+
+    /**
+     * Inserts the records in chunks using JDBC-batches instead of one multi-row <code>INSERT</code>. The size of the
+     * chunks adapts to the observed latency, see {@link #setBatchSize(AdaptiveBatchSize)}. All chunks are executed
+     * one after another in a single blocking execution. If a chunk fails, the chunks executed before are not rolled
+     * back unless this <code>QueryExecutor</code> is bound to a transaction.
+     * @param records the records to insert.
+     * @return the number of inserted rows per chunk.
+     * @see JDBCBatch#insert(DSLContext, List, AdaptiveBatchSize)
+     */
+    public CompletableFuture<BatchResult> insertBatch(List<? extends TableRecord<?>> records){
+        return executeBlocking(h -> h.complete(JDBCBatch.insert(DSL.using(configuration), records, batchSize)));
+    }
+
+    /**
+     * Updates the records in chunks using JDBC-batches instead of one round trip per record. The chunks are sized
+     * like the chunks of {@link #insertBatch(List)} and are executed one after another in a single blocking execution.
+     * If a chunk fails, the chunks executed before are not rolled back unless this <code>QueryExecutor</code> is bound
+     * to a transaction.
+     * @param records the records to update.
+     * @return the number of updated rows of each record in the order of <code>records</code>.
+     * @see JDBCBatch#update(DSLContext, List, AdaptiveBatchSize)
+     */
+    public CompletableFuture<List<Integer>> updateBatch(List<? extends UpdatableRecord<?>> records){
+        return executeBlocking(h -> h.complete(JDBCBatch.update(DSL.using(configuration), records, batchSize)));
+    }
+
+    /**
+     * Runs the given function in a transaction. All statements executed by the <code>QueryExecutor</code> passed to
+     * the function share one connection and are executed one after another. The transaction is committed when the
+     * returned <code>CompletableFuture</code> succeeds and rolled back when it fails. Calling this method on a
+     * <code>QueryExecutor</code> that is already bound to a transaction joins that transaction.
+     * @param transaction a function that runs its statements using the given <code>QueryExecutor</code>.
+     * @param <U> the result type
+     * @return a <code>CompletableFuture</code> that completes with the result of the function after the transaction
+     * has been committed, or fails after it has been rolled back.
+     */
+    public <U> CompletableFuture<U> transaction(Function<JDBCCompletableFutureGenericQueryExecutor, CompletableFuture<U>> transaction){
+        if(this.transaction != null){
+            return transaction.apply(this);
+        }
+        JDBCTransaction tx = new JDBCTransaction(configuration, workerPool);
+        VertxCompletableFuture<Configuration> begun = new VertxCompletableFuture<>(vertx);
+        tx.begin(createCompletionHandler(begun));
+        return begun.thenCompose(txConfiguration -> {
+            JDBCCompletableFutureGenericQueryExecutor txExecutor = newInstance(txConfiguration);
+            txExecutor.transaction = tx;
+            txExecutor.batchSize = batchSize;
+            txExecutor.templates = templates;
+            CompletableFuture<U> result;
+            try{
+                result = transaction.apply(txExecutor);
+            }catch (RuntimeException e){
+                result = new VertxCompletableFuture<>(vertx);
+                result.completeExceptionally(e);
+            }
+            VertxCompletableFuture<U> completed = new VertxCompletableFuture<>(vertx);
+            result.whenComplete((res, x) -> {
+                if(x == null){
+                    tx.commit(commit -> {
+                        if(commit.succeeded()){
+                            completed.complete(res);
+                        }else{
+                            completed.completeExceptionally(commit.cause());
+                        }
+                    });
+                }else{
+                    tx.rollback(rollback -> completed.completeExceptionally(x));
+                }
+            });
+            return completed;
+        });
+    }
+
+    /**
+     * Creates a new instance of this <code>QueryExecutor</code>. Subclasses should override this method so
+     * transactions can use them.
+     * @param configuration the configuration of the new instance.
+     * @return a new instance of this <code>QueryExecutor</code>.
+     */
+    protected JDBCCompletableFutureGenericQueryExecutor newInstance(Configuration configuration){
+        return new JDBCCompletableFutureGenericQueryExecutor(configuration, vertx, workerPool);
+    }
+
     /**
      * @param blockingCodeHandler
      * @param <U>
      * @return a CompletableFuture that is completed when the blocking code has been executed by Vertx.
      */
     <U> CompletableFuture<U> executeBlocking(Handler<Future<U>> blockingCodeHandler){
+        return executeBlocking(blockingCodeHandler, ordered);
+    }
+
+    /**
+     * @param blockingCodeHandler
+     * @param ordered
+     * @param <U>
+     * @return a CompletableFuture that is completed when the blocking code has been executed by Vertx.
+     */
+    <U> CompletableFuture<U> executeBlocking(Handler<Future<U>> blockingCodeHandler, boolean ordered){
         VertxCompletableFuture<U> future = new VertxCompletableFuture<>(vertx);
-        vertx.executeBlocking(blockingCodeHandler, createCompletionHandler(future));
+        if(transaction != null){
+            transaction.executeBlocking(blockingCodeHandler, createCompletionHandler(future));
+        }else{
+            workerPool.executeBlocking(blockingCodeHandler, ordered, createCompletionHandler(future));
+        }
         return future;
     }
 
+    /**
+     * @param orderingKey
+     * @param blockingCodeHandler
+     * @param <U>
+     * @return a CompletableFuture that is completed when the blocking code has been executed by Vertx.
+     */
+    <U> CompletableFuture<U> executeBlocking(Object orderingKey, Handler<Future<U>> blockingCodeHandler){
+        VertxCompletableFuture<U> future = new VertxCompletableFuture<>(vertx);
+        if(transaction != null){
+            transaction.executeBlocking(blockingCodeHandler, createCompletionHandler(future));
+        }else{
+            workerPool.executeBlocking(orderingKey, blockingCodeHandler, createCompletionHandler(future));
+        }
+        return future;
+    }
+
+    /**
+     * @return the configuration used for query execution.
+     */
+    public Configuration configuration() {
+        return configuration;
+    }
+
+    /**
+     * @return the pool a <code>JDBCCursorReadStream</code> fetches its rows on: the pool of this
+     * <code>QueryExecutor</code> or, if it is bound to a transaction, a pool that executes the fetches as part of the
+     * transaction.
+     */
+    protected JDBCWorkerPool cursorWorkerPool() {
+        return transaction == null ? workerPool : transaction.asWorkerPool();
+    }
+
+    /**
+     * @return the pool used to execute the blocking code.
+     */
+    public JDBCWorkerPool workerPool() {
+        return workerPool;
+    }
+
+    /**
+     * @param ordered if <code>false</code>, queries issued from the same context are no longer executed one after
+     *                another but may run in parallel. Defaults to <code>true</code>.
+     * @return a reference to this
+     */
+    public JDBCCompletableFutureGenericQueryExecutor setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * @return whether queries issued from the same context are executed one after another.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
 
     /**
      * @param future
@@ -58,4 +302,28 @@ public class JDBCCompletableFutureGenericQueryExecutor implements JDBCQueryExecu
         };
     }
 
+    /**
+     * @param batchSize determines the size of the chunks of {@link #insertBatch(List)} and {@link #updateBatch(List)}. The instance is shared by
+     *                  all bulk operations of this <code>QueryExecutor</code>. Defaults to {@link AdaptiveBatchSize#create()}.
+     * @return a reference to this
+     */
+    public JDBCCompletableFutureGenericQueryExecutor setBatchSize(AdaptiveBatchSize batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @return the batch size used by bulk operations.
+     */
+    public AdaptiveBatchSize getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the named query templates of this <code>QueryExecutor</code>. They are shared with the
+     * <code>QueryExecutors</code> of its sessions and transactions.
+     */
+    public QueryTemplates templates() {
+        return templates;
+    }
 }
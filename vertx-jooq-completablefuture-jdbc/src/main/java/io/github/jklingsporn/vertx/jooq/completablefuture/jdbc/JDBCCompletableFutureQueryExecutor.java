@@ -1,8 +1,16 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture.jdbc;
 
+import io.github.jklingsporn.vertx.jooq.completablefuture.ReadStreamPublisher;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCCursorReadStream;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
 import io.vertx.core.Vertx;
 import org.jooq.*;
+import org.jooq.impl.DSL;
+import org.reactivestreams.Publisher;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -13,22 +21,61 @@ import java.util.function.Function;
  */
 public class JDBCCompletableFutureQueryExecutor<R extends UpdatableRecord<R>,P,T> extends JDBCCompletableFutureGenericQueryExecutor implements QueryExecutor<R,T,CompletableFuture<List<P>>,CompletableFuture<P>,CompletableFuture<Integer>,CompletableFuture<T>> {
 
-    private final Class<P> daoType;
+    private final RecordPojoMapper<R,P> mapper;
 
     public JDBCCompletableFutureQueryExecutor(Class<P> daoType, Configuration configuration, Vertx vertx) {
+        this(RecordPojoMapper.reflective(null, daoType), configuration, vertx);
+    }
+
+    /**
+     * @param mapper maps the fetched records to POJOs, e.g. the mapper of a generated DAO.
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     */
+    public JDBCCompletableFutureQueryExecutor(RecordPojoMapper<R,P> mapper, Configuration configuration, Vertx vertx) {
         super(configuration,vertx);
-        this.daoType = daoType;
+        this.mapper = mapper;
+    }
+
+    public JDBCCompletableFutureQueryExecutor(Class<P> daoType, Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
+        this(RecordPojoMapper.reflective(null, daoType), configuration, vertx, workerPool);
+    }
+
+    /**
+     * @param mapper maps the fetched records to POJOs, e.g. the mapper of a generated DAO.
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public JDBCCompletableFutureQueryExecutor(RecordPojoMapper<R,P> mapper, Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
+        super(configuration,vertx,workerPool);
+        this.mapper = mapper;
     }
 
 
+    @Override
+    protected JDBCCompletableFutureQueryExecutor<R, P, T> newInstance(Configuration configuration) {
+        return new JDBCCompletableFutureQueryExecutor<>(mapper, configuration, vertx, workerPool);
+    }
+
     @Override
     public CompletableFuture<List<P>> findMany(ResultQuery<R> query) {
-        return executeBlocking(h -> h.complete(query.fetchInto(daoType)));
+        return executeBlocking(h -> h.complete(VertxPojo.trackChangesOfAll(mapper.map(query.fetch()))));
+    }
+
+    @Override
+    public CompletableFuture<List<P>> findMany(RenderedQuery query, Object... bindValues) {
+        return executeBlocking(h -> h.complete(VertxPojo.trackChangesOfAll(mapper.map(query.fetch(DSL.using(configuration), bindValues)))));
     }
 
     @Override
     public CompletableFuture<P> findOne(ResultQuery<R> query) {
-        return executeBlocking(h -> h.complete(query.fetchOneInto(daoType)));
+        return executeBlocking(h -> h.complete(VertxPojo.trackChanges(mapper.map(query.fetchOne()))));
+    }
+
+    @Override
+    public CompletableFuture<P> findOne(RenderedQuery query, Object... bindValues) {
+        return executeBlocking(h -> h.complete(VertxPojo.trackChanges(mapper.map(query.fetchOne(DSL.using(configuration), bindValues)))));
     }
 
     @Override
@@ -41,4 +88,29 @@ public class JDBCCompletableFutureQueryExecutor<R extends UpdatableRecord<R>,P,T
         return executeBlocking(h -> h.complete(keyMapper.apply(query.fetchOne())));
     }
 
+    @Override
+    public CompletableFuture<Integer> afterExecute(CompletableFuture<Integer> result, Runnable action) {
+        return result.whenComplete((rows, error) -> action.run());
+    }
+
+    @Override
+    public CompletableFuture<T> afterInsertReturning(CompletableFuture<T> result, Runnable action) {
+        return result.whenComplete((key, error) -> action.run());
+    }
+
+    /**
+     * Runs the query using a lazy <code>Cursor</code> and streams the result: rows are fetched and mapped in chunks
+     * of <code>fetchSize</code> on the worker pool and the next chunk is only fetched when the subscriber
+     * has requested more rows. Use this instead of {@link #findMany(ResultQuery)} for
+     * large results that should not be held in memory at once. Within a transaction, the chunks are fetched one after
+     * another with the other statements of the transaction, so the stream has to be consumed or closed before the
+     * transaction completes. Fetches after the transaction has completed fail.
+     * @param query
+     * @param fetchSize the number of rows fetched at once.
+     * @return a <code>Publisher</code> that starts fetching rows when the subscriber requests them.
+     * @see JDBCCursorReadStream
+     */
+    public Publisher<P> findManyStream(ResultQuery<R> query, int fetchSize) {
+        return new ReadStreamPublisher<>(vertx.getOrCreateContext(), new JDBCCursorReadStream<>(cursorWorkerPool(), query, result -> VertxPojo.trackChangesOfAll(mapper.map(result)), fetchSize));
+    }
 }
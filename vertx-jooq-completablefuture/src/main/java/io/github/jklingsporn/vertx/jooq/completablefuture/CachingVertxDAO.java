@@ -0,0 +1,70 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.AbstractCachingVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.EntityCache;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import me.escoffier.vertx.completablefuture.VertxCompletableFuture;
+import org.jooq.UpdatableRecord;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@code VertxDAO} that caches the POJOs of {@code findOneById} and {@code findManyByIds}, see
+ * {@link AbstractCachingVertxDAO}.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class CachingVertxDAO<R extends UpdatableRecord<R>, P, T> extends AbstractCachingVertxDAO<P, T, CompletableFuture<List<P>>, CompletableFuture<P>, CompletableFuture<Integer>, CompletableFuture<T>> implements VertxDAO<R, P, T> {
+
+    private final Vertx vertx;
+
+    public CachingVertxDAO(Vertx vertx, VertxDAO<R, P, T> delegate, Function<P, T> keyFunction, EntityCache<T, P> cache) {
+        super(delegate, keyFunction, cache);
+        this.vertx = vertx;
+    }
+
+    @Override
+    protected Future<P> findOneToFuture(CompletableFuture<P> result) {
+        return VertxCompletableFuture.toFuture(result);
+    }
+
+    @Override
+    protected CompletableFuture<P> findOneFromFuture(Supplier<Future<P>> result) {
+        return VertxCompletableFuture.from(vertx, result.get());
+    }
+
+    @Override
+    protected Future<List<P>> findManyToFuture(CompletableFuture<List<P>> result) {
+        return VertxCompletableFuture.toFuture(result);
+    }
+
+    @Override
+    protected CompletableFuture<List<P>> findManyFromFuture(Supplier<Future<List<P>>> result) {
+        return VertxCompletableFuture.from(vertx, result.get());
+    }
+
+    @Override
+    protected Future<Integer> executeToFuture(CompletableFuture<Integer> result) {
+        return VertxCompletableFuture.toFuture(result);
+    }
+
+    @Override
+    protected CompletableFuture<Integer> executeFromFuture(Supplier<Future<Integer>> result) {
+        return VertxCompletableFuture.from(vertx, result.get());
+    }
+
+    @Override
+    protected Future<T> insertReturningToFuture(CompletableFuture<T> result) {
+        return VertxCompletableFuture.toFuture(result);
+    }
+
+    @Override
+    protected CompletableFuture<T> insertReturningFromFuture(Supplier<Future<T>> result) {
+        return VertxCompletableFuture.from(vertx, result.get());
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.GenericDAOService;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The operations of a {@link VertxDAO} that address the rows by their POJOs or primary keys. They are implemented by
+ * every {@code VertxDAO} and by the {@link DAOServiceProxy}, which sends them over the event bus.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public interface DAOService<P, T> extends GenericDAOService<P, T, CompletableFuture<List<P>>,CompletableFuture<P>,CompletableFuture<Integer>,CompletableFuture<T>> {
+
+}
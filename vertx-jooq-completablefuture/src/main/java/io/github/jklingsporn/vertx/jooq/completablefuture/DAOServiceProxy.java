@@ -0,0 +1,83 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.AbstractDAOServiceProxy;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceAction;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec;
+import io.vertx.core.Vertx;
+import me.escoffier.vertx.completablefuture.VertxCompletableFuture;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link DAOService} that sends all operations over the event bus to a {@link DAOServiceVerticle}.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class DAOServiceProxy<P, T> extends AbstractDAOServiceProxy<P, T> implements DAOService<P, T> {
+
+    public DAOServiceProxy(Vertx vertx, String address, DAOServiceCodec codec) {
+        super(vertx, address, codec);
+    }
+
+    @Override
+    public CompletableFuture<Integer> insert(P pojo) {
+        return VertxCompletableFuture.from(vertx(), this.<Integer>request(DAOServiceAction.INSERT, pojo));
+    }
+
+    @Override
+    public CompletableFuture<Integer> insert(Collection<P> pojos) {
+        return VertxCompletableFuture.from(vertx(), this.<Integer>request(DAOServiceAction.INSERT_ALL, pojos));
+    }
+
+    @Override
+    public CompletableFuture<T> insertReturningPrimary(P pojo) {
+        return VertxCompletableFuture.from(vertx(), this.<T>request(DAOServiceAction.INSERT_RETURNING_PRIMARY, pojo));
+    }
+
+    @Override
+    public CompletableFuture<Integer> update(P pojo) {
+        return VertxCompletableFuture.from(vertx(), this.<Integer>request(DAOServiceAction.UPDATE, pojo));
+    }
+
+    @Override
+    public CompletableFuture<Integer> update(Collection<P> pojos) {
+        return VertxCompletableFuture.from(vertx(), this.<Integer>request(DAOServiceAction.UPDATE_ALL, pojos));
+    }
+
+    @Override
+    public CompletableFuture<Integer> upsert(P pojo) {
+        return VertxCompletableFuture.from(vertx(), this.<Integer>request(DAOServiceAction.UPSERT, pojo));
+    }
+
+    @Override
+    public CompletableFuture<Integer> upsert(Collection<P> pojos) {
+        return VertxCompletableFuture.from(vertx(), this.<Integer>request(DAOServiceAction.UPSERT_ALL, pojos));
+    }
+
+    @Override
+    public CompletableFuture<Integer> deleteById(T id) {
+        return VertxCompletableFuture.from(vertx(), this.<Integer>request(DAOServiceAction.DELETE_BY_ID, id));
+    }
+
+    @Override
+    public CompletableFuture<Integer> deleteByIds(Collection<T> ids) {
+        return VertxCompletableFuture.from(vertx(), this.<Integer>request(DAOServiceAction.DELETE_BY_IDS, ids));
+    }
+
+    @Override
+    public CompletableFuture<P> findOneById(T id) {
+        return VertxCompletableFuture.from(vertx(), this.<P>request(DAOServiceAction.FIND_ONE_BY_ID, id));
+    }
+
+    @Override
+    public CompletableFuture<List<P>> findManyByIds(Collection<T> ids) {
+        return VertxCompletableFuture.from(vertx(), this.<List<P>>request(DAOServiceAction.FIND_MANY_BY_IDS, ids));
+    }
+
+    @Override
+    public CompletableFuture<List<P>> findAll() {
+        return VertxCompletableFuture.from(vertx(), this.<List<P>>request(DAOServiceAction.FIND_ALL));
+    }
+}
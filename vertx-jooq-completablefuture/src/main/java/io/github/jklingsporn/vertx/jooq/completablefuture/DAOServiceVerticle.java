@@ -0,0 +1,29 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.AbstractDAOServiceVerticle;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import me.escoffier.vertx.completablefuture.VertxCompletableFuture;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Exposes a {@link DAOService}, e.g. a {@code VertxDAO}, on the event bus, see {@link DAOServiceProxy}.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ * @param <DAO> The type of the DAO.
+ */
+public abstract class DAOServiceVerticle<P, T, DAO extends DAOService<P, T>> extends AbstractDAOServiceVerticle<P, T, DAO> {
+
+    protected DAOServiceVerticle(String address, DAOServiceCodec codec, Function<Vertx, DAO> daoFactory) {
+        super(address, codec, daoFactory);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Future<Object> toFuture(Object result) {
+        return VertxCompletableFuture.toFuture((CompletableFuture<Object>) result);
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+import io.vertx.core.buffer.Buffer;
+import org.jooq.Condition;
+import org.jooq.UpdatableRecord;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link VertxDAO} of POJOs implementing <code>VertxPojo</code>, which is the case for all generated POJOs. The
+ * generated DAOs implement this interface.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public interface JsonVertxDAO<R extends UpdatableRecord<R>, P extends VertxPojo, T> extends VertxDAO<R, P, T> {
+
+    /**
+     * Performs an async <code>SELECT</code> using the given condition and writes the POJOs found into a JSON-array
+     * without creating a <code>JsonObject</code> per POJO.
+     * @param condition
+     * @return the JSON-array of the POJOs found.
+     * @see JsonStreams#toBuffer(java.util.Collection)
+     */
+    public default CompletableFuture<Buffer> findManyByConditionAsBuffer(Condition condition){
+        return findManyByCondition(condition).thenApply(JsonStreams::toBuffer);
+    }
+
+    /**
+     * Performs an async <code>SELECT</code> and writes all POJOs into a JSON-array, see
+     * {@link #findManyByConditionAsBuffer(Condition)}.
+     * @return the JSON-array of all POJOs.
+     */
+    public default CompletableFuture<Buffer> findAllAsBuffer(){
+        return findAll().thenApply(JsonStreams::toBuffer);
+    }
+
+}
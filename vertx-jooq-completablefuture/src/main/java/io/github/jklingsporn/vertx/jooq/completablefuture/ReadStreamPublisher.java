@@ -0,0 +1,118 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.vertx.core.Context;
+import io.vertx.core.streams.ReadStream;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapts a <code>ReadStream</code> to a reactive-streams <code>Publisher</code>: the stream is paused whenever the
+ * demand of the subscriber is satisfied and resumed when more elements are requested. All interaction with the stream
+ * happens on the given context, so <code>Subscription#request</code> and <code>Subscription#cancel</code> may be called
+ * from any thread. Cancelling the subscription unsets the stream's handler. Only one subscriber is supported.
+ * @param <T> the element type
+ */
+public class ReadStreamPublisher<T> implements Publisher<T> {
+
+    private final Context context;
+    private final ReadStream<T> stream;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * @param context the context the stream belongs to.
+     * @param stream the stream
+     */
+    public ReadStreamPublisher(Context context, ReadStream<T> stream) {
+        this.context = context;
+        this.stream = stream;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if(!subscribed.compareAndSet(false, true)){
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("This publisher only supports one subscriber"));
+            return;
+        }
+        context.runOnContext(v -> {
+            ReadStreamSubscription subscription = new ReadStreamSubscription(subscriber);
+            stream.pause();
+            stream.exceptionHandler(subscription::onError);
+            stream.endHandler(subscription::onComplete);
+            stream.handler(subscription::onNext);
+            subscriber.onSubscribe(subscription);
+        });
+    }
+
+    private class ReadStreamSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean terminated = new AtomicBoolean();
+
+        private ReadStreamSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if(terminated.get()){
+                return;
+            }
+            if(n <= 0){
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Requested elements must be positive but was " + n));
+                return;
+            }
+            long previous = demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            if(previous == 0){
+                context.runOnContext(v -> {
+                    if(!terminated.get()){
+                        stream.resume();
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if(terminated.compareAndSet(false, true)){
+                context.runOnContext(v -> stream.handler(null));
+            }
+        }
+
+        private void onNext(T element){
+            if(terminated.get()){
+                return;
+            }
+            subscriber.onNext(element);
+            if(demand.get() != Long.MAX_VALUE && demand.decrementAndGet() == 0){
+                stream.pause();
+            }
+        }
+
+        private void onError(Throwable throwable){
+            if(terminated.compareAndSet(false, true)){
+                subscriber.onError(throwable);
+            }
+        }
+
+        private void onComplete(Void v){
+            if(terminated.compareAndSet(false, true)){
+                subscriber.onComplete();
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package io.github.jklingsporn.vertx.jooq.generate;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.BatchResult;
 import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
 import org.jooq.util.DefaultGeneratorStrategy;
 import org.jooq.util.Definition;
+import org.jooq.util.JavaWriter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -40,4 +42,81 @@ public abstract class AbstractVertxGeneratorStrategy extends DefaultGeneratorStr
         }
         return javaClassImplements;
     }
+
+    /**
+     * Writes the <code>findManyStreamByCondition</code> and <code>findAllStream</code> methods delegating to the
+     * <code>findManyStream</code>-method of the <code>QueryExecutor</code>.
+     * @param out
+     * @param streamType the rendered stream type, e.g. {@code ReadStream<P>}
+     * @param queryExecutor the rendered type of the <code>QueryExecutor</code>
+     * @param withFetchSize whether the <code>QueryExecutor</code> expects a fetch size
+     */
+    protected void writeFindManyStreamMethods(JavaWriter out, String streamType, String queryExecutor, boolean withFetchSize){
+        if(withFetchSize){
+            out.tab(1).javadoc("Streams all records matching the condition, fetching <code>fetchSize</code> rows at once.");
+            out.tab(1).println("public %s findManyStreamByCondition(org.jooq.Condition condition, int fetchSize) {", streamType);
+            out.tab(2).println("return ((%s) queryExecutor()).findManyStream(selectQuery(condition), fetchSize);", queryExecutor);
+            out.tab(1).println("}");
+            out.tab(1).javadoc("Streams all records, fetching <code>fetchSize</code> rows at once.");
+            out.tab(1).println("public %s findAllStream(int fetchSize) {", streamType);
+            out.tab(2).println("return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition(), fetchSize);");
+            out.tab(1).println("}");
+        }else{
+            out.tab(1).javadoc("Streams all records matching the condition as they are received from the database.");
+            out.tab(1).println("public %s findManyStreamByCondition(org.jooq.Condition condition) {", streamType);
+            out.tab(2).println("return ((%s) queryExecutor()).findManyStream(selectQuery(condition));", queryExecutor);
+            out.tab(1).println("}");
+            out.tab(1).javadoc("Streams all records as they are received from the database.");
+            out.tab(1).println("public %s findAllStream() {", streamType);
+            out.tab(2).println("return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition());");
+            out.tab(1).println("}");
+        }
+    }
+
+    /**
+     * Writes a method that inserts POJOs in chunks using JDBC-batches.
+     * @param out the JavaWriter
+     * @param futureType the fully qualified name of the future type returned by the DAO, e.g. <code>io.vertx.core.Future</code>
+     * @param pType the POJO type
+     * @param queryExecutor the type of the QueryExecutor
+     */
+    protected void writeInsertBatchMethod(JavaWriter out, String futureType, String pType, String queryExecutor){
+        out.tab(1).javadoc("Inserts the POJOs in chunks using JDBC-batches. The size of the chunks adapts to the observed latency.");
+        out.tab(1).println("public %s<%s> insertBatch(java.util.Collection<%s> pojos) {", futureType, BatchResult.class.getName(), pType);
+        out.tab(2).println("return ((%s) queryExecutor()).insertBatch(newRecords(pojos));", queryExecutor);
+        out.tab(1).println("}");
+    }
+
+    /**
+     * Writes a method that runs a function with a DAO bound to a transaction of the JDBC-<code>QueryExecutor</code>.
+     * @param out the JavaWriter
+     * @param className the name of the DAO class
+     * @param futureType the fully qualified name of the future type returned by the DAO, e.g. <code>io.vertx.core.Future</code>
+     * @param queryExecutor the type of the QueryExecutor
+     */
+    protected void writeTransactionMethod(JavaWriter out, String className, String futureType, String queryExecutor){
+        writeBoundDAOMethod(out, "transaction", "Runs the given function with a DAO that executes all statements on one connection. The transaction is committed\n" +
+                "     * when the returned future succeeds and rolled back when it fails.", className, futureType, queryExecutor, "tx.configuration()");
+    }
+
+    /**
+     * Writes methods that run a function with a DAO bound to a session or transaction of the async-<code>QueryExecutor</code>.
+     * @param out the JavaWriter
+     * @param className the name of the DAO class
+     * @param futureType the fully qualified name of the future type returned by the DAO, e.g. <code>io.vertx.core.Future</code>
+     * @param queryExecutor the type of the QueryExecutor
+     */
+    protected void writeSessionMethods(JavaWriter out, String className, String futureType, String queryExecutor){
+        writeBoundDAOMethod(out, "session", "Runs the given function with a DAO that executes all queries on one connection. The connection is released once\n" +
+                "     * when the returned future completes. The queries have to be chained and must not run concurrently.", className, futureType, queryExecutor, "configuration()");
+        writeBoundDAOMethod(out, "transaction", "Runs the given function with a DAO that executes all queries on one connection. The transaction is committed\n" +
+                "     * when the returned future succeeds and rolled back when it fails.", className, futureType, queryExecutor, "configuration()");
+    }
+
+    private void writeBoundDAOMethod(JavaWriter out, String methodName, String javadoc, String className, String futureType, String queryExecutor, String configuration){
+        out.tab(1).javadoc(javadoc);
+        out.tab(1).println("public <X> %s<X> %s(java.util.function.Function<%s, %s<X>> %s) {", futureType, methodName, className, futureType, methodName);
+        out.tab(2).println("return ((%s) queryExecutor()).%s(tx -> %s.apply(new %s(%s, (%s) tx)));", queryExecutor, methodName, methodName, className, configuration, queryExecutor);
+        out.tab(1).println("}");
+    }
 }
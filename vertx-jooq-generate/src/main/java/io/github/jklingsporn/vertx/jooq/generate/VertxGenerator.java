@@ -2,6 +2,10 @@ package io.github.jklingsporn.vertx.jooq.generate;
 
 import io.github.jklingsporn.vertx.jooq.shared.JsonArrayConverter;
 import io.github.jklingsporn.vertx.jooq.shared.JsonObjectConverter;
+import io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec;
 import io.vertx.core.impl.Arguments;
 import org.jooq.Constants;
 import org.jooq.Name;
@@ -12,6 +16,7 @@ import org.jooq.util.*;
 
 import java.io.File;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,8 +31,12 @@ import java.util.List;
 public class VertxGenerator extends JavaGenerator {
 
     private static final JooqLogger logger = JooqLogger.getLogger(VertxGenerator.class);
+    private static final String JSON_STREAMS = JsonStreams.class.getName();
 
     private final boolean generateJson;
+    private boolean generateChangeTracking;
+    private boolean generateJsonStreaming;
+    private boolean generateMessageCodecs;
     private VertxGeneratorStrategy vertxGeneratorStrategy;
 
     public VertxGenerator() {
@@ -39,14 +48,129 @@ public class VertxGenerator extends JavaGenerator {
         this.setGeneratePojos(true);
     }
 
+    /**
+     * @param generateChangeTracking whether the setters of the generated POJOs keep track of the fields that have been
+     *                               set since the POJO has been fetched, so that <code>VertxDAO#update</code> only
+     *                               updates these fields. Defaults to <code>false</code>.
+     * @return a reference to this
+     * @see io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo#changedFields()
+     */
+    public VertxGenerator setGenerateChangeTracking(boolean generateChangeTracking) {
+        this.generateChangeTracking = generateChangeTracking;
+        return this;
+    }
+
+    /**
+     * @param generateJsonStreaming whether to generate the <code>#writeJson</code> and <code>#readJson</code>-methods
+     *                              which write and read the fields using Jackson's streaming API directly instead of
+     *                              creating a <code>JsonObject</code>. Only applies if the generator generates the
+     *                              <code>#fromJson</code> and <code>#toJson</code>-methods. Defaults to <code>false</code>.
+     * @return a reference to this
+     * @see io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo#writeJson(com.fasterxml.jackson.core.JsonGenerator)
+     * @see io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo#readJson(com.fasterxml.jackson.core.JsonParser)
+     */
+    public VertxGenerator setGenerateJsonStreaming(boolean generateJsonStreaming) {
+        this.generateJsonStreaming = generateJsonStreaming;
+        return this;
+    }
+
+    /**
+     * @param generateMessageCodecs whether to generate a <code>MessageCodec</code> for each POJO, which sends it over
+     *                              the event bus without converting it into JSON, and a <code>PojoCodecs</code>-class
+     *                              to register them. For each DAO, a <code>XYZService</code> is generated which
+     *                              exposes the DAO on the event bus. Defaults to <code>false</code>.
+     * @return a reference to this
+     * @see io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec
+     */
+    public VertxGenerator setGenerateMessageCodecs(boolean generateMessageCodecs) {
+        this.generateMessageCodecs = generateMessageCodecs;
+        return this;
+    }
+
+    @Override
+    protected void generatePojoSetter(TypedElementDefinition<?> column, int index, JavaWriter out) {
+        if(!generateChangeTracking || !(column.getContainer() instanceof TableDefinition)){
+            super.generatePojoSetter(column, index, out);
+            return;
+        }
+        //the changed fields are the indexes of the table fields, which are not necessarily the order of the setters
+        int fieldIndex = ((TableDefinition) column.getContainer()).getColumns().indexOf(column);
+        String className = getStrategy().getJavaClassName(column.getContainer(), GeneratorStrategy.Mode.POJO);
+        String returnType = generateFluentSetters() ? className : "void";
+        String columnType = out.ref(getJavaType(column.getType(), GeneratorStrategy.Mode.POJO));
+        String setter = getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.POJO);
+        String member = getStrategy().getJavaMemberName(column, GeneratorStrategy.Mode.POJO);
+        out.println();
+        out.tab(1).overrideIf(generateInterfaces() && !generateImmutableInterfaces());
+        out.tab(1).println("public %s %s(%s %s) {", returnType, setter, varargsIfArray(columnType), member);
+        out.tab(2).println("this.%s = %s;", member, member);
+        generateMarkChanged(fieldIndex, out);
+        generateSetterFooter(out);
+
+        //like jOOQ, allow to set UDTs and arrays of UDTs by their interface
+        boolean isUDT = column.getType().isUDT();
+        ArrayDefinition udtArray = null;
+        if(column.getType().isArray()){
+            ArrayDefinition array = column.getDatabase().getArray(column.getType().getSchema(), column.getType().getQualifiedUserType());
+            if(array != null && array.getElementType().isUDT()){
+                udtArray = array;
+            }
+        }
+        if(!generateInterfaces() || (!isUDT && udtArray == null)){
+            return;
+        }
+        String interfaceType = out.ref(getJavaType(column.getType(), GeneratorStrategy.Mode.INTERFACE));
+        out.println();
+        out.tab(1).override();
+        out.tab(1).println("public %s %s(%s %s) {", returnType, setter, varargsIfArray(interfaceType), member);
+        out.tab(2).println("if (%s == null)", member);
+        out.tab(3).println("this.%s = null;", member);
+        if(isUDT){
+            out.tab(2).println("else");
+            out.tab(3).println("this.%s = %s.into(new %s());", member, member, columnType);
+        }else{
+            String elementType = out.ref(getJavaType(udtArray.getElementType(), GeneratorStrategy.Mode.POJO));
+            String elementInterface = out.ref(getJavaType(udtArray.getElementType(), GeneratorStrategy.Mode.INTERFACE));
+            out.tab(2).println("else {");
+            out.tab(3).println("this.%s = new %s();", member, ArrayList.class);
+            out.println();
+            out.tab(3).println("for (%s i : %s)", elementInterface, member);
+            out.tab(4).println("this.%s.add(i.into(new %s()));", member, elementType);
+            out.tab(2).println("}");
+        }
+        generateMarkChanged(fieldIndex, out);
+        generateSetterFooter(out);
+    }
+
+    private void generateMarkChanged(int fieldIndex, JavaWriter out){
+        out.tab(2).println("if (this.changedFields != null) {");
+        out.tab(3).println("this.changedFields.set(%s);", fieldIndex);
+        out.tab(2).println("}");
+    }
+
+    private void generateSetterFooter(JavaWriter out){
+        if(generateFluentSetters()){
+            out.tab(2).println("return this;");
+        }
+        out.tab(1).println("}");
+    }
+
+    private String varargsIfArray(String type){
+        return generateVarargsSetters() && type.endsWith("[]") ? type.substring(0, type.length() - 2) + "..." : type;
+    }
+
     @Override
     protected void generatePojoClassFooter(TableDefinition table, JavaWriter out) {
         super.generatePojoClassFooter(table, out);
+        if(generateChangeTracking){
+            generateChangeTracking(out);
+        }
         if(generateJson){
             generateFromJsonConstructor(table,out, GeneratorStrategy.Mode.POJO);
             if(!generateInterfaces()){
                 generateFromJson(table,out, GeneratorStrategy.Mode.POJO);
                 generateToJson(table, out, GeneratorStrategy.Mode.POJO);
+                generateStreamingJson(table, out, GeneratorStrategy.Mode.POJO);
             }
         }
     }
@@ -57,6 +181,7 @@ public class VertxGenerator extends JavaGenerator {
         if(generateJson && generateInterfaces()){
             generateFromJson(table, out, GeneratorStrategy.Mode.INTERFACE);
             generateToJson(table, out, GeneratorStrategy.Mode.INTERFACE);
+            generateStreamingJson(table, out, GeneratorStrategy.Mode.INTERFACE);
         }
     }
 
@@ -68,6 +193,7 @@ public class VertxGenerator extends JavaGenerator {
             if(!generateInterfaces()){
                 generateFromJson(table,out, GeneratorStrategy.Mode.RECORD);
                 generateToJson(table, out, GeneratorStrategy.Mode.RECORD);
+                generateStreamingJson(table, out, GeneratorStrategy.Mode.RECORD);
             }
         }
     }
@@ -113,6 +239,25 @@ public class VertxGenerator extends JavaGenerator {
     protected void generateConstructorAnnotation(JavaWriter out){};
 
 
+    private void generateChangeTracking(JavaWriter out){
+        out.println();
+        out.tab(1).println("private transient java.util.BitSet changedFields;");
+        out.println();
+        out.tab(1).override();
+        out.tab(1).println("public java.util.BitSet changedFields() {");
+        out.tab(2).println("return changedFields;");
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).override();
+        out.tab(1).println("public void resetChangedFields() {");
+        out.tab(2).println("if (changedFields == null) {");
+        out.tab(3).println("changedFields = new java.util.BitSet();");
+        out.tab(2).println("} else {");
+        out.tab(3).println("changedFields.clear();");
+        out.tab(2).println("}");
+        out.tab(1).println("}");
+    }
+
     private void generateFromJson(TableDefinition table, JavaWriter out, GeneratorStrategy.Mode mode){
         out.println();
         out.tab(1).override();
@@ -145,7 +290,7 @@ public class VertxGenerator extends JavaGenerator {
             }else if(isType(columnType,Instant.class)){
                 out.tab(2).println("%s(json.getInstant(\"%s\"));", setter, javaMemberName);
             }else if(isEnum(table, column)) {
-                out.tab(2).println("%s(java.util.Arrays.stream(%s.values()).filter(td -> td.getLiteral().equals(json.getString(\"%s\"))).findFirst().orElse(null));", setter, columnType, javaMemberName);
+                out.tab(2).println("%s(io.github.jklingsporn.vertx.jooq.shared.internal.EnumLiterals.fromLiteral(%s.class, json.getString(\"%s\")));", setter, columnType, javaMemberName);
             }else if(column.getType().getConverter() != null && isType(column.getType().getConverter(),JsonObjectConverter.class)){
                 out.tab(2).println("%s(json.getJsonObject(\"%s\"));", setter, javaMemberName);
             }else if(column.getType().getConverter() != null && isType(column.getType().getConverter(),JsonArrayConverter.class)){
@@ -242,6 +387,396 @@ public class VertxGenerator extends JavaGenerator {
         return false;
     }
 
+    /**
+     * Overwrite this method together with {@link #handleCustomTypeToJson(TypedElementDefinition, String, String, String, JavaWriter)}
+     * if your custom type is not handled by {@link #handleCustomTypeWriteJson(TypedElementDefinition, String, String, String, JavaWriter)}.
+     * <code>#writeJson</code> then puts the column into a temporary <code>JsonObject</code> using
+     * <code>handleCustomTypeToJson</code> and writes it.
+     * @param column the column definition
+     * @param columnType the type of the column
+     * @return <code>true</code> if <code>handleCustomTypeToJson</code> handles the column.
+     */
+    protected boolean hasCustomTypeToJson(TypedElementDefinition<?> column, String columnType) {
+        return false;
+    }
+
+    private void generateStreamingJson(TableDefinition table, JavaWriter out, GeneratorStrategy.Mode mode){
+        if(generateJson && generateJsonStreaming){
+            generateWriteJson(table, out, mode);
+            generateReadJson(table, out, mode);
+        }
+    }
+
+    private void generateWriteJson(TableDefinition table, JavaWriter out, GeneratorStrategy.Mode mode){
+        out.tab(1).override();
+        out.tab(1).println("public %svoid writeJson(com.fasterxml.jackson.core.JsonGenerator generator) throws java.io.IOException {", mode == GeneratorStrategy.Mode.INTERFACE?"default ":"");
+        out.tab(2).println("generator.writeStartObject();");
+        boolean jsonDeclared = false;
+        for (TypedElementDefinition<?> column : table.getColumns()) {
+            String getter = getStrategy().getJavaGetterName(column, GeneratorStrategy.Mode.INTERFACE);
+            String columnType = getJavaType(column.getType());
+            if(handleCustomTypeWriteJson(column, getter, columnType, getJsonKeyName(column), out)) {
+                //handled by user
+            }else if(hasCustomTypeToJson(column, columnType)){
+                //only handled by user in toJson: write the values it puts into a JsonObject
+                if(jsonDeclared){
+                    out.tab(2).println("json.clear();");
+                }else{
+                    out.tab(2).println("io.vertx.core.json.JsonObject json = new io.vertx.core.json.JsonObject();");
+                    jsonDeclared = true;
+                }
+                handleCustomTypeToJson(column, getter, columnType, getJsonKeyName(column), out);
+                out.tab(2).println("%s.writeFields(generator, json);", JSON_STREAMS);
+            }else if(isEnum(table, column) || isAllowedJsonType(column, columnType)){
+                out.tab(2).println("%s.writeField(generator, \"%s\", %s());", JSON_STREAMS, getJsonKeyName(column), getter);
+            }else{
+                logger.warn(String.format("Omitting unrecognized type %s for column %s in table %s!",columnType,column.getName(),table.getName()));
+                out.tab(2).println(String.format("// Omitting unrecognized type %s for column %s!",columnType,column.getName()));
+            }
+        }
+        out.tab(2).println("generator.writeEndObject();");
+        out.tab(1).println("}");
+        out.println();
+    }
+
+    private void generateReadJson(TableDefinition table, JavaWriter out, GeneratorStrategy.Mode mode){
+        String className = getStrategy().getJavaClassName(table, mode);
+        out.tab(1).override();
+        out.tab(1).println("public %s%s readJson(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {", mode == GeneratorStrategy.Mode.INTERFACE?"default ":"", className);
+        out.tab(2).println("%s.startObject(parser);", JSON_STREAMS);
+        out.tab(2).println("while (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {");
+        out.tab(3).println("String field = parser.getCurrentName();");
+        out.tab(3).println("parser.nextToken();");
+        out.tab(3).println("switch (field) {");
+        for (TypedElementDefinition<?> column : table.getColumns()) {
+            String setter = getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.INTERFACE);
+            String columnType = getJavaType(column.getType());
+            String javaMemberName = getJsonKeyName(column);
+            String read = readJsonValue(table, column, columnType);
+            out.tab(4).println("case \"%s\":", javaMemberName);
+            if(handleCustomTypeReadJson(column, setter, columnType, javaMemberName, out)) {
+                //handled by user
+            }else if(read != null){
+                out.tab(5).println("%s(%s);", setter, read);
+            }else{
+                out.tab(5).println(String.format("// Omitting unrecognized type %s for column %s!",columnType,column.getName()));
+                out.tab(5).println("parser.skipChildren();");
+            }
+            out.tab(5).println("break;");
+        }
+        out.tab(4).println("default:");
+        out.tab(5).println("parser.skipChildren();");
+        out.tab(3).println("}");
+        out.tab(2).println("}");
+        out.tab(2).println("return this;");
+        out.tab(1).println("}");
+        out.println();
+    }
+
+    private String readJsonValue(TableDefinition table, TypedElementDefinition<?> column, String columnType){
+        String valueType = valueType(table, column, columnType);
+        if(valueType == null){
+            return null;
+        }else if(isEnum(table, column)){
+            return String.format("%s.readEnum(parser, %s.class)", JSON_STREAMS, columnType);
+        }
+        return String.format("%s.read%s(parser)", JSON_STREAMS, valueType);
+    }
+
+    /**
+     * @return the suffix of the read- and write-methods of <code>JsonStreams</code> and <code>VertxPojoCodec</code>
+     * for the type of the column or <code>null</code> if the type is not supported.
+     */
+    private String valueType(TableDefinition table, TypedElementDefinition<?> column, String columnType){
+        if(isType(columnType, Integer.class)){
+            return "Integer";
+        }else if(isType(columnType, Short.class)){
+            return "Short";
+        }else if(isType(columnType, Byte.class)){
+            return "Byte";
+        }else if(isType(columnType, Long.class)){
+            return "Long";
+        }else if(isType(columnType, Float.class)){
+            return "Float";
+        }else if(isType(columnType, Double.class)){
+            return "Double";
+        }else if(isType(columnType, Boolean.class)){
+            return "Boolean";
+        }else if(isType(columnType, String.class)){
+            return "String";
+        }else if(columnType.equals(byte.class.getName()+"[]")){
+            return "Binary";
+        }else if(isType(columnType, Instant.class)){
+            return "Instant";
+        }else if(isEnum(table, column)){
+            return "Enum";
+        }else if(column.getType().getConverter() != null && isType(column.getType().getConverter(),JsonObjectConverter.class)){
+            return "JsonObject";
+        }else if(column.getType().getConverter() != null && isType(column.getType().getConverter(),JsonArrayConverter.class)){
+            return "JsonArray";
+        }
+        return null;
+    }
+
+    /**
+     * Overwrite this method to write your custom type in <code>#writeJson</code>. Columns that are not handled here
+     * but by {@link #handleCustomTypeToJson(TypedElementDefinition, String, String, String, JavaWriter)} are written
+     * by putting them into a temporary <code>JsonObject</code> first if {@link #hasCustomTypeToJson(TypedElementDefinition, String)}
+     * returns <code>true</code> for them.
+     * @param column the column definition
+     * @param getter the getter name
+     * @param columnType the type of the column
+     * @param javaMemberName the java member name
+     * @param out the writer
+     * @return <code>true</code> if the column was handled.
+     */
+    protected boolean handleCustomTypeWriteJson(TypedElementDefinition<?> column, String getter, String columnType, String javaMemberName, JavaWriter out) {
+        return false;
+    }
+
+    /**
+     * Overwrite this method to read your custom type in <code>#readJson</code>. The parser is positioned at the value
+     * of the column and the generated code has to call the setter. Columns handled by
+     * {@link #handleCustomTypeFromJson(TypedElementDefinition, String, String, String, JavaWriter)} usually need to be
+     * handled here as well.
+     * @param column the column definition
+     * @param setter the setter name
+     * @param columnType the type of the column
+     * @param javaMemberName the java member name
+     * @param out the writer
+     * @return <code>true</code> if the column was handled.
+     */
+    protected boolean handleCustomTypeReadJson(TypedElementDefinition<?> column, String setter, String columnType, String javaMemberName, JavaWriter out) {
+        return false;
+    }
+
+    @Override
+    protected void generatePojos(SchemaDefinition schema) {
+        super.generatePojos(schema);
+        if(generateMessageCodecs){
+            generateMessageCodecs(schema);
+        }
+    }
+
+    protected void generateMessageCodecs(SchemaDefinition schema){
+        if(generateImmutablePojos()){
+            logger.warn("Immutable POJOs are not supported by the generated MessageCodecs. Skipping...");
+            return;
+        }
+        logger.info("Generating MessageCodecs");
+        String packageName = getStrategy().getJavaPackageName(schema) + ".tables.codecs";
+        List<String> codecs = new ArrayList<>();
+        for (TableDefinition table : schema.getTables()) {
+            String className = getStrategy().getJavaClassName(table, GeneratorStrategy.Mode.POJO) + "Codec";
+            JavaWriter out = newJavaWriter(getCodecFile(packageName, className));
+            out.println("package %s;", packageName);
+            out.println();
+            generateMessageCodec(table, className, out);
+            closeJavaWriter(out);
+            codecs.add(className);
+        }
+        JavaWriter out = newJavaWriter(getCodecFile(packageName, "PojoCodecs"));
+        out.println("package %s;", packageName);
+        out.println();
+        out.println("/**");
+        out.println(" * Registers the <code>MessageCodecs</code> of all POJOs of this schema.");
+        out.println(" */");
+        out.println("public class PojoCodecs {");
+        out.println();
+        out.tab(1).println("private PojoCodecs() {}");
+        out.println();
+        out.tab(1).println("public static java.util.List<%s<?>> codecs(boolean copyOnLocalDelivery) {", VertxPojoCodec.class.getName());
+        out.tab(2).println("return java.util.Arrays.asList(");
+        for (int i = 0; i < codecs.size(); i++) {
+            out.tab(3).println("new %s(copyOnLocalDelivery)%s", codecs.get(i), i < codecs.size() - 1 ? "," : "");
+        }
+        out.tab(2).println(");");
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("public static void registerAll(io.vertx.core.eventbus.EventBus eventBus) {");
+        out.tab(2).println("registerAll(eventBus, true);");
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("public static void registerAll(io.vertx.core.eventbus.EventBus eventBus, boolean copyOnLocalDelivery) {");
+        out.tab(2).println("%s.registerAll(eventBus, codecs(copyOnLocalDelivery));", VertxPojoCodec.class.getName());
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("public static void unregisterAll(io.vertx.core.eventbus.EventBus eventBus) {");
+        out.tab(2).println("%s.unregisterAll(eventBus, codecs(true));", VertxPojoCodec.class.getName());
+        out.tab(1).println("}");
+        out.println("}");
+        closeJavaWriter(out);
+    }
+
+    private void generateMessageCodec(TableDefinition table, String className, JavaWriter out){
+        String pType = getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO);
+        out.println("/**");
+        out.println(" * Sends <code>%s</code>s over the event bus without converting them into JSON.", getStrategy().getJavaClassName(table, GeneratorStrategy.Mode.POJO));
+        out.println(" */");
+        out.println("public class %s extends %s<%s> {", className, VertxPojoCodec.class.getName(), pType);
+        out.println();
+        out.tab(1).println("public %s() {", className);
+        out.tab(2).println("this(true);");
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("public %s(boolean copyOnLocalDelivery) {", className);
+        out.tab(2).println("super(%s.class, %s, copyOnLocalDelivery);", pType, table.getColumns().size());
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).override();
+        out.tab(1).println("protected void encode(Writer writer, %s pojo) {", pType);
+        for (TypedElementDefinition<?> column : table.getColumns()) {
+            String getter = getStrategy().getJavaGetterName(column, GeneratorStrategy.Mode.POJO);
+            String columnType = getJavaType(column.getType());
+            String valueType = valueType(table, column, columnType);
+            if(handleCustomTypeEncodeToWire(column, getter, columnType, out)){
+                //handled by user
+            }else if(valueType != null){
+                out.tab(2).println("writer.write%s(pojo.%s());", valueType, getter);
+            }else{
+                logger.warn(String.format("Omitting unrecognized type %s for column %s in table %s!",columnType,column.getName(),table.getName()));
+                out.tab(2).println(String.format("// Omitting unrecognized type %s for column %s!",columnType,column.getName()));
+            }
+        }
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).override();
+        out.tab(1).println("protected %s decode(Reader reader) {", pType);
+        out.tab(2).println("%s pojo = new %s();", pType, pType);
+        for (TypedElementDefinition<?> column : table.getColumns()) {
+            String setter = getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.POJO);
+            String columnType = getJavaType(column.getType());
+            String valueType = valueType(table, column, columnType);
+            if(handleCustomTypeDecodeFromWire(column, setter, columnType, out)){
+                //handled by user
+            }else if(isEnum(table, column)){
+                out.tab(2).println("pojo.%s(reader.readEnum(%s.class));", setter, columnType);
+            }else if(valueType != null){
+                out.tab(2).println("pojo.%s(reader.read%s());", setter, valueType);
+            }else{
+                out.tab(2).println(String.format("// Omitting unrecognized type %s for column %s!",columnType,column.getName()));
+            }
+        }
+        out.tab(2).println("return pojo;");
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).override();
+        out.tab(1).println("protected %s copy(%s pojo) {", pType, pType);
+        out.tab(2).println("%s copy = new %s(pojo);", pType, pType);
+        for (TypedElementDefinition<?> column : table.getColumns()) {
+            String getter = getStrategy().getJavaGetterName(column, GeneratorStrategy.Mode.POJO);
+            String setter = getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.POJO);
+            String valueType = valueType(table, column, getJavaType(column.getType()));
+            if("JsonObject".equals(valueType) || "JsonArray".equals(valueType)){
+                out.tab(2).println("copy.%s(pojo.%s()==null?null:pojo.%s().copy());", setter, getter, getter);
+            }else if("Binary".equals(valueType)){
+                out.tab(2).println("copy.%s(pojo.%s()==null?null:pojo.%s().clone());", setter, getter, getter);
+            }
+        }
+        out.tab(2).println("return copy;");
+        out.tab(1).println("}");
+        out.println("}");
+    }
+
+    /**
+     * Overwrite this method to send your custom type using the generated <code>MessageCodecs</code>, e.g. by calling
+     * <code>writer.writeString</code> with a <code>String</code>-representation of the value of <code>pojo</code>.
+     * @param column the column definition
+     * @param getter the getter name
+     * @param columnType the type of the column
+     * @param out the writer
+     * @return <code>true</code> if the column was handled.
+     */
+    protected boolean handleCustomTypeEncodeToWire(TypedElementDefinition<?> column, String getter, String columnType, JavaWriter out) {
+        return false;
+    }
+
+    /**
+     * Overwrite this method to read the value written by
+     * {@link #handleCustomTypeEncodeToWire(TypedElementDefinition, String, String, JavaWriter)} from the
+     * <code>reader</code> and set it into <code>pojo</code>.
+     * @param column the column definition
+     * @param setter the setter name
+     * @param columnType the type of the column
+     * @param out the writer
+     * @return <code>true</code> if the column was handled.
+     */
+    protected boolean handleCustomTypeDecodeFromWire(TypedElementDefinition<?> column, String setter, String columnType, JavaWriter out) {
+        return false;
+    }
+
+    @Override
+    protected void generateDaos(SchemaDefinition schema) {
+        super.generateDaos(schema);
+        if(generateMessageCodecs && !generateImmutablePojos()){
+            generateDAOServices(schema);
+        }
+    }
+
+    protected void generateDAOServices(SchemaDefinition schema){
+        logger.info("Generating DAO services");
+        for (TableDefinition table : schema.getTables()) {
+            if(table.getPrimaryKey() == null){
+                continue;
+            }
+            String packageName = getStrategy().getJavaPackageName(table, GeneratorStrategy.Mode.DAO);
+            String className = getStrategy().getJavaClassName(table, GeneratorStrategy.Mode.POJO) + "Service";
+            JavaWriter out = newJavaWriter(getCodecFile(packageName, className));
+            out.println("package %s;", packageName);
+            out.println();
+            generateDAOService(schema, table, className, out);
+            closeJavaWriter(out);
+        }
+    }
+
+    private void generateDAOService(SchemaDefinition schema, TableDefinition table, String className, JavaWriter out){
+        String daoType = getStrategy().getJavaClassName(table, GeneratorStrategy.Mode.DAO);
+        String pType = getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO);
+        String tType = getKeyType(table.getPrimaryKey());
+        String codecType = getStrategy().getJavaPackageName(schema) + ".tables.codecs." + getStrategy().getJavaClassName(table, GeneratorStrategy.Mode.POJO) + "Codec";
+        String proxyType = getUnwrappedStrategy().renderDAOServiceProxy(pType, tType);
+        out.println("/**");
+        out.println(" * Exposes the <code>%s</code> on the event bus. Deploy the <code>Verticle</code> and use the proxy created by", daoType);
+        out.println(" * <code>createProxy</code> like any other DAO.");
+        out.println(" */");
+        out.println("public class %s {", className);
+        out.println();
+        out.tab(1).println("public static final String ADDRESS = \"%s.%s\";", getStrategy().getJavaPackageName(table, GeneratorStrategy.Mode.DAO), daoType);
+        out.println();
+        out.tab(1).println("private %s() {}", className);
+        out.println();
+        out.tab(1).println("public static %s codec() {", DAOServiceCodec.class.getName());
+        out.tab(2).println("return new %s(ADDRESS, new %s());", DAOServiceCodec.class.getName(), codecType);
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("public static %s createProxy(io.vertx.core.Vertx vertx) {", proxyType);
+        out.tab(2).println("return new %s(vertx, ADDRESS, codec());", proxyType);
+        out.tab(1).println("}");
+        out.println();
+        out.tab(1).println("public static class Verticle extends %s {", getUnwrappedStrategy().renderDAOServiceVerticle(pType, tType, daoType));
+        out.println();
+        out.tab(2).println("public Verticle(java.util.function.Function<io.vertx.core.Vertx, %s> daoFactory) {", daoType);
+        out.tab(3).println("super(ADDRESS, codec(), daoFactory);");
+        out.tab(2).println("}");
+        out.println();
+        out.tab(2).override();
+        out.tab(2).println("protected %s getId(%s pojo) {", tType, pType);
+        out.tab(3).println("return dao().getId(pojo);");
+        out.tab(2).println("}");
+        out.tab(1).println("}");
+        out.println("}");
+    }
+
+    /**
+     * @param packageName the package of the codecs
+     * @param className the class name of the codec
+     * @return the file of the codec. Overwrite to put the codecs into a different location.
+     */
+    protected File getCodecFile(String packageName, String className){
+        String directory = (getStrategy().getTargetDirectory()+"/"+packageName).replaceAll("\\.", "/");
+        return new File(directory, className + ".java");
+    }
+
     private void generateFromJsonConstructor(TableDefinition table, JavaWriter out, GeneratorStrategy.Mode mode){
         final String className = getStrategy().getJavaClassName(table, mode);
         out.println();
@@ -426,6 +961,8 @@ public class VertxGenerator extends JavaGenerator {
                 getUnwrappedStrategy().renderInsertReturningType(tType),
                 interfaces);
 
+        generateRecordPojoMapper(table, out, tableIdentifier, tableRecord, pType);
+
         // Only one constructor
         // ------------------------
 
@@ -459,6 +996,11 @@ public class VertxGenerator extends JavaGenerator {
             out.tab(2).println("return compositeKeyRecord(%s);", params);
         }
 
+        out.tab(1).println("}");
+
+        out.tab(1).overrideInherit();
+        out.tab(1).println("protected %s<%s, %s> mapper() {", out.ref(RecordPojoMapper.class.getName()), tableRecord, pType);
+        out.tab(2).println("return MAPPER;");
         out.tab(1).println("}");
         generateFetchMethods(table,out);
         generateDaoClassFooter(table, out);
@@ -466,6 +1008,42 @@ public class VertxGenerator extends JavaGenerator {
         out.println("}");
     }
 
+    /**
+     * Generates the <code>MAPPER</code>-constant of the DAO that maps the rows of the table to POJOs and back by
+     * calling the getters and setters of the POJO and record directly. Tables with UDT- or array-columns are mapped
+     * using reflection.
+     * @param table
+     * @param out
+     * @param tableIdentifier
+     * @param tableRecord
+     * @param pType
+     */
+    protected void generateRecordPojoMapper(TableDefinition table, JavaWriter out, String tableIdentifier, String tableRecord, String pType){
+        String mapperType = out.ref(RecordPojoMapper.class.getName());
+        boolean reflective = table.getColumns().stream().anyMatch(column -> column.getType().isUDT() || column.getType().isArray());
+        if(reflective){
+            out.tab(1).javadoc("Maps the rows of <code>%s</code> to POJOs and back using reflection.", table.getOutputName());
+            out.tab(1).println("public static final %s<%s, %s> MAPPER = %s.reflective(%s, %s.class);", mapperType, tableRecord, pType, mapperType, tableIdentifier, pType);
+            return;
+        }
+        List<ColumnDefinition> columns = table.getColumns();
+        out.tab(1).javadoc("Maps the rows of <code>%s</code> to POJOs and back without using reflection.", table.getOutputName());
+        out.tab(1).println("public static final %s<%s, %s> MAPPER = %s.of(%s, %s.class, values -> {", mapperType, tableRecord, pType, mapperType, tableIdentifier, pType);
+        out.tab(2).println("%s pojo = new %s();", pType, pType);
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnDefinition column = columns.get(i);
+            out.tab(2).println("pojo.%s((%s) values.apply(%s));", getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.POJO), out.ref(getJavaType(column.getType(), GeneratorStrategy.Mode.POJO)), i);
+        }
+        out.tab(2).println("return pojo;");
+        out.tab(1).println("}, pojo -> {");
+        out.tab(2).println("%s record = new %s();", tableRecord, tableRecord);
+        for (ColumnDefinition column : columns) {
+            out.tab(2).println("record.%s(pojo.%s());", getStrategy().getJavaSetterName(column, GeneratorStrategy.Mode.RECORD), getStrategy().getJavaGetterName(column, GeneratorStrategy.Mode.POJO));
+        }
+        out.tab(2).println("return record;");
+        out.tab(1).println("});");
+    }
+
     /**
      * Enums cannot have a default value for some rome reason. Also nullability information gets lost.
      * Until a fix is provided, we have to handle it on our own.
@@ -26,6 +26,23 @@ public interface VertxGeneratorStrategy extends GeneratorStrategy{
 
     public abstract String renderDAOInterface(String rType, String pType, String tType);
 
+    /**
+     * @param pType the POJO type
+     * @param tType the key type
+     * @return the <code>DAOServiceProxy</code> of this API, which implements the operations of the
+     * <code>VertxDAO</code> rendered by {@link #renderDAOInterface(String, String, String)} that do not take a
+     * <code>Condition</code>.
+     */
+    public abstract String renderDAOServiceProxy(String pType, String tType);
+
+    /**
+     * @param pType the POJO type
+     * @param tType the key type
+     * @param daoType the DAO type
+     * @return the <code>DAOServiceVerticle</code> of this API.
+     */
+    public abstract String renderDAOServiceVerticle(String pType, String tType, String daoType);
+
     public abstract void writeDAOImports(JavaWriter out);
 
     public void writeConstructor(JavaWriter out, String className, String tableIdentifier, String tableRecord, String pType, String tType);
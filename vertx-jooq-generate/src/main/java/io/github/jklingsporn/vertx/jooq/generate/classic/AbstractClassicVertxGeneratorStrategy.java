@@ -35,7 +35,17 @@ abstract class AbstractClassicVertxGeneratorStrategy extends AbstractVertxGenera
 
     @Override
     public String renderDAOInterface(String rType, String pType, String tType) {
-        return String.format("io.github.jklingsporn.vertx.jooq.classic.VertxDAO<%s,%s,%s>",rType,pType,tType);
+        return String.format("io.github.jklingsporn.vertx.jooq.classic.JsonVertxDAO<%s,%s,%s>",rType,pType,tType);
+    }
+
+    @Override
+    public String renderDAOServiceProxy(String pType, String tType) {
+        return String.format("io.github.jklingsporn.vertx.jooq.classic.DAOServiceProxy<%s,%s>",pType,tType);
+    }
+
+    @Override
+    public String renderDAOServiceVerticle(String pType, String tType, String daoType) {
+        return String.format("io.github.jklingsporn.vertx.jooq.classic.DAOServiceVerticle<%s,%s,%s>",pType,tType,daoType);
     }
 
 }
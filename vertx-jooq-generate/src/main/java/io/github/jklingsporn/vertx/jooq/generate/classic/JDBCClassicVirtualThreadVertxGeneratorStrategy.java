@@ -0,0 +1,15 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.VirtualThreadJDBCWorkerPool;
+
+/**
+ * Generates DAOs that run their queries on virtual threads by default. Requires a Java 21 runtime.
+ * @see VirtualThreadJDBCWorkerPool
+ */
+public class JDBCClassicVirtualThreadVertxGeneratorStrategy extends JDBCClassicVertxGeneratorStrategy {
+
+    @Override
+    protected String renderDefaultWorkerPool(String vertxVariable) {
+        return String.format("%s.shared(%s)", VirtualThreadJDBCWorkerPool.class.getName(), vertxVariable);
+    }
+}
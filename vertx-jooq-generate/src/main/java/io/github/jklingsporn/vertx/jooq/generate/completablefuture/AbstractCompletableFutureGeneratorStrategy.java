@@ -37,7 +37,17 @@ abstract class AbstractCompletableFutureGeneratorStrategy extends AbstractVertxG
 
     @Override
     public String renderDAOInterface(String rType, String pType, String tType) {
-        return String.format("io.github.jklingsporn.vertx.jooq.completablefuture.VertxDAO<%s,%s,%s>",rType,pType,tType);
+        return String.format("io.github.jklingsporn.vertx.jooq.completablefuture.JsonVertxDAO<%s,%s,%s>",rType,pType,tType);
+    }
+
+    @Override
+    public String renderDAOServiceProxy(String pType, String tType) {
+        return String.format("io.github.jklingsporn.vertx.jooq.completablefuture.DAOServiceProxy<%s,%s>",pType,tType);
+    }
+
+    @Override
+    public String renderDAOServiceVerticle(String pType, String tType, String daoType) {
+        return String.format("io.github.jklingsporn.vertx.jooq.completablefuture.DAOServiceVerticle<%s,%s,%s>",pType,tType,daoType);
     }
 
 }
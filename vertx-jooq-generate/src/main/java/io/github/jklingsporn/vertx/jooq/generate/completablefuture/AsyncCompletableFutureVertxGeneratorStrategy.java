@@ -25,13 +25,20 @@ public class AsyncCompletableFutureVertxGeneratorStrategy extends AbstractComple
         out.tab(1).javadoc("@param configuration Used for rendering, so only SQLDialect must be set and must be one of the MYSQL types or POSTGRES.\n" +
                 "     * @param vertx the vertx instance\n     * @param delegate A configured AsyncSQLClient that is used for query execution");
         out.tab(1).println("public %s(%s configuration, %s vertx, io.vertx.ext.asyncsql.AsyncSQLClient delegate) {", className, Configuration.class, getFQVertxName());
-        out.tab(2).println("super(%s, %s.class, new %s(vertx,delegate,%s::new, %s), configuration);", tableIdentifier, pType, renderQueryExecutor(tableRecord, pType, tType),pType,tableIdentifier);
+        out.tab(2).println("super(%s, %s.class, new %s(vertx,delegate,%s::new, MAPPER), configuration);", tableIdentifier, pType, renderQueryExecutor(tableRecord, pType, tType),pType);
+        out.tab(1).println("}");
+        out.tab(1).javadoc("@param configuration Used for rendering, so only SQLDialect must be set and must be one of the MYSQL types or POSTGRES.\n" +
+                "     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is bound to a session.");
+        out.tab(1).println("public %s(%s configuration, %s queryExecutor) {", className, Configuration.class, renderQueryExecutor(tableRecord, pType, tType));
+        out.tab(2).println("super(%s, %s.class, queryExecutor, configuration);", tableIdentifier, pType);
         out.tab(1).println("}");
     }
 
     @Override
     public void overwrite(JavaWriter out, String className, String tableIdentifier, String tableRecord, String pType, String tType) {
         overwriteInsertReturningIfNotNumeric(out,pType,tType);
+        writeFindManyStreamMethods(out, String.format("org.reactivestreams.Publisher<%s>", pType), renderQueryExecutor(tableRecord, pType, tType), false);
+        writeSessionMethods(out, className, "java.util.concurrent.CompletableFuture", renderQueryExecutor(tableRecord, pType, tType));
     }
 
     private void overwriteInsertReturningIfNotNumeric(JavaWriter out, String pType, String tType) {
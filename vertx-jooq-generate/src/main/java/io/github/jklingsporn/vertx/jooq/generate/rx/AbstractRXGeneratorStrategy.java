@@ -44,7 +44,17 @@ abstract class AbstractRXGeneratorStrategy extends AbstractVertxGeneratorStrateg
 
     @Override
     public String renderDAOInterface(String rType, String pType, String tType) {
-        return String.format("io.github.jklingsporn.vertx.jooq.rx.VertxDAO<%s,%s,%s>",rType,pType,tType);
+        return String.format("io.github.jklingsporn.vertx.jooq.rx.JsonVertxDAO<%s,%s,%s>",rType,pType,tType);
+    }
+
+    @Override
+    public String renderDAOServiceProxy(String pType, String tType) {
+        return String.format("io.github.jklingsporn.vertx.jooq.rx.DAOServiceProxy<%s,%s>",pType,tType);
+    }
+
+    @Override
+    public String renderDAOServiceVerticle(String pType, String tType, String daoType) {
+        return String.format("io.github.jklingsporn.vertx.jooq.rx.DAOServiceVerticle<%s,%s,%s>",pType,tType,daoType);
     }
 
 }
@@ -1,5 +1,6 @@
 package io.github.jklingsporn.vertx.jooq.generate.rx;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
 import org.jooq.Configuration;
 import org.jooq.util.JavaWriter;
 
@@ -24,7 +25,40 @@ public class JDBCRXVertxGeneratorStrategy extends AbstractRXGeneratorStrategy{
         out.tab(1).javadoc("@param configuration The Configuration used for rendering and query execution.\n" +
                 "     * @param vertx the vertx instance");
         out.tab(1).println("public %s(%s configuration, %s vertx) {", className, Configuration.class, getFQVertxName());
-        out.tab(2).println("super(%s, %s.class, new %s(%s.class,configuration,vertx), configuration);", tableIdentifier, pType, renderQueryExecutor(tableRecord, pType, tType),pType);
+        String defaultWorkerPool = renderDefaultWorkerPool("vertx");
+        if(defaultWorkerPool == null){
+            out.tab(2).println("super(%s, %s.class, new %s(MAPPER,configuration,vertx), configuration);", tableIdentifier, pType, renderQueryExecutor(tableRecord, pType, tType));
+        }else{
+            out.tab(2).println("super(%s, %s.class, new %s(MAPPER,configuration,vertx,%s), configuration);", tableIdentifier, pType, renderQueryExecutor(tableRecord, pType, tType),defaultWorkerPool);
+        }
+        out.tab(1).println("}");
+        out.tab(1).javadoc("@param configuration The Configuration used for rendering and query execution.\n" +
+                "     * @param vertx the vertx instance\n" +
+                "     * @param workerPool the pool the blocking code is executed on");
+        out.tab(1).println("public %s(%s configuration, %s vertx, %s workerPool) {", className, Configuration.class, getFQVertxName(), JDBCWorkerPool.class);
+        out.tab(2).println("super(%s, %s.class, new %s(MAPPER,configuration,vertx,workerPool), configuration);", tableIdentifier, pType, renderQueryExecutor(tableRecord, pType, tType));
+        out.tab(1).println("}");
+        out.tab(1).javadoc("@param configuration The Configuration used for rendering.\n" +
+                "     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is not executing queries in order.");
+        out.tab(1).println("public %s(%s configuration, %s queryExecutor) {", className, Configuration.class, renderQueryExecutor(tableRecord, pType, tType));
+        out.tab(2).println("super(%s, %s.class, queryExecutor, configuration);", tableIdentifier, pType);
         out.tab(1).println("}");
     }
+
+    @Override
+    public void overwrite(JavaWriter out, String className, String tableIdentifier, String tableRecord, String pType, String tType) {
+        writeFindManyStreamMethods(out, String.format("io.reactivex.Flowable<%s>", pType), renderQueryExecutor(tableRecord, pType, tType), true);
+        writeInsertBatchMethod(out, "io.reactivex.Single", pType, renderQueryExecutor(tableRecord, pType, tType));
+        writeTransactionMethod(out, className, "io.reactivex.Single", renderQueryExecutor(tableRecord, pType, tType));
+    }
+
+    /**
+     * @param vertxVariable the name of the vertx variable in the generated constructor
+     * @return the code creating the <code>JDBCWorkerPool</code> used by the DAO-constructor without a pool argument
+     * or <code>null</code> to let the <code>QueryExecutor</code> use the vertx worker pool.
+     */
+    protected String renderDefaultWorkerPool(String vertxVariable){
+        return null;
+    }
+
 }
@@ -7,6 +7,7 @@ package generated.cf.async.guice.tables.daos;
 import generated.cf.async.guice.tables.Somethingcomposite;
 import generated.cf.async.guice.tables.records.SomethingcompositeRecord;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
 import io.github.jklingsporn.vertx.jooq.shared.internal.async.AbstractAsyncVertxDAO;
 import io.vertx.core.json.JsonObject;
 
@@ -33,7 +34,24 @@ import io.github.jklingsporn.vertx.jooq.completablefuture.async.AsyncCompletable
 )
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 @javax.inject.Singleton
-public class SomethingcompositeDao extends AbstractAsyncVertxDAO<SomethingcompositeRecord, generated.cf.async.guice.tables.pojos.Somethingcomposite, Record2<Integer, Integer>, CompletableFuture<List<generated.cf.async.guice.tables.pojos.Somethingcomposite>>, CompletableFuture<generated.cf.async.guice.tables.pojos.Somethingcomposite>, CompletableFuture<Integer>, CompletableFuture<Record2<Integer, Integer>>> implements io.github.jklingsporn.vertx.jooq.completablefuture.VertxDAO<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>> {
+public class SomethingcompositeDao extends AbstractAsyncVertxDAO<SomethingcompositeRecord, generated.cf.async.guice.tables.pojos.Somethingcomposite, Record2<Integer, Integer>, CompletableFuture<List<generated.cf.async.guice.tables.pojos.Somethingcomposite>>, CompletableFuture<generated.cf.async.guice.tables.pojos.Somethingcomposite>, CompletableFuture<Integer>, CompletableFuture<Record2<Integer, Integer>>> implements io.github.jklingsporn.vertx.jooq.completablefuture.JsonVertxDAO<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>> {
+
+    /**
+     * Maps the rows of <code>SOMETHINGCOMPOSITE</code> to POJOs and back without using reflection.
+     */
+    public static final RecordPojoMapper<SomethingcompositeRecord, generated.cf.async.guice.tables.pojos.Somethingcomposite> MAPPER = RecordPojoMapper.of(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.async.guice.tables.pojos.Somethingcomposite.class, values -> {
+        generated.cf.async.guice.tables.pojos.Somethingcomposite pojo = new generated.cf.async.guice.tables.pojos.Somethingcomposite();
+        pojo.setSomeid((Integer) values.apply(0));
+        pojo.setSomesecondid((Integer) values.apply(1));
+        pojo.setSomejsonobject((JsonObject) values.apply(2));
+        return pojo;
+    }, pojo -> {
+        SomethingcompositeRecord record = new SomethingcompositeRecord();
+        record.setSomeid(pojo.getSomeid());
+        record.setSomesecondid(pojo.getSomesecondid());
+        record.setSomejsonobject(pojo.getSomejsonobject());
+        return record;
+    });
     @javax.inject.Inject
 
     /**
@@ -42,7 +60,15 @@ public class SomethingcompositeDao extends AbstractAsyncVertxDAO<Somethingcompos
      * @param delegate A configured AsyncSQLClient that is used for query execution
      */
     public SomethingcompositeDao(Configuration configuration, io.vertx.core.Vertx vertx, io.vertx.ext.asyncsql.AsyncSQLClient delegate) {
-        super(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.async.guice.tables.pojos.Somethingcomposite.class, new AsyncCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>(vertx,delegate,generated.cf.async.guice.tables.pojos.Somethingcomposite::new, Somethingcomposite.SOMETHINGCOMPOSITE), configuration);
+        super(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.async.guice.tables.pojos.Somethingcomposite.class, new AsyncCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>(vertx,delegate,generated.cf.async.guice.tables.pojos.Somethingcomposite::new, MAPPER), configuration);
+    }
+
+    /**
+     * @param configuration Used for rendering, so only SQLDialect must be set and must be one of the MYSQL types or POSTGRES.
+     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is bound to a session.
+     */
+    public SomethingcompositeDao(Configuration configuration, AsyncCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>> queryExecutor) {
+        super(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.async.guice.tables.pojos.Somethingcomposite.class, queryExecutor, configuration);
     }
 
     /**
@@ -53,6 +79,14 @@ public class SomethingcompositeDao extends AbstractAsyncVertxDAO<Somethingcompos
         return compositeKeyRecord(object.getSomeid(), object.getSomesecondid());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected RecordPojoMapper<SomethingcompositeRecord, generated.cf.async.guice.tables.pojos.Somethingcomposite> mapper() {
+        return MAPPER;
+    }
+
     /**
      * Find records that have <code>someSecondId IN (values)</code> asynchronously
      */
@@ -73,4 +107,34 @@ public class SomethingcompositeDao extends AbstractAsyncVertxDAO<Somethingcompos
         failed.completeExceptionally(new UnsupportedOperationException("PK not numeric"));
         return failed;
     }
+
+    /**
+     * Streams all records matching the condition as they are received from the database.
+     */
+    public org.reactivestreams.Publisher<generated.cf.async.guice.tables.pojos.Somethingcomposite> findManyStreamByCondition(org.jooq.Condition condition) {
+        return ((AsyncCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) queryExecutor()).findManyStream(selectQuery(condition));
+    }
+
+    /**
+     * Streams all records as they are received from the database.
+     */
+    public org.reactivestreams.Publisher<generated.cf.async.guice.tables.pojos.Somethingcomposite> findAllStream() {
+        return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition());
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all queries on one connection. The connection is released once
+     * when the returned future completes. The queries have to be chained and must not run concurrently.
+     */
+    public <X> java.util.concurrent.CompletableFuture<X> session(java.util.function.Function<SomethingcompositeDao, java.util.concurrent.CompletableFuture<X>> session) {
+        return ((AsyncCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) queryExecutor()).session(tx -> session.apply(new SomethingcompositeDao(configuration(), (AsyncCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) tx)));
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all queries on one connection. The transaction is committed
+     * when the returned future succeeds and rolled back when it fails.
+     */
+    public <X> java.util.concurrent.CompletableFuture<X> transaction(java.util.function.Function<SomethingcompositeDao, java.util.concurrent.CompletableFuture<X>> transaction) {
+        return ((AsyncCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) queryExecutor()).transaction(tx -> transaction.apply(new SomethingcompositeDao(configuration(), (AsyncCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.async.guice.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) tx)));
+    }
 }
@@ -8,6 +8,8 @@ import generated.cf.jdbc.regular.vertx.tables.Somethingcomposite;
 import generated.cf.jdbc.regular.vertx.tables.records.SomethingcompositeRecord;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
 import io.vertx.core.json.JsonObject;
 
 import java.util.List;
@@ -32,14 +34,48 @@ import io.github.jklingsporn.vertx.jooq.completablefuture.jdbc.JDBCCompletableFu
     comments = "This class is generated by jOOQ"
 )
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
-public class SomethingcompositeDao extends AbstractVertxDAO<SomethingcompositeRecord, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite, Record2<Integer, Integer>, CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite>>, CompletableFuture<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite>, CompletableFuture<Integer>, CompletableFuture<Record2<Integer, Integer>>> implements io.github.jklingsporn.vertx.jooq.completablefuture.VertxDAO<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>> {
+public class SomethingcompositeDao extends AbstractVertxDAO<SomethingcompositeRecord, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite, Record2<Integer, Integer>, CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite>>, CompletableFuture<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite>, CompletableFuture<Integer>, CompletableFuture<Record2<Integer, Integer>>> implements io.github.jklingsporn.vertx.jooq.completablefuture.JsonVertxDAO<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>> {
+
+    /**
+     * Maps the rows of <code>SOMETHINGCOMPOSITE</code> to POJOs and back without using reflection.
+     */
+    public static final RecordPojoMapper<SomethingcompositeRecord, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite> MAPPER = RecordPojoMapper.of(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite.class, values -> {
+        generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite pojo = new generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite();
+        pojo.setSomeid((Integer) values.apply(0));
+        pojo.setSomesecondid((Integer) values.apply(1));
+        pojo.setSomejsonobject((JsonObject) values.apply(2));
+        return pojo;
+    }, pojo -> {
+        SomethingcompositeRecord record = new SomethingcompositeRecord();
+        record.setSomeid(pojo.getSomeid());
+        record.setSomesecondid(pojo.getSomesecondid());
+        record.setSomejsonobject(pojo.getSomejsonobject());
+        return record;
+    });
 
     /**
      * @param configuration The Configuration used for rendering and query execution.
      * @param vertx the vertx instance
      */
     public SomethingcompositeDao(Configuration configuration, io.vertx.core.Vertx vertx) {
-        super(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite.class, new JDBCCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>(generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite.class,configuration,vertx), configuration);
+        super(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite.class, new JDBCCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>(MAPPER,configuration,vertx), configuration);
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public SomethingcompositeDao(Configuration configuration, io.vertx.core.Vertx vertx, JDBCWorkerPool workerPool) {
+        super(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite.class, new JDBCCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>(MAPPER,configuration,vertx,workerPool), configuration);
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering.
+     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is not executing queries in order.
+     */
+    public SomethingcompositeDao(Configuration configuration, JDBCCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>> queryExecutor) {
+        super(Somethingcomposite.SOMETHINGCOMPOSITE, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite.class, queryExecutor, configuration);
     }
 
     /**
@@ -50,6 +86,14 @@ public class SomethingcompositeDao extends AbstractVertxDAO<SomethingcompositeRe
         return compositeKeyRecord(object.getSomeid(), object.getSomesecondid());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected RecordPojoMapper<SomethingcompositeRecord, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite> mapper() {
+        return MAPPER;
+    }
+
     /**
      * Find records that have <code>SOMESECONDID IN (values)</code> asynchronously
      */
@@ -63,4 +107,33 @@ public class SomethingcompositeDao extends AbstractVertxDAO<SomethingcompositeRe
     public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite>> findManyBySomejsonobject(List<JsonObject> values) {
         return findManyByCondition(Somethingcomposite.SOMETHINGCOMPOSITE.SOMEJSONOBJECT.in(values));
     }
+
+    /**
+     * Streams all records matching the condition, fetching <code>fetchSize</code> rows at once.
+     */
+    public org.reactivestreams.Publisher<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite> findManyStreamByCondition(org.jooq.Condition condition, int fetchSize) {
+        return ((JDBCCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) queryExecutor()).findManyStream(selectQuery(condition), fetchSize);
+    }
+
+    /**
+     * Streams all records, fetching <code>fetchSize</code> rows at once.
+     */
+    public org.reactivestreams.Publisher<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite> findAllStream(int fetchSize) {
+        return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition(), fetchSize);
+    }
+
+    /**
+     * Inserts the POJOs in chunks using JDBC-batches. The size of the chunks adapts to the observed latency.
+     */
+    public java.util.concurrent.CompletableFuture<io.github.jklingsporn.vertx.jooq.shared.internal.BatchResult> insertBatch(java.util.Collection<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite> pojos) {
+        return ((JDBCCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) queryExecutor()).insertBatch(newRecords(pojos));
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all statements on one connection. The transaction is committed
+     * when the returned future succeeds and rolled back when it fails.
+     */
+    public <X> java.util.concurrent.CompletableFuture<X> transaction(java.util.function.Function<SomethingcompositeDao, java.util.concurrent.CompletableFuture<X>> transaction) {
+        return ((JDBCCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) queryExecutor()).transaction(tx -> transaction.apply(new SomethingcompositeDao(tx.configuration(), (JDBCCompletableFutureQueryExecutor<SomethingcompositeRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite,Record2<Integer, Integer>>) tx)));
+    }
 }
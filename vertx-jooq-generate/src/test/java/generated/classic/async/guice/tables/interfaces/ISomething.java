@@ -151,7 +151,7 @@ public interface ISomething extends VertxPojo, Serializable {
         setSomesmallnumber(json.getInteger("someSmallNumber")==null?null:json.getInteger("someSmallNumber").shortValue());
         setSomeregularnumber(json.getInteger("someRegularNumber"));
         setSomedouble(json.getDouble("someDouble"));
-        setSomeenum(java.util.Arrays.stream(generated.classic.async.guice.enums.SomethingSomeenum.values()).filter(td -> td.getLiteral().equals(json.getString("someEnum"))).findFirst().orElse(null));
+        setSomeenum(io.github.jklingsporn.vertx.jooq.shared.internal.EnumLiterals.fromLiteral(generated.classic.async.guice.enums.SomethingSomeenum.class, json.getString("someEnum")));
         setSomejsonobject(json.getJsonObject("someJsonObject"));
         setSomejsonarray(json.getJsonArray("someJsonArray"));
         // Omitting unrecognized type java.time.LocalDateTime for column someTimestamp!
@@ -8,6 +8,7 @@ import generated.classic.async.regular.enums.SomethingSomeenum;
 import generated.classic.async.regular.tables.Something;
 import generated.classic.async.regular.tables.records.SomethingRecord;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
 import io.github.jklingsporn.vertx.jooq.shared.internal.async.AbstractAsyncVertxDAO;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -33,14 +34,53 @@ import io.github.jklingsporn.vertx.jooq.classic.async.AsyncClassicQueryExecutor;
     comments = "This class is generated by jOOQ"
 )
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
-public class SomethingDao extends AbstractAsyncVertxDAO<SomethingRecord, generated.classic.async.regular.tables.pojos.Something, Integer, Future<List<generated.classic.async.regular.tables.pojos.Something>>, Future<generated.classic.async.regular.tables.pojos.Something>, Future<Integer>, Future<Integer>> implements io.github.jklingsporn.vertx.jooq.classic.VertxDAO<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer> {
+public class SomethingDao extends AbstractAsyncVertxDAO<SomethingRecord, generated.classic.async.regular.tables.pojos.Something, Integer, Future<List<generated.classic.async.regular.tables.pojos.Something>>, Future<generated.classic.async.regular.tables.pojos.Something>, Future<Integer>, Future<Integer>> implements io.github.jklingsporn.vertx.jooq.classic.JsonVertxDAO<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer> {
+
+    /**
+     * Maps the rows of <code>SOMETHING</code> to POJOs and back without using reflection.
+     */
+    public static final RecordPojoMapper<SomethingRecord, generated.classic.async.regular.tables.pojos.Something> MAPPER = RecordPojoMapper.of(Something.SOMETHING, generated.classic.async.regular.tables.pojos.Something.class, values -> {
+        generated.classic.async.regular.tables.pojos.Something pojo = new generated.classic.async.regular.tables.pojos.Something();
+        pojo.setSomeid((Integer) values.apply(0));
+        pojo.setSomestring((String) values.apply(1));
+        pojo.setSomehugenumber((Long) values.apply(2));
+        pojo.setSomesmallnumber((Short) values.apply(3));
+        pojo.setSomeregularnumber((Integer) values.apply(4));
+        pojo.setSomedouble((Double) values.apply(5));
+        pojo.setSomeenum((SomethingSomeenum) values.apply(6));
+        pojo.setSomejsonobject((JsonObject) values.apply(7));
+        pojo.setSomejsonarray((JsonArray) values.apply(8));
+        pojo.setSometimestamp((LocalDateTime) values.apply(9));
+        return pojo;
+    }, pojo -> {
+        SomethingRecord record = new SomethingRecord();
+        record.setSomeid(pojo.getSomeid());
+        record.setSomestring(pojo.getSomestring());
+        record.setSomehugenumber(pojo.getSomehugenumber());
+        record.setSomesmallnumber(pojo.getSomesmallnumber());
+        record.setSomeregularnumber(pojo.getSomeregularnumber());
+        record.setSomedouble(pojo.getSomedouble());
+        record.setSomeenum(pojo.getSomeenum());
+        record.setSomejsonobject(pojo.getSomejsonobject());
+        record.setSomejsonarray(pojo.getSomejsonarray());
+        record.setSometimestamp(pojo.getSometimestamp());
+        return record;
+    });
 
     /**
      * @param configuration Used for rendering, so only SQLDialect must be set and must be one of the MYSQL types or POSTGRES.
      * @param delegate A configured AsyncSQLClient that is used for query execution
      */
     public SomethingDao(Configuration configuration, io.vertx.ext.asyncsql.AsyncSQLClient delegate) {
-        super(Something.SOMETHING, generated.classic.async.regular.tables.pojos.Something.class, new AsyncClassicQueryExecutor<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer>(delegate,generated.classic.async.regular.tables.pojos.Something::new, Something.SOMETHING), configuration);
+        super(Something.SOMETHING, generated.classic.async.regular.tables.pojos.Something.class, new AsyncClassicQueryExecutor<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer>(delegate,generated.classic.async.regular.tables.pojos.Something::new, MAPPER), configuration);
+    }
+
+    /**
+     * @param configuration Used for rendering, so only SQLDialect must be set and must be one of the MYSQL types or POSTGRES.
+     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is bound to a session.
+     */
+    public SomethingDao(Configuration configuration, AsyncClassicQueryExecutor<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer> queryExecutor) {
+        super(Something.SOMETHING, generated.classic.async.regular.tables.pojos.Something.class, queryExecutor, configuration);
     }
 
     /**
@@ -51,6 +91,14 @@ public class SomethingDao extends AbstractAsyncVertxDAO<SomethingRecord, generat
         return object.getSomeid();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected RecordPojoMapper<SomethingRecord, generated.classic.async.regular.tables.pojos.Something> mapper() {
+        return MAPPER;
+    }
+
     /**
      * Find records that have <code>someString IN (values)</code> asynchronously
      */
@@ -118,4 +166,34 @@ public class SomethingDao extends AbstractAsyncVertxDAO<SomethingRecord, generat
     protected java.util.function.Function<Object,Integer> keyConverter(){
         return lastId -> Integer.valueOf(((Long)lastId).intValue());
     }
+
+    /**
+     * Streams all records matching the condition as they are received from the database.
+     */
+    public io.vertx.core.streams.ReadStream<generated.classic.async.regular.tables.pojos.Something> findManyStreamByCondition(org.jooq.Condition condition) {
+        return ((AsyncClassicQueryExecutor<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer>) queryExecutor()).findManyStream(selectQuery(condition));
+    }
+
+    /**
+     * Streams all records as they are received from the database.
+     */
+    public io.vertx.core.streams.ReadStream<generated.classic.async.regular.tables.pojos.Something> findAllStream() {
+        return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition());
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all queries on one connection. The connection is released once
+     * when the returned future completes. The queries have to be chained and must not run concurrently.
+     */
+    public <X> io.vertx.core.Future<X> session(java.util.function.Function<SomethingDao, io.vertx.core.Future<X>> session) {
+        return ((AsyncClassicQueryExecutor<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer>) queryExecutor()).session(tx -> session.apply(new SomethingDao(configuration(), (AsyncClassicQueryExecutor<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer>) tx)));
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all queries on one connection. The transaction is committed
+     * when the returned future succeeds and rolled back when it fails.
+     */
+    public <X> io.vertx.core.Future<X> transaction(java.util.function.Function<SomethingDao, io.vertx.core.Future<X>> transaction) {
+        return ((AsyncClassicQueryExecutor<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer>) queryExecutor()).transaction(tx -> transaction.apply(new SomethingDao(configuration(), (AsyncClassicQueryExecutor<SomethingRecord,generated.classic.async.regular.tables.pojos.Something,Integer>) tx)));
+    }
 }
@@ -7,6 +7,7 @@ package generated.classic.async.regular.tables.daos;
 import generated.classic.async.regular.tables.Somethingwithoutjson;
 import generated.classic.async.regular.tables.records.SomethingwithoutjsonRecord;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
 import io.github.jklingsporn.vertx.jooq.shared.internal.async.AbstractAsyncVertxDAO;
 
 import java.util.List;
@@ -29,14 +30,37 @@ import io.github.jklingsporn.vertx.jooq.classic.async.AsyncClassicQueryExecutor;
     comments = "This class is generated by jOOQ"
 )
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
-public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<SomethingwithoutjsonRecord, generated.classic.async.regular.tables.pojos.Somethingwithoutjson, Integer, Future<List<generated.classic.async.regular.tables.pojos.Somethingwithoutjson>>, Future<generated.classic.async.regular.tables.pojos.Somethingwithoutjson>, Future<Integer>, Future<Integer>> implements io.github.jklingsporn.vertx.jooq.classic.VertxDAO<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer> {
+public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<SomethingwithoutjsonRecord, generated.classic.async.regular.tables.pojos.Somethingwithoutjson, Integer, Future<List<generated.classic.async.regular.tables.pojos.Somethingwithoutjson>>, Future<generated.classic.async.regular.tables.pojos.Somethingwithoutjson>, Future<Integer>, Future<Integer>> implements io.github.jklingsporn.vertx.jooq.classic.JsonVertxDAO<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer> {
+
+    /**
+     * Maps the rows of <code>SOMETHINGWITHOUTJSON</code> to POJOs and back without using reflection.
+     */
+    public static final RecordPojoMapper<SomethingwithoutjsonRecord, generated.classic.async.regular.tables.pojos.Somethingwithoutjson> MAPPER = RecordPojoMapper.of(Somethingwithoutjson.SOMETHINGWITHOUTJSON, generated.classic.async.regular.tables.pojos.Somethingwithoutjson.class, values -> {
+        generated.classic.async.regular.tables.pojos.Somethingwithoutjson pojo = new generated.classic.async.regular.tables.pojos.Somethingwithoutjson();
+        pojo.setSomeid((Integer) values.apply(0));
+        pojo.setSomestring((String) values.apply(1));
+        return pojo;
+    }, pojo -> {
+        SomethingwithoutjsonRecord record = new SomethingwithoutjsonRecord();
+        record.setSomeid(pojo.getSomeid());
+        record.setSomestring(pojo.getSomestring());
+        return record;
+    });
 
     /**
      * @param configuration Used for rendering, so only SQLDialect must be set and must be one of the MYSQL types or POSTGRES.
      * @param delegate A configured AsyncSQLClient that is used for query execution
      */
     public SomethingwithoutjsonDao(Configuration configuration, io.vertx.ext.asyncsql.AsyncSQLClient delegate) {
-        super(Somethingwithoutjson.SOMETHINGWITHOUTJSON, generated.classic.async.regular.tables.pojos.Somethingwithoutjson.class, new AsyncClassicQueryExecutor<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer>(delegate,generated.classic.async.regular.tables.pojos.Somethingwithoutjson::new, Somethingwithoutjson.SOMETHINGWITHOUTJSON), configuration);
+        super(Somethingwithoutjson.SOMETHINGWITHOUTJSON, generated.classic.async.regular.tables.pojos.Somethingwithoutjson.class, new AsyncClassicQueryExecutor<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer>(delegate,generated.classic.async.regular.tables.pojos.Somethingwithoutjson::new, MAPPER), configuration);
+    }
+
+    /**
+     * @param configuration Used for rendering, so only SQLDialect must be set and must be one of the MYSQL types or POSTGRES.
+     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is bound to a session.
+     */
+    public SomethingwithoutjsonDao(Configuration configuration, AsyncClassicQueryExecutor<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer> queryExecutor) {
+        super(Somethingwithoutjson.SOMETHINGWITHOUTJSON, generated.classic.async.regular.tables.pojos.Somethingwithoutjson.class, queryExecutor, configuration);
     }
 
     /**
@@ -47,6 +71,14 @@ public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<Somethingwith
         return object.getSomeid();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected RecordPojoMapper<SomethingwithoutjsonRecord, generated.classic.async.regular.tables.pojos.Somethingwithoutjson> mapper() {
+        return MAPPER;
+    }
+
     /**
      * Find records that have <code>someString IN (values)</code> asynchronously
      */
@@ -58,4 +90,34 @@ public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<Somethingwith
     protected java.util.function.Function<Object,Integer> keyConverter(){
         return lastId -> Integer.valueOf(((Long)lastId).intValue());
     }
+
+    /**
+     * Streams all records matching the condition as they are received from the database.
+     */
+    public io.vertx.core.streams.ReadStream<generated.classic.async.regular.tables.pojos.Somethingwithoutjson> findManyStreamByCondition(org.jooq.Condition condition) {
+        return ((AsyncClassicQueryExecutor<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer>) queryExecutor()).findManyStream(selectQuery(condition));
+    }
+
+    /**
+     * Streams all records as they are received from the database.
+     */
+    public io.vertx.core.streams.ReadStream<generated.classic.async.regular.tables.pojos.Somethingwithoutjson> findAllStream() {
+        return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition());
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all queries on one connection. The connection is released once
+     * when the returned future completes. The queries have to be chained and must not run concurrently.
+     */
+    public <X> io.vertx.core.Future<X> session(java.util.function.Function<SomethingwithoutjsonDao, io.vertx.core.Future<X>> session) {
+        return ((AsyncClassicQueryExecutor<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer>) queryExecutor()).session(tx -> session.apply(new SomethingwithoutjsonDao(configuration(), (AsyncClassicQueryExecutor<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer>) tx)));
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all queries on one connection. The transaction is committed
+     * when the returned future succeeds and rolled back when it fails.
+     */
+    public <X> io.vertx.core.Future<X> transaction(java.util.function.Function<SomethingwithoutjsonDao, io.vertx.core.Future<X>> transaction) {
+        return ((AsyncClassicQueryExecutor<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer>) queryExecutor()).transaction(tx -> transaction.apply(new SomethingwithoutjsonDao(configuration(), (AsyncClassicQueryExecutor<SomethingwithoutjsonRecord,generated.classic.async.regular.tables.pojos.Somethingwithoutjson,Integer>) tx)));
+    }
 }
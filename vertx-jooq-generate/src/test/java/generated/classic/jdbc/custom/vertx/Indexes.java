@@ -6,6 +6,7 @@ package generated.classic.jdbc.custom.vertx;
 
 import generated.classic.jdbc.custom.vertx.tables.Something;
 import generated.classic.jdbc.custom.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.custom.vertx.tables.Somethingwitharray;
 
 import javax.annotation.Generated;
 
@@ -33,6 +34,7 @@ public class Indexes {
 
     public static final Index SYS_IDX_SYS_PK_10344_10346 = Indexes0.SYS_IDX_SYS_PK_10344_10346;
     public static final Index SYS_IDX_SYS_PK_10348_10349 = Indexes0.SYS_IDX_SYS_PK_10348_10349;
+    public static final Index SYS_IDX_SYS_PK_10350_10351 = Indexes0.SYS_IDX_SYS_PK_10350_10351;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
@@ -41,5 +43,6 @@ public class Indexes {
     private static class Indexes0 {
         public static Index SYS_IDX_SYS_PK_10344_10346 = Internal.createIndex("SYS_IDX_SYS_PK_10344_10346", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
         public static Index SYS_IDX_SYS_PK_10348_10349 = Internal.createIndex("SYS_IDX_SYS_PK_10348_10349", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SYS_IDX_SYS_PK_10350_10351 = Internal.createIndex("SYS_IDX_SYS_PK_10350_10351", Somethingwitharray.SOMETHINGWITHARRAY, new OrderField[] { Somethingwitharray.SOMETHINGWITHARRAY.SOMEID }, true);
     }
 }
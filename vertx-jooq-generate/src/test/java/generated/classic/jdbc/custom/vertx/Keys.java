@@ -6,8 +6,10 @@ package generated.classic.jdbc.custom.vertx;
 
 import generated.classic.jdbc.custom.vertx.tables.Something;
 import generated.classic.jdbc.custom.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.custom.vertx.tables.Somethingwitharray;
 import generated.classic.jdbc.custom.vertx.tables.records.SomethingRecord;
 import generated.classic.jdbc.custom.vertx.tables.records.SomethingcompositeRecord;
+import generated.classic.jdbc.custom.vertx.tables.records.SomethingwitharrayRecord;
 
 import javax.annotation.Generated;
 
@@ -35,6 +37,7 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Identities0.IDENTITY_SOMETHING;
+    public static final Identity<SomethingwitharrayRecord, Integer> IDENTITY_SOMETHINGWITHARRAY = Identities0.IDENTITY_SOMETHINGWITHARRAY;
 
     // -------------------------------------------------------------------------
     // UNIQUE and PRIMARY KEY definitions
@@ -42,6 +45,7 @@ public class Keys {
 
     public static final UniqueKey<SomethingRecord> SYS_PK_10344 = UniqueKeys0.SYS_PK_10344;
     public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10348 = UniqueKeys0.SYS_PK_10348;
+    public static final UniqueKey<SomethingwitharrayRecord> SYS_PK_10350 = UniqueKeys0.SYS_PK_10350;
 
     // -------------------------------------------------------------------------
     // FOREIGN KEY definitions
@@ -54,10 +58,12 @@ public class Keys {
 
     private static class Identities0 {
         public static Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Internal.createIdentity(Something.SOMETHING, Something.SOMETHING.SOMEID);
+        public static Identity<SomethingwitharrayRecord, Integer> IDENTITY_SOMETHINGWITHARRAY = Internal.createIdentity(Somethingwitharray.SOMETHINGWITHARRAY, Somethingwitharray.SOMETHINGWITHARRAY.SOMEID);
     }
 
     private static class UniqueKeys0 {
         public static final UniqueKey<SomethingRecord> SYS_PK_10344 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10344", Something.SOMETHING.SOMEID);
         public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10348 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10348", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingwitharrayRecord> SYS_PK_10350 = Internal.createUniqueKey(Somethingwitharray.SOMETHINGWITHARRAY, "SYS_PK_10350", Somethingwitharray.SOMETHINGWITHARRAY.SOMEID);
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.classic.jdbc.custom.vertx.tables;
+
+
+import generated.classic.jdbc.custom.vertx.Indexes;
+import generated.classic.jdbc.custom.vertx.Keys;
+import generated.classic.jdbc.custom.vertx.Vertx;
+import generated.classic.jdbc.custom.vertx.tables.records.SomethingwitharrayRecord;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Generated;
+
+import org.jooq.Field;
+import org.jooq.Identity;
+import org.jooq.Index;
+import org.jooq.Name;
+import org.jooq.Schema;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class Somethingwitharray extends TableImpl<SomethingwitharrayRecord> {
+
+    private static final long serialVersionUID = 838630485;
+
+    /**
+     * The reference instance of <code>VERTX.SOMETHINGWITHARRAY</code>
+     */
+    public static final Somethingwitharray SOMETHINGWITHARRAY = new Somethingwitharray();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<SomethingwitharrayRecord> getRecordType() {
+        return SomethingwitharrayRecord.class;
+    }
+
+    /**
+     * The column <code>VERTX.SOMETHINGWITHARRAY.SOMEID</code>.
+     */
+    public final TableField<SomethingwitharrayRecord, Integer> SOMEID = createField("SOMEID", org.jooq.impl.SQLDataType.INTEGER.nullable(false).identity(true), this, "");
+
+    /**
+     * The column <code>VERTX.SOMETHINGWITHARRAY.SOMEARRAY</code>.
+     */
+    public final TableField<SomethingwitharrayRecord, Integer[]> SOMEARRAY = createField("SOMEARRAY", org.jooq.impl.SQLDataType.INTEGER.getArrayDataType(), this, "");
+
+    /**
+     * The column <code>VERTX.SOMETHINGWITHARRAY.SOMESTRING</code>.
+     */
+    public final TableField<SomethingwitharrayRecord, String> SOMESTRING = createField("SOMESTRING", org.jooq.impl.SQLDataType.VARCHAR(45), this, "");
+
+    /**
+     * Create a <code>VERTX.SOMETHINGWITHARRAY</code> table reference
+     */
+    public Somethingwitharray() {
+        this(DSL.name("SOMETHINGWITHARRAY"), null);
+    }
+
+    /**
+     * Create an aliased <code>VERTX.SOMETHINGWITHARRAY</code> table reference
+     */
+    public Somethingwitharray(String alias) {
+        this(DSL.name(alias), SOMETHINGWITHARRAY);
+    }
+
+    /**
+     * Create an aliased <code>VERTX.SOMETHINGWITHARRAY</code> table reference
+     */
+    public Somethingwitharray(Name alias) {
+        this(alias, SOMETHINGWITHARRAY);
+    }
+
+    private Somethingwitharray(Name alias, Table<SomethingwitharrayRecord> aliased) {
+        this(alias, aliased, null);
+    }
+
+    private Somethingwitharray(Name alias, Table<SomethingwitharrayRecord> aliased, Field<?>[] parameters) {
+        super(alias, null, aliased, parameters, "");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Schema getSchema() {
+        return Vertx.VERTX;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Index> getIndexes() {
+        return Arrays.<Index>asList(Indexes.SYS_IDX_SYS_PK_10350_10351);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Identity<SomethingwitharrayRecord, Integer> getIdentity() {
+        return Keys.IDENTITY_SOMETHINGWITHARRAY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UniqueKey<SomethingwitharrayRecord> getPrimaryKey() {
+        return Keys.SYS_PK_10350;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UniqueKey<SomethingwitharrayRecord>> getKeys() {
+        return Arrays.<UniqueKey<SomethingwitharrayRecord>>asList(Keys.SYS_PK_10350);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Somethingwitharray as(String alias) {
+        return new Somethingwitharray(DSL.name(alias), this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Somethingwitharray as(Name alias) {
+        return new Somethingwitharray(alias, this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Somethingwitharray rename(String name) {
+        return new Somethingwitharray(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Somethingwitharray rename(Name name) {
+        return new Somethingwitharray(name, null);
+    }
+}
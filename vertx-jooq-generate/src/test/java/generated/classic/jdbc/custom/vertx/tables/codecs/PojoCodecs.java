@@ -0,0 +1,29 @@
+package generated.classic.jdbc.custom.vertx.tables.codecs;
+
+/**
+ * Registers the <code>MessageCodecs</code> of all POJOs of this schema.
+ */
+public class PojoCodecs {
+
+    private PojoCodecs() {}
+
+    public static java.util.List<io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec<?>> codecs(boolean copyOnLocalDelivery) {
+        return java.util.Arrays.asList(
+            new SomethingCodec(copyOnLocalDelivery),
+            new SomethingcompositeCodec(copyOnLocalDelivery),
+            new SomethingwitharrayCodec(copyOnLocalDelivery)
+        );
+    }
+
+    public static void registerAll(io.vertx.core.eventbus.EventBus eventBus) {
+        registerAll(eventBus, true);
+    }
+
+    public static void registerAll(io.vertx.core.eventbus.EventBus eventBus, boolean copyOnLocalDelivery) {
+        io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec.registerAll(eventBus, codecs(copyOnLocalDelivery));
+    }
+
+    public static void unregisterAll(io.vertx.core.eventbus.EventBus eventBus) {
+        io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec.unregisterAll(eventBus, codecs(true));
+    }
+}
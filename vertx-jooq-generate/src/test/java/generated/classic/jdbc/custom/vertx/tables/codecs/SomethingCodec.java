@@ -0,0 +1,53 @@
+package generated.classic.jdbc.custom.vertx.tables.codecs;
+
+/**
+ * Sends <code>Something</code>s over the event bus without converting them into JSON.
+ */
+public class SomethingCodec extends io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec<generated.classic.jdbc.custom.vertx.tables.pojos.Something> {
+
+    public SomethingCodec() {
+        this(true);
+    }
+
+    public SomethingCodec(boolean copyOnLocalDelivery) {
+        super(generated.classic.jdbc.custom.vertx.tables.pojos.Something.class, 10, copyOnLocalDelivery);
+    }
+
+    @Override
+    protected void encode(Writer writer, generated.classic.jdbc.custom.vertx.tables.pojos.Something pojo) {
+        writer.writeInteger(pojo.getSomeid());
+        writer.writeString(pojo.getSomestring());
+        writer.writeLong(pojo.getSomehugenumber());
+        writer.writeShort(pojo.getSomesmallnumber());
+        writer.writeInteger(pojo.getSomeregularnumber());
+        writer.writeBoolean(pojo.getSomeboolean());
+        writer.writeDouble(pojo.getSomedouble());
+        writer.writeJsonObject(pojo.getSomejsonobject());
+        writer.writeJsonArray(pojo.getSomejsonarray());
+        writer.writeString(pojo.getSometimestamp()==null?null:pojo.getSometimestamp().toString());
+    }
+
+    @Override
+    protected generated.classic.jdbc.custom.vertx.tables.pojos.Something decode(Reader reader) {
+        generated.classic.jdbc.custom.vertx.tables.pojos.Something pojo = new generated.classic.jdbc.custom.vertx.tables.pojos.Something();
+        pojo.setSomeid(reader.readInteger());
+        pojo.setSomestring(reader.readString());
+        pojo.setSomehugenumber(reader.readLong());
+        pojo.setSomesmallnumber(reader.readShort());
+        pojo.setSomeregularnumber(reader.readInteger());
+        pojo.setSomeboolean(reader.readBoolean());
+        pojo.setSomedouble(reader.readDouble());
+        pojo.setSomejsonobject(reader.readJsonObject());
+        pojo.setSomejsonarray(reader.readJsonArray());
+        pojo.setSometimestamp(java.util.Optional.ofNullable(reader.readString()).map(java.time.LocalDateTime::parse).orElse(null));
+        return pojo;
+    }
+
+    @Override
+    protected generated.classic.jdbc.custom.vertx.tables.pojos.Something copy(generated.classic.jdbc.custom.vertx.tables.pojos.Something pojo) {
+        generated.classic.jdbc.custom.vertx.tables.pojos.Something copy = new generated.classic.jdbc.custom.vertx.tables.pojos.Something(pojo);
+        copy.setSomejsonobject(pojo.getSomejsonobject()==null?null:pojo.getSomejsonobject().copy());
+        copy.setSomejsonarray(pojo.getSomejsonarray()==null?null:pojo.getSomejsonarray().copy());
+        return copy;
+    }
+}
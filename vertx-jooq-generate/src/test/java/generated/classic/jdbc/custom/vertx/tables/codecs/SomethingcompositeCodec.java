@@ -0,0 +1,38 @@
+package generated.classic.jdbc.custom.vertx.tables.codecs;
+
+/**
+ * Sends <code>Somethingcomposite</code>s over the event bus without converting them into JSON.
+ */
+public class SomethingcompositeCodec extends io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite> {
+
+    public SomethingcompositeCodec() {
+        this(true);
+    }
+
+    public SomethingcompositeCodec(boolean copyOnLocalDelivery) {
+        super(generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite.class, 3, copyOnLocalDelivery);
+    }
+
+    @Override
+    protected void encode(Writer writer, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite pojo) {
+        writer.writeInteger(pojo.getSomeid());
+        writer.writeInteger(pojo.getSomesecondid());
+        writer.writeJsonObject(pojo.getSomejsonobject());
+    }
+
+    @Override
+    protected generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite decode(Reader reader) {
+        generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite pojo = new generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite();
+        pojo.setSomeid(reader.readInteger());
+        pojo.setSomesecondid(reader.readInteger());
+        pojo.setSomejsonobject(reader.readJsonObject());
+        return pojo;
+    }
+
+    @Override
+    protected generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite copy(generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite pojo) {
+        generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite copy = new generated.classic.jdbc.custom.vertx.tables.pojos.Somethingcomposite(pojo);
+        copy.setSomejsonobject(pojo.getSomejsonobject()==null?null:pojo.getSomejsonobject().copy());
+        return copy;
+    }
+}
@@ -0,0 +1,37 @@
+package generated.classic.jdbc.custom.vertx.tables.codecs;
+
+/**
+ * Sends <code>Somethingwitharray</code>s over the event bus without converting them into JSON.
+ */
+public class SomethingwitharrayCodec extends io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray> {
+
+    public SomethingwitharrayCodec() {
+        this(true);
+    }
+
+    public SomethingwitharrayCodec(boolean copyOnLocalDelivery) {
+        super(generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray.class, 3, copyOnLocalDelivery);
+    }
+
+    @Override
+    protected void encode(Writer writer, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray pojo) {
+        writer.writeInteger(pojo.getSomeid());
+        // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+        writer.writeString(pojo.getSomestring());
+    }
+
+    @Override
+    protected generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray decode(Reader reader) {
+        generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray pojo = new generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray();
+        pojo.setSomeid(reader.readInteger());
+        // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+        pojo.setSomestring(reader.readString());
+        return pojo;
+    }
+
+    @Override
+    protected generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray copy(generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray pojo) {
+        generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray copy = new generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray(pojo);
+        return copy;
+    }
+}
@@ -8,6 +8,8 @@ import generated.classic.jdbc.custom.vertx.tables.Something;
 import generated.classic.jdbc.custom.vertx.tables.records.SomethingRecord;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -32,14 +34,62 @@ import io.github.jklingsporn.vertx.jooq.classic.jdbc.JDBCClassicQueryExecutor;
     comments = "This class is generated by jOOQ"
 )
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
-public class SomethingDao extends AbstractVertxDAO<SomethingRecord, generated.classic.jdbc.custom.vertx.tables.pojos.Something, Integer, Future<List<generated.classic.jdbc.custom.vertx.tables.pojos.Something>>, Future<generated.classic.jdbc.custom.vertx.tables.pojos.Something>, Future<Integer>, Future<Integer>> implements io.github.jklingsporn.vertx.jooq.classic.VertxDAO<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer> {
+public class SomethingDao extends AbstractVertxDAO<SomethingRecord, generated.classic.jdbc.custom.vertx.tables.pojos.Something, Integer, Future<List<generated.classic.jdbc.custom.vertx.tables.pojos.Something>>, Future<generated.classic.jdbc.custom.vertx.tables.pojos.Something>, Future<Integer>, Future<Integer>> implements io.github.jklingsporn.vertx.jooq.classic.JsonVertxDAO<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer> {
+
+    /**
+     * Maps the rows of <code>SOMETHING</code> to POJOs and back without using reflection.
+     */
+    public static final RecordPojoMapper<SomethingRecord, generated.classic.jdbc.custom.vertx.tables.pojos.Something> MAPPER = RecordPojoMapper.of(Something.SOMETHING, generated.classic.jdbc.custom.vertx.tables.pojos.Something.class, values -> {
+        generated.classic.jdbc.custom.vertx.tables.pojos.Something pojo = new generated.classic.jdbc.custom.vertx.tables.pojos.Something();
+        pojo.setSomeid((Integer) values.apply(0));
+        pojo.setSomestring((String) values.apply(1));
+        pojo.setSomehugenumber((Long) values.apply(2));
+        pojo.setSomesmallnumber((Short) values.apply(3));
+        pojo.setSomeregularnumber((Integer) values.apply(4));
+        pojo.setSomeboolean((Boolean) values.apply(5));
+        pojo.setSomedouble((Double) values.apply(6));
+        pojo.setSomejsonobject((JsonObject) values.apply(7));
+        pojo.setSomejsonarray((JsonArray) values.apply(8));
+        pojo.setSometimestamp((LocalDateTime) values.apply(9));
+        return pojo;
+    }, pojo -> {
+        SomethingRecord record = new SomethingRecord();
+        record.setSomeid(pojo.getSomeid());
+        record.setSomestring(pojo.getSomestring());
+        record.setSomehugenumber(pojo.getSomehugenumber());
+        record.setSomesmallnumber(pojo.getSomesmallnumber());
+        record.setSomeregularnumber(pojo.getSomeregularnumber());
+        record.setSomeboolean(pojo.getSomeboolean());
+        record.setSomedouble(pojo.getSomedouble());
+        record.setSomejsonobject(pojo.getSomejsonobject());
+        record.setSomejsonarray(pojo.getSomejsonarray());
+        record.setSometimestamp(pojo.getSometimestamp());
+        return record;
+    });
 
     /**
      * @param configuration The Configuration used for rendering and query execution.
      * @param vertx the vertx instance
      */
     public SomethingDao(Configuration configuration, io.vertx.core.Vertx vertx) {
-        super(Something.SOMETHING, generated.classic.jdbc.custom.vertx.tables.pojos.Something.class, new JDBCClassicQueryExecutor<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer>(generated.classic.jdbc.custom.vertx.tables.pojos.Something.class,configuration,vertx), configuration);
+        super(Something.SOMETHING, generated.classic.jdbc.custom.vertx.tables.pojos.Something.class, new JDBCClassicQueryExecutor<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer>(MAPPER,configuration,vertx), configuration);
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public SomethingDao(Configuration configuration, io.vertx.core.Vertx vertx, JDBCWorkerPool workerPool) {
+        super(Something.SOMETHING, generated.classic.jdbc.custom.vertx.tables.pojos.Something.class, new JDBCClassicQueryExecutor<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer>(MAPPER,configuration,vertx,workerPool), configuration);
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering.
+     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is not executing queries in order.
+     */
+    public SomethingDao(Configuration configuration, JDBCClassicQueryExecutor<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer> queryExecutor) {
+        super(Something.SOMETHING, generated.classic.jdbc.custom.vertx.tables.pojos.Something.class, queryExecutor, configuration);
     }
 
     /**
@@ -50,6 +100,14 @@ public class SomethingDao extends AbstractVertxDAO<SomethingRecord, generated.cl
         return object.getSomeid();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected RecordPojoMapper<SomethingRecord, generated.classic.jdbc.custom.vertx.tables.pojos.Something> mapper() {
+        return MAPPER;
+    }
+
     /**
      * Find records that have <code>SOMESTRING IN (values)</code> asynchronously
      */
@@ -112,4 +170,33 @@ public class SomethingDao extends AbstractVertxDAO<SomethingRecord, generated.cl
     public Future<List<generated.classic.jdbc.custom.vertx.tables.pojos.Something>> findManyBySometimestamp(List<LocalDateTime> values) {
         return findManyByCondition(Something.SOMETHING.SOMETIMESTAMP.in(values));
     }
+
+    /**
+     * Streams all records matching the condition, fetching <code>fetchSize</code> rows at once.
+     */
+    public io.vertx.core.streams.ReadStream<generated.classic.jdbc.custom.vertx.tables.pojos.Something> findManyStreamByCondition(org.jooq.Condition condition, int fetchSize) {
+        return ((JDBCClassicQueryExecutor<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer>) queryExecutor()).findManyStream(selectQuery(condition), fetchSize);
+    }
+
+    /**
+     * Streams all records, fetching <code>fetchSize</code> rows at once.
+     */
+    public io.vertx.core.streams.ReadStream<generated.classic.jdbc.custom.vertx.tables.pojos.Something> findAllStream(int fetchSize) {
+        return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition(), fetchSize);
+    }
+
+    /**
+     * Inserts the POJOs in chunks using JDBC-batches. The size of the chunks adapts to the observed latency.
+     */
+    public io.vertx.core.Future<io.github.jklingsporn.vertx.jooq.shared.internal.BatchResult> insertBatch(java.util.Collection<generated.classic.jdbc.custom.vertx.tables.pojos.Something> pojos) {
+        return ((JDBCClassicQueryExecutor<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer>) queryExecutor()).insertBatch(newRecords(pojos));
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all statements on one connection. The transaction is committed
+     * when the returned future succeeds and rolled back when it fails.
+     */
+    public <X> io.vertx.core.Future<X> transaction(java.util.function.Function<SomethingDao, io.vertx.core.Future<X>> transaction) {
+        return ((JDBCClassicQueryExecutor<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer>) queryExecutor()).transaction(tx -> transaction.apply(new SomethingDao(tx.configuration(), (JDBCClassicQueryExecutor<SomethingRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Something,Integer>) tx)));
+    }
 }
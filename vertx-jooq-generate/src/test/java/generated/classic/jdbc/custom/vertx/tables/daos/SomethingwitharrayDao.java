@@ -0,0 +1,136 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.classic.jdbc.custom.vertx.tables.daos;
+
+
+import generated.classic.jdbc.custom.vertx.tables.Somethingwitharray;
+import generated.classic.jdbc.custom.vertx.tables.records.SomethingwitharrayRecord;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
+
+import java.util.List;
+
+import javax.annotation.Generated;
+
+import org.jooq.Configuration;
+
+
+import io.vertx.core.Future;
+import io.github.jklingsporn.vertx.jooq.classic.jdbc.JDBCClassicQueryExecutor;
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class SomethingwitharrayDao extends AbstractVertxDAO<SomethingwitharrayRecord, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray, Integer, Future<List<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray>>, Future<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray>, Future<Integer>, Future<Integer>> implements io.github.jklingsporn.vertx.jooq.classic.JsonVertxDAO<SomethingwitharrayRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,Integer> {
+
+    /**
+     * Maps the rows of <code>SOMETHINGWITHARRAY</code> to POJOs and back without using reflection.
+     */
+    public static final RecordPojoMapper<SomethingwitharrayRecord, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray> MAPPER = RecordPojoMapper.of(Somethingwitharray.SOMETHINGWITHARRAY, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray.class, values -> {
+        generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray pojo = new generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray();
+        pojo.setSomeid((Integer) values.apply(0));
+        pojo.setSomearray((Integer[]) values.apply(1));
+        pojo.setSomestring((String) values.apply(2));
+        return pojo;
+    }, pojo -> {
+        SomethingwitharrayRecord record = new SomethingwitharrayRecord();
+        record.setSomeid(pojo.getSomeid());
+        record.setSomearray(pojo.getSomearray());
+        record.setSomestring(pojo.getSomestring());
+        return record;
+    });
+
+    /**
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     */
+    public SomethingwitharrayDao(Configuration configuration, io.vertx.core.Vertx vertx) {
+        super(Somethingwitharray.SOMETHINGWITHARRAY, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray.class, new JDBCClassicQueryExecutor<SomethingwitharrayRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,Integer>(MAPPER,configuration,vertx), configuration);
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public SomethingwitharrayDao(Configuration configuration, io.vertx.core.Vertx vertx, JDBCWorkerPool workerPool) {
+        super(Somethingwitharray.SOMETHINGWITHARRAY, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray.class, new JDBCClassicQueryExecutor<SomethingwitharrayRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,Integer>(MAPPER,configuration,vertx,workerPool), configuration);
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering.
+     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is not executing queries in order.
+     */
+    public SomethingwitharrayDao(Configuration configuration, JDBCClassicQueryExecutor<SomethingwitharrayRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,Integer> queryExecutor) {
+        super(Somethingwitharray.SOMETHINGWITHARRAY, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray.class, queryExecutor, configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Integer getId(generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray object) {
+        return object.getSomeid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected RecordPojoMapper<SomethingwitharrayRecord, generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray> mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * Find records that have <code>SOMEARRAY IN (values)</code> asynchronously
+     */
+    public Future<List<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray>> findManyBySomearray(List<Integer[]> values) {
+        return findManyByCondition(Somethingwitharray.SOMETHINGWITHARRAY.SOMEARRAY.in(values));
+    }
+
+    /**
+     * Find records that have <code>SOMESTRING IN (values)</code> asynchronously
+     */
+    public Future<List<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray>> findManyBySomestring(List<String> values) {
+        return findManyByCondition(Somethingwitharray.SOMETHINGWITHARRAY.SOMESTRING.in(values));
+    }
+
+    /**
+     * Streams all records matching the condition, fetching <code>fetchSize</code> rows at once.
+     */
+    public io.vertx.core.streams.ReadStream<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray> findManyStreamByCondition(org.jooq.Condition condition, int fetchSize) {
+        return ((JDBCClassicQueryExecutor<SomethingwitharrayRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,Integer>) queryExecutor()).findManyStream(selectQuery(condition), fetchSize);
+    }
+
+    /**
+     * Streams all records, fetching <code>fetchSize</code> rows at once.
+     */
+    public io.vertx.core.streams.ReadStream<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray> findAllStream(int fetchSize) {
+        return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition(), fetchSize);
+    }
+
+    /**
+     * Inserts the POJOs in chunks using JDBC-batches. The size of the chunks adapts to the observed latency.
+     */
+    public io.vertx.core.Future<io.github.jklingsporn.vertx.jooq.shared.internal.BatchResult> insertBatch(java.util.Collection<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray> pojos) {
+        return ((JDBCClassicQueryExecutor<SomethingwitharrayRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,Integer>) queryExecutor()).insertBatch(newRecords(pojos));
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all statements on one connection. The transaction is committed
+     * when the returned future succeeds and rolled back when it fails.
+     */
+    public <X> io.vertx.core.Future<X> transaction(java.util.function.Function<SomethingwitharrayDao, io.vertx.core.Future<X>> transaction) {
+        return ((JDBCClassicQueryExecutor<SomethingwitharrayRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,Integer>) queryExecutor()).transaction(tx -> transaction.apply(new SomethingwitharrayDao(tx.configuration(), (JDBCClassicQueryExecutor<SomethingwitharrayRecord,generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,Integer>) tx)));
+    }
+}
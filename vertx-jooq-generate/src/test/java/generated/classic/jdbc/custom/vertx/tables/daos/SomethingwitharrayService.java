@@ -0,0 +1,32 @@
+package generated.classic.jdbc.custom.vertx.tables.daos;
+
+/**
+ * Exposes the <code>SomethingwitharrayDao</code> on the event bus. Deploy the <code>Verticle</code> and use the proxy created by
+ * <code>createProxy</code> like any other DAO.
+ */
+public class SomethingwitharrayService {
+
+    public static final String ADDRESS = "generated.classic.jdbc.custom.vertx.tables.daos.SomethingwitharrayDao";
+
+    private SomethingwitharrayService() {}
+
+    public static io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec codec() {
+        return new io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec(ADDRESS, new generated.classic.jdbc.custom.vertx.tables.codecs.SomethingwitharrayCodec());
+    }
+
+    public static io.github.jklingsporn.vertx.jooq.classic.DAOServiceProxy<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,java.lang.Integer> createProxy(io.vertx.core.Vertx vertx) {
+        return new io.github.jklingsporn.vertx.jooq.classic.DAOServiceProxy<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,java.lang.Integer>(vertx, ADDRESS, codec());
+    }
+
+    public static class Verticle extends io.github.jklingsporn.vertx.jooq.classic.DAOServiceVerticle<generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray,java.lang.Integer,SomethingwitharrayDao> {
+
+        public Verticle(java.util.function.Function<io.vertx.core.Vertx, SomethingwitharrayDao> daoFactory) {
+            super(ADDRESS, codec(), daoFactory);
+        }
+
+        @Override
+        protected java.lang.Integer getId(generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray pojo) {
+            return dao().getId(pojo);
+        }
+    }
+}
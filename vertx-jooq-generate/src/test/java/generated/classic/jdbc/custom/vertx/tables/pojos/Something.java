@@ -27,7 +27,7 @@ import javax.annotation.Generated;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class Something implements VertxPojo, Serializable {
 
-    private static final long serialVersionUID = -1803022864;
+    private static final long serialVersionUID = 2136376097;
 
     private Integer       someid;
     private String        somestring;
@@ -85,6 +85,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomeid(Integer someid) {
         this.someid = someid;
+        if (this.changedFields != null) {
+            this.changedFields.set(0);
+        }
         return this;
     }
 
@@ -94,6 +97,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomestring(String somestring) {
         this.somestring = somestring;
+        if (this.changedFields != null) {
+            this.changedFields.set(1);
+        }
         return this;
     }
 
@@ -103,6 +109,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomehugenumber(Long somehugenumber) {
         this.somehugenumber = somehugenumber;
+        if (this.changedFields != null) {
+            this.changedFields.set(2);
+        }
         return this;
     }
 
@@ -112,6 +121,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomesmallnumber(Short somesmallnumber) {
         this.somesmallnumber = somesmallnumber;
+        if (this.changedFields != null) {
+            this.changedFields.set(3);
+        }
         return this;
     }
 
@@ -121,6 +133,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomeregularnumber(Integer someregularnumber) {
         this.someregularnumber = someregularnumber;
+        if (this.changedFields != null) {
+            this.changedFields.set(4);
+        }
         return this;
     }
 
@@ -130,6 +145,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomeboolean(Boolean someboolean) {
         this.someboolean = someboolean;
+        if (this.changedFields != null) {
+            this.changedFields.set(5);
+        }
         return this;
     }
 
@@ -139,6 +157,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomedouble(Double somedouble) {
         this.somedouble = somedouble;
+        if (this.changedFields != null) {
+            this.changedFields.set(6);
+        }
         return this;
     }
 
@@ -148,6 +169,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomejsonobject(JsonObject somejsonobject) {
         this.somejsonobject = somejsonobject;
+        if (this.changedFields != null) {
+            this.changedFields.set(7);
+        }
         return this;
     }
 
@@ -157,6 +181,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSomejsonarray(JsonArray somejsonarray) {
         this.somejsonarray = somejsonarray;
+        if (this.changedFields != null) {
+            this.changedFields.set(8);
+        }
         return this;
     }
 
@@ -166,6 +193,9 @@ public class Something implements VertxPojo, Serializable {
 
     public Something setSometimestamp(LocalDateTime sometimestamp) {
         this.sometimestamp = sometimestamp;
+        if (this.changedFields != null) {
+            this.changedFields.set(9);
+        }
         return this;
     }
 
@@ -277,6 +307,22 @@ public class Something implements VertxPojo, Serializable {
         return sb.toString();
     }
 
+    private transient java.util.BitSet changedFields;
+
+    @Override
+    public java.util.BitSet changedFields() {
+        return changedFields;
+    }
+
+    @Override
+    public void resetChangedFields() {
+        if (changedFields == null) {
+            changedFields = new java.util.BitSet();
+        } else {
+            changedFields.clear();
+        }
+    }
+
     public Something(io.vertx.core.json.JsonObject json) {
         this();
         fromJson(json);
@@ -314,4 +360,66 @@ public class Something implements VertxPojo, Serializable {
         return json;
     }
 
+    @Override
+    public void writeJson(com.fasterxml.jackson.core.JsonGenerator generator) throws java.io.IOException {
+        generator.writeStartObject();
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEID", getSomeid());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMESTRING", getSomestring());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEHUGENUMBER", getSomehugenumber());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMESMALLNUMBER", getSomesmallnumber());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEREGULARNUMBER", getSomeregularnumber());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEBOOLEAN", getSomeboolean());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEDOUBLE", getSomedouble());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEJSONOBJECT", getSomejsonobject());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEJSONARRAY", getSomejsonarray());
+        io.vertx.core.json.JsonObject json = new io.vertx.core.json.JsonObject();
+        json.put("SOMETIMESTAMP",getSometimestamp()==null?null:getSometimestamp().toString());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeFields(generator, json);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public Something readJson(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.startObject(parser);
+        while (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "SOMEID":
+                    setSomeid(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMESTRING":
+                    setSomestring(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readString(parser));
+                    break;
+                case "SOMEHUGENUMBER":
+                    setSomehugenumber(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readLong(parser));
+                    break;
+                case "SOMESMALLNUMBER":
+                    setSomesmallnumber(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readShort(parser));
+                    break;
+                case "SOMEREGULARNUMBER":
+                    setSomeregularnumber(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMEBOOLEAN":
+                    setSomeboolean(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readBoolean(parser));
+                    break;
+                case "SOMEDOUBLE":
+                    setSomedouble(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readDouble(parser));
+                    break;
+                case "SOMEJSONOBJECT":
+                    setSomejsonobject(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readJsonObject(parser));
+                    break;
+                case "SOMEJSONARRAY":
+                    setSomejsonarray(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readJsonArray(parser));
+                    break;
+                case "SOMETIMESTAMP":
+                    setSometimestamp(parser.getCurrentToken()==com.fasterxml.jackson.core.JsonToken.VALUE_NULL?null:LocalDateTime.parse(parser.getText()));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return this;
+    }
+
 }
@@ -25,7 +25,7 @@ import javax.annotation.Generated;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class Somethingcomposite implements VertxPojo, Serializable {
 
-    private static final long serialVersionUID = -463816800;
+    private static final long serialVersionUID = -1670237720;
 
     private Integer    someid;
     private Integer    somesecondid;
@@ -55,6 +55,9 @@ public class Somethingcomposite implements VertxPojo, Serializable {
 
     public Somethingcomposite setSomeid(Integer someid) {
         this.someid = someid;
+        if (this.changedFields != null) {
+            this.changedFields.set(0);
+        }
         return this;
     }
 
@@ -64,6 +67,9 @@ public class Somethingcomposite implements VertxPojo, Serializable {
 
     public Somethingcomposite setSomesecondid(Integer somesecondid) {
         this.somesecondid = somesecondid;
+        if (this.changedFields != null) {
+            this.changedFields.set(1);
+        }
         return this;
     }
 
@@ -73,6 +79,9 @@ public class Somethingcomposite implements VertxPojo, Serializable {
 
     public Somethingcomposite setSomejsonobject(JsonObject somejsonobject) {
         this.somejsonobject = somejsonobject;
+        if (this.changedFields != null) {
+            this.changedFields.set(2);
+        }
         return this;
     }
 
@@ -128,6 +137,22 @@ public class Somethingcomposite implements VertxPojo, Serializable {
         return sb.toString();
     }
 
+    private transient java.util.BitSet changedFields;
+
+    @Override
+    public java.util.BitSet changedFields() {
+        return changedFields;
+    }
+
+    @Override
+    public void resetChangedFields() {
+        if (changedFields == null) {
+            changedFields = new java.util.BitSet();
+        } else {
+            changedFields.clear();
+        }
+    }
+
     public Somethingcomposite(io.vertx.core.json.JsonObject json) {
         this();
         fromJson(json);
@@ -151,4 +176,36 @@ public class Somethingcomposite implements VertxPojo, Serializable {
         return json;
     }
 
+    @Override
+    public void writeJson(com.fasterxml.jackson.core.JsonGenerator generator) throws java.io.IOException {
+        generator.writeStartObject();
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEID", getSomeid());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMESECONDID", getSomesecondid());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEJSONOBJECT", getSomejsonobject());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public Somethingcomposite readJson(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.startObject(parser);
+        while (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "SOMEID":
+                    setSomeid(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMESECONDID":
+                    setSomesecondid(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMEJSONOBJECT":
+                    setSomejsonobject(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readJsonObject(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return this;
+    }
+
 }
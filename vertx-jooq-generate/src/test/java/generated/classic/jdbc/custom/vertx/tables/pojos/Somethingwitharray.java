@@ -0,0 +1,212 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.classic.jdbc.custom.vertx.tables.pojos;
+
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import javax.annotation.Generated;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class Somethingwitharray implements VertxPojo, Serializable {
+
+    private static final long serialVersionUID = -151333712;
+
+    private Integer   someid;
+    private Integer[] somearray;
+    private String    somestring;
+
+    public Somethingwitharray() {}
+
+    public Somethingwitharray(Somethingwitharray value) {
+        this.someid = value.someid;
+        this.somearray = value.somearray;
+        this.somestring = value.somestring;
+    }
+
+    public Somethingwitharray(
+        Integer   someid,
+        Integer[] somearray,
+        String    somestring
+    ) {
+        this.someid = someid;
+        this.somearray = somearray;
+        this.somestring = somestring;
+    }
+
+    public Integer getSomeid() {
+        return this.someid;
+    }
+
+    public Somethingwitharray setSomeid(Integer someid) {
+        this.someid = someid;
+        if (this.changedFields != null) {
+            this.changedFields.set(0);
+        }
+        return this;
+    }
+
+    public Integer[] getSomearray() {
+        return this.somearray;
+    }
+
+    public Somethingwitharray setSomearray(Integer... somearray) {
+        this.somearray = somearray;
+        if (this.changedFields != null) {
+            this.changedFields.set(1);
+        }
+        return this;
+    }
+
+    public String getSomestring() {
+        return this.somestring;
+    }
+
+    public Somethingwitharray setSomestring(String somestring) {
+        this.somestring = somestring;
+        if (this.changedFields != null) {
+            this.changedFields.set(2);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Somethingwitharray other = (Somethingwitharray) obj;
+        if (someid == null) {
+            if (other.someid != null)
+                return false;
+        }
+        else if (!someid.equals(other.someid))
+            return false;
+        if (somearray == null) {
+            if (other.somearray != null)
+                return false;
+        }
+        else if (!Arrays.equals(somearray, other.somearray))
+            return false;
+        if (somestring == null) {
+            if (other.somestring != null)
+                return false;
+        }
+        else if (!somestring.equals(other.somestring))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.someid == null) ? 0 : this.someid.hashCode());
+        result = prime * result + ((this.somearray == null) ? 0 : Arrays.hashCode(this.somearray));
+        result = prime * result + ((this.somestring == null) ? 0 : this.somestring.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Somethingwitharray (");
+
+        sb.append(someid);
+        sb.append(", ").append(Arrays.toString(somearray));
+        sb.append(", ").append(somestring);
+
+        sb.append(")");
+        return sb.toString();
+    }
+
+    private transient java.util.BitSet changedFields;
+
+    @Override
+    public java.util.BitSet changedFields() {
+        return changedFields;
+    }
+
+    @Override
+    public void resetChangedFields() {
+        if (changedFields == null) {
+            changedFields = new java.util.BitSet();
+        } else {
+            changedFields.clear();
+        }
+    }
+
+    public Somethingwitharray(io.vertx.core.json.JsonObject json) {
+        this();
+        fromJson(json);
+    }
+
+    @Override
+    public Somethingwitharray fromJson(io.vertx.core.json.JsonObject json) {
+        setSomeid(json.getInteger("SOMEID"));
+        // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+        setSomestring(json.getString("SOMESTRING"));
+        return this;
+    }
+
+
+    @Override
+    public io.vertx.core.json.JsonObject toJson() {
+        io.vertx.core.json.JsonObject json = new io.vertx.core.json.JsonObject();
+        json.put("SOMEID",getSomeid());
+        // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+        json.put("SOMESTRING",getSomestring());
+        return json;
+    }
+
+    @Override
+    public void writeJson(com.fasterxml.jackson.core.JsonGenerator generator) throws java.io.IOException {
+        generator.writeStartObject();
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEID", getSomeid());
+        // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMESTRING", getSomestring());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public Somethingwitharray readJson(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.startObject(parser);
+        while (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "SOMEID":
+                    setSomeid(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMEARRAY":
+                    // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+                    parser.skipChildren();
+                    break;
+                case "SOMESTRING":
+                    setSomestring(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return this;
+    }
+
+}
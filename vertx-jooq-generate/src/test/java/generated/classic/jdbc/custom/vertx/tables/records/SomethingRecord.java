@@ -34,7 +34,7 @@ import org.jooq.impl.UpdatableRecordImpl;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class SomethingRecord extends UpdatableRecordImpl<SomethingRecord> implements VertxPojo, Record10<Integer, String, Long, Short, Integer, Boolean, Double, JsonObject, JsonArray, LocalDateTime> {
 
-    private static final long serialVersionUID = -1059864315;
+    private static final long serialVersionUID = -145186288;
 
     /**
      * Setter for <code>VERTX.SOMETHING.SOMEID</code>.
@@ -632,4 +632,66 @@ public class SomethingRecord extends UpdatableRecordImpl<SomethingRecord> implem
         return json;
     }
 
+    @Override
+    public void writeJson(com.fasterxml.jackson.core.JsonGenerator generator) throws java.io.IOException {
+        generator.writeStartObject();
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEID", getSomeid());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMESTRING", getSomestring());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEHUGENUMBER", getSomehugenumber());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMESMALLNUMBER", getSomesmallnumber());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEREGULARNUMBER", getSomeregularnumber());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEBOOLEAN", getSomeboolean());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEDOUBLE", getSomedouble());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEJSONOBJECT", getSomejsonobject());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEJSONARRAY", getSomejsonarray());
+        io.vertx.core.json.JsonObject json = new io.vertx.core.json.JsonObject();
+        json.put("SOMETIMESTAMP",getSometimestamp()==null?null:getSometimestamp().toString());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeFields(generator, json);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public SomethingRecord readJson(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.startObject(parser);
+        while (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "SOMEID":
+                    setSomeid(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMESTRING":
+                    setSomestring(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readString(parser));
+                    break;
+                case "SOMEHUGENUMBER":
+                    setSomehugenumber(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readLong(parser));
+                    break;
+                case "SOMESMALLNUMBER":
+                    setSomesmallnumber(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readShort(parser));
+                    break;
+                case "SOMEREGULARNUMBER":
+                    setSomeregularnumber(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMEBOOLEAN":
+                    setSomeboolean(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readBoolean(parser));
+                    break;
+                case "SOMEDOUBLE":
+                    setSomedouble(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readDouble(parser));
+                    break;
+                case "SOMEJSONOBJECT":
+                    setSomejsonobject(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readJsonObject(parser));
+                    break;
+                case "SOMEJSONARRAY":
+                    setSomejsonarray(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readJsonArray(parser));
+                    break;
+                case "SOMETIMESTAMP":
+                    setSometimestamp(parser.getCurrentToken()==com.fasterxml.jackson.core.JsonToken.VALUE_NULL?null:LocalDateTime.parse(parser.getText()));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return this;
+    }
+
 }
@@ -31,7 +31,7 @@ import org.jooq.impl.UpdatableRecordImpl;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class SomethingcompositeRecord extends UpdatableRecordImpl<SomethingcompositeRecord> implements VertxPojo, Record3<Integer, Integer, JsonObject> {
 
-    private static final long serialVersionUID = 888874931;
+    private static final long serialVersionUID = 2006893076;
 
     /**
      * Setter for <code>VERTX.SOMETHINGCOMPOSITE.SOMEID</code>.
@@ -265,4 +265,36 @@ public class SomethingcompositeRecord extends UpdatableRecordImpl<Somethingcompo
         return json;
     }
 
+    @Override
+    public void writeJson(com.fasterxml.jackson.core.JsonGenerator generator) throws java.io.IOException {
+        generator.writeStartObject();
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEID", getSomeid());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMESECONDID", getSomesecondid());
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEJSONOBJECT", getSomejsonobject());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public SomethingcompositeRecord readJson(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.startObject(parser);
+        while (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "SOMEID":
+                    setSomeid(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMESECONDID":
+                    setSomesecondid(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMEJSONOBJECT":
+                    setSomejsonobject(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readJsonObject(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return this;
+    }
+
 }
@@ -0,0 +1,300 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.classic.jdbc.custom.vertx.tables.records;
+
+
+import generated.classic.jdbc.custom.vertx.tables.Somethingwitharray;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+
+import javax.annotation.Generated;
+
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Record3;
+import org.jooq.Row3;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class SomethingwitharrayRecord extends UpdatableRecordImpl<SomethingwitharrayRecord> implements VertxPojo, Record3<Integer, Integer[], String> {
+
+    private static final long serialVersionUID = -74043762;
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGWITHARRAY.SOMEID</code>.
+     */
+    public SomethingwitharrayRecord setSomeid(Integer value) {
+        set(0, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGWITHARRAY.SOMEID</code>.
+     */
+    public Integer getSomeid() {
+        return (Integer) get(0);
+    }
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGWITHARRAY.SOMEARRAY</code>.
+     */
+    public SomethingwitharrayRecord setSomearray(Integer... value) {
+        set(1, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGWITHARRAY.SOMEARRAY</code>.
+     */
+    public Integer[] getSomearray() {
+        return (Integer[]) get(1);
+    }
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGWITHARRAY.SOMESTRING</code>.
+     */
+    public SomethingwitharrayRecord setSomestring(String value) {
+        set(2, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGWITHARRAY.SOMESTRING</code>.
+     */
+    public String getSomestring() {
+        return (String) get(2);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Record1<Integer> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Record3 type implementation
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Row3<Integer, Integer[], String> fieldsRow() {
+        return (Row3) super.fieldsRow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Row3<Integer, Integer[], String> valuesRow() {
+        return (Row3) super.valuesRow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<Integer> field1() {
+        return Somethingwitharray.SOMETHINGWITHARRAY.SOMEID;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<Integer[]> field2() {
+        return Somethingwitharray.SOMETHINGWITHARRAY.SOMEARRAY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<String> field3() {
+        return Somethingwitharray.SOMETHINGWITHARRAY.SOMESTRING;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer component1() {
+        return getSomeid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer[] component2() {
+        return getSomearray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String component3() {
+        return getSomestring();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer value1() {
+        return getSomeid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer[] value2() {
+        return getSomearray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String value3() {
+        return getSomestring();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingwitharrayRecord value1(Integer value) {
+        setSomeid(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingwitharrayRecord value2(Integer... value) {
+        setSomearray(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingwitharrayRecord value3(String value) {
+        setSomestring(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingwitharrayRecord values(Integer value1, Integer[] value2, String value3) {
+        value1(value1);
+        value2(value2);
+        value3(value3);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached SomethingwitharrayRecord
+     */
+    public SomethingwitharrayRecord() {
+        super(Somethingwitharray.SOMETHINGWITHARRAY);
+    }
+
+    /**
+     * Create a detached, initialised SomethingwitharrayRecord
+     */
+    public SomethingwitharrayRecord(Integer someid, Integer[] somearray, String somestring) {
+        super(Somethingwitharray.SOMETHINGWITHARRAY);
+
+        set(0, someid);
+        set(1, somearray);
+        set(2, somestring);
+    }
+
+    public SomethingwitharrayRecord(io.vertx.core.json.JsonObject json) {
+        this();
+        fromJson(json);
+    }
+
+    @Override
+    public SomethingwitharrayRecord fromJson(io.vertx.core.json.JsonObject json) {
+        setSomeid(json.getInteger("SOMEID"));
+        // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+        setSomestring(json.getString("SOMESTRING"));
+        return this;
+    }
+
+
+    @Override
+    public io.vertx.core.json.JsonObject toJson() {
+        io.vertx.core.json.JsonObject json = new io.vertx.core.json.JsonObject();
+        json.put("SOMEID",getSomeid());
+        // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+        json.put("SOMESTRING",getSomestring());
+        return json;
+    }
+
+    @Override
+    public void writeJson(com.fasterxml.jackson.core.JsonGenerator generator) throws java.io.IOException {
+        generator.writeStartObject();
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMEID", getSomeid());
+        // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.writeField(generator, "SOMESTRING", getSomestring());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public SomethingwitharrayRecord readJson(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {
+        io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.startObject(parser);
+        while (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "SOMEID":
+                    setSomeid(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readInteger(parser));
+                    break;
+                case "SOMEARRAY":
+                    // Omitting unrecognized type java.lang.Integer[] for column SOMEARRAY!
+                    parser.skipChildren();
+                    break;
+                case "SOMESTRING":
+                    setSomestring(io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams.readString(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return this;
+    }
+
+}
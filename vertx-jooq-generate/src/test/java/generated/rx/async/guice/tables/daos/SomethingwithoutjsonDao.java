@@ -7,6 +7,7 @@ package generated.rx.async.guice.tables.daos;
 import generated.rx.async.guice.tables.Somethingwithoutjson;
 import generated.rx.async.guice.tables.records.SomethingwithoutjsonRecord;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
 import io.github.jklingsporn.vertx.jooq.shared.internal.async.AbstractAsyncVertxDAO;
 
 import java.util.List;
@@ -33,7 +34,22 @@ import io.github.jklingsporn.vertx.jooq.rx.async.AsyncRXQueryExecutor;
 )
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 @javax.inject.Singleton
-public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<SomethingwithoutjsonRecord, generated.rx.async.guice.tables.pojos.Somethingwithoutjson, Integer, Single<List<generated.rx.async.guice.tables.pojos.Somethingwithoutjson>>, Single<Optional<generated.rx.async.guice.tables.pojos.Somethingwithoutjson>>, Single<Integer>, Single<Integer>> implements io.github.jklingsporn.vertx.jooq.rx.VertxDAO<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer> {
+public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<SomethingwithoutjsonRecord, generated.rx.async.guice.tables.pojos.Somethingwithoutjson, Integer, Single<List<generated.rx.async.guice.tables.pojos.Somethingwithoutjson>>, Single<Optional<generated.rx.async.guice.tables.pojos.Somethingwithoutjson>>, Single<Integer>, Single<Integer>> implements io.github.jklingsporn.vertx.jooq.rx.JsonVertxDAO<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer> {
+
+    /**
+     * Maps the rows of <code>SOMETHINGWITHOUTJSON</code> to POJOs and back without using reflection.
+     */
+    public static final RecordPojoMapper<SomethingwithoutjsonRecord, generated.rx.async.guice.tables.pojos.Somethingwithoutjson> MAPPER = RecordPojoMapper.of(Somethingwithoutjson.SOMETHINGWITHOUTJSON, generated.rx.async.guice.tables.pojos.Somethingwithoutjson.class, values -> {
+        generated.rx.async.guice.tables.pojos.Somethingwithoutjson pojo = new generated.rx.async.guice.tables.pojos.Somethingwithoutjson();
+        pojo.setSomeid((Integer) values.apply(0));
+        pojo.setSomestring((String) values.apply(1));
+        return pojo;
+    }, pojo -> {
+        SomethingwithoutjsonRecord record = new SomethingwithoutjsonRecord();
+        record.setSomeid(pojo.getSomeid());
+        record.setSomestring(pojo.getSomestring());
+        return record;
+    });
     @javax.inject.Inject
 
     /**
@@ -41,7 +57,15 @@ public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<Somethingwith
      * @param delegate A configured AsyncSQLClient that is used for query execution
      */
     public SomethingwithoutjsonDao(Configuration configuration,io.vertx.reactivex.ext.asyncsql.AsyncSQLClient delegate) {
-        super(Somethingwithoutjson.SOMETHINGWITHOUTJSON, generated.rx.async.guice.tables.pojos.Somethingwithoutjson.class, new AsyncRXQueryExecutor<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer>(delegate,generated.rx.async.guice.tables.pojos.Somethingwithoutjson::new, Somethingwithoutjson.SOMETHINGWITHOUTJSON), configuration);
+        super(Somethingwithoutjson.SOMETHINGWITHOUTJSON, generated.rx.async.guice.tables.pojos.Somethingwithoutjson.class, new AsyncRXQueryExecutor<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer>(delegate,generated.rx.async.guice.tables.pojos.Somethingwithoutjson::new, MAPPER), configuration);
+    }
+
+    /**
+     * @param configuration Used for rendering, so only SQLDialect must be set and must be one of the MYSQL types or POSTGRES.
+     * @param queryExecutor the QueryExecutor used for query execution, e.g. one that is bound to a session.
+     */
+    public SomethingwithoutjsonDao(Configuration configuration, AsyncRXQueryExecutor<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer> queryExecutor) {
+        super(Somethingwithoutjson.SOMETHINGWITHOUTJSON, generated.rx.async.guice.tables.pojos.Somethingwithoutjson.class, queryExecutor, configuration);
     }
 
     /**
@@ -52,6 +76,14 @@ public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<Somethingwith
         return object.getSomeid();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected RecordPojoMapper<SomethingwithoutjsonRecord, generated.rx.async.guice.tables.pojos.Somethingwithoutjson> mapper() {
+        return MAPPER;
+    }
+
     /**
      * Find records that have <code>someString IN (values)</code> asynchronously
      */
@@ -63,4 +95,34 @@ public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<Somethingwith
     protected java.util.function.Function<Object,Integer> keyConverter(){
         return lastId -> Integer.valueOf(((Long)lastId).intValue());
     }
+
+    /**
+     * Streams all records matching the condition as they are received from the database.
+     */
+    public io.reactivex.Flowable<generated.rx.async.guice.tables.pojos.Somethingwithoutjson> findManyStreamByCondition(org.jooq.Condition condition) {
+        return ((AsyncRXQueryExecutor<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer>) queryExecutor()).findManyStream(selectQuery(condition));
+    }
+
+    /**
+     * Streams all records as they are received from the database.
+     */
+    public io.reactivex.Flowable<generated.rx.async.guice.tables.pojos.Somethingwithoutjson> findAllStream() {
+        return findManyStreamByCondition(org.jooq.impl.DSL.trueCondition());
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all queries on one connection. The connection is released once
+     * when the returned future completes. The queries have to be chained and must not run concurrently.
+     */
+    public <X> io.reactivex.Single<X> session(java.util.function.Function<SomethingwithoutjsonDao, io.reactivex.Single<X>> session) {
+        return ((AsyncRXQueryExecutor<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer>) queryExecutor()).session(tx -> session.apply(new SomethingwithoutjsonDao(configuration(), (AsyncRXQueryExecutor<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer>) tx)));
+    }
+
+    /**
+     * Runs the given function with a DAO that executes all queries on one connection. The transaction is committed
+     * when the returned future succeeds and rolled back when it fails.
+     */
+    public <X> io.reactivex.Single<X> transaction(java.util.function.Function<SomethingwithoutjsonDao, io.reactivex.Single<X>> transaction) {
+        return ((AsyncRXQueryExecutor<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer>) queryExecutor()).transaction(tx -> transaction.apply(new SomethingwithoutjsonDao(configuration(), (AsyncRXQueryExecutor<SomethingwithoutjsonRecord,generated.rx.async.guice.tables.pojos.Somethingwithoutjson,Integer>) tx)));
+    }
 }
@@ -1,10 +1,15 @@
 package io.github.jklingsporn.vertx.jooq.generate;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.JsonStreams;
 import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Created by jensklingsporn on 22.08.17.
  */
@@ -41,4 +46,25 @@ public abstract class AbstractJsonConversionTest<P extends VertxPojo> {
         Assert.assertEquals(something,somethingElse);
     }
 
+    @Test
+    public void convertToBufferShouldReturnSameJsonAsToJson(){
+        P something = newPojoWithRandomValues();
+        Assert.assertEquals(something.toJson(), new JsonObject(something.toBuffer().toString()));
+        P empty = newPojo();
+        Assert.assertEquals(empty.toJson(), new JsonObject(empty.toBuffer().toString()));
+    }
+
+    @Test
+    public void convertFromToBufferShouldReturnEqualPOJO(){
+        P something = newPojoWithRandomValues();
+        Assert.assertEquals(something, JsonStreams.fromBuffer(something.toBuffer(), newPojo()));
+        Assert.assertEquals(something, JsonStreams.fromBuffer(Buffer.buffer(something.toJson().encode()), newPojo()));
+    }
+
+    @Test
+    public void convertListFromToBufferShouldReturnEqualPOJOs(){
+        List<P> somethings = Arrays.asList(newPojoWithRandomValues(), newPojo(), newPojoWithRandomValues());
+        Assert.assertEquals(somethings, JsonStreams.listFromBuffer(JsonStreams.toBuffer(somethings), this::newPojo));
+    }
+
 }
@@ -0,0 +1,190 @@
+package io.github.jklingsporn.vertx.jooq.generate;
+
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.jooq.InsertResultStep;
+import org.jooq.Query;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Compares the bytes allocated by the DAO per operation when the rendered queries are reused with the bytes allocated
+ * when the queries are constructed and rendered on every call. Both include rendering the SQL and extracting the bind
+ * values, but the queries are not executed.
+ * The test fails if reusing the rendered queries does not save at least half of the allocations.
+ */
+public class DAOAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 10_000;
+
+    private final TestDAO reusing = new TestDAO();
+    private final TestDAO rendering = new TestDAO();
+    private final Something something = new Something()
+            .setSomeid(1)
+            .setSomestring("foo")
+            .setSomehugenumber(1L)
+            .setSomeboolean(true)
+            .setSomejsonobject(new JsonObject().put("foo", "bar"))
+            .setSomejsonarray(new JsonArray().add(1))
+            .setSometimestamp(LocalDateTime.now());
+
+    public DAOAllocationTest() {
+        rendering.setReuseRenderedQueries(false);
+    }
+
+    @Test
+    public void findOneByIdShouldAllocateLessThanRendering(){
+        assertReusingAllocatesLess("findOneById", dao -> dao.findOneById(1));
+    }
+
+    @Test
+    public void deleteByIdShouldAllocateLessThanRendering(){
+        assertReusingAllocatesLess("deleteById", dao -> dao.deleteById(1));
+    }
+
+    @Test
+    public void updateShouldAllocateLessThanRendering(){
+        assertReusingAllocatesLess("update", dao -> dao.update(something));
+    }
+
+    @Test
+    public void insertShouldAllocateLessThanRendering(){
+        assertReusingAllocatesLess("insert", dao -> dao.insert(something));
+    }
+
+    private void assertReusingAllocatesLess(String operation, Consumer<TestDAO> run){
+        Assume.assumeTrue("Allocation measurement not supported", isSupported());
+        long reused = bytesPerOperation(() -> run.accept(reusing));
+        long rendered = bytesPerOperation(() -> run.accept(rendering));
+        Assert.assertTrue(String.format("%s allocates %d bytes, %d bytes when rendering the query", operation, reused, rendered), reused * 2 < rendered);
+    }
+
+    private static long bytesPerOperation(Runnable run){
+        for (int i = 0; i < WARMUP; i++) {
+            run.run();
+        }
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            run.run();
+        }
+        return (allocatedBytes() - before) / ITERATIONS;
+    }
+
+    private static boolean isSupported(){
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).isThreadAllocatedMemoryEnabled();
+    }
+
+    private static long allocatedBytes(){
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static class TestDAO extends AbstractVertxDAO<SomethingRecord, Something, Integer, Object, Object, Object, Object> {
+
+        TestDAO() {
+            super(generated.classic.jdbc.regular.vertx.tables.Something.SOMETHING, Something.class, new NoopQueryExecutor(), new DefaultConfiguration().set(SQLDialect.HSQLDB));
+        }
+
+        @Override
+        protected RecordPojoMapper<SomethingRecord, Something> mapper() {
+            return SomethingDao.MAPPER;
+        }
+
+        @Override
+        protected Integer getId(Something object) {
+            return object.getSomeid();
+        }
+    }
+
+    /**
+     * Renders the SQL and extracts the bind values of each query like the <code>QueryExecutors</code> do before they
+     * send it to the database, but does not execute it. Keeps the last result so it is not optimized away.
+     */
+    private static class NoopQueryExecutor implements QueryExecutor<SomethingRecord, Integer, Object, Object, Object, Object> {
+
+        private Object last;
+
+        @Override
+        public Object findMany(ResultQuery<SomethingRecord> query) {
+            return render(query);
+        }
+
+        @Override
+        public Object findOne(ResultQuery<SomethingRecord> query) {
+            return render(query);
+        }
+
+        @Override
+        public Object execute(Query query) {
+            return render(query);
+        }
+
+        @Override
+        public Object executeAll(List<? extends Query> queries) {
+            for (Query query : queries) {
+                render(query);
+            }
+            return last;
+        }
+
+        @Override
+        public Object findMany(RenderedQuery query, Object... bindValues) {
+            return render(query, bindValues);
+        }
+
+        @Override
+        public Object findOne(RenderedQuery query, Object... bindValues) {
+            return render(query, bindValues);
+        }
+
+        @Override
+        public Object execute(RenderedQuery query, Object... bindValues) {
+            return render(query, bindValues);
+        }
+
+        @Override
+        public Object insertReturning(InsertResultStep<SomethingRecord> query, Function<Object, Integer> keyMapper) {
+            return render(query);
+        }
+
+        @Override
+        public Object afterExecute(Object result, Runnable action) {
+            action.run();
+            return result;
+        }
+
+        @Override
+        public Object afterInsertReturning(Object result, Runnable action) {
+            action.run();
+            return result;
+        }
+
+        private Object render(Query query) {
+            last = query.getSQL();
+            return last = query.getBindValues();
+        }
+
+        private Object render(RenderedQuery query, Object... bindValues) {
+            last = query.getSQL();
+            return last = bindValues;
+        }
+    }
+}
@@ -47,6 +47,13 @@ public class JDBCDatabaseConfigurationProvider extends AbstractDatabaseConfigura
                 "  someSecondId INTEGER,\n" +
                 "  someJsonObject varchar(45), PRIMARY KEY (someId,someSecondId)\n" +
                 ");").execute();
+        connection.prepareStatement("DROP TABLE IF EXISTS somethingWithArray");
+        connection.prepareStatement("\n" +
+                "CREATE TABLE somethingWithArray (\n" +
+                "  someId INTEGER IDENTITY PRIMARY KEY,\n" +
+                "  someArray INTEGER ARRAY,\n" +
+                "  someString varchar(45)\n" +
+                ");").execute();
         connection.close();
     }
 
@@ -3,17 +3,33 @@ package io.github.jklingsporn.vertx.jooq.generate.classic.async.regular;
 import generated.classic.async.regular.Tables;
 import generated.classic.async.regular.tables.daos.SomethingDao;
 import generated.classic.async.regular.tables.pojos.Something;
+import generated.classic.async.regular.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.classic.async.AsyncClassicQueryExecutor;
 import io.github.jklingsporn.vertx.jooq.generate.AsyncDatabaseClientProvider;
 import io.github.jklingsporn.vertx.jooq.generate.AsyncDatabaseConfigurationProvider;
 import io.github.jklingsporn.vertx.jooq.generate.classic.ClassicTestBase;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 02.11.16.
@@ -81,4 +97,201 @@ public class SomethingDaoTest extends ClassicTestBase<Something, Integer, Long,
         Assert.assertEquals(com.github.mauricio.async.db.mysql.exceptions.MySQLException.class, x.getClass());
     }
 
+    @Test
+    public void findManyStreamShouldDeliverAllRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        List<Something> streamed = new ArrayList<>();
+        dao.insert(somethings).setHandler(inserted -> {
+            Assert.assertTrue(inserted.succeeded());
+            dao.findManyStreamByCondition(Tables.SOMETHING.SOMEID.in(ids))
+                    .exceptionHandler(x -> Assert.fail(x.getMessage()))
+                    .endHandler(v -> {
+                        Assert.assertEquals(3, streamed.size());
+                        dao.deleteByIds(ids).setHandler(countdownLatchHandler(latch));
+                    })
+                    .handler(streamed::add);
+        });
+        await(latch);
+    }
+
+    @Test
+    public void sessionShouldRunAllOperations() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.session(sessionDao -> sessionDao.insert(something)
+                .compose(inserted -> sessionDao.findOneById(something.getSomeid()))
+                .compose(found -> {
+                    Assert.assertNotNull(found);
+                    return sessionDao.deleteById(something.getSomeid());
+                }))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void transactionShouldRollbackOnFailure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.transaction(txDao -> txDao.insert(something).compose(inserted -> Future.<Void>failedFuture(new IllegalStateException("rollback"))))
+                .setHandler(tx -> {
+                    Assert.assertTrue(tx.failed());
+                    Assert.assertEquals("rollback", tx.cause().getMessage());
+                    dao.findOneById(something.getSomeid()).setHandler(found -> {
+                        Assert.assertTrue(found.succeeded());
+                        Assert.assertNull(found.result());
+                        latch.countDown();
+                    });
+                });
+        await(latch);
+    }
+
+    @Test
+    public void insertChunkedShouldInsertAllRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insertChunked(somethings, 2, Long.MAX_VALUE, true)
+                .compose(inserted -> {
+                    Assert.assertEquals(5, inserted.intValue());
+                    return dao.findManyByIds(ids);
+                })
+                .compose(found -> {
+                    Assert.assertEquals(5, found.size());
+                    return dao.deleteByIds(ids);
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateCollectionShouldReportUpdatedRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insert(somethings)
+                .compose(inserted -> dao.findManyByIds(ids))
+                .compose(found -> {
+                    List<Something> updates = new ArrayList<>();
+                    found.forEach(something -> updates.add(something.setSomestring("updated")));
+                    updates.add(createWithId());
+                    return dao.update(updates);
+                })
+                .compose(updated -> {
+                    Assert.assertEquals(3, updated.intValue());
+                    return dao.findManyByIds(ids);
+                })
+                .compose(found -> {
+                    Assert.assertEquals(3, found.size());
+                    found.forEach(something -> Assert.assertEquals("updated", something.getSomestring()));
+                    return dao.deleteByIds(ids);
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void upsertShouldInsertOrUpdate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        Something other = createWithId();
+        List<Integer> ids = Arrays.asList(something.getSomeid(), other.getSomeid());
+        dao.upsert(something)
+                .compose(inserted -> dao.upsert(Arrays.asList(something.setSomestring("updated"), other)))
+                .compose(upserted -> dao.findManyByIds(ids))
+                .compose(found -> {
+                    Assert.assertEquals(2, found.size());
+                    Map<Integer, String> strings = found.stream().collect(Collectors.toMap(Something::getSomeid, Something::getSomestring));
+                    Assert.assertEquals("updated", strings.get(something.getSomeid()));
+                    Assert.assertEquals(other.getSomestring(), strings.get(other.getSomeid()));
+                    return dao.deleteByIds(ids);
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void renderedQueriesShouldBeReused() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        //records the rendered queries the DAO executes
+        List<RenderedQuery> executed = new CopyOnWriteArrayList<>();
+        AsyncClassicQueryExecutor<SomethingRecord, Something, Integer> recordingExecutor = new AsyncClassicQueryExecutor<SomethingRecord, Something, Integer>(AsyncDatabaseClientProvider.getInstance().getClient(), Something::new, Tables.SOMETHING) {
+            @Override
+            public Future<Something> findOne(RenderedQuery query, Object... bindValues) {
+                executed.add(query);
+                return super.findOne(query, bindValues);
+            }
+
+            @Override
+            public Future<Integer> execute(RenderedQuery query, Object... bindValues) {
+                executed.add(query);
+                return super.execute(query, bindValues);
+            }
+        };
+        SomethingDao dao = new SomethingDao(AsyncDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), recordingExecutor);
+        Something something = createWithId();
+        Something other = createWithId();
+        //the first call of each method renders the query, the following ones only bind the values
+        dao.insert(Arrays.asList(something, other))
+                .compose(inserted -> dao.update(something.setSomestring("first")))
+                .compose(updated -> dao.update(other.setSomejsonobject(new JsonObject().put("key", "other"))))
+                .compose(updated -> {
+                    Assert.assertEquals(1, updated.intValue());
+                    return dao.findOneById(something.getSomeid());
+                })
+                .compose(found -> {
+                    Assert.assertEquals("first", found.getSomestring());
+                    return dao.findOneById(other.getSomeid());
+                })
+                .compose(found -> {
+                    Assert.assertEquals(new JsonObject().put("key", "other"), found.getSomejsonobject());
+                    return dao.deleteById(something.getSomeid());
+                })
+                .compose(deleted -> dao.deleteById(other.getSomeid()))
+                .compose(deleted -> {
+                    Assert.assertEquals(1, deleted.intValue());
+                    return dao.findOneById(other.getSomeid());
+                })
+                .map(found -> {
+                    Assert.assertNull(found);
+                    //update, findOneById, deleteById, findOneById
+                    Assert.assertEquals(4, executed.size());
+                    Assert.assertSame(executed.get(1), executed.get(3));
+                    Assert.assertNotSame(executed.get(0), executed.get(1));
+                    Assert.assertNotSame(executed.get(1), executed.get(2));
+                    return null;
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void templatesShouldBeRunWithBindValues() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Configuration configuration = AsyncDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+        AsyncClassicQueryExecutor<SomethingRecord, Something, Integer> queryExecutor = new AsyncClassicQueryExecutor<>(AsyncDatabaseClientProvider.getInstance().getClient(), Something::new, Tables.SOMETHING);
+        DSLContext dslContext = DSL.using(configuration);
+        RenderedQuery updateJson = queryExecutor.templates().register("updateJson", dslContext
+                .update(Tables.SOMETHING)
+                .set(Tables.SOMETHING.SOMEJSONOBJECT, DSL.param("json", Tables.SOMETHING.SOMEJSONOBJECT))
+                .where(Tables.SOMETHING.SOMEID.eq(DSL.param("id", Tables.SOMETHING.SOMEID))));
+        queryExecutor.templates().register("findByString", dslContext
+                .selectFrom(Tables.SOMETHING)
+                .where(Tables.SOMETHING.SOMESTRING.eq(DSL.param("string", Tables.SOMETHING.SOMESTRING))));
+        Something something = createWithId().setSomestring(UUID.randomUUID().toString().substring(0, 30));
+        dao.insert(something)
+                .compose(inserted -> queryExecutor.execute(updateJson, new JsonObject().put("key", "template"), something.getSomeid()))
+                .compose(updated -> {
+                    Assert.assertEquals(1, updated.intValue());
+                    return queryExecutor.findMany(queryExecutor.templates().get("findByString"), something.getSomestring());
+                })
+                .compose(found -> {
+                    Assert.assertEquals(1, found.size());
+                    Assert.assertEquals(new JsonObject().put("key", "template"), found.get(0).getSomejsonobject());
+                    return dao.deleteById(something.getSomeid());
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
 }
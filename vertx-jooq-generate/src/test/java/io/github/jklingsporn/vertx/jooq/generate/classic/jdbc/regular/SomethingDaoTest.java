@@ -3,18 +3,41 @@ package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
 import generated.classic.jdbc.regular.vertx.Tables;
 import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
 import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.classic.jdbc.JDBCClassicGenericQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.classic.jdbc.JDBCClassicQueryExecutor;
 import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
 import io.github.jklingsporn.vertx.jooq.generate.classic.ClassicTestBase;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.Query;
+import org.jooq.Record2;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 02.11.16.
@@ -82,4 +105,317 @@ public class SomethingDaoTest extends ClassicTestBase<Something, Integer, Long,
         Assert.assertEquals(SQLIntegrityConstraintViolationException.class, x.getCause().getClass());
     }
 
+    @Test
+    public void findManyStreamShouldDeliverAllRowsInChunks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        List<Something> streamed = new ArrayList<>();
+        dao.insert(somethings).setHandler(inserted -> {
+            Assert.assertTrue(inserted.succeeded());
+            dao.findManyStreamByCondition(Tables.SOMETHING.SOMEID.in(ids), 2)
+                    .exceptionHandler(x -> Assert.fail(x.getMessage()))
+                    .endHandler(v -> {
+                        Assert.assertEquals(3, streamed.size());
+                        dao.deleteByIds(ids).setHandler(countdownLatchHandler(latch));
+                    })
+                    .handler(streamed::add);
+        });
+        await(latch);
+    }
+
+    @Test
+    public void transactionShouldCommitOnSuccess() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.transaction(txDao -> txDao.insert(something).compose(inserted -> txDao.findOneById(something.getSomeid())))
+                .setHandler(tx -> {
+                    Assert.assertTrue(tx.succeeded());
+                    Assert.assertNotNull(tx.result());
+                    dao.findOneById(something.getSomeid()).setHandler(found -> {
+                        Assert.assertNotNull(found.result());
+                        dao.deleteById(something.getSomeid()).setHandler(countdownLatchHandler(latch));
+                    });
+                });
+        await(latch);
+    }
+
+    @Test
+    public void findManyStreamShouldFetchWithinTheTransaction() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.transaction(txDao -> txDao.insert(somethings).compose(inserted -> {
+            Future<List<Something>> streamed = Future.future();
+            List<Something> rows = new ArrayList<>();
+            //the rows are only visible to the connection of the transaction
+            txDao.findManyStreamByCondition(Tables.SOMETHING.SOMEID.in(ids), 1)
+                    .exceptionHandler(streamed::fail)
+                    .endHandler(v -> streamed.complete(rows))
+                    .handler(rows::add);
+            return streamed;
+        })).setHandler(tx -> {
+            Assert.assertTrue(tx.succeeded());
+            Assert.assertEquals(3, tx.result().size());
+            dao.deleteByIds(ids).setHandler(countdownLatchHandler(latch));
+        });
+        await(latch);
+    }
+
+    @Test
+    public void findManyStreamShouldFailAfterTheTransactionHasCompleted() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.transaction(txDao -> Future.succeededFuture(txDao.findAllStream(1))).setHandler(tx -> {
+            Assert.assertTrue(tx.succeeded());
+            tx.result()
+                    .exceptionHandler(x -> {
+                        Assert.assertEquals(IllegalStateException.class, x.getClass());
+                        latch.countDown();
+                    })
+                    .endHandler(v -> Assert.fail("Stream ended"))
+                    .handler(something -> Assert.fail("Row fetched"));
+        });
+        await(latch);
+    }
+
+    @Test
+    public void transactionShouldRollbackOnFailure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.transaction(txDao -> txDao.insert(something).compose(inserted -> Future.<Void>failedFuture(new IllegalStateException("rollback"))))
+                .setHandler(tx -> {
+                    Assert.assertTrue(tx.failed());
+                    Assert.assertEquals("rollback", tx.cause().getMessage());
+                    dao.findOneById(something.getSomeid()).setHandler(found -> {
+                        Assert.assertTrue(found.succeeded());
+                        Assert.assertNull(found.result());
+                        latch.countDown();
+                    });
+                });
+        await(latch);
+    }
+
+    @Test
+    public void insertBatchShouldInsertAllRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insertBatch(somethings)
+                .compose(result -> {
+                    Assert.assertEquals(5, result.getRows());
+                    Assert.assertFalse(result.getChunks().isEmpty());
+                    return dao.findManyByIds(ids);
+                })
+                .compose(found -> {
+                    Assert.assertEquals(5, found.size());
+                    return dao.deleteByIds(ids);
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateCollectionShouldReportUpdatedRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insertBatch(somethings)
+                .compose(inserted -> dao.findManyByIds(ids))
+                .compose(found -> {
+                    List<Something> updates = new ArrayList<>();
+                    found.forEach(something -> updates.add(something.setSomestring("updated")));
+                    updates.add(createWithId().setSomeboolean(true));
+                    return dao.update(updates);
+                })
+                .compose(updated -> {
+                    Assert.assertEquals(3, updated.intValue());
+                    return dao.findManyByIds(ids);
+                })
+                .compose(found -> {
+                    Assert.assertEquals(3, found.size());
+                    found.forEach(something -> Assert.assertEquals("updated", something.getSomestring()));
+                    return dao.deleteByIds(ids);
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void executeAllShouldBindQueriesOfTheSameShape() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String[]> batches = new ArrayList<>();
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration()
+                .derive(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+                    @Override
+                    public void executeStart(ExecuteContext ctx) {
+                        batches.add(ctx.batchSQL());
+                    }
+                }));
+        JDBCClassicGenericQueryExecutor queryExecutor = new JDBCClassicGenericQueryExecutor(configuration, Vertx.vertx());
+        DSLContext dslContext = DSL.using(configuration);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        List<Query> queries = new ArrayList<>();
+        for (Something something : somethings) {
+            queries.add(dslContext.insertInto(Tables.SOMETHING).set(dslContext.newRecord(Tables.SOMETHING, something)));
+        }
+        queries.add(dslContext.update(Tables.SOMETHING).set(Tables.SOMETHING.SOMESTRING, "updated").where(Tables.SOMETHING.SOMEID.eq(ids.get(0))));
+        queries.add(dslContext.update(Tables.SOMETHING).set(Tables.SOMETHING.SOMESTRING, "updated").where(Tables.SOMETHING.SOMEID.eq(ids.get(1))));
+        queryExecutor.executeAll(queries)
+                .compose(rows -> {
+                    Assert.assertEquals(5, rows.intValue());
+                    //one prepared statement per shape, the values are bound
+                    Assert.assertEquals(2, batches.size());
+                    batches.forEach(sql -> {
+                        Assert.assertEquals(1, sql.length);
+                        Assert.assertTrue(sql[0], sql[0].contains("?"));
+                    });
+                    return dao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("updated").and(Tables.SOMETHING.SOMEID.in(ids)));
+                })
+                .compose(found -> {
+                    Assert.assertEquals(2, found.size());
+                    return dao.deleteByIds(ids);
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void upsertShouldInsertOrUpdate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        Something other = createWithId();
+        List<Integer> ids = Arrays.asList(something.getSomeid(), other.getSomeid());
+        dao.upsert(something)
+                .compose(inserted -> dao.upsert(Arrays.asList(something.setSomestring("updated"), other)))
+                .compose(upserted -> dao.findManyByIds(ids))
+                .compose(found -> {
+                    Assert.assertEquals(2, found.size());
+                    Map<Integer, String> strings = found.stream().collect(Collectors.toMap(Something::getSomeid, Something::getSomestring));
+                    Assert.assertEquals("updated", strings.get(something.getSomeid()));
+                    Assert.assertEquals(other.getSomestring(), strings.get(other.getSomeid()));
+                    return dao.deleteByIds(ids);
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void renderedQueriesShouldBeReused() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        //rendered queries are still executed by jOOQ and reach the listeners
+        List<String> listened = new CopyOnWriteArrayList<>();
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration()
+                .derive(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+                    @Override
+                    public void executeStart(ExecuteContext ctx) {
+                        listened.add(ctx.sql());
+                    }
+                }));
+        Vertx vertx = Vertx.vertx();
+        //records the rendered queries the DAO executes
+        List<RenderedQuery> executed = new CopyOnWriteArrayList<>();
+        JDBCClassicQueryExecutor<SomethingRecord, Something, Integer> recordingExecutor = new JDBCClassicQueryExecutor<SomethingRecord, Something, Integer>(Something.class, configuration, vertx) {
+            @Override
+            public Future<Something> findOne(RenderedQuery query, Object... bindValues) {
+                executed.add(query);
+                return super.findOne(query, bindValues);
+            }
+
+            @Override
+            public Future<Integer> execute(RenderedQuery query, Object... bindValues) {
+                executed.add(query);
+                return super.execute(query, bindValues);
+            }
+        };
+        SomethingDao dao = new SomethingDao(configuration, vertx) {
+            @Override
+            protected QueryExecutor<SomethingRecord, Integer, Future<List<Something>>, Future<Something>, Future<Integer>, Future<Integer>> queryExecutor() {
+                return recordingExecutor;
+            }
+        };
+        Something something = createWithId().setSomeboolean(true);
+        Something other = createWithId().setSomeboolean(false);
+        //the first call of each method renders the query, the following ones only bind the values
+        dao.insert(Arrays.asList(something, other))
+                .compose(inserted -> dao.update(something.setSomestring("first")))
+                .compose(updated -> dao.update(other.setSomejsonobject(new JsonObject().put("key", "other"))))
+                .compose(updated -> {
+                    Assert.assertEquals(1, updated.intValue());
+                    return dao.findOneById(something.getSomeid());
+                })
+                .compose(found -> {
+                    Assert.assertEquals("first", found.getSomestring());
+                    return dao.findOneById(other.getSomeid());
+                })
+                .compose(found -> {
+                    Assert.assertEquals(new JsonObject().put("key", "other"), found.getSomejsonobject());
+                    return dao.deleteById(something.getSomeid());
+                })
+                .compose(deleted -> dao.deleteById(other.getSomeid()))
+                .compose(deleted -> {
+                    Assert.assertEquals(1, deleted.intValue());
+                    return dao.findOneById(other.getSomeid());
+                })
+                .map(found -> {
+                    Assert.assertNull(found);
+                    //update, findOneById, deleteById, findOneById
+                    Assert.assertEquals(4, executed.size());
+                    Assert.assertSame(executed.get(1), executed.get(3));
+                    Assert.assertNotSame(executed.get(0), executed.get(1));
+                    Assert.assertNotSame(executed.get(1), executed.get(2));
+                    //insert, 2 updates, 3 findOneById, 2 deleteById
+                    Assert.assertEquals(8, listened.size());
+                    Assert.assertEquals(executed.get(1).getSQL(), listened.get(4));
+                    return null;
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void templatesShouldBeRunWithBindValues() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+        JDBCClassicQueryExecutor<SomethingRecord, Something, Integer> queryExecutor = new JDBCClassicQueryExecutor<>(Something.class, configuration, Vertx.vertx());
+        DSLContext dslContext = DSL.using(configuration);
+        RenderedQuery updateJson = queryExecutor.templates().register("updateJson", dslContext
+                .update(Tables.SOMETHING)
+                .set(Tables.SOMETHING.SOMEJSONOBJECT, DSL.param("json", Tables.SOMETHING.SOMEJSONOBJECT))
+                .where(Tables.SOMETHING.SOMEID.eq(DSL.param("id", Tables.SOMETHING.SOMEID))));
+        queryExecutor.templates().register("findByString", dslContext
+                .selectFrom(Tables.SOMETHING)
+                .where(Tables.SOMETHING.SOMESTRING.eq(DSL.param("string", Tables.SOMETHING.SOMESTRING))));
+        Something something = createWithId().setSomestring(UUID.randomUUID().toString().substring(0, 30));
+        dao.insert(something)
+                .compose(inserted -> queryExecutor.execute(updateJson, new JsonObject().put("key", "template"), something.getSomeid()))
+                .compose(updated -> {
+                    Assert.assertEquals(1, updated.intValue());
+                    return queryExecutor.findMany(queryExecutor.templates().get("findByString"), something.getSomestring());
+                })
+                .compose(found -> {
+                    Assert.assertEquals(1, found.size());
+                    Assert.assertEquals(new JsonObject().put("key", "template"), found.get(0).getSomejsonobject());
+                    return dao.deleteById(something.getSomeid());
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void mapperShouldMapRecordsAndPojos() {
+        DSLContext dslContext = DSL.using(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration());
+        Something something = createWithId().setSomeboolean(true);
+        SomethingRecord record = SomethingDao.MAPPER.unmap(dslContext, something);
+        Assert.assertTrue(record.changed());
+        Assert.assertEquals(something.getSomejsonobject(), record.getSomejsonobject());
+        Assert.assertEquals(something, SomethingDao.MAPPER.map(record));
+        //records with other fields than the table are mapped by name
+        Record2<String, Integer> partial = dslContext.newRecord(Tables.SOMETHING.SOMESTRING, Tables.SOMETHING.SOMEID)
+                .values(something.getSomestring(), something.getSomeid());
+        Something mapped = SomethingDao.MAPPER.map(partial);
+        Assert.assertEquals(something.getSomeid(), mapped.getSomeid());
+        Assert.assertEquals(something.getSomestring(), mapped.getSomestring());
+        Assert.assertNull(mapped.getSomejsonobject());
+    }
 }
@@ -0,0 +1,142 @@
+package io.github.jklingsporn.vertx.jooq.generate.completablefuture.jdbc.regular;
+
+import generated.cf.jdbc.regular.vertx.Tables;
+import generated.cf.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.cf.jdbc.regular.vertx.tables.pojos.Something;
+import generated.cf.jdbc.regular.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.completablefuture.CachingVertxDAO;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.CacheInvalidationChannel;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.EntityCache;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the completablefuture <code>CachingVertxDAO</code>.
+ */
+public class CachingSomethingDaoTest {
+
+    private final Vertx vertx = Vertx.vertx();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final SomethingDao dao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), vertx) {
+        @Override
+        public CompletableFuture<Something> findOneById(Integer id) {
+            queries.incrementAndGet();
+            return super.findOneById(id);
+        }
+
+        @Override
+        public CompletableFuture<List<Something>> findManyByIds(Collection<Integer> ids) {
+            queries.incrementAndGet();
+            return super.findManyByIds(ids);
+        }
+    };
+    private final EntityCache<Integer, Something> cache = new EntityCache<Integer, Something>(100, Something::new)
+            .setTtl(1, TimeUnit.MINUTES)
+            .setNegativeTtl(1, TimeUnit.MINUTES);
+    private final CachingVertxDAO<SomethingRecord, Something, Integer> cachingDao = new CachingVertxDAO<>(vertx, dao, Something::getSomeid, cache);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @After
+    public void after(){
+        vertx.close();
+    }
+
+    private static Something createWithId() {
+        Random random = new Random();
+        Something something = new Something();
+        something.setSomeid(random.nextInt());
+        something.setSomedouble(random.nextDouble());
+        something.setSomehugenumber(random.nextLong());
+        something.setSomejsonarray(new JsonArray().add(1).add(2).add(3));
+        something.setSomejsonobject(new JsonObject().put("key", "value"));
+        something.setSomesmallnumber((short) random.nextInt(Short.MAX_VALUE));
+        something.setSomestring("my_string");
+        something.setSometimestamp(LocalDateTime.now());
+        return something;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        return future.get(3, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void findOneByIdShouldBeCachedUntilUpdated() throws Exception {
+        Something something = createWithId();
+        await(cachingDao.insert(something));
+        Something first = await(cachingDao.findOneById(something.getSomeid()));
+        Something second = await(cachingDao.findOneById(something.getSomeid()));
+        Assert.assertEquals(1, queries.get());
+        Assert.assertEquals(first, second);
+        Assert.assertNotSame(first, second);
+
+        second.setSomestring("updated");
+        await(cachingDao.update(second));
+        Assert.assertEquals("updated", await(cachingDao.findOneById(something.getSomeid())).getSomestring());
+        Assert.assertEquals(2, queries.get());
+
+        await(cachingDao.deleteById(something.getSomeid()));
+        Assert.assertNull(await(cachingDao.findOneById(something.getSomeid())));
+        Assert.assertNull(await(cachingDao.findOneById(something.getSomeid())));
+        Assert.assertEquals(3, queries.get());
+        Assert.assertEquals(1, cache.hitCount());
+        Assert.assertEquals(1, cache.negativeHitCount());
+        Assert.assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    public void findManyByIdsShouldOnlyQueryMisses() throws Exception {
+        Something first = createWithId();
+        Something second = createWithId();
+        await(cachingDao.insert(Arrays.asList(first, second)));
+        await(cachingDao.findOneById(first.getSomeid()));
+        List<Something> found = await(cachingDao.findManyByIds(Arrays.asList(second.getSomeid(), first.getSomeid())));
+        Assert.assertEquals(2, found.size());
+        Assert.assertEquals(second.getSomeid(), found.get(0).getSomeid());
+        Assert.assertEquals(first.getSomeid(), found.get(1).getSomeid());
+        Assert.assertEquals(2, queries.get());
+        Assert.assertEquals(2, await(cachingDao.findManyByIds(Arrays.asList(first.getSomeid(), second.getSomeid()))).size());
+        Assert.assertEquals(2, queries.get());
+
+        await(cachingDao.deleteByCondition(Tables.SOMETHING.SOMEID.in(first.getSomeid(), second.getSomeid())));
+        Assert.assertTrue(await(cachingDao.findManyByIds(Arrays.asList(first.getSomeid(), second.getSomeid()))).isEmpty());
+        Assert.assertEquals(3, queries.get());
+    }
+
+    @Test
+    public void failedInsertReturningPrimaryShouldPublishTheInvalidation() throws Exception {
+        CacheInvalidationChannel<Integer> channel = new CacheInvalidationChannel<>(vertx, Tables.SOMETHING, cache);
+        cachingDao.setInvalidationChannel(channel);
+        Something something = createWithId();
+        await(cachingDao.insert(something));
+        CompletableFuture<Void> published = new CompletableFuture<>();
+        vertx.eventBus().consumer(channel.address(), msg -> published.complete(null));
+        try {
+            await(cachingDao.insertReturningPrimary(something));
+            Assert.fail("Duplicate key");
+        } catch (ExecutionException e) {
+            //expected
+        }
+        published.get(3, TimeUnit.SECONDS);
+        await(cachingDao.deleteById(something.getSomeid()));
+    }
+}
@@ -9,11 +9,22 @@ import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.jooq.Condition;
+import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 02.11.16.
@@ -80,4 +91,137 @@ public class SomethingDaoTest extends CompletableFutureTestBase<Something, Integ
         //CompletionException -> DataAccessException -> SQLIntegrityConstraintViolationException
         assertException(SQLIntegrityConstraintViolationException.class, x);
     }
+
+    @Test
+    public void findManyStreamShouldDeliverRequestedRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        List<Something> streamed = new ArrayList<>();
+        dao.insert(somethings).thenAccept(inserted -> dao.findManyStreamByCondition(Tables.SOMETHING.SOMEID.in(ids), 2)
+                .subscribe(new Subscriber<Something>() {
+                    Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription = s;
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(Something something) {
+                        streamed.add(something);
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        Assert.fail(t.getMessage());
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        Assert.assertEquals(3, streamed.size());
+                        dao.deleteByIds(ids).whenComplete(countdownLatchHandler(latch));
+                    }
+                }));
+        await(latch);
+    }
+
+    @Test
+    public void transactionShouldCommitOnSuccess() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.transaction(txDao -> txDao.insert(something).thenCompose(inserted -> txDao.findOneById(something.getSomeid())))
+                .thenAccept(Assert::assertNotNull)
+                .thenCompose(v -> dao.findOneById(something.getSomeid()))
+                .thenAccept(Assert::assertNotNull)
+                .thenCompose(v -> dao.deleteById(something.getSomeid()))
+                .whenComplete(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void transactionShouldRollbackOnFailure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.transaction(txDao -> txDao.insert(something).thenCompose(inserted -> {
+                    CompletableFuture<Void> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(new IllegalStateException("rollback"));
+                    return failed;
+                }))
+                .handle((res, x) -> {
+                    Assert.assertNotNull(x);
+                    return null;
+                })
+                .thenCompose(v -> dao.findOneById(something.getSomeid()))
+                .thenAccept(Assert::assertNull)
+                .whenComplete(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void insertBatchShouldInsertAllRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insertBatch(somethings)
+                .thenCompose(result -> {
+                    Assert.assertEquals(5, result.getRows());
+                    Assert.assertFalse(result.getChunks().isEmpty());
+                    return dao.findManyByIds(ids);
+                })
+                .thenCompose(found -> {
+                    Assert.assertEquals(5, found.size());
+                    return dao.deleteByIds(ids);
+                })
+                .whenComplete(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateCollectionShouldReportUpdatedRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insertBatch(somethings)
+                .thenCompose(inserted -> dao.findManyByIds(ids))
+                .thenCompose(found -> {
+                    List<Something> updates = new ArrayList<>();
+                    found.forEach(something -> updates.add(something.setSomestring("updated")));
+                    updates.add(createWithId().setSomeboolean(true));
+                    return dao.update(updates);
+                })
+                .thenCompose(updated -> {
+                    Assert.assertEquals(3, updated.intValue());
+                    return dao.findManyByIds(ids);
+                })
+                .thenCompose(found -> {
+                    Assert.assertEquals(3, found.size());
+                    found.forEach(something -> Assert.assertEquals("updated", something.getSomestring()));
+                    return dao.deleteByIds(ids);
+                })
+                .whenComplete(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void upsertShouldInsertOrUpdate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        Something other = createWithId();
+        List<Integer> ids = Arrays.asList(something.getSomeid(), other.getSomeid());
+        dao.upsert(something)
+                .thenCompose(inserted -> dao.upsert(Arrays.asList(something.setSomestring("updated"), other)))
+                .thenCompose(upserted -> dao.findManyByIds(ids))
+                .thenCompose(found -> {
+                    Assert.assertEquals(2, found.size());
+                    Map<Integer, String> strings = found.stream().collect(Collectors.toMap(Something::getSomeid, Something::getSomestring));
+                    Assert.assertEquals("updated", strings.get(something.getSomeid()));
+                    Assert.assertEquals(other.getSomestring(), strings.get(other.getSomeid()));
+                    return dao.deleteByIds(ids);
+                })
+                .whenComplete(countdownLatchHandler(latch));
+        await(latch);
+    }
 }
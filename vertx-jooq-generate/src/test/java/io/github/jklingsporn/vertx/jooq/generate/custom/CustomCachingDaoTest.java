@@ -0,0 +1,247 @@
+package io.github.jklingsporn.vertx.jooq.generate.custom;
+
+import generated.classic.jdbc.custom.vertx.Tables;
+import generated.classic.jdbc.custom.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.custom.vertx.tables.pojos.Something;
+import generated.classic.jdbc.custom.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.classic.CachingVertxDAO;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.CacheInvalidationChannel;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.EntityCache;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.QueryResultCache;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the <code>CachingVertxDAO</code> with a DAO generated by the {@link CustomVertxGenerator}.
+ */
+public class CustomCachingDaoTest {
+
+    private final Vertx vertx = Vertx.vertx();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicInteger conditionQueries = new AtomicInteger();
+    private volatile boolean failConditionQueries;
+    private final SomethingDao dao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), vertx) {
+        @Override
+        public Future<Something> findOneById(Integer id) {
+            queries.incrementAndGet();
+            return super.findOneById(id);
+        }
+
+        @Override
+        public Future<List<Something>> findManyByIds(Collection<Integer> ids) {
+            queries.incrementAndGet();
+            return super.findManyByIds(ids);
+        }
+
+        @Override
+        public Future<List<Something>> findManyByCondition(Condition condition) {
+            conditionQueries.incrementAndGet();
+            if (failConditionQueries) {
+                throw new IllegalStateException("failed");
+            }
+            return super.findManyByCondition(condition);
+        }
+    };
+    private final EntityCache<Integer, Something> cache = new EntityCache<Integer, Something>(100, Something::new)
+            .setTtl(1, TimeUnit.MINUTES)
+            .setNegativeTtl(1, TimeUnit.MINUTES);
+    private final CachingVertxDAO<SomethingRecord, Something, Integer> cachingDao = new CachingVertxDAO<>(dao, Something::getSomeid, cache);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @After
+    public void after(){
+        vertx.close();
+    }
+
+    private static Something createWithId() {
+        Random random = new Random();
+        Something something = new Something();
+        something.setSomeid(random.nextInt());
+        something.setSomedouble(random.nextDouble());
+        something.setSomeregularnumber(random.nextInt());
+        something.setSomehugenumber(random.nextLong());
+        something.setSomejsonarray(new JsonArray().add(1).add(2).add(3));
+        something.setSomejsonobject(new JsonObject().put("key", "value"));
+        something.setSomesmallnumber((short) random.nextInt(Short.MAX_VALUE));
+        something.setSomestring("my_string");
+        something.setSometimestamp(LocalDateTime.now());
+        return something;
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.setHandler(ar -> {
+            if(ar.succeeded()){
+                result.complete(ar.result());
+            }else{
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        return result.get(3, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void findOneByIdShouldBeCachedUntilUpdated() throws Exception {
+        Something something = createWithId();
+        await(cachingDao.insert(something));
+        Something first = await(cachingDao.findOneById(something.getSomeid()));
+        Something second = await(cachingDao.findOneById(something.getSomeid()));
+        Assert.assertEquals(1, queries.get());
+        Assert.assertEquals(first, second);
+        Assert.assertNotSame(first, second);
+
+        second.setSomestring("updated");
+        await(cachingDao.update(second));
+        Assert.assertEquals("updated", await(cachingDao.findOneById(something.getSomeid())).getSomestring());
+        Assert.assertEquals(2, queries.get());
+
+        await(cachingDao.deleteById(something.getSomeid()));
+        Assert.assertNull(await(cachingDao.findOneById(something.getSomeid())));
+        Assert.assertNull(await(cachingDao.findOneById(something.getSomeid())));
+        Assert.assertEquals(3, queries.get());
+        Assert.assertEquals(1, cache.hitCount());
+        Assert.assertEquals(1, cache.negativeHitCount());
+        Assert.assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    public void findManyByIdsShouldOnlyQueryMisses() throws Exception {
+        Something first = createWithId();
+        Something second = createWithId();
+        await(cachingDao.insert(Arrays.asList(first, second)));
+        await(cachingDao.findOneById(first.getSomeid()));
+        int missing = first.getSomeid() + 1;
+        List<Something> found = await(cachingDao.findManyByIds(Arrays.asList(second.getSomeid(), missing, first.getSomeid())));
+        Assert.assertEquals(2, found.size());
+        Assert.assertEquals(second.getSomeid(), found.get(0).getSomeid());
+        Assert.assertEquals(first.getSomeid(), found.get(1).getSomeid());
+        Assert.assertEquals(2, queries.get());
+
+        //all ids are cached now, including the missing one
+        Assert.assertEquals(2, await(cachingDao.findManyByIds(Arrays.asList(first.getSomeid(), second.getSomeid(), missing))).size());
+        Assert.assertEquals(2, queries.get());
+
+        //updating many POJOs invalidates each of them
+        found.get(0).setSomestring("second");
+        found.get(1).setSomestring("first");
+        Assert.assertEquals(2, await(cachingDao.update(found)).intValue());
+        found = await(cachingDao.findManyByIds(Arrays.asList(first.getSomeid(), second.getSomeid())));
+        Assert.assertEquals("first", found.get(0).getSomestring());
+        Assert.assertEquals("second", found.get(1).getSomestring());
+        Assert.assertEquals(3, queries.get());
+
+        await(cachingDao.deleteByCondition(Tables.SOMETHING.SOMEID.in(first.getSomeid(), second.getSomeid())));
+        Assert.assertTrue(await(cachingDao.findManyByIds(Arrays.asList(first.getSomeid(), second.getSomeid()))).isEmpty());
+        Assert.assertEquals(4, queries.get());
+    }
+
+    @Test
+    public void writesShouldInvalidateTheCachesOfOtherInstances() throws Exception {
+        EntityCache<Integer, Something> otherCache = new EntityCache<Integer, Something>(100, Something::new).setNegativeTtl(1, TimeUnit.MINUTES);
+        CachingVertxDAO<SomethingRecord, Something, Integer> otherDao = new CachingVertxDAO<>(dao, Something::getSomeid, otherCache);
+        CacheInvalidationChannel<Integer> channel = new CacheInvalidationChannel<>(vertx, Tables.SOMETHING, cache);
+        CacheInvalidationChannel<Integer> otherChannel = new CacheInvalidationChannel<>(vertx, Tables.SOMETHING, otherCache);
+        cachingDao.setInvalidationChannel(channel);
+        await(CompositeFuture.all(channel.start(), otherChannel.start()));
+
+        Something something = createWithId();
+        Assert.assertNull(await(otherDao.findOneById(something.getSomeid())));
+        Assert.assertEquals(1, otherCache.size());
+        CompletableFuture<Void> received = new CompletableFuture<>();
+        vertx.eventBus().consumer(channel.address(), msg -> vertx.setTimer(50, id -> received.complete(null)));
+        await(cachingDao.insert(something));
+        received.get(3, TimeUnit.SECONDS);
+        Assert.assertEquals(0, otherCache.size());
+        Assert.assertEquals(something.getSomeid(), await(otherDao.findOneById(something.getSomeid())).getSomeid());
+        await(cachingDao.deleteById(something.getSomeid()));
+    }
+
+    @Test
+    public void findManyByConditionShouldBeCachedUntilTheTableIsWritten() throws Exception {
+        QueryResultCache<Something> queryCache = new QueryResultCache<Something>(10, Something::new);
+        cachingDao.setQueryCache(queryCache);
+        Something something = createWithId();
+        something.setSomestring("queryCache");
+        await(cachingDao.insert(something));
+        int before = conditionQueries.get();
+        List<Something> first = await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("queryCache")));
+        List<Something> second = await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("queryCache")));
+        Assert.assertEquals(1, first.size());
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(before + 1, conditionQueries.get());
+        Assert.assertTrue(await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("other"))).isEmpty());
+        Assert.assertEquals(before + 2, conditionQueries.get());
+
+        await(cachingDao.deleteById(something.getSomeid()));
+        Assert.assertTrue(await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("queryCache"))).isEmpty());
+        Assert.assertEquals(before + 3, conditionQueries.get());
+        Assert.assertEquals(1, queryCache.hitCount());
+        Assert.assertEquals(3, queryCache.missCount());
+    }
+
+    @Test
+    public void writesOfOtherDAOsShouldInvalidateCachedResults() throws Exception {
+        cachingDao.setQueryCache(new QueryResultCache<Something>(10, Something::new));
+        Something something = createWithId();
+        something.setSomestring("otherDao");
+        Assert.assertTrue(await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("otherDao"))).isEmpty());
+
+        //the writes are executed by the delegate, not by the caching DAO
+        await(dao.insert(something));
+        Something found = await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("otherDao"))).get(0);
+        found.setSomeregularnumber(found.getSomeregularnumber() + 1);
+        await(dao.update(Collections.singletonList(found)));
+        Assert.assertEquals(found.getSomeregularnumber(), await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("otherDao"))).get(0).getSomeregularnumber());
+        await(dao.deleteById(something.getSomeid()));
+        Assert.assertTrue(await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("otherDao"))).isEmpty());
+        Assert.assertEquals(0, cachingDao.queryCache().hitCount());
+        Assert.assertEquals(4, cachingDao.queryCache().missCount());
+    }
+
+    @Test
+    public void failedRefreshShouldReturnTheStaleResultAndRefreshAgain() throws Exception {
+        QueryResultCache<Something> queryCache = new QueryResultCache<Something>(10, Something::new).setMaxStale(1, TimeUnit.MINUTES);
+        cachingDao.setQueryCache(queryCache);
+        Something something = createWithId();
+        something.setSomestring("refresh");
+        await(cachingDao.insert(something));
+        Assert.assertEquals(1, await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("refresh"))).size());
+        int before = conditionQueries.get();
+
+        //the write makes the result stale, the refresh fails before the query is executed
+        Something other = createWithId();
+        await(cachingDao.insert(other));
+        failConditionQueries = true;
+        Assert.assertEquals(1, await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("refresh"))).size());
+        Assert.assertEquals(1, await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("refresh"))).size());
+        Assert.assertEquals(before + 2, conditionQueries.get());
+
+        failConditionQueries = false;
+        await(cachingDao.findManyByCondition(Tables.SOMETHING.SOMESTRING.eq("refresh")));
+        Assert.assertEquals(before + 3, conditionQueries.get());
+        await(cachingDao.deleteByIds(Arrays.asList(something.getSomeid(), other.getSomeid())));
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.jklingsporn.vertx.jooq.generate.custom;
+
+import generated.classic.jdbc.custom.vertx.Tables;
+import generated.classic.jdbc.custom.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.custom.vertx.tables.daos.SomethingService;
+import generated.classic.jdbc.custom.vertx.tables.pojos.Something;
+import io.github.jklingsporn.vertx.jooq.classic.DAOService;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceAction;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the <code>XYZService</code>s generated by the {@link CustomVertxGenerator}.
+ */
+public class CustomDAOServiceTest {
+
+    private final Vertx vertx = Vertx.vertx();
+    private final AtomicInteger findManyByIdsCalls = new AtomicInteger();
+    private DAOService<Something, Integer> proxy;
+    private SomethingService.Verticle verticle;
+    private String deploymentId;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @Before
+    public void before() throws Exception {
+        verticle = new SomethingService.Verticle(v -> new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), v) {
+            @Override
+            public Future<List<Something>> findManyByIds(Collection<Integer> ids) {
+                findManyByIdsCalls.incrementAndGet();
+                return super.findManyByIds(ids);
+            }
+        });
+        verticle.setMaxBatchDelay(50);
+        CompletableFuture<String> deployed = new CompletableFuture<>();
+        vertx.deployVerticle(verticle, ar -> {
+            if(ar.succeeded()){
+                deployed.complete(ar.result());
+            }else{
+                deployed.completeExceptionally(ar.cause());
+            }
+        });
+        deploymentId = deployed.get(3, TimeUnit.SECONDS);
+        proxy = SomethingService.createProxy(vertx);
+    }
+
+    @After
+    public void after(){
+        vertx.close();
+    }
+
+    private static Something createWithId() {
+        Random random = new Random();
+        Something something = new Something();
+        something.setSomeid(random.nextInt());
+        something.setSomedouble(random.nextDouble());
+        something.setSomeregularnumber(random.nextInt());
+        something.setSomehugenumber(random.nextLong());
+        something.setSomejsonarray(new JsonArray().add(1).add(2).add(3));
+        something.setSomejsonobject(new JsonObject().put("key", "value"));
+        something.setSomesmallnumber((short) random.nextInt(Short.MAX_VALUE));
+        something.setSomestring("my_string");
+        something.setSometimestamp(LocalDateTime.now());
+        return something;
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.setHandler(ar -> {
+            if(ar.succeeded()){
+                result.complete(ar.result());
+            }else{
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        return result.get(3, TimeUnit.SECONDS);
+    }
+
+    private static ReplyException awaitFailure(Future<?> future) throws Exception {
+        try {
+            await(future);
+        } catch (ExecutionException e) {
+            return (ReplyException) e.getCause();
+        }
+        throw new AssertionError("Future succeeded");
+    }
+
+    private <X> Future<X> send(DAOServiceAction action, Object... args) {
+        Future<X> result = Future.future();
+        DeliveryOptions options = new DeliveryOptions().setCodecName(SomethingService.codec().name()).addHeader(DAOServiceAction.HEADER, action.name());
+        vertx.eventBus().<X>send(SomethingService.ADDRESS, args, options, ar -> {
+            if(ar.succeeded()){
+                result.complete(ar.result().body());
+            }else{
+                result.fail(ar.cause());
+            }
+        });
+        return result;
+    }
+
+    @Test
+    public void proxyShouldExecuteOperationsOfDAO() throws Exception {
+        Something something = createWithId();
+        Assert.assertEquals(1, await(proxy.insert(something)).intValue());
+        Something found = await(proxy.findOneById(something.getSomeid()));
+        Assert.assertEquals(something.getSomestring(), found.getSomestring());
+        found.setSomestring("updated");
+        Assert.assertEquals(1, await(proxy.update(found)).intValue());
+        List<Something> updated = await(proxy.findManyByIds(Arrays.asList(something.getSomeid())));
+        Assert.assertEquals(1, updated.size());
+        Assert.assertEquals("updated", updated.get(0).getSomestring());
+        Assert.assertEquals(1, await(proxy.deleteById(something.getSomeid())).intValue());
+        Assert.assertNull(await(proxy.findOneById(something.getSomeid())));
+    }
+
+    @Test
+    public void concurrentLookupsShouldBeQueriedAtOnce() throws Exception {
+        Something first = createWithId();
+        Something second = createWithId();
+        await(proxy.insert(Arrays.asList(first, second)));
+        Future<Something> firstFound = proxy.findOneById(first.getSomeid());
+        Future<Something> secondFound = proxy.findOneById(second.getSomeid());
+        Future<Something> missing = proxy.findOneById(first.getSomeid() + 1);
+        Future<List<Something>> both = proxy.findManyByIds(Arrays.asList(second.getSomeid(), first.getSomeid()));
+        await(CompositeFuture.all(firstFound, secondFound, missing, both));
+        Assert.assertEquals(1, findManyByIdsCalls.get());
+        Assert.assertEquals(first.getSomeid(), firstFound.result().getSomeid());
+        Assert.assertEquals(second.getSomeid(), secondFound.result().getSomeid());
+        Assert.assertNull(missing.result());
+        Assert.assertEquals(second.getSomeid(), both.result().get(0).getSomeid());
+        Assert.assertEquals(first.getSomeid(), both.result().get(1).getSomeid());
+        Assert.assertEquals(2, await(proxy.deleteByIds(Arrays.asList(first.getSomeid(), second.getSomeid()))).intValue());
+    }
+
+    @Test
+    public void invalidLookupShouldFailTheRequest() throws Exception {
+        Assert.assertEquals(400, awaitFailure(send(DAOServiceAction.FIND_MANY_BY_IDS, 1)).failureCode());
+        Assert.assertEquals(400, awaitFailure(send(DAOServiceAction.FIND_ONE_BY_ID)).failureCode());
+        Assert.assertEquals(0, findManyByIdsCalls.get());
+    }
+
+    @Test
+    public void failedWriteShouldReplyWithCodeAndExceptionClass() throws Exception {
+        Something something = createWithId();
+        await(proxy.insert(something));
+        ReplyException failure = awaitFailure(proxy.insert(something));
+        Assert.assertEquals(409, failure.failureCode());
+        Assert.assertTrue(failure.getMessage(), failure.getMessage().startsWith(DataAccessException.class.getName() + ": "));
+        await(proxy.deleteById(something.getSomeid()));
+    }
+
+    @Test
+    public void pendingLookupsShouldFailWhenStopped() throws Exception {
+        verticle.setMaxBatchDelay(TimeUnit.SECONDS.toMillis(10));
+        Future<Something> lookup = proxy.findOneById(1);
+        //the verticle is stopped on its own context, after the lookup has been received
+        CompletableFuture<Void> undeployed = new CompletableFuture<>();
+        vertx.setTimer(50, timerId -> vertx.undeploy(deploymentId, ar -> undeployed.complete(null)));
+        undeployed.get(3, TimeUnit.SECONDS);
+        Assert.assertEquals(503, awaitFailure(lookup).failureCode());
+        Assert.assertEquals(0, findManyByIdsCalls.get());
+    }
+
+    @Test
+    public void codecShouldSendKeysAndPojosOverTheWire() {
+        DAOServiceCodec codec = SomethingService.codec();
+        Something something = createWithId();
+        UUID uuid = UUID.randomUUID();
+        Record compositeKey = DSL.using(SQLDialect.HSQLDB).newRecord(Tables.SOMETHINGCOMPOSITE.SOMEID, Tables.SOMETHINGCOMPOSITE.SOMESECONDID).values(1, 2);
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, new Object[]{Arrays.asList(something, null), 42L, (short) 7, "key", uuid, compositeKey});
+        Object[] decoded = (Object[]) codec.decodeFromWire(0, buffer);
+        Assert.assertEquals(Arrays.asList(something, null), decoded[0]);
+        Assert.assertEquals(42L, decoded[1]);
+        Assert.assertEquals((short) 7, decoded[2]);
+        Assert.assertEquals("key", decoded[3]);
+        Assert.assertEquals(uuid, decoded[4]);
+        Assert.assertEquals(compositeKey, decoded[5]);
+        Assert.assertEquals(compositeKey.hashCode(), decoded[5].hashCode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void codecShouldRejectConditions() {
+        SomethingService.codec().encodeToWire(Buffer.buffer(), new Object[]{Tables.SOMETHING.SOMEID.eq(1)});
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void codecShouldRejectInvalidSizes() {
+        //a list claiming more elements than the buffer contains
+        SomethingService.codec().decodeFromWire(0, Buffer.buffer().appendByte((byte) 2).appendInt(Integer.MAX_VALUE));
+    }
+}
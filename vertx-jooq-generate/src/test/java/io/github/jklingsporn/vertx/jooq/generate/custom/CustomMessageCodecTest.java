@@ -0,0 +1,88 @@
+package io.github.jklingsporn.vertx.jooq.generate.custom;
+
+import generated.classic.jdbc.custom.vertx.tables.codecs.PojoCodecs;
+import generated.classic.jdbc.custom.vertx.tables.codecs.SomethingCodec;
+import generated.classic.jdbc.custom.vertx.tables.pojos.Something;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the <code>MessageCodecs</code> generated by the {@link CustomVertxGenerator}.
+ */
+public class CustomMessageCodecTest {
+
+    private final Vertx vertx = Vertx.vertx();
+
+    @After
+    public void after(){
+        vertx.close();
+    }
+
+    private static Something newSomething() {
+        Random random = new Random();
+        Something something = new Something();
+        something.setSomeid(random.nextInt());
+        something.setSomedouble(random.nextDouble());
+        something.setSomeregularnumber(random.nextInt());
+        something.setSomehugenumber(random.nextLong());
+        something.setSomejsonarray(new JsonArray().add(1).add(2).add(3));
+        something.setSomejsonobject(new JsonObject().put("key", "value"));
+        something.setSomesmallnumber((short) random.nextInt(Short.MAX_VALUE));
+        something.setSomestring("my_string");
+        something.setSometimestamp(LocalDateTime.now());
+        return something;
+    }
+
+    @Test
+    public void decodeFromWireShouldReturnEqualPojo(){
+        SomethingCodec codec = new SomethingCodec();
+        Something something = newSomething();
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, something);
+        Assert.assertEquals(something, codec.decodeFromWire(0, buffer));
+        buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, new Something());
+        Assert.assertEquals(new Something(), codec.decodeFromWire(0, buffer));
+    }
+
+    @Test
+    public void transformShouldReturnDeepCopy(){
+        Something something = newSomething();
+        Something copy = new SomethingCodec().transform(something);
+        Assert.assertEquals(something, copy);
+        Assert.assertNotSame(something.getSomejsonobject(), copy.getSomejsonobject());
+        Assert.assertNotSame(something.getSomejsonarray(), copy.getSomejsonarray());
+    }
+
+    @Test
+    public void registeredCodecsShouldDeliverPojosAndLists() throws Exception {
+        PojoCodecs.registerAll(vertx.eventBus());
+        Something something = newSomething();
+        CompletableFuture<Object> received = new CompletableFuture<>();
+        vertx.eventBus().consumer("something", msg -> received.complete(msg.body()));
+        vertx.eventBus().send("something", something);
+        Object body = received.get(3, TimeUnit.SECONDS);
+        Assert.assertEquals(something, body);
+        Assert.assertNotSame(something, body);
+
+        List<Something> somethings = Arrays.asList(newSomething(), newSomething());
+        CompletableFuture<Object> receivedList = new CompletableFuture<>();
+        vertx.eventBus().consumer("somethings", msg -> receivedList.complete(msg.body()));
+        vertx.eventBus().send("somethings", somethings, new DeliveryOptions().setCodecName(new SomethingCodec().listCodec().name()));
+        Assert.assertEquals(somethings, receivedList.get(3, TimeUnit.SECONDS));
+        PojoCodecs.unregisterAll(vertx.eventBus());
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.jklingsporn.vertx.jooq.generate.custom;
+
+import generated.classic.jdbc.custom.vertx.Tables;
+import generated.classic.jdbc.custom.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.custom.vertx.tables.daos.SomethingwitharrayDao;
+import generated.classic.jdbc.custom.vertx.tables.pojos.Something;
+import generated.classic.jdbc.custom.vertx.tables.pojos.Somethingwitharray;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the POJOs generated with change tracking and JSON-streaming by the {@link CustomVertxGenerator}.
+ */
+public class CustomSomethingDaoTest {
+
+    private final SomethingDao dao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), Vertx.vertx());
+    private final SomethingwitharrayDao arrayDao = new SomethingwitharrayDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), Vertx.vertx());
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    private Something createWithId() {
+        Random random = new Random();
+        Something something = new Something();
+        something.setSomeid(random.nextInt());
+        something.setSomedouble(random.nextDouble());
+        something.setSomeregularnumber(random.nextInt());
+        something.setSomehugenumber(random.nextLong());
+        something.setSomejsonarray(new JsonArray().add(1).add(2).add(3));
+        something.setSomejsonobject(new JsonObject().put("key", "value"));
+        something.setSomesmallnumber((short) random.nextInt(Short.MAX_VALUE));
+        something.setSomestring("my_string");
+        something.setSometimestamp(LocalDateTime.now());
+        return something;
+    }
+
+    @Test
+    public void fetchedPojoShouldTrackChanges() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        Assert.assertNull(something.changedFields());
+        dao.insert(something)
+                .compose(inserted -> dao.findOneById(something.getSomeid()))
+                .compose(found -> {
+                    Assert.assertTrue(found.changedFields().isEmpty());
+                    found.setSomestring("updated");
+                    Assert.assertEquals(1, found.changedFields().cardinality());
+                    Assert.assertTrue(found.changedFields().get(1));
+                    return dao.deleteById(something.getSomeid());
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateShouldOnlyWriteChangedFields() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.insert(something)
+                .compose(inserted -> dao.findOneById(something.getSomeid()))
+                .compose(first -> dao.findOneById(something.getSomeid()).compose(second -> {
+                    //both updates only write the field they have changed and do not overwrite each other
+                    first.setSomestring("updated");
+                    second.setSomehugenumber(42L);
+                    return dao.update(first).compose(updated -> dao.update(second));
+                }))
+                .compose(updated -> {
+                    Assert.assertEquals(1, updated.intValue());
+                    return dao.findOneById(something.getSomeid());
+                })
+                .compose(found -> {
+                    Assert.assertEquals("updated", found.getSomestring());
+                    Assert.assertEquals(42L, found.getSomehugenumber().longValue());
+                    return dao.deleteById(something.getSomeid());
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateWithoutChangesShouldBeSkipped() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.insert(something)
+                .compose(inserted -> dao.findOneById(something.getSomeid()))
+                .compose(dao::update)
+                .compose(updated -> {
+                    //the row exists but no statement has been executed
+                    Assert.assertEquals(0, updated.intValue());
+                    return dao.deleteById(something.getSomeid());
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void arrayColumnShouldTrackChanges() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Somethingwitharray something = new Somethingwitharray();
+        something.setSomeid(new Random().nextInt());
+        something.setSomearray(1, 2);
+        something.setSomestring("my_string");
+        arrayDao.insert(something)
+                .compose(inserted -> arrayDao.findOneById(something.getSomeid()))
+                .compose(found -> {
+                    Assert.assertTrue(found.changedFields().isEmpty());
+                    found.setSomearray(3, 4);
+                    Assert.assertEquals(1, found.changedFields().cardinality());
+                    Assert.assertTrue(found.changedFields().get(Tables.SOMETHINGWITHARRAY.fieldsRow().indexOf(Tables.SOMETHINGWITHARRAY.SOMEARRAY)));
+                    return arrayDao.update(found);
+                })
+                .compose(updated -> {
+                    Assert.assertEquals(1, updated.intValue());
+                    return arrayDao.findOneById(something.getSomeid());
+                })
+                .compose(found -> {
+                    Assert.assertArrayEquals(new Integer[]{3, 4}, found.getSomearray());
+                    Assert.assertEquals("my_string", found.getSomestring());
+                    return arrayDao.deleteById(something.getSomeid());
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void findManyAsBufferShouldReturnJsonOfPojos() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.insert(something)
+                .compose(inserted -> dao.findOneById(something.getSomeid()))
+                .compose(found -> dao.findManyByConditionAsBuffer(Tables.SOMETHING.SOMEID.eq(something.getSomeid())).compose(buffer -> {
+                    Assert.assertEquals(new JsonArray().add(found.toJson()), new JsonArray(buffer.toString()));
+                    return dao.deleteById(something.getSomeid());
+                }))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    private void await(CountDownLatch latch) throws InterruptedException {
+        if(!latch.await(3, TimeUnit.SECONDS)){
+            Assert.fail("latch not triggered");
+        }
+    }
+
+    private <T> Handler<AsyncResult<T>> countdownLatchHandler(final CountDownLatch latch){
+        return h->{
+            if(h.failed()){
+                Assert.fail(h.cause().getMessage());
+            }
+            latch.countDown();
+        };
+    }
+
+}
@@ -8,10 +8,18 @@ import java.time.LocalDateTime;
 
 /**
  * Created by jensklingsporn on 22.02.18.
- * Converts a LocalDateTime from/into a String during JSON-conversion.
+ * Converts a LocalDateTime from/into a String during JSON-conversion and generates POJOs that track changes and
+ * stream their JSON as well as MessageCodecs for them.
  */
 public class CustomVertxGenerator extends VertxGenerator{
 
+    public CustomVertxGenerator() {
+        super(true);
+        setGenerateChangeTracking(true);
+        setGenerateJsonStreaming(true);
+        setGenerateMessageCodecs(true);
+    }
+
     @Override
     protected boolean handleCustomTypeFromJson(TypedElementDefinition<?> column, String setter, String columnType, String javaMemberName, JavaWriter out) {
         if(isType(columnType, LocalDateTime.class)){
@@ -29,4 +37,36 @@ public class CustomVertxGenerator extends VertxGenerator{
         }
         return super.handleCustomTypeToJson(column, getter, columnType, javaMemberName, out);
     }
+
+    @Override
+    protected boolean hasCustomTypeToJson(TypedElementDefinition<?> column, String columnType) {
+        return isType(columnType, LocalDateTime.class) || super.hasCustomTypeToJson(column, columnType);
+    }
+
+    @Override
+    protected boolean handleCustomTypeReadJson(TypedElementDefinition<?> column, String setter, String columnType, String javaMemberName, JavaWriter out) {
+        if(isType(columnType, LocalDateTime.class)){
+            out.tab(5).println("%s(parser.getCurrentToken()==com.fasterxml.jackson.core.JsonToken.VALUE_NULL?null:LocalDateTime.parse(parser.getText()));", setter);
+            return true;
+        }
+        return super.handleCustomTypeReadJson(column, setter, columnType, javaMemberName, out);
+    }
+
+    @Override
+    protected boolean handleCustomTypeEncodeToWire(TypedElementDefinition<?> column, String getter, String columnType, JavaWriter out) {
+        if(isType(columnType, LocalDateTime.class)){
+            out.tab(2).println("writer.writeString(pojo.%s()==null?null:pojo.%s().toString());", getter, getter);
+            return true;
+        }
+        return super.handleCustomTypeEncodeToWire(column, getter, columnType, out);
+    }
+
+    @Override
+    protected boolean handleCustomTypeDecodeFromWire(TypedElementDefinition<?> column, String setter, String columnType, JavaWriter out) {
+        if(isType(columnType, LocalDateTime.class)){
+            out.tab(2).println("pojo.%s(java.util.Optional.ofNullable(reader.readString()).map(java.time.LocalDateTime::parse).orElse(null));", setter);
+            return true;
+        }
+        return super.handleCustomTypeDecodeFromWire(column, setter, columnType, out);
+    }
 }
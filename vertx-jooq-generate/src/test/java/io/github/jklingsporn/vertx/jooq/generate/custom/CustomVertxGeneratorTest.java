@@ -19,6 +19,8 @@ public class CustomVertxGeneratorTest extends AbstractVertxGeneratorTest{
                 org.jooq.util.jaxb.Configuration conf =  super.createGeneratorConfig(generatorName, packageName, generatorStrategy);
                 //see if generator without interfaces produces compilable classes
                 conf.getGenerator().getGenerate().setInterfaces(false);
+                //an array column to check the change tracking of non-scalar columns
+                conf.getGenerator().getDatabase().setIncludes(conf.getGenerator().getDatabase().getIncludes() + "|somethingWithArray");
                 return conf;
             }
         });
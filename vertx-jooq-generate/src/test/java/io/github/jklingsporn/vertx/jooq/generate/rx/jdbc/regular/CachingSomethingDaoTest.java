@@ -0,0 +1,164 @@
+package io.github.jklingsporn.vertx.jooq.generate.rx.jdbc.regular;
+
+import generated.rx.jdbc.regular.vertx.Tables;
+import generated.rx.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.rx.jdbc.regular.vertx.tables.pojos.Something;
+import generated.rx.jdbc.regular.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.rx.CachingVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.CacheInvalidationChannel;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.EntityCache;
+import io.reactivex.Single;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.reactivex.core.Vertx;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the rx <code>CachingVertxDAO</code>.
+ */
+public class CachingSomethingDaoTest {
+
+    private final Vertx vertx = Vertx.vertx();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final SomethingDao dao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), vertx) {
+        @Override
+        public Single<Optional<Something>> findOneById(Integer id) {
+            queries.incrementAndGet();
+            return super.findOneById(id);
+        }
+
+        @Override
+        public Single<List<Something>> findManyByIds(Collection<Integer> ids) {
+            queries.incrementAndGet();
+            return super.findManyByIds(ids);
+        }
+    };
+    private final EntityCache<Integer, Something> cache = new EntityCache<Integer, Something>(100, Something::new)
+            .setTtl(1, TimeUnit.MINUTES)
+            .setNegativeTtl(1, TimeUnit.MINUTES);
+    private final CachingVertxDAO<SomethingRecord, Something, Integer> cachingDao = new CachingVertxDAO<>(dao, Something::getSomeid, cache);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @After
+    public void after(){
+        vertx.close();
+    }
+
+    private static Something createWithId() {
+        Random random = new Random();
+        Something something = new Something();
+        something.setSomeid(random.nextInt());
+        something.setSomedouble(random.nextDouble());
+        something.setSomehugenumber(random.nextLong());
+        something.setSomejsonarray(new JsonArray().add(1).add(2).add(3));
+        something.setSomejsonobject(new JsonObject().put("key", "value"));
+        something.setSomesmallnumber((short) random.nextInt(Short.MAX_VALUE));
+        something.setSomestring("my_string");
+        something.setSometimestamp(LocalDateTime.now());
+        return something;
+    }
+
+    @Test
+    public void findOneByIdShouldBeCachedUntilUpdated() {
+        Something something = createWithId();
+        cachingDao.insert(something).blockingGet();
+        Something first = cachingDao.findOneById(something.getSomeid()).blockingGet().get();
+        Something second = cachingDao.findOneById(something.getSomeid()).blockingGet().get();
+        Assert.assertEquals(1, queries.get());
+        Assert.assertEquals(first, second);
+        Assert.assertNotSame(first, second);
+
+        second.setSomestring("updated");
+        cachingDao.update(second).blockingGet();
+        Assert.assertEquals("updated", cachingDao.findOneById(something.getSomeid()).blockingGet().get().getSomestring());
+        Assert.assertEquals(2, queries.get());
+
+        cachingDao.deleteById(something.getSomeid()).blockingGet();
+        Assert.assertFalse(cachingDao.findOneById(something.getSomeid()).blockingGet().isPresent());
+        Assert.assertFalse(cachingDao.findOneById(something.getSomeid()).blockingGet().isPresent());
+        Assert.assertEquals(3, queries.get());
+        Assert.assertEquals(1, cache.hitCount());
+        Assert.assertEquals(1, cache.negativeHitCount());
+        Assert.assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    public void cacheShouldOnlyBeUsedWhenSubscribed() {
+        Something something = createWithId();
+        Single<Integer> insert = cachingDao.insert(something);
+        Single<Optional<Something>> lookup = cachingDao.findOneById(something.getSomeid());
+        Assert.assertEquals(0, cache.missCount());
+        Assert.assertEquals(0, queries.get());
+        Assert.assertEquals(0, cache.size());
+
+        insert.blockingGet();
+        Assert.assertEquals(something.getSomeid(), lookup.blockingGet().get().getSomeid());
+        Assert.assertEquals(1, cache.missCount());
+        //subscribing again reads the cache again
+        Assert.assertEquals(something.getSomeid(), lookup.blockingGet().get().getSomeid());
+        Assert.assertEquals(1, cache.hitCount());
+        Assert.assertEquals(1, queries.get());
+
+        //the entry is only invalidated when the write is subscribed
+        Single<Integer> delete = cachingDao.deleteById(something.getSomeid());
+        Assert.assertEquals(1, cache.size());
+        delete.blockingGet();
+        Assert.assertFalse(lookup.blockingGet().isPresent());
+        Assert.assertEquals(2, queries.get());
+    }
+
+    @Test
+    public void findManyByIdsShouldOnlyQueryMisses() {
+        Something first = createWithId();
+        Something second = createWithId();
+        cachingDao.insert(Arrays.asList(first, second)).blockingGet();
+        cachingDao.findOneById(first.getSomeid()).blockingGet();
+        List<Something> found = cachingDao.findManyByIds(Arrays.asList(second.getSomeid(), first.getSomeid())).blockingGet();
+        Assert.assertEquals(2, found.size());
+        Assert.assertEquals(second.getSomeid(), found.get(0).getSomeid());
+        Assert.assertEquals(first.getSomeid(), found.get(1).getSomeid());
+        Assert.assertEquals(2, queries.get());
+        Assert.assertEquals(2, cachingDao.findManyByIds(Arrays.asList(first.getSomeid(), second.getSomeid())).blockingGet().size());
+        Assert.assertEquals(2, queries.get());
+
+        cachingDao.deleteByCondition(Tables.SOMETHING.SOMEID.in(first.getSomeid(), second.getSomeid())).blockingGet();
+        Assert.assertTrue(cachingDao.findManyByIds(Arrays.asList(first.getSomeid(), second.getSomeid())).blockingGet().isEmpty());
+        Assert.assertEquals(3, queries.get());
+    }
+
+    @Test
+    public void failedInsertReturningPrimaryShouldPublishTheInvalidation() throws Exception {
+        CacheInvalidationChannel<Integer> channel = new CacheInvalidationChannel<>(vertx.getDelegate(), Tables.SOMETHING, cache);
+        cachingDao.setInvalidationChannel(channel);
+        Something something = createWithId();
+        cachingDao.insert(something).blockingGet();
+        CompletableFuture<Void> published = new CompletableFuture<>();
+        vertx.eventBus().consumer(channel.address(), msg -> published.complete(null));
+        try {
+            cachingDao.insertReturningPrimary(something).blockingGet();
+            Assert.fail("Duplicate key");
+        } catch (RuntimeException e) {
+            //expected
+        }
+        published.get(3, TimeUnit.SECONDS);
+        cachingDao.deleteById(something.getSomeid()).blockingGet();
+    }
+}
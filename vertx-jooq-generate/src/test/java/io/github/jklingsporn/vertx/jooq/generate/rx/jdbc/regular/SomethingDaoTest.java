@@ -5,15 +5,24 @@ import generated.rx.jdbc.regular.vertx.tables.daos.SomethingDao;
 import generated.rx.jdbc.regular.vertx.tables.pojos.Something;
 import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
 import io.github.jklingsporn.vertx.jooq.generate.rx.RXTestBase;
+import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.reactivex.core.Vertx;
 import org.jooq.Condition;
+import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
 /**
  * Created by jensklingsporn on 02.11.16.
@@ -80,4 +89,107 @@ public class SomethingDaoTest extends RXTestBase<Something, Integer, Long, Somet
         //CompletionException -> DataAccessException -> SQLIntegrityConstraintViolationException
         assertException(SQLIntegrityConstraintViolationException.class, x);
     }
+
+    @Test
+    public void findManyStreamShouldDeliverAllRowsInChunks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insert(somethings)
+                .flatMapPublisher(inserted -> dao.findManyStreamByCondition(Tables.SOMETHING.SOMEID.in(ids), 2))
+                .toList()
+                .doOnSuccess(streamed -> Assert.assertEquals(3, streamed.size()))
+                .flatMap(streamed -> dao.deleteByIds(ids))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void transactionShouldCommitOnSuccess() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.transaction(txDao -> txDao.insert(something).flatMap(inserted -> txDao.findOneById(something.getSomeid())))
+                .doOnSuccess(found -> Assert.assertTrue(found.isPresent()))
+                .flatMap(v -> dao.findOneById(something.getSomeid()))
+                .doOnSuccess(found -> Assert.assertTrue(found.isPresent()))
+                .flatMap(v -> dao.deleteById(something.getSomeid()))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void transactionShouldRollbackOnFailure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        dao.transaction(txDao -> txDao.insert(something).flatMap(inserted -> Single.<Integer>error(new IllegalStateException("rollback"))))
+                .onErrorResumeNext(x -> {
+                    Assert.assertEquals("rollback", x.getMessage());
+                    return Single.just(0);
+                })
+                .flatMap(v -> dao.findOneById(something.getSomeid()))
+                .doOnSuccess(found -> Assert.assertFalse(found.isPresent()))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void insertBatchShouldInsertAllRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insertBatch(somethings)
+                .doOnSuccess(result -> {
+                    Assert.assertEquals(5, result.getRows());
+                    Assert.assertFalse(result.getChunks().isEmpty());
+                })
+                .flatMap(result -> dao.findManyByIds(ids))
+                .doOnSuccess(found -> Assert.assertEquals(5, found.size()))
+                .flatMap(found -> dao.deleteByIds(ids))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateCollectionShouldReportUpdatedRows() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Arrays.asList(createWithId(), createWithId(), createWithId());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        dao.insertBatch(somethings)
+                .flatMap(inserted -> dao.findManyByIds(ids))
+                .flatMap(found -> {
+                    List<Something> updates = new ArrayList<>();
+                    found.forEach(something -> updates.add(something.setSomestring("updated")));
+                    updates.add(createWithId().setSomeboolean(true));
+                    return dao.update(updates);
+                })
+                .doOnSuccess(updated -> Assert.assertEquals(3, updated.intValue()))
+                .flatMap(updated -> dao.findManyByIds(ids))
+                .doOnSuccess(found -> {
+                    Assert.assertEquals(3, found.size());
+                    found.forEach(something -> Assert.assertEquals("updated", something.getSomestring()));
+                })
+                .flatMap(found -> dao.deleteByIds(ids))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void upsertShouldInsertOrUpdate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something something = createWithId();
+        Something other = createWithId();
+        List<Integer> ids = Arrays.asList(something.getSomeid(), other.getSomeid());
+        dao.upsert(something)
+                .flatMap(inserted -> dao.upsert(Arrays.asList(something.setSomestring("updated"), other)))
+                .flatMap(upserted -> dao.findManyByIds(ids))
+                .flatMap(found -> {
+                    Assert.assertEquals(2, found.size());
+                    Map<Integer, String> strings = found.stream().collect(Collectors.toMap(Something::getSomeid, Something::getSomestring));
+                    Assert.assertEquals("updated", strings.get(something.getSomeid()));
+                    Assert.assertEquals(other.getSomestring(), strings.get(other.getSomeid()));
+                    return dao.deleteByIds(ids);
+                })
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
 }
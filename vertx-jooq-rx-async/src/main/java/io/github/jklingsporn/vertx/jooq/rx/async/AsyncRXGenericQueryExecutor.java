@@ -1,11 +1,19 @@
 package io.github.jklingsporn.vertx.jooq.rx.async;
 
 import io.github.jklingsporn.vertx.jooq.shared.async.AbstractAsyncQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncSQLRowReadStream;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryTemplates;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.sql.ResultSet;
 import io.vertx.ext.sql.UpdateResult;
+import io.vertx.reactivex.FlowableHelper;
 import io.vertx.reactivex.ext.asyncsql.AsyncSQLClient;
+import io.vertx.reactivex.ext.sql.SQLConnection;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.ResultQuery;
@@ -21,6 +29,9 @@ import java.util.function.Function;
 public class AsyncRXGenericQueryExecutor extends AbstractAsyncQueryExecutor<Single<List<JsonObject>>,Single<Optional<JsonObject>>,Single<Integer>> {
 
     protected final AsyncSQLClient delegate;
+    private SQLConnection connection;
+    private boolean transactional;
+    private QueryTemplates templates = new QueryTemplates();
 
     public AsyncRXGenericQueryExecutor(AsyncSQLClient delegate) {
         this.delegate = delegate;
@@ -29,41 +40,238 @@ public class AsyncRXGenericQueryExecutor extends AbstractAsyncQueryExecutor<Sing
     @Override
     public Single<Integer> execute(Query query) {
         log(query);
+        return execute(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Executes a query that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the number of affected rows.
+     */
+    public Single<Integer> execute(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return execute(query.getSQL(), params);
+    }
+
+    private Single<Integer> execute(String sql, JsonArray params) {
         return getConnection()
                 .flatMap(executeAndClose(sqlConnection ->
                                 sqlConnection
-                                        .rxUpdateWithParams(query.getSQL(), getBindValues(query))
+                                        .rxUpdateWithParams(sql, params)
                                         .map(UpdateResult::getUpdated))
                 );
     }
 
+    /**
+     * Executes the queries one after another on one connection without a transaction.
+     * @param queries the queries
+     * @return the total number of affected rows.
+     * @see #executeAll(List, boolean)
+     */
+    public Single<Integer> executeAll(List<? extends Query> queries) {
+        return executeAll(queries, false);
+    }
+
+    @Override
+    public Single<Integer> executeAll(List<? extends Query> queries, boolean transactional) {
+        if(queries.isEmpty()){
+            return Single.just(0);
+        }
+        Function<AsyncRXGenericQueryExecutor, Single<Integer>> executeAll = executor ->
+                Flowable.fromIterable(queries)
+                        .concatMap(query -> executor.execute(query).toFlowable())
+                        .reduce(0, (rows, updated) -> rows + updated);
+        return transactional ? transaction(executeAll) : session(executeAll);
+    }
+
+    /**
+     * Executes the queries one after another on one connection. Each query is sent as soon as the previous one has
+     * completed, without releasing the connection in between.
+     * @param queries the queries
+     * @param transactional if <code>true</code>, the queries are executed in a transaction that is rolled back if
+     *                      one of the queries fails.
+     * @return the number of affected rows of each query in the order of <code>queries</code>.
+     */
+    public Single<List<Integer>> executeEach(List<? extends Query> queries, boolean transactional) {
+        Function<AsyncRXGenericQueryExecutor, Single<List<Integer>>> executeEach = executor ->
+                Flowable.fromIterable(queries)
+                        .concatMap(query -> executor.execute(query).toFlowable())
+                        .toList();
+        return transactional ? transaction(executeEach) : session(executeEach);
+    }
+
     @Override
     public <Q extends Record> Single<List<JsonObject>> findManyJson(ResultQuery<Q> query) {
         log(query);
+        return findManyJson(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before, e.g. a template registered at
+     * {@link #templates()}.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return a <code>Single</code> that completes with the rows.
+     */
+    public Single<List<JsonObject>> findManyJson(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return findManyJson(query.getSQL(), params);
+    }
+
+    private Single<List<JsonObject>> findManyJson(String sql, JsonArray params) {
+        return query(sql, params, ResultSet::getRows);
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement and maps the <code>ResultSet</code> before the connection is released.
+     * @param sql the SQL
+     * @param params the bind values, already converted into the types of the driver.
+     * @param resultMapper maps the result, e.g. reading the rows by index from <code>ResultSet#getResults()</code>.
+     *                     Must not return <code>null</code>.
+     * @param <X> the result type
+     * @return a <code>Single</code> that emits the mapped result.
+     */
+    protected <X> Single<X> query(String sql, JsonArray params, Function<ResultSet, X> resultMapper) {
         return getConnection().flatMap(executeAndClose(sqlConnection ->
-                sqlConnection.rxQueryWithParams(query.getSQL(), getBindValues(query)).map(ResultSet::getRows)));
+                sqlConnection.rxQueryWithParams(sql, params).map(resultMapper::apply)));
     }
 
     @Override
     public <Q extends Record> Single<Optional<JsonObject>> findOneJson(ResultQuery<Q> query) {
         log(query);
-        return getConnection().flatMap(executeAndClose(sqlConnection ->
-                sqlConnection.rxQueryWithParams(query.getSQL(), getBindValues(query)).map(rs -> {
-                    List<JsonObject> rows = rs.getRows();
-                    switch (rows.size()) {
-                        case 0: return Optional.empty();
-                        case 1: return Optional.of(rows.get(0));
-                        default: throw new TooManyRowsException(String.format("Found more than one row: %d", rows.size()));
-                    }
-                })));
+        return findOneJson(query.getSQL(), getBindValues(query));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return a <code>Single</code> that emits the row or an empty <code>Optional</code> if there is no row.
+     */
+    public Single<Optional<JsonObject>> findOneJson(RenderedQuery query, Object... bindValues) {
+        JsonArray params = getBindValues(query, bindValues);
+        log(query, params);
+        return findOneJson(query.getSQL(), params);
+    }
+
+    private Single<Optional<JsonObject>> findOneJson(String sql, JsonArray params) {
+        return query(sql, params, rs -> {
+            List<JsonObject> rows = rs.getRows();
+            switch (rows.size()) {
+                case 0: return Optional.empty();
+                case 1: return Optional.of(rows.get(0));
+                default: throw new TooManyRowsException(String.format("Found more than one row: %d", rows.size()));
+            }
+        });
     }
 
+    /**
+     * Runs the query using <code>SQLConnection#queryStreamWithParams</code> and streams the rows as they arrive
+     * instead of buffering the whole result. The connection is released when the stream ends, fails or is cancelled.
+     * @param query
+     * @return a <code>Flowable</code> that starts the query when subscribed.
+     * @see AsyncSQLRowReadStream
+     */
+    public <Q extends Record> Flowable<JsonObject> findManyJsonStream(ResultQuery<Q> query) {
+        log(query);
+        return FlowableHelper.toFlowable(AsyncSQLRowReadStream.byName(delegate.getDelegate(), query.getSQL(), getBindValues(query), Function.identity()));
+    }
+
+    /**
+     * Borrows one connection from the pool and runs the given function with a <code>QueryExecutor</code> that executes
+     * all queries on that connection. The connection is released once, when the returned <code>Single</code>
+     * terminates. Because a connection can only run one query at a time, the queries of a session have to be chained
+     * and must not run concurrently. Calling this method on a <code>QueryExecutor</code> that is already bound to a
+     * connection reuses that connection. Streams always acquire a connection of their own.
+     * @param session a function that runs its queries using the given <code>QueryExecutor</code>.
+     * @param <X> the result type
+     * @return the result of the function.
+     */
+    public <X> Single<X> session(Function<AsyncRXGenericQueryExecutor, Single<X>> session){
+        if(connection != null){
+            return session.apply(this);
+        }
+        return getConnection().flatMap(sqlConnection -> {
+            AsyncRXGenericQueryExecutor sessionExecutor = newInstance();
+            sessionExecutor.connection = sqlConnection;
+            sessionExecutor.templates = templates;
+            return Single.defer(() -> session.apply(sessionExecutor)).doFinally(sqlConnection::close);
+        });
+    }
 
-    protected Single<io.vertx.reactivex.ext.sql.SQLConnection> getConnection(){
+    /**
+     * Runs the given function in a transaction using one connection (see {@link #session(Function)}). The transaction
+     * is committed when the returned <code>Single</code> succeeds and rolled back when it fails. Calling this method on
+     * a <code>QueryExecutor</code> that is already bound to a transaction joins that transaction.
+     * @param transaction a function that runs its queries using the given <code>QueryExecutor</code>.
+     * @param <X> the result type
+     * @return the result of the function after the transaction has been committed.
+     */
+    public <X> Single<X> transaction(Function<AsyncRXGenericQueryExecutor, Single<X>> transaction){
+        if(transactional){
+            return transaction.apply(this);
+        }
+        return session(sessionExecutor -> {
+            SQLConnection sqlConnection = sessionExecutor.connection;
+            Completable restoreAutoCommit = sqlConnection.rxSetAutoCommit(true).onErrorComplete();
+            return sqlConnection.rxSetAutoCommit(false)
+                    .andThen(Single.defer(() -> {
+                        sessionExecutor.transactional = true;
+                        return transaction.apply(sessionExecutor);
+                    }))
+                    .doOnEvent((res, x) -> sessionExecutor.transactional = false)
+                    .onErrorResumeNext(x -> sqlConnection.rxRollback().onErrorComplete()
+                            .andThen(restoreAutoCommit)
+                            .andThen(Single.<X>error(x)))
+                    .flatMap(res -> sqlConnection.rxCommit()
+                            .onErrorResumeNext(x -> restoreAutoCommit.andThen(Completable.error(x)))
+                            .andThen(restoreAutoCommit)
+                            .toSingleDefault(res));
+        });
+    }
+
+    /**
+     * Creates a new instance of this <code>QueryExecutor</code>. Subclasses should override this method so
+     * sessions can use them.
+     * @return a new instance of this <code>QueryExecutor</code>.
+     */
+    protected AsyncRXGenericQueryExecutor newInstance(){
+        return new AsyncRXGenericQueryExecutor(delegate);
+    }
+
+    /**
+     * @return a Single that returns a SQLConnection or an Exception. If this <code>QueryExecutor</code> is bound to a
+     * session, the connection of that session is returned.
+     */
+    protected Single<SQLConnection> getConnection(){
+        if(connection != null){
+            return Single.just(connection);
+        }
         return delegate.rxGetConnection();
     }
 
-    protected <R> io.reactivex.functions.Function<io.vertx.reactivex.ext.sql.SQLConnection, Single<? extends  R>> executeAndClose(Function<io.vertx.reactivex.ext.sql.SQLConnection, Single<? extends R>> func) {
-        return sqlConnection -> func.apply(sqlConnection).doAfterTerminate(sqlConnection::close);
+    protected <R> io.reactivex.functions.Function<SQLConnection, Single<? extends  R>> executeAndClose(Function<SQLConnection, Single<? extends R>> func) {
+        return sqlConnection -> func.apply(sqlConnection).doAfterTerminate(() -> release(sqlConnection));
+    }
+
+    /**
+     * Closes the connection unless it is the connection of the session this <code>QueryExecutor</code> is bound to.
+     * @param sqlConnection
+     */
+    protected void release(SQLConnection sqlConnection){
+        if(sqlConnection != connection){
+            sqlConnection.close();
+        }
+    }
+
+    /**
+     * @return the named query templates of this <code>QueryExecutor</code>. They are shared with the
+     * <code>QueryExecutors</code> of its sessions and transactions.
+     */
+    public QueryTemplates templates() {
+        return templates;
     }
 }
@@ -1,8 +1,16 @@
 package io.github.jklingsporn.vertx.jooq.rx.async;
 
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncSQLRowReadStream;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.reactivex.FlowableHelper;
 import io.vertx.reactivex.ext.asyncsql.AsyncSQLClient;
 import org.jooq.InsertResultStep;
 import org.jooq.ResultQuery;
@@ -20,22 +28,74 @@ import java.util.stream.Collectors;
 public class AsyncRXQueryExecutor<R extends UpdatableRecord<R>,P,T> extends AsyncRXGenericQueryExecutor implements QueryExecutor<R,T,Single<List<P>>,Single<Optional<P>>,Single<Integer>,Single<T>>{
 
     private final Function<JsonObject,P> pojoMapper;
+    private final AsyncPojoMapper<P> rowMapper;
 
     public AsyncRXQueryExecutor(AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, Table<R> table) {
         super(delegate);
-        this.pojoMapper = convertFromSQL(table).andThen(pojoMapper);
+        this.pojoMapper = convertFromSQL(table).andThen(pojoMapper).andThen(VertxPojo::trackChanges);
+        this.rowMapper = null;
+    }
+
+    /**
+     * @param delegate the client used for query execution.
+     * @param pojoMapper creates a POJO from a row keyed by column name. Only used if the mapper is reflective.
+     * @param mapper the generated mapper of the table used to create the POJOs directly from the rows.
+     */
+    public AsyncRXQueryExecutor(AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, RecordPojoMapper<R, P> mapper) {
+        super(delegate);
+        this.pojoMapper = convertFromSQL(mapper.getTable()).andThen(pojoMapper).andThen(VertxPojo::trackChanges);
+        this.rowMapper = mapper.isReflective() ? null : new AsyncPojoMapper<>(mapper, this::convertFromAsyncDriverTypes);
+    }
+
+    private AsyncRXQueryExecutor(AsyncSQLClient delegate, Function<JsonObject, P> pojoMapper, AsyncPojoMapper<P> rowMapper) {
+        super(delegate);
+        this.pojoMapper = pojoMapper;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    protected AsyncRXQueryExecutor<R, P, T> newInstance() {
+        return new AsyncRXQueryExecutor<>(delegate, pojoMapper, rowMapper);
     }
 
     @Override
     public Single<List<P>> findMany(ResultQuery<R> query) {
+        if(rowMapper != null){
+            log(query);
+            return query(query.getSQL(), getBindValues(query), rs -> VertxPojo.trackChangesOfAll(rowMapper.map(rs)));
+        }
         return findManyJson(query).map(rs -> rs.stream().map(pojoMapper).collect(Collectors.toList()));
     }
 
+    @Override
+    public Single<List<P>> findMany(RenderedQuery query, Object... bindValues) {
+        if(rowMapper != null){
+            JsonArray params = getBindValues(query, bindValues);
+            log(query, params);
+            return query(query.getSQL(), params, rs -> VertxPojo.trackChangesOfAll(rowMapper.map(rs)));
+        }
+        return findManyJson(query, bindValues).map(rs -> rs.stream().map(pojoMapper).collect(Collectors.toList()));
+    }
+
     @Override
     public Single<Optional<P>> findOne(ResultQuery<R> query) {
+        if(rowMapper != null){
+            log(query);
+            return query(query.getSQL(), getBindValues(query), rs -> Optional.ofNullable(VertxPojo.trackChanges(rowMapper.mapOne(rs))));
+        }
         return findOneJson(query).map(val->val.map(pojoMapper));
     }
 
+    @Override
+    public Single<Optional<P>> findOne(RenderedQuery query, Object... bindValues) {
+        if(rowMapper != null){
+            JsonArray params = getBindValues(query, bindValues);
+            log(query, params);
+            return query(query.getSQL(), params, rs -> Optional.ofNullable(VertxPojo.trackChanges(rowMapper.mapOne(rs))));
+        }
+        return findOneJson(query, bindValues).map(val->val.map(pojoMapper));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Single<T> insertReturning(InsertResultStep<R> query, Function<Object, T> keyMapper) {
@@ -49,4 +109,28 @@ public class AsyncRXQueryExecutor<R extends UpdatableRecord<R>,P,T> extends Asyn
                 );
     }
 
+    @Override
+    public Single<Integer> afterExecute(Single<Integer> result, Runnable action) {
+        return result.doOnEvent((rows, error) -> action.run());
+    }
+
+    @Override
+    public Single<T> afterInsertReturning(Single<T> result, Runnable action) {
+        return result.doOnEvent((key, error) -> action.run());
+    }
+
+    /**
+     * Runs the query using <code>SQLConnection#queryStreamWithParams</code> and streams the POJOs as they arrive
+     * instead of buffering the whole result. The connection is released when the stream ends, fails or is cancelled.
+     * @param query
+     * @return a <code>Flowable</code> that starts the query when subscribed.
+     * @see AsyncSQLRowReadStream
+     */
+    public Flowable<P> findManyStream(ResultQuery<R> query) {
+        log(query);
+        if(rowMapper != null){
+            return FlowableHelper.toFlowable(AsyncSQLRowReadStream.byIndex(delegate.getDelegate(), query.getSQL(), getBindValues(query), columns -> rowMapper.forColumns(columns).andThen(VertxPojo::trackChanges)));
+        }
+        return FlowableHelper.toFlowable(AsyncSQLRowReadStream.byName(delegate.getDelegate(), query.getSQL(), getBindValues(query), pojoMapper));
+    }
 }
@@ -1,14 +1,29 @@
 package io.github.jklingsporn.vertx.jooq.rx.jdbc;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.AdaptiveBatchSize;
+import io.github.jklingsporn.vertx.jooq.shared.internal.BatchResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryTemplates;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCBatch;
 import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCTransaction;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
+import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.vertx.core.Handler;
 import io.vertx.reactivex.core.Future;
 import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.impl.AsyncResultSingle;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.TableRecord;
+import org.jooq.UpdatableRecord;
 import org.jooq.impl.DSL;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -18,10 +33,25 @@ public class JDBCRXGenericQueryExecutor implements JDBCQueryExecutor<Single<?>>{
 
     protected final Configuration configuration;
     protected final Vertx vertx;
+    protected final JDBCWorkerPool workerPool;
+    private volatile boolean ordered = true;
+    private volatile AdaptiveBatchSize batchSize = AdaptiveBatchSize.create();
+    private QueryTemplates templates = new QueryTemplates();
+    private JDBCTransaction transaction;
 
     public JDBCRXGenericQueryExecutor(Configuration configuration, Vertx vertx) {
+        this(configuration, vertx, JDBCWorkerPool.shared(vertx.getDelegate()));
+    }
+
+    /**
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public JDBCRXGenericQueryExecutor(Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
         this.configuration = configuration;
         this.vertx = vertx;
+        this.workerPool = workerPool;
     }
 
     @Override
@@ -29,7 +59,222 @@ public class JDBCRXGenericQueryExecutor implements JDBCQueryExecutor<Single<?>>{
         return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))));
     }
 
+    /**
+     * Executes any <code>DSLContext</code>-aware function using the given execution mode.
+     * @param function
+     * @param ordered if <code>false</code>, this execution may run in parallel to other executions issued from the
+     *                same context.
+     * @param <X>
+     * @return the result of this operation.
+     */
+    public <X> Single<X> execute(Function<DSLContext, X> function, boolean ordered){
+        return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))), ordered);
+    }
+
+    /**
+     * Executes any <code>DSLContext</code>-aware function after all previous executions with the same
+     * <code>orderingKey</code> have completed. Executions with different keys may run in parallel.
+     * @param orderingKey the key, e.g. the primary key of the row that is changed.
+     * @param function
+     * @param <X>
+     * @return the result of this operation.
+     */
+    public <X> Single<X> executeOrdered(Object orderingKey, Function<DSLContext, X> function){
+        return executeBlocking(orderingKey, h -> h.complete(function.apply(DSL.using(configuration))));
+    }
+
+    /**
+     * Executes the queries in chunks using JDBC-batches. The chunks are sized like the chunks of
+     * {@link #insertBatch(List)} and are executed one after another in a single blocking execution.
+     * @param queries the queries to execute.
+     * @return the total number of affected rows.
+     * @see JDBCBatch#execute(DSLContext, List, AdaptiveBatchSize)
+     */
+    public Single<Integer> executeAll(List<? extends Query> queries){
+        if(queries.isEmpty()){
+            return Single.just(0);
+        }
+        return executeBlocking(h -> h.complete(JDBCBatch.execute(DSL.using(configuration), queries, batchSize).getRows()));
+    }
+
+    /**
+     * Executes a query that has been rendered before.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the number of affected rows.
+     * @see RenderedQuery#execute(DSLContext, Object...)
+     */
+    public Single<Integer> execute(RenderedQuery query, Object... bindValues){
+        return executeBlocking(h -> h.complete(query.execute(DSL.using(configuration), bindValues)));
+    }
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before, e.g. a template registered at
+     * {@link #templates()}.
+     * @param query the query
+     * @param bindValues a value for each parameter of the query.
+     * @return the result with the values of the selected fields.
+     * @see RenderedQuery#fetch(DSLContext, Object...)
+     */
+    public Single<Result<Record>> fetch(RenderedQuery query, Object... bindValues){
+        return executeBlocking(h -> h.complete(query.fetch(DSL.using(configuration), bindValues)));
+    }
+
+    /**
+     * Inserts the records in chunks using JDBC-batches instead of one multi-row <code>INSERT</code>. The size of the
+     * chunks adapts to the observed latency, see {@link #setBatchSize(AdaptiveBatchSize)}. All chunks are executed
+     * one after another in a single blocking execution. If a chunk fails, the chunks executed before are not rolled
+     * back unless this <code>QueryExecutor</code> is bound to a transaction.
+     * @param records the records to insert.
+     * @return the number of inserted rows per chunk.
+     * @see JDBCBatch#insert(DSLContext, List, AdaptiveBatchSize)
+     */
+    public Single<BatchResult> insertBatch(List<? extends TableRecord<?>> records){
+        return executeBlocking(h -> h.complete(JDBCBatch.insert(DSL.using(configuration), records, batchSize)));
+    }
+
+    /**
+     * Updates the records in chunks using JDBC-batches instead of one round trip per record. The chunks are sized
+     * like the chunks of {@link #insertBatch(List)} and are executed one after another in a single blocking execution.
+     * If a chunk fails, the chunks executed before are not rolled back unless this <code>QueryExecutor</code> is bound
+     * to a transaction.
+     * @param records the records to update.
+     * @return the number of updated rows of each record in the order of <code>records</code>.
+     * @see JDBCBatch#update(DSLContext, List, AdaptiveBatchSize)
+     */
+    public Single<List<Integer>> updateBatch(List<? extends UpdatableRecord<?>> records){
+        return executeBlocking(h -> h.complete(JDBCBatch.update(DSL.using(configuration), records, batchSize)));
+    }
+
+    /**
+     * Runs the given function in a transaction. All statements executed by the <code>QueryExecutor</code> passed to
+     * the function share one connection and are executed one after another. The transaction is committed when the
+     * returned <code>Single</code> succeeds and rolled back when it fails. Calling this method on a
+     * <code>QueryExecutor</code> that is already bound to a transaction joins that transaction.
+     * @param transaction a function that runs its statements using the given <code>QueryExecutor</code>.
+     * @param <X> the result type
+     * @return a <code>Single</code> that emits the result of the function after the transaction has been committed,
+     * or fails after it has been rolled back.
+     */
+    public <X> Single<X> transaction(Function<JDBCRXGenericQueryExecutor, Single<X>> transaction){
+        if(this.transaction != null){
+            return transaction.apply(this);
+        }
+        return Single.defer(() -> {
+            JDBCTransaction tx = new JDBCTransaction(configuration, workerPool);
+            return new AsyncResultSingle<Configuration>(tx::begin)
+                    .flatMap(txConfiguration -> {
+                        JDBCRXGenericQueryExecutor txExecutor = newInstance(txConfiguration);
+                        txExecutor.transaction = tx;
+                        txExecutor.batchSize = batchSize;
+                        txExecutor.templates = templates;
+                        return Single.defer(() -> transaction.apply(txExecutor))
+                                .onErrorResumeNext(x -> Completable.create(emitter -> tx.rollback(rollback -> emitter.onComplete()))
+                                        .andThen(Single.<X>error(x)))
+                                .flatMap(result -> Completable.create(emitter -> tx.commit(commit -> {
+                                    if(commit.succeeded()){
+                                        emitter.onComplete();
+                                    }else{
+                                        emitter.onError(commit.cause());
+                                    }
+                                })).toSingleDefault(result));
+                    });
+        });
+    }
+
+    /**
+     * Creates a new instance of this <code>QueryExecutor</code>. Subclasses should override this method so
+     * transactions can use them.
+     * @param configuration the configuration of the new instance.
+     * @return a new instance of this <code>QueryExecutor</code>.
+     */
+    protected JDBCRXGenericQueryExecutor newInstance(Configuration configuration){
+        return new JDBCRXGenericQueryExecutor(configuration, vertx, workerPool);
+    }
+
     <X> Single<X> executeBlocking(Handler<Future<X>> blockingCodeHandler) {
-        return vertx.rxExecuteBlocking(blockingCodeHandler);
+        return executeBlocking(blockingCodeHandler, ordered);
+    }
+
+    <X> Single<X> executeBlocking(Handler<Future<X>> blockingCodeHandler, boolean ordered) {
+        if(transaction != null){
+            return new AsyncResultSingle<X>(resultHandler ->
+                    transaction.<X>executeBlocking(f -> blockingCodeHandler.handle(Future.newInstance(f)), resultHandler));
+        }
+        return new AsyncResultSingle<X>(resultHandler ->
+                workerPool.<X>executeBlocking(f -> blockingCodeHandler.handle(Future.newInstance(f)), ordered, resultHandler));
+    }
+
+    <X> Single<X> executeBlocking(Object orderingKey, Handler<Future<X>> blockingCodeHandler) {
+        if(transaction != null){
+            return executeBlocking(blockingCodeHandler, true);
+        }
+        return new AsyncResultSingle<X>(resultHandler ->
+                workerPool.<X>executeBlocking(orderingKey, f -> blockingCodeHandler.handle(Future.newInstance(f)), resultHandler));
+    }
+
+    /**
+     * @return the configuration used for query execution.
+     */
+    public Configuration configuration() {
+        return configuration;
+    }
+
+    /**
+     * @return the pool a <code>JDBCCursorReadStream</code> fetches its rows on: the pool of this
+     * <code>QueryExecutor</code> or, if it is bound to a transaction, a pool that executes the fetches as part of the
+     * transaction.
+     */
+    protected JDBCWorkerPool cursorWorkerPool() {
+        return transaction == null ? workerPool : transaction.asWorkerPool();
+    }
+
+    /**
+     * @return the pool used to execute the blocking code.
+     */
+    public JDBCWorkerPool workerPool() {
+        return workerPool;
+    }
+
+    /**
+     * @param ordered if <code>false</code>, queries issued from the same context are no longer executed one after
+     *                another but may run in parallel. Defaults to <code>true</code>.
+     * @return a reference to this
+     */
+    public JDBCRXGenericQueryExecutor setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * @return whether queries issued from the same context are executed one after another.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * @param batchSize determines the size of the chunks of {@link #insertBatch(List)} and {@link #updateBatch(List)}. The instance is shared by
+     *                  all bulk operations of this <code>QueryExecutor</code>. Defaults to {@link AdaptiveBatchSize#create()}.
+     * @return a reference to this
+     */
+    public JDBCRXGenericQueryExecutor setBatchSize(AdaptiveBatchSize batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @return the batch size used by bulk operations.
+     */
+    public AdaptiveBatchSize getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the named query templates of this <code>QueryExecutor</code>. They are shared with the
+     * <code>QueryExecutors</code> of its sessions and transactions.
+     */
+    public QueryTemplates templates() {
+        return templates;
     }
 }
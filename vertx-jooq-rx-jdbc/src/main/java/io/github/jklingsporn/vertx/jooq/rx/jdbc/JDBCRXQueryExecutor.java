@@ -1,9 +1,17 @@
 package io.github.jklingsporn.vertx.jooq.rx.jdbc;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCCursorReadStream;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCWorkerPool;
 import io.reactivex.Single;
+import io.reactivex.Flowable;
+import io.vertx.reactivex.FlowableHelper;
 import io.vertx.reactivex.core.Vertx;
 import org.jooq.*;
+import org.jooq.impl.DSL;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,21 +22,60 @@ import java.util.function.Function;
  */
 public class JDBCRXQueryExecutor<R extends UpdatableRecord<R>,P,T> extends JDBCRXGenericQueryExecutor implements QueryExecutor<R,T,Single<List<P>>,Single<Optional<P>>,Single<Integer>,Single<T>> {
 
-    private final Class<P> daoType;
+    private final RecordPojoMapper<R,P> mapper;
 
     public JDBCRXQueryExecutor(Class<P> daoType, Configuration configuration, Vertx vertx) {
+        this(RecordPojoMapper.reflective(null, daoType), configuration, vertx);
+    }
+
+    /**
+     * @param mapper maps the fetched records to POJOs, e.g. the mapper of a generated DAO.
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     */
+    public JDBCRXQueryExecutor(RecordPojoMapper<R,P> mapper, Configuration configuration, Vertx vertx) {
         super(configuration,vertx);
-        this.daoType = daoType;
+        this.mapper = mapper;
+    }
+
+    public JDBCRXQueryExecutor(Class<P> daoType, Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
+        this(RecordPojoMapper.reflective(null, daoType), configuration, vertx, workerPool);
+    }
+
+    /**
+     * @param mapper maps the fetched records to POJOs, e.g. the mapper of a generated DAO.
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     * @param workerPool the pool the blocking code is executed on
+     */
+    public JDBCRXQueryExecutor(RecordPojoMapper<R,P> mapper, Configuration configuration, Vertx vertx, JDBCWorkerPool workerPool) {
+        super(configuration,vertx,workerPool);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected JDBCRXQueryExecutor<R, P, T> newInstance(Configuration configuration) {
+        return new JDBCRXQueryExecutor<>(mapper, configuration, vertx, workerPool);
     }
 
     @Override
     public Single<List<P>> findMany(ResultQuery<R> query) {
-        return executeBlocking(h -> h.complete(query.fetchInto(daoType)));
+        return executeBlocking(h -> h.complete(VertxPojo.trackChangesOfAll(mapper.map(query.fetch()))));
+    }
+
+    @Override
+    public Single<List<P>> findMany(RenderedQuery query, Object... bindValues) {
+        return executeBlocking(h -> h.complete(VertxPojo.trackChangesOfAll(mapper.map(query.fetch(DSL.using(configuration), bindValues)))));
     }
 
     @Override
     public Single<Optional<P>> findOne(ResultQuery<R> query) {
-        return executeBlocking(h -> h.complete(Optional.ofNullable(query.fetchOneInto(daoType))));
+        return executeBlocking(h -> h.complete(Optional.ofNullable(VertxPojo.trackChanges(mapper.map(query.fetchOne())))));
+    }
+
+    @Override
+    public Single<Optional<P>> findOne(RenderedQuery query, Object... bindValues) {
+        return executeBlocking(h -> h.complete(Optional.ofNullable(VertxPojo.trackChanges(mapper.map(query.fetchOne(DSL.using(configuration), bindValues))))));
     }
 
     @Override
@@ -40,4 +87,30 @@ public class JDBCRXQueryExecutor<R extends UpdatableRecord<R>,P,T> extends JDBCR
     public Single<T> insertReturning(InsertResultStep<R> query,Function<Object,T> keyMapper) {
         return executeBlocking(h -> h.complete(keyMapper.apply(query.fetchOne())));
     }
+
+    @Override
+    public Single<Integer> afterExecute(Single<Integer> result, Runnable action) {
+        return result.doOnEvent((rows, error) -> action.run());
+    }
+
+    @Override
+    public Single<T> afterInsertReturning(Single<T> result, Runnable action) {
+        return result.doOnEvent((key, error) -> action.run());
+    }
+
+    /**
+     * Runs the query using a lazy <code>Cursor</code> and streams the result: rows are fetched and mapped in chunks
+     * of <code>fetchSize</code> on the worker pool and the next chunk is only fetched when the subscriber
+     * has requested more rows. Use this instead of {@link #findMany(ResultQuery)} for
+     * large results that should not be held in memory at once. Within a transaction, the chunks are fetched one after
+     * another with the other statements of the transaction, so the stream has to be consumed or closed before the
+     * transaction completes. Fetches after the transaction has completed fail.
+     * @param query
+     * @param fetchSize the number of rows fetched at once.
+     * @return a <code>Flowable</code> that starts fetching rows when subscribed.
+     * @see JDBCCursorReadStream
+     */
+    public Flowable<P> findManyStream(ResultQuery<R> query, int fetchSize) {
+        return FlowableHelper.toFlowable(new JDBCCursorReadStream<>(cursorWorkerPool(), query, result -> VertxPojo.trackChangesOfAll(mapper.map(result)), fetchSize), fetchSize);
+    }
 }
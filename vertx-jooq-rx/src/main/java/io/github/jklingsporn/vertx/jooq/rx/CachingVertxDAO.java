@@ -0,0 +1,81 @@
+package io.github.jklingsporn.vertx.jooq.rx;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.AbstractCachingVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.EntityCache;
+import io.reactivex.Single;
+import io.vertx.core.Future;
+import io.vertx.reactivex.core.impl.AsyncResultSingle;
+import org.jooq.UpdatableRecord;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@code VertxDAO} that caches the POJOs of {@code findOneById} and {@code findManyByIds}, see
+ * {@link AbstractCachingVertxDAO}. The cache is only read and invalidated when the returned {@code Single} is
+ * subscribed.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class CachingVertxDAO<R extends UpdatableRecord<R>, P, T> extends AbstractCachingVertxDAO<P, T, Single<List<P>>, Single<Optional<P>>, Single<Integer>, Single<T>> implements VertxDAO<R, P, T> {
+
+    public CachingVertxDAO(VertxDAO<R, P, T> delegate, Function<P, T> keyFunction, EntityCache<T, P> cache) {
+        super(delegate, keyFunction, cache);
+    }
+
+    private static <X> Future<X> toFuture(Single<X> result) {
+        Future<X> future = Future.future();
+        result.subscribe(future::complete, future::fail);
+        return future;
+    }
+
+    private static <X> Single<X> fromFuture(Supplier<Future<X>> result) {
+        return new AsyncResultSingle<X>(handler -> result.get().setHandler(handler));
+    }
+
+    @Override
+    protected Future<P> findOneToFuture(Single<Optional<P>> result) {
+        //not mapped by the Single because RxJava does not allow null values
+        Future<P> future = Future.future();
+        result.subscribe(optional -> future.complete(optional.orElse(null)), future::fail);
+        return future;
+    }
+
+    @Override
+    protected Single<Optional<P>> findOneFromFuture(Supplier<Future<P>> result) {
+        return fromFuture(() -> result.get().map(Optional::ofNullable));
+    }
+
+    @Override
+    protected Future<List<P>> findManyToFuture(Single<List<P>> result) {
+        return toFuture(result);
+    }
+
+    @Override
+    protected Single<List<P>> findManyFromFuture(Supplier<Future<List<P>>> result) {
+        return fromFuture(result);
+    }
+
+    @Override
+    protected Future<Integer> executeToFuture(Single<Integer> result) {
+        return toFuture(result);
+    }
+
+    @Override
+    protected Single<Integer> executeFromFuture(Supplier<Future<Integer>> result) {
+        return fromFuture(result);
+    }
+
+    @Override
+    protected Future<T> insertReturningToFuture(Single<T> result) {
+        return toFuture(result);
+    }
+
+    @Override
+    protected Single<T> insertReturningFromFuture(Supplier<Future<T>> result) {
+        return fromFuture(result);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.jklingsporn.vertx.jooq.rx;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.GenericDAOService;
+import io.reactivex.Single;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The operations of a {@link VertxDAO} that address the rows by their POJOs or primary keys. They are implemented by
+ * every {@code VertxDAO} and by the {@link DAOServiceProxy}, which sends them over the event bus.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public interface DAOService<P, T> extends GenericDAOService<P, T, Single<List<P>>, Single<Optional<P>>, Single<Integer>, Single<T>> {
+
+}
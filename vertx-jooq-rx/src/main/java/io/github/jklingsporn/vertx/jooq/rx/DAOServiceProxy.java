@@ -0,0 +1,84 @@
+package io.github.jklingsporn.vertx.jooq.rx;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.AbstractDAOServiceProxy;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceAction;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec;
+import io.reactivex.Single;
+import io.vertx.core.Vertx;
+import io.vertx.reactivex.core.impl.AsyncResultSingle;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link DAOService} that sends all operations over the event bus to a {@link DAOServiceVerticle}.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class DAOServiceProxy<P, T> extends AbstractDAOServiceProxy<P, T> implements DAOService<P, T> {
+
+    public DAOServiceProxy(Vertx vertx, String address, DAOServiceCodec codec) {
+        super(vertx, address, codec);
+    }
+
+    @Override
+    public Single<Integer> insert(P pojo) {
+        return new AsyncResultSingle<Integer>(handler -> this.<Integer>request(DAOServiceAction.INSERT, pojo).setHandler(handler));
+    }
+
+    @Override
+    public Single<Integer> insert(Collection<P> pojos) {
+        return new AsyncResultSingle<Integer>(handler -> this.<Integer>request(DAOServiceAction.INSERT_ALL, pojos).setHandler(handler));
+    }
+
+    @Override
+    public Single<T> insertReturningPrimary(P pojo) {
+        return new AsyncResultSingle<T>(handler -> this.<T>request(DAOServiceAction.INSERT_RETURNING_PRIMARY, pojo).setHandler(handler));
+    }
+
+    @Override
+    public Single<Integer> update(P pojo) {
+        return new AsyncResultSingle<Integer>(handler -> this.<Integer>request(DAOServiceAction.UPDATE, pojo).setHandler(handler));
+    }
+
+    @Override
+    public Single<Integer> update(Collection<P> pojos) {
+        return new AsyncResultSingle<Integer>(handler -> this.<Integer>request(DAOServiceAction.UPDATE_ALL, pojos).setHandler(handler));
+    }
+
+    @Override
+    public Single<Integer> upsert(P pojo) {
+        return new AsyncResultSingle<Integer>(handler -> this.<Integer>request(DAOServiceAction.UPSERT, pojo).setHandler(handler));
+    }
+
+    @Override
+    public Single<Integer> upsert(Collection<P> pojos) {
+        return new AsyncResultSingle<Integer>(handler -> this.<Integer>request(DAOServiceAction.UPSERT_ALL, pojos).setHandler(handler));
+    }
+
+    @Override
+    public Single<Integer> deleteById(T id) {
+        return new AsyncResultSingle<Integer>(handler -> this.<Integer>request(DAOServiceAction.DELETE_BY_ID, id).setHandler(handler));
+    }
+
+    @Override
+    public Single<Integer> deleteByIds(Collection<T> ids) {
+        return new AsyncResultSingle<Integer>(handler -> this.<Integer>request(DAOServiceAction.DELETE_BY_IDS, ids).setHandler(handler));
+    }
+
+    @Override
+    public Single<Optional<P>> findOneById(T id) {
+        return new AsyncResultSingle<P>(handler -> this.<P>request(DAOServiceAction.FIND_ONE_BY_ID, id).setHandler(handler)).map(Optional::ofNullable);
+    }
+
+    @Override
+    public Single<List<P>> findManyByIds(Collection<T> ids) {
+        return new AsyncResultSingle<List<P>>(handler -> this.<List<P>>request(DAOServiceAction.FIND_MANY_BY_IDS, ids).setHandler(handler));
+    }
+
+    @Override
+    public Single<List<P>> findAll() {
+        return new AsyncResultSingle<List<P>>(handler -> this.<List<P>>request(DAOServiceAction.FIND_ALL).setHandler(handler));
+    }
+}
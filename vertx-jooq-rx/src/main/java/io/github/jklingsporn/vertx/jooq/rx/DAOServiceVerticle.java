@@ -0,0 +1,33 @@
+package io.github.jklingsporn.vertx.jooq.rx;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.AbstractDAOServiceVerticle;
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec;
+import io.reactivex.Single;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Exposes a {@link DAOService}, e.g. a {@code VertxDAO}, on the event bus, see {@link DAOServiceProxy}. Empty results of the
+ * {@code findOne}-operations are sent as {@code null}.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ * @param <DAO> The type of the DAO.
+ */
+public abstract class DAOServiceVerticle<P, T, DAO extends DAOService<P, T>> extends AbstractDAOServiceVerticle<P, T, DAO> {
+
+    protected DAOServiceVerticle(String address, DAOServiceCodec codec, Function<Vertx, DAO> daoFactory) {
+        super(address, codec, daoFactory);
+    }
+
+    @Override
+    protected Future<Object> toFuture(Object result) {
+        Future<Object> future = Future.future();
+        ((Single<?>) result).subscribe(
+                value -> future.complete(value instanceof Optional ? ((Optional<?>) value).orElse(null) : value),
+                future::fail);
+        return future;
+    }
+}
@@ -1,6 +1,9 @@
 package io.github.jklingsporn.vertx.jooq.shared.async;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.EnumLiterals;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RenderedQuery;
 import io.github.jklingsporn.vertx.jooq.shared.internal.async.AsyncQueryExecutor;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -8,10 +11,12 @@ import io.vertx.core.logging.LoggerFactory;
 import org.joda.time.DateTimeZone;
 import org.jooq.*;
 import org.jooq.conf.ParamType;
+import org.jooq.tools.Convert;
 
 import java.time.*;
 import java.time.temporal.ChronoField;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -25,29 +30,54 @@ public abstract class AbstractAsyncQueryExecutor<FIND_MANY_JSON, FIND_ONE_JSON,
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractAsyncQueryExecutor.class);
 
+    /**
+     * The class of the converters jOOQ uses for fields without a custom converter.
+     */
+    private static final Class<?> IDENTITY_CONVERTER = Converters.identity(Object.class).getClass();
+
+    /**
+     * The conversion of {@link #convertToAsyncDriverTypes(Object)} per type of a value, so the type is only checked
+     * once and not for every bind value.
+     */
+    private static final ClassValue<UnaryOperator<Object>> DRIVER_TYPE_CONVERSIONS = new ClassValue<UnaryOperator<Object>>() {
+        @Override
+        protected UnaryOperator<Object> computeValue(Class<?> type) {
+            return driverTypeConversion(type);
+        }
+    };
+
     /**
      * The <code>AsyncSQLClient</code> does not know anything about converters you may have set for your entities,
-     * so we have to convert them manually on each return.
+     * so we have to convert them manually on each return. The fields with a converter are determined once and the
+     * values are converted in place, so the returned operator modifies and returns the given <code>JsonObject</code>.
+     * If the table has no converters, the rows are returned as they are.
      * @param table
      * @return a <code>UnaryOperator</code> to map custom values (e.g. nested JsonObjects).
      */
     @SuppressWarnings("unchecked")
     protected UnaryOperator<JsonObject> convertFromSQL(Table<?> table){
-        Map<String, Converter<Object, Object>> pojoConverters = table
+        List<Field<?>> convertedFields = table
                 .fieldStream()
-                .filter(f -> f.getConverter() != null)
-                .collect(Collectors.toMap(Field::getName, v -> ((Converter<Object, Object>) v.getConverter())));
+                .filter(f -> !isIdentity(f.getConverter()))
+                .collect(Collectors.toList());
+        if(convertedFields.isEmpty()){
+            return UnaryOperator.identity();
+        }
+        String[] names = new String[convertedFields.size()];
+        Converter<Object, Object>[] converters = new Converter[convertedFields.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = convertedFields.get(i).getName();
+            converters[i] = (Converter<Object, Object>) convertedFields.get(i).getConverter();
+        }
         return json -> {
-            JsonObject theCopy = new JsonObject();
-            for (Map.Entry<String, Object> jsonMap : json.getMap().entrySet()) {
-                Converter<Object, Object> converter = pojoConverters.get(jsonMap.getKey());
-                if(converter!=null){
-                    theCopy.put(jsonMap.getKey(), converter.from(jsonMap.getValue()));
-                }else{
-                    theCopy.put(jsonMap.getKey(), jsonMap.getValue());
+            Map<String, Object> row = json.getMap();
+            for (int i = 0; i < names.length; i++) {
+                Object value = row.get(names[i]);
+                if(value != null || row.containsKey(names[i])){
+                    row.put(names[i], converters[i].from(value));
                 }
             }
-            return theCopy;
+            return json;
         };
     }
 
@@ -64,8 +94,35 @@ public abstract class AbstractAsyncQueryExecutor<FIND_MANY_JSON, FIND_ONE_JSON,
 
 
 
+    /**
+     * @param query the query
+     * @param values a value for each parameter of the query.
+     * @return the values converted using the converters of the query's parameters.
+     */
+    @SuppressWarnings("unchecked")
+    protected JsonArray getBindValues(RenderedQuery query, Object... values) {
+        List<Field<?>> parameters = query.getParameters();
+        Arguments.require(values.length == parameters.size(), "Expected " + parameters.size() + " bind values");
+        ArrayList<Object> bindValues = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            Converter<Object, Object> converter = (Converter<Object, Object>) parameters.get(i).getBinding().converter();
+            bindValues.add(convertToAsyncDriverTypes(isIdentity(converter) ? values[i] : converter.to(values[i])));
+        }
+        return new JsonArray(bindValues);
+    }
+
     protected <T> Object convertToDatabaseType(Param<T> param) {
-        return convertToAsyncDriverTypes(param.getBinding().converter().to(param.getValue()));
+        Converter<?, T> converter = param.getBinding().converter();
+        return convertToAsyncDriverTypes(isIdentity(converter) ? param.getValue() : converter.to(param.getValue()));
+    }
+
+    /**
+     * @param converter the converter of a field.
+     * @return <code>true</code> if the converter does not convert the values, e.g. because the field has no custom
+     * converter.
+     */
+    static boolean isIdentity(Converter<?, ?> converter){
+        return converter == null || converter.getClass() == IDENTITY_CONVERTER;
     }
 
     protected void log(Query query){
@@ -74,45 +131,84 @@ public abstract class AbstractAsyncQueryExecutor<FIND_MANY_JSON, FIND_ONE_JSON,
         }
     }
 
+    protected void log(RenderedQuery query, JsonArray bindValues){
+        if(logger.isDebugEnabled()){
+            logger.debug("Executing {} with {}", query.getSQL(), bindValues);
+        }
+    }
+
     /**
-     * Async-driver uses joda-time instead of java-time, so we need to convert it.
+     * Converts a value of a row returned by the async-driver into the type of a field. This is the reverse of
+     * {@link #convertToAsyncDriverTypes(Object)}: temporal values are returned as ISO-formatted strings and enums as
+     * their literals.
+     * @param object the value, not <code>null</code>.
+     * @param type the type of the field or the database type of its converter.
+     * @return the converted value
+     */
+    @SuppressWarnings("unchecked")
+    protected Object convertFromAsyncDriverTypes(Object object, Class<?> type){
+        if(type.isInstance(object)){
+            return object;
+        }else if(object instanceof String){
+            String string = (String) object;
+            if(EnumType.class.isAssignableFrom(type)){
+                return EnumLiterals.fromLiteral((Class<? extends EnumType>) type, string);
+            }else if(type.isEnum()){
+                return Enum.valueOf((Class<? extends Enum>) type, string);
+            }else if(type == LocalDateTime.class){
+                return LocalDateTime.parse(string);
+            }else if(type == LocalDate.class){
+                return LocalDate.parse(string);
+            }else if(type == ZonedDateTime.class){
+                return ZonedDateTime.parse(string);
+            }else if(type == OffsetDateTime.class){
+                return OffsetDateTime.parse(string);
+            }else if(type == Instant.class){
+                return OffsetDateTime.parse(string).toInstant();
+            }
+        }
+        return Convert.convert(object, type);
+    }
+
+    /**
+     * Async-driver uses joda-time instead of java-time, so we need to convert it. Enums are converted to their
+     * literal if they are jOOQ <code>EnumTypes</code> and to their name otherwise.
      * @param object the object to convert
      * @return a joda-time representation of the object or the object itself
      * @see <a href="https://github.com/jklingsporn/vertx-jooq/issues/31">#31</a>
      * @see <a href="https://github.com/vert-x3/vertx-mysql-postgresql-client/blob/master/src/main/java/io/vertx/ext/asyncsql/impl/ScalaUtils.java">ScalaUtils#convertValue</a>
      */
     protected Object convertToAsyncDriverTypes(Object object){
-        if(object instanceof Enum){
-            return ((Enum)object).name();
-        }else if(object instanceof LocalDateTime){
-            LocalDateTime convert = (LocalDateTime) object;
-            return new org.joda.time.LocalDateTime(convert.getYear(),convert.getMonthValue(),convert.getDayOfMonth(),convert.getHour(),convert.getMinute(),convert.getSecond(), convert.get(ChronoField.MILLI_OF_SECOND));
-        }else if(object instanceof LocalDate){
-            LocalDate convert = (LocalDate) object;
-            return new org.joda.time.LocalDate(convert.getYear(),convert.getMonthValue(),convert.getDayOfMonth());
-        }else if(object instanceof ZonedDateTime){
-            ZonedDateTime convert = (ZonedDateTime) object;
-            return new org.joda.time.DateTime(convert.getYear(),convert.getMonthValue(),convert.getDayOfMonth(),convert.getHour(),convert.getMinute(),convert.getSecond(), convert.get(ChronoField.MILLI_OF_SECOND), DateTimeZone.forID(convert.getZone().getId()));
-        } else if (object instanceof OffsetDateTime) {
-            OffsetDateTime obj = (OffsetDateTime) object;
+        return object == null ? null : DRIVER_TYPE_CONVERSIONS.get(object.getClass()).apply(object);
+    }
 
+    private static UnaryOperator<Object> driverTypeConversion(Class<?> type){
+        if(EnumType.class.isAssignableFrom(type)){
+            return object -> ((EnumType) object).getLiteral();
+        }else if(Enum.class.isAssignableFrom(type)){
+            return object -> ((Enum<?>) object).name();
+        }else if(type == LocalDateTime.class){
+            return object -> {
+                LocalDateTime convert = (LocalDateTime) object;
+                return new org.joda.time.LocalDateTime(convert.getYear(),convert.getMonthValue(),convert.getDayOfMonth(),convert.getHour(),convert.getMinute(),convert.getSecond(), convert.get(ChronoField.MILLI_OF_SECOND));
+            };
+        }else if(type == LocalDate.class){
+            return object -> {
+                LocalDate convert = (LocalDate) object;
+                return new org.joda.time.LocalDate(convert.getYear(),convert.getMonthValue(),convert.getDayOfMonth());
+            };
+        }else if(type == ZonedDateTime.class){
+            return object -> {
+                ZonedDateTime convert = (ZonedDateTime) object;
+                return new org.joda.time.DateTime(convert.toInstant().toEpochMilli(), DateTimeZone.forID(convert.getZone().getId()));
+            };
+        }else if(type == OffsetDateTime.class){
             // Keep the same instant when converting to date time
-            ZonedDateTime convert = obj.atZoneSameInstant(ZoneOffset.UTC);
-            org.joda.time.DateTime dt = new org.joda.time.DateTime(convert.getYear(),
-                    convert.getMonthValue(),
-                    convert.getDayOfMonth(),
-                    convert.getHour(),
-                    convert.getMinute(),
-                    convert.getSecond(),
-                    convert.get(ChronoField.MILLI_OF_SECOND),
-                    DateTimeZone.forID(convert.getZone().getId()));
-            return dt;
-        } else if (object instanceof Instant) {
-            Instant convert = (Instant) object;
-            org.joda.time.Instant i = org.joda.time.Instant.parse(convert.toString());
-            return i.toDateTime();
+            return object -> new org.joda.time.DateTime(((OffsetDateTime) object).toInstant().toEpochMilli(), DateTimeZone.UTC);
+        }else if(type == Instant.class){
+            return object -> new org.joda.time.DateTime(((Instant) object).toEpochMilli());
         }
-        return object;
+        return UnaryOperator.identity();
     }
 
 }
@@ -0,0 +1,100 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.sql.ResultSet;
+import org.jooq.Converter;
+import org.jooq.Field;
+import org.jooq.exception.TooManyRowsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Maps the rows of a <code>ResultSet</code> of the <code>AsyncSQLClient</code> to POJOs. Instead of creating a
+ * <code>JsonObject</code> per row, the values are read from the <code>JsonArray</code>s of
+ * <code>ResultSet#getResults()</code> by index. The index of each field of the table is resolved once per
+ * <code>ResultSet</code> from its column names and the values are converted using the fields' converters while the
+ * POJO is created by the generated {@link RecordPojoMapper}.
+ * @param <P> the POJO-type
+ */
+public class AsyncPojoMapper<P> {
+
+    private final RecordPojoMapper<?, P> mapper;
+    private final String[] names;
+    private final Function<Object, Object>[] converters;
+
+    /**
+     * @param mapper the generated mapper of the table.
+     * @param driverTypeConverter converts a value returned by the driver into the given type.
+     * @throws IllegalArgumentException if the mapper is reflective.
+     */
+    @SuppressWarnings("unchecked")
+    public AsyncPojoMapper(RecordPojoMapper<?, P> mapper, BiFunction<Object, Class<?>, Object> driverTypeConverter) {
+        Arguments.require(!mapper.isReflective(), "Reflective mapper");
+        this.mapper = mapper;
+        Field<?>[] fields = mapper.getTable().fields();
+        this.names = new String[fields.length];
+        this.converters = new Function[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = fields[i].getName();
+            Converter<Object, Object> converter = (Converter<Object, Object>) fields[i].getConverter();
+            if(AbstractAsyncQueryExecutor.isIdentity(converter)){
+                Class<?> type = fields[i].getType();
+                converters[i] = value -> driverTypeConverter.apply(value, type);
+            }else{
+                Class<?> type = converter.fromType();
+                converters[i] = value -> converter.from(driverTypeConverter.apply(value, type));
+            }
+        }
+    }
+
+    /**
+     * @param columnNames the column names of a result.
+     * @return a function that maps one row of the result.
+     */
+    public Function<JsonArray, P> forColumns(List<String> columnNames) {
+        int[] index = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            index[i] = columnNames.indexOf(names[i]);
+        }
+        return row -> mapper.map(i -> {
+            int column = index[i];
+            Object value = column < 0 ? null : row.getValue(column);
+            return value == null ? null : converters[i].apply(value);
+        });
+    }
+
+    /**
+     * @param resultSet the result
+     * @return the POJOs in the order of the rows.
+     */
+    public List<P> map(ResultSet resultSet) {
+        List<JsonArray> rows = resultSet.getResults();
+        List<P> pojos = new ArrayList<>(rows.size());
+        if(!rows.isEmpty()){
+            Function<JsonArray, P> rowMapper = forColumns(resultSet.getColumnNames());
+            for (JsonArray row : rows) {
+                pojos.add(rowMapper.apply(row));
+            }
+        }
+        return pojos;
+    }
+
+    /**
+     * @param resultSet the result
+     * @return the POJO or <code>null</code> if there is no row.
+     * @throws TooManyRowsException if there is more than one row.
+     */
+    public P mapOne(ResultSet resultSet) {
+        List<JsonArray> rows = resultSet.getResults();
+        switch (rows.size()) {
+            case 0: return null;
+            case 1: return forColumns(resultSet.getColumnNames()).apply(rows.get(0));
+            default: throw new TooManyRowsException(String.format("Found more than one row: %d", rows.size()));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.asyncsql.AsyncSQLClient;
+import io.vertx.ext.sql.SQLConnection;
+import io.vertx.ext.sql.SQLRowStream;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A <code>ReadStream</code> that runs a query using <code>SQLConnection#queryStreamWithParams</code> and maps each
+ * row as it arrives instead of buffering the whole <code>ResultSet</code>. Pausing and resuming this stream pauses
+ * and resumes the underlying <code>SQLRowStream</code>. A connection is acquired when a handler is set and it is
+ * closed when the stream ends, fails or is cancelled by setting the handler to <code>null</code> or by calling
+ * {@link #close()}.
+ * @param <T> the type of the streamed elements, e.g. the POJO-type.
+ */
+public class AsyncSQLRowReadStream<T> implements ReadStream<T> {
+
+    private final AsyncSQLClient client;
+    private final String sql;
+    private final JsonArray params;
+    private final Function<List<String>, Function<JsonArray, T>> rowMapperFactory;
+
+    private SQLConnection connection;
+    private SQLRowStream rowStream;
+    private Function<JsonArray, T> rowMapper;
+    private Handler<T> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private boolean paused;
+    private boolean started;
+    private boolean closed;
+
+    private AsyncSQLRowReadStream(AsyncSQLClient client, String sql, JsonArray params, Function<List<String>, Function<JsonArray, T>> rowMapperFactory) {
+        this.client = client;
+        this.sql = sql;
+        this.params = params;
+        this.rowMapperFactory = rowMapperFactory;
+    }
+
+    /**
+     * Creates a stream that maps the rows by index instead of creating a <code>JsonObject</code> per row.
+     * @param client the client used to acquire the connection.
+     * @param sql the SQL to execute.
+     * @param params the bind values.
+     * @param rowMapperFactory creates the function that maps a row into the streamed element from the column names of
+     *                         the result, e.g. {@link AsyncPojoMapper#forColumns(List)}.
+     * @param <T> the type of the streamed elements
+     * @return the stream
+     */
+    public static <T> AsyncSQLRowReadStream<T> byIndex(AsyncSQLClient client, String sql, JsonArray params, Function<List<String>, Function<JsonArray, T>> rowMapperFactory) {
+        return new AsyncSQLRowReadStream<>(client, sql, params, rowMapperFactory);
+    }
+
+    /**
+     * Creates a stream that converts each row into a <code>JsonObject</code> keyed by column name before it is mapped,
+     * e.g. to stream the rows of arbitrary queries. Prefer {@link #byIndex(AsyncSQLClient, String, JsonArray, Function)}
+     * to create POJOs.
+     * @param client the client used to acquire the connection.
+     * @param sql the SQL to execute.
+     * @param params the bind values.
+     * @param rowMapper maps a row, keyed by column name, into the streamed element.
+     * @param <T> the type of the streamed elements
+     * @return the stream
+     */
+    public static <T> AsyncSQLRowReadStream<T> byName(AsyncSQLClient client, String sql, JsonArray params, Function<JsonObject, T> rowMapper) {
+        return new AsyncSQLRowReadStream<>(client, sql, params, columns -> byName(columns, rowMapper));
+    }
+
+    private static <T> Function<JsonArray, T> byName(List<String> columns, Function<JsonObject, T> rowMapper) {
+        String[] names = columns.toArray(new String[columns.size()]);
+        //the capacity avoids rehashing while the columns are added
+        int capacity = (int) (names.length / 0.75f) + 1;
+        return row -> {
+            JsonObject json = new JsonObject(new LinkedHashMap<>(capacity));
+            for (int i = 0; i < names.length; i++) {
+                json.put(names[i], row.getValue(i));
+            }
+            return rowMapper.apply(json);
+        };
+    }
+
+    @Override
+    public AsyncSQLRowReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public AsyncSQLRowReadStream<T> handler(Handler<T> handler) {
+        this.handler = handler;
+        if(handler == null){
+            close();
+        }else if(!started){
+            started = true;
+            open();
+        }
+        return this;
+    }
+
+    @Override
+    public AsyncSQLRowReadStream<T> pause() {
+        paused = true;
+        if(rowStream != null){
+            rowStream.pause();
+        }
+        return this;
+    }
+
+    @Override
+    public AsyncSQLRowReadStream<T> resume() {
+        paused = false;
+        if(rowStream != null){
+            rowStream.resume();
+        }
+        return this;
+    }
+
+    @Override
+    public AsyncSQLRowReadStream<T> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    /**
+     * Cancels this stream and releases the connection. No more elements are delivered and the end handler is not
+     * called.
+     */
+    public void close(){
+        if(!closed){
+            closed = true;
+            release();
+        }
+    }
+
+    private void open(){
+        client.getConnection(connectionResult -> {
+            if(connectionResult.failed()){
+                fail(connectionResult.cause());
+                return;
+            }
+            connection = connectionResult.result();
+            if(closed){
+                release();
+                return;
+            }
+            connection.queryStreamWithParams(sql, params, streamResult -> {
+                if(streamResult.failed()){
+                    fail(streamResult.cause());
+                    return;
+                }
+                rowStream = streamResult.result();
+                if(closed){
+                    release();
+                    return;
+                }
+                try{
+                    rowMapper = rowMapperFactory.apply(rowStream.columns());
+                }catch (RuntimeException e){
+                    fail(e);
+                    return;
+                }
+                if(paused){
+                    rowStream.pause();
+                }
+                rowStream
+                        .exceptionHandler(this::fail)
+                        .endHandler(v -> end())
+                        .handler(this::handleRow);
+            });
+        });
+    }
+
+    private void handleRow(JsonArray row){
+        if(closed || handler == null){
+            return;
+        }
+        T element;
+        try{
+            element = rowMapper.apply(row);
+        }catch (RuntimeException e){
+            fail(e);
+            return;
+        }
+        handler.handle(element);
+    }
+
+    private void end(){
+        if(!closed){
+            closed = true;
+            release();
+            if(endHandler != null){
+                endHandler.handle(null);
+            }
+        }
+    }
+
+    private void fail(Throwable cause){
+        if(!closed){
+            closed = true;
+            release();
+            if(exceptionHandler != null){
+                exceptionHandler.handle(cause);
+            }
+        }
+    }
+
+    private void release(){
+        SQLConnection c = connection;
+        SQLRowStream s = rowStream;
+        connection = null;
+        rowStream = null;
+        if(s != null){
+            s.close(v -> {
+                if(c != null){
+                    c.close();
+                }
+            });
+        }else if(c != null){
+            c.close();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import io.github.jklingsporn.vertx.jooq.shared.JsonObjectConverter;
+import io.vertx.core.json.JsonObject;
+import org.joda.time.DateTimeZone;
+import org.jooq.Catalog;
+import org.jooq.EnumType;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Schema;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.*;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Created by jensklingsporn on 22.10.18.
+ */
+public class AbstractAsyncQueryExecutorTest {
+
+    private final TestExecutor executor = new TestExecutor();
+
+    @Test
+    public void tableWithoutConvertersShouldReturnRowsAsTheyAre(){
+        JsonObject row = new JsonObject().put("id", 1);
+        Assert.assertSame(row, executor.convertFromSQL(new TestTable(false)).apply(row));
+        Assert.assertEquals(new JsonObject().put("id", 1), row);
+    }
+
+    @Test
+    public void convertersShouldConvertRowsInPlace(){
+        UnaryOperator<JsonObject> conversion = executor.convertFromSQL(new TestTable(true));
+        JsonObject row = new JsonObject().put("id", 1).put("json", "{\"foo\":\"bar\"}");
+        Assert.assertSame(row, conversion.apply(row));
+        Assert.assertEquals(new JsonObject().put("foo", "bar"), row.getValue("json"));
+        Assert.assertEquals(1, row.getValue("id"));
+    }
+
+    @Test
+    public void convertersShouldKeepMissingColumnsAndConvertNull(){
+        UnaryOperator<JsonObject> conversion = executor.convertFromSQL(new TestTable(true));
+        Assert.assertFalse(conversion.apply(new JsonObject().put("id", 1)).containsKey("json"));
+        JsonObject row = conversion.apply(new JsonObject().put("id", 1).putNull("json"));
+        Assert.assertTrue(row.containsKey("json"));
+        Assert.assertNull(row.getValue("json"));
+    }
+
+    @Test
+    public void instantShouldBeConvertedToDateTimeWithSameMillis(){
+        Instant instant = Instant.parse("2018-10-22T10:15:30.123456Z");
+        Assert.assertEquals(org.joda.time.Instant.parse(instant.toString()).toDateTime(), executor.convertToAsyncDriverTypes(instant));
+    }
+
+    @Test
+    public void offsetDateTimeShouldBeConvertedToUTCDateTime(){
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(2018, 10, 22, 12, 15, 30, 123_000_000, ZoneOffset.ofHours(2));
+        Assert.assertEquals(new org.joda.time.DateTime(2018, 10, 22, 10, 15, 30, 123, DateTimeZone.UTC), executor.convertToAsyncDriverTypes(offsetDateTime));
+    }
+
+    @Test
+    public void zonedDateTimeShouldBeConvertedToDateTimeInSameZone(){
+        ZonedDateTime zonedDateTime = ZonedDateTime.of(2018, 10, 22, 12, 15, 30, 123_000_000, ZoneId.of("Europe/Berlin"));
+        Assert.assertEquals(new org.joda.time.DateTime(2018, 10, 22, 12, 15, 30, 123, DateTimeZone.forID("Europe/Berlin")), executor.convertToAsyncDriverTypes(zonedDateTime));
+    }
+
+    @Test
+    public void localTypesShouldBeConvertedToJodaTypes(){
+        Assert.assertEquals(new org.joda.time.LocalDateTime(2018, 10, 22, 12, 15, 30, 123), executor.convertToAsyncDriverTypes(LocalDateTime.of(2018, 10, 22, 12, 15, 30, 123_000_000)));
+        Assert.assertEquals(new org.joda.time.LocalDate(2018, 10, 22), executor.convertToAsyncDriverTypes(LocalDate.of(2018, 10, 22)));
+    }
+
+    @Test
+    public void enumsShouldBeConvertedToTheirNames(){
+        Assert.assertEquals("MONDAY", executor.convertToAsyncDriverTypes(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void enumTypesShouldBeConvertedToTheirLiterals(){
+        Assert.assertEquals("in progress", executor.convertToAsyncDriverTypes(Status.IN_PROGRESS));
+        Assert.assertEquals(Status.IN_PROGRESS, executor.convertFromAsyncDriverTypes("in progress", Status.class));
+    }
+
+    @Test
+    public void otherValuesShouldNotBeConverted(){
+        Assert.assertEquals("foo", executor.convertToAsyncDriverTypes("foo"));
+        Assert.assertEquals(1L, executor.convertToAsyncDriverTypes(1L));
+        Assert.assertNull(executor.convertToAsyncDriverTypes(null));
+    }
+
+    @Test
+    public void isoStringsShouldBeParsedIntoJavaTimeTypes(){
+        Assert.assertEquals(LocalDateTime.of(2018, 10, 22, 12, 15, 30, 123_000_000), executor.convertFromAsyncDriverTypes("2018-10-22T12:15:30.123", LocalDateTime.class));
+        Assert.assertEquals(LocalDate.of(2018, 10, 22), executor.convertFromAsyncDriverTypes("2018-10-22", LocalDate.class));
+        Assert.assertEquals(OffsetDateTime.of(2018, 10, 22, 10, 15, 30, 123_000_000, ZoneOffset.UTC), executor.convertFromAsyncDriverTypes("2018-10-22T10:15:30.123Z", OffsetDateTime.class));
+        Assert.assertEquals(ZonedDateTime.of(2018, 10, 22, 10, 15, 30, 123_000_000, ZoneOffset.UTC), executor.convertFromAsyncDriverTypes("2018-10-22T10:15:30.123Z", ZonedDateTime.class));
+        Assert.assertEquals(Instant.parse("2018-10-22T10:15:30.123Z"), executor.convertFromAsyncDriverTypes("2018-10-22T10:15:30.123+00:00", Instant.class));
+    }
+
+    @Test
+    public void jodaTypesShouldBeConvertedBackFromTheirJson(){
+        //the driver returns the joda-types as their string representation
+        LocalDateTime localDateTime = LocalDateTime.of(2018, 10, 22, 12, 15, 30, 123_000_000);
+        Assert.assertEquals(localDateTime, executor.convertFromAsyncDriverTypes(executor.convertToAsyncDriverTypes(localDateTime).toString(), LocalDateTime.class));
+        LocalDate localDate = LocalDate.of(2018, 10, 22);
+        Assert.assertEquals(localDate, executor.convertFromAsyncDriverTypes(executor.convertToAsyncDriverTypes(localDate).toString(), LocalDate.class));
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(2018, 10, 22, 12, 15, 30, 123_000_000, ZoneOffset.ofHours(2));
+        Assert.assertTrue(offsetDateTime.isEqual((OffsetDateTime) executor.convertFromAsyncDriverTypes(executor.convertToAsyncDriverTypes(offsetDateTime).toString(), OffsetDateTime.class)));
+    }
+
+    @Test
+    public void enumsShouldBeConvertedFromTheirNames(){
+        Assert.assertEquals(DayOfWeek.MONDAY, executor.convertFromAsyncDriverTypes("MONDAY", DayOfWeek.class));
+    }
+
+    @Test
+    public void valuesOfTheTypeShouldBeReturnedAsTheyAre(){
+        JsonObject json = new JsonObject();
+        Assert.assertSame(json, executor.convertFromAsyncDriverTypes(json, JsonObject.class));
+        Assert.assertSame("foo", executor.convertFromAsyncDriverTypes("foo", String.class));
+    }
+
+    @Test
+    public void numbersShouldBeConvertedToTheTypeOfTheField(){
+        Assert.assertEquals(1L, executor.convertFromAsyncDriverTypes(1, Long.class));
+        Assert.assertEquals((short) 1, executor.convertFromAsyncDriverTypes(1L, Short.class));
+        Assert.assertEquals(Boolean.TRUE, executor.convertFromAsyncDriverTypes(1, Boolean.class));
+    }
+
+    enum Status implements EnumType {
+
+        IN_PROGRESS("in progress");
+
+        private final String literal;
+
+        Status(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public Catalog getCatalog() {
+            return null;
+        }
+
+        @Override
+        public Schema getSchema() {
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return "status";
+        }
+
+        @Override
+        public String getLiteral() {
+            return literal;
+        }
+    }
+
+    static class TestTable extends TableImpl<Record> {
+
+        final TableField<Record, Integer> ID = createField("id", SQLDataType.INTEGER, this);
+        final TableField<Record, ?> JSON;
+
+        TestTable(boolean withConverter) {
+            super(DSL.name("test"));
+            JSON = withConverter
+                    ? createField("json", SQLDataType.VARCHAR, this, "", new JsonObjectConverter())
+                    : createField("json", SQLDataType.VARCHAR, this);
+        }
+    }
+
+    static class TestExecutor extends AbstractAsyncQueryExecutor<Void, Void, Void> {
+
+        @Override
+        public <Q extends Record> Void findManyJson(ResultQuery<Q> query) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <Q extends Record> Void findOneJson(ResultQuery<Q> query) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Void execute(Query query) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Void executeAll(List<? extends Query> queries, boolean transactional) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
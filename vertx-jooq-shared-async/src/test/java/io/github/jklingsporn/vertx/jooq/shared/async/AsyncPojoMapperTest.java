@@ -0,0 +1,136 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import io.github.jklingsporn.vertx.jooq.shared.JsonObjectConverter;
+import io.github.jklingsporn.vertx.jooq.shared.internal.RecordPojoMapper;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.sql.ResultSet;
+import org.jooq.TableField;
+import org.jooq.exception.TooManyRowsException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+import org.jooq.impl.TableRecordImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Maps <code>ResultSet</code>s as they are returned by the <code>AsyncSQLClient</code>: the values are the JSON
+ * representations of the driver's types, e.g. timestamps are ISO-formatted strings.
+ */
+public class AsyncPojoMapperTest {
+
+    static final TestTable TEST = new TestTable();
+    static final RecordPojoMapper<TestRecord, TestPojo> MAPPER = RecordPojoMapper.of(TEST, TestPojo.class, values -> {
+        TestPojo pojo = new TestPojo();
+        pojo.id = (Integer) values.apply(0);
+        pojo.name = (String) values.apply(1);
+        pojo.amount = (Long) values.apply(2);
+        pojo.json = (JsonObject) values.apply(3);
+        pojo.created = (LocalDateTime) values.apply(4);
+        return pojo;
+    }, pojo -> {
+        throw new UnsupportedOperationException();
+    });
+
+    private final AbstractAsyncQueryExecutorTest.TestExecutor executor = new AbstractAsyncQueryExecutorTest.TestExecutor();
+    private final AsyncPojoMapper<TestPojo> mapper = new AsyncPojoMapper<>(MAPPER, executor::convertFromAsyncDriverTypes);
+
+    static JsonArray row(Object... values) {
+        return new JsonArray(Arrays.asList(values));
+    }
+
+    @Test
+    public void columnsShouldBeReadByName(){
+        Function<JsonArray, TestPojo> rowMapper = mapper.forColumns(Arrays.asList("created", "json", "amount", "name", "id"));
+        TestPojo pojo = rowMapper.apply(row("2018-10-22T12:15:30.123", "{\"foo\":\"bar\"}", 42L, "foo", 1));
+        Assert.assertEquals(Integer.valueOf(1), pojo.id);
+        Assert.assertEquals("foo", pojo.name);
+        Assert.assertEquals(Long.valueOf(42), pojo.amount);
+        Assert.assertEquals(new JsonObject().put("foo", "bar"), pojo.json);
+        Assert.assertEquals(LocalDateTime.of(2018, 10, 22, 12, 15, 30, 123_000_000), pojo.created);
+    }
+
+    @Test
+    public void driverTypesShouldBeConvertedToTheTypesOfTheFields(){
+        //the driver returns an Integer for a small BIGINT
+        TestPojo pojo = mapper.forColumns(Arrays.asList("id", "amount")).apply(row(1, 42));
+        Assert.assertEquals(Long.valueOf(42), pojo.amount);
+    }
+
+    @Test
+    public void missingColumnsAndNullsShouldBeNull(){
+        TestPojo pojo = mapper.forColumns(Arrays.asList("id", "json", "unknown")).apply(row(1, null, "ignored"));
+        Assert.assertEquals(Integer.valueOf(1), pojo.id);
+        Assert.assertNull(pojo.name);
+        Assert.assertNull(pojo.amount);
+        Assert.assertNull(pojo.json);
+        Assert.assertNull(pojo.created);
+    }
+
+    @Test
+    public void mapShouldKeepTheOrderOfTheRows(){
+        ResultSet resultSet = new ResultSet(Arrays.asList("name", "id"), Arrays.asList(row("foo", 1), row("bar", 2)), null);
+        List<TestPojo> pojos = mapper.map(resultSet);
+        Assert.assertEquals(2, pojos.size());
+        Assert.assertEquals("foo", pojos.get(0).name);
+        Assert.assertEquals(Integer.valueOf(2), pojos.get(1).id);
+        Assert.assertTrue(mapper.map(new ResultSet(Arrays.asList("name", "id"), Collections.emptyList(), null)).isEmpty());
+    }
+
+    @Test
+    public void mapOneShouldReturnNullOrTheOnlyRow(){
+        Assert.assertNull(mapper.mapOne(new ResultSet(Collections.singletonList("id"), Collections.emptyList(), null)));
+        TestPojo pojo = mapper.mapOne(new ResultSet(Collections.singletonList("id"), Collections.singletonList(row(1)), null));
+        Assert.assertEquals(Integer.valueOf(1), pojo.id);
+    }
+
+    @Test(expected = TooManyRowsException.class)
+    public void mapOneShouldFailOnMoreThanOneRow(){
+        mapper.mapOne(new ResultSet(Collections.singletonList("id"), Arrays.asList(row(1), row(2)), null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void reflectiveMapperShouldBeRejected(){
+        new AsyncPojoMapper<>(RecordPojoMapper.reflective(TEST, TestPojo.class), executor::convertFromAsyncDriverTypes);
+    }
+
+    static class TestPojo {
+        Integer id;
+        String name;
+        Long amount;
+        JsonObject json;
+        LocalDateTime created;
+    }
+
+    static class TestRecord extends TableRecordImpl<TestRecord> {
+
+        public TestRecord() {
+            super(TEST);
+        }
+    }
+
+    static class TestTable extends TableImpl<TestRecord> {
+
+        final TableField<TestRecord, Integer> ID = createField("id", SQLDataType.INTEGER, this);
+        final TableField<TestRecord, String> NAME = createField("name", SQLDataType.VARCHAR, this);
+        final TableField<TestRecord, Long> AMOUNT = createField("amount", SQLDataType.BIGINT, this);
+        final TableField<TestRecord, JsonObject> JSON = createField("json", SQLDataType.VARCHAR, this, "", new JsonObjectConverter());
+        final TableField<TestRecord, LocalDateTime> CREATED = createField("created", SQLDataType.LOCALDATETIME, this);
+
+        TestTable() {
+            super(DSL.name("test"));
+        }
+
+        @Override
+        public Class<TestRecord> getRecordType() {
+            return TestRecord.class;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.asyncsql.AsyncSQLClient;
+import io.vertx.ext.sql.SQLConnection;
+import io.vertx.ext.sql.SQLRowStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.github.jklingsporn.vertx.jooq.shared.async.AsyncPojoMapperTest.row;
+
+/**
+ * Streams rows of a client that returns the given rows synchronously.
+ */
+public class AsyncSQLRowReadStreamTest {
+
+    private final AsyncPojoMapper<AsyncPojoMapperTest.TestPojo> mapper = new AsyncPojoMapper<>(AsyncPojoMapperTest.MAPPER, new AbstractAsyncQueryExecutorTest.TestExecutor()::convertFromAsyncDriverTypes);
+    private final AtomicInteger closedConnections = new AtomicInteger();
+
+    @Test
+    public void byIndexShouldMapEachRowWithTheMapperOfTheColumns(){
+        TestRowStream rowStream = new TestRowStream(Arrays.asList("name", "created", "id"), row("foo", "2018-10-22T12:15:30.123", 1), row(null, null, 2));
+        AtomicInteger createdMappers = new AtomicInteger();
+        List<AsyncPojoMapperTest.TestPojo> pojos = new ArrayList<>();
+        AtomicInteger ended = new AtomicInteger();
+        AsyncSQLRowReadStream<AsyncPojoMapperTest.TestPojo> stream = AsyncSQLRowReadStream.byIndex(client(rowStream), "SELECT", new JsonArray(), columns -> {
+            createdMappers.incrementAndGet();
+            return mapper.forColumns(columns);
+        });
+        stream.endHandler(v -> ended.incrementAndGet()).handler(pojos::add);
+        Assert.assertEquals(1, createdMappers.get());
+        Assert.assertEquals(2, pojos.size());
+        Assert.assertEquals("foo", pojos.get(0).name);
+        Assert.assertEquals(Integer.valueOf(1), pojos.get(0).id);
+        Assert.assertEquals(2018, pojos.get(0).created.getYear());
+        Assert.assertNull(pojos.get(1).name);
+        Assert.assertNull(pojos.get(1).created);
+        Assert.assertEquals(1, ended.get());
+        Assert.assertTrue(rowStream.closed);
+        Assert.assertEquals(1, closedConnections.get());
+    }
+
+    @Test
+    public void failingRowMapperShouldFailTheStreamAndReleaseTheConnection(){
+        TestRowStream rowStream = new TestRowStream(Arrays.asList("id"), row(1), row(2));
+        List<AsyncPojoMapperTest.TestPojo> pojos = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger ended = new AtomicInteger();
+        Function<JsonArray, AsyncPojoMapperTest.TestPojo> failing = row -> {
+            throw new IllegalStateException("failed");
+        };
+        AsyncSQLRowReadStream.byIndex(client(rowStream), "SELECT", new JsonArray(), columns -> failing)
+                .exceptionHandler(failure::set)
+                .endHandler(v -> ended.incrementAndGet())
+                .handler(pojos::add);
+        Assert.assertTrue(pojos.isEmpty());
+        Assert.assertEquals("failed", failure.get().getMessage());
+        Assert.assertEquals(0, ended.get());
+        Assert.assertEquals(1, closedConnections.get());
+    }
+
+    private AsyncSQLClient client(SQLRowStream rowStream){
+        SQLConnection connection = proxy(SQLConnection.class, (method, args) -> {
+            switch (method) {
+                case "queryStreamWithParams":
+                    this.<SQLRowStream>handler(args[2]).handle(Future.succeededFuture(rowStream));
+                    return null;
+                case "close":
+                    closedConnections.incrementAndGet();
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+        return proxy(AsyncSQLClient.class, (method, args) -> {
+            if ("getConnection".equals(method)) {
+                this.<SQLConnection>handler(args[0]).handle(Future.succeededFuture(connection));
+                return null;
+            }
+            throw new UnsupportedOperationException(method);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Handler<AsyncResult<T>> handler(Object handler){
+        return (Handler<AsyncResult<T>>) handler;
+    }
+
+    private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> invocation){
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> invocation.apply(method.getName(), args)));
+    }
+
+    /**
+     * Emits all rows as soon as a handler is set.
+     */
+    private static class TestRowStream implements SQLRowStream {
+
+        private final List<String> columns;
+        private final List<JsonArray> rows;
+        private Handler<Void> endHandler;
+        private boolean closed;
+
+        TestRowStream(List<String> columns, JsonArray... rows) {
+            this.columns = columns;
+            this.rows = Arrays.asList(rows);
+        }
+
+        @Override
+        public SQLRowStream exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public SQLRowStream handler(Handler<JsonArray> handler) {
+            for (JsonArray row : rows) {
+                if (closed) {
+                    return this;
+                }
+                handler.handle(row);
+            }
+            if (endHandler != null) {
+                endHandler.handle(null);
+            }
+            return this;
+        }
+
+        @Override
+        public SQLRowStream pause() {
+            return this;
+        }
+
+        @Override
+        public SQLRowStream resume() {
+            return this;
+        }
+
+        @Override
+        public SQLRowStream endHandler(Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+
+        @Override
+        public int column(String name) {
+            return columns.indexOf(name);
+        }
+
+        @Override
+        public List<String> columns() {
+            return columns;
+        }
+
+        @Override
+        public SQLRowStream resultSetClosedHandler(Handler<Void> handler) {
+            return this;
+        }
+
+        @Override
+        public void moreResults() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public void close(Handler<AsyncResult<Void>> handler) {
+            closed = true;
+            handler.handle(Future.succeededFuture());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import io.vertx.core.json.JsonObject;
+import org.jooq.Converter;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the bytes allocated by the conversions of {@link AbstractAsyncQueryExecutor} with the bytes allocated by
+ * the implementation they replaced, which copied every row into a new <code>JsonObject</code> and converted
+ * <code>Instants</code> by formatting and parsing them.
+ */
+public class ConversionAllocationTest {
+
+    private static final int ROWS = 1_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 20;
+
+    private final AbstractAsyncQueryExecutorTest.TestExecutor executor = new AbstractAsyncQueryExecutorTest.TestExecutor();
+
+    @Test
+    public void convertFromSQLWithoutConverterShouldAllocateLessThanCopying(){
+        Table<?> table = new AbstractAsyncQueryExecutorTest.TestTable(false);
+        UnaryOperator<JsonObject> legacy = legacyConvertFromSQL(table);
+        UnaryOperator<JsonObject> compiled = executor.convertFromSQL(table);
+        long legacyBytes = bytesPerRun(rows -> {for (JsonObject row : rows) legacy.apply(row);});
+        long compiledBytes = bytesPerRun(rows -> {for (JsonObject row : rows) compiled.apply(row);});
+        assertAllocatesLess("convertFromSQL", compiledBytes * 2, legacyBytes);
+    }
+
+    @Test
+    public void convertFromSQLWithConverterShouldAllocateLessThanCopying(){
+        Table<?> table = new AbstractAsyncQueryExecutorTest.TestTable(true);
+        UnaryOperator<JsonObject> legacy = legacyConvertFromSQL(table);
+        UnaryOperator<JsonObject> compiled = executor.convertFromSQL(table);
+        long legacyBytes = bytesPerRun(rows -> {for (JsonObject row : rows) legacy.apply(row);});
+        long compiledBytes = bytesPerRun(rows -> {for (JsonObject row : rows) compiled.apply(row);});
+        //the converter itself allocates the most, only the copy of the row is saved
+        assertAllocatesLess("convertFromSQL with converter", compiledBytes, legacyBytes);
+    }
+
+    @Test
+    public void convertToAsyncDriverTypesShouldAllocateLessThanParsing(){
+        Object[] values = new Object[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            values[i] = Instant.ofEpochMilli(i);
+        }
+        long legacyBytes = bytesPerRun(rows -> {for (Object value : values) legacyConvertToAsyncDriverTypes(value);});
+        long compiledBytes = bytesPerRun(rows -> {for (Object value : values) executor.convertToAsyncDriverTypes(value);});
+        assertAllocatesLess("convertToAsyncDriverTypes", compiledBytes * 2, legacyBytes);
+    }
+
+    private static void assertAllocatesLess(String conversion, long compiledBytes, long legacyBytes){
+        Assert.assertTrue(String.format("%s allocates %d bytes, %d bytes in the replaced implementation", conversion, compiledBytes, legacyBytes), compiledBytes < legacyBytes);
+    }
+
+    /**
+     * @param run converts fresh rows. Creating the rows is not measured.
+     * @return the bytes allocated per run.
+     */
+    private static long bytesPerRun(Consumer<JsonObject[]> run){
+        Assume.assumeTrue("Allocation measurement not supported", isSupported());
+        for (int i = 0; i < WARMUP; i++) {
+            run.accept(rows());
+        }
+        long bytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            JsonObject[] rows = rows();
+            long before = allocatedBytes();
+            run.accept(rows);
+            bytes += allocatedBytes() - before;
+        }
+        return bytes / ITERATIONS;
+    }
+
+    private static JsonObject[] rows(){
+        JsonObject[] rows = new JsonObject[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = new JsonObject().put("id", i).put("json", "{\"foo\":" + i + "}");
+        }
+        return rows;
+    }
+
+    private static boolean isSupported(){
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).isThreadAllocatedMemoryEnabled();
+    }
+
+    private static long allocatedBytes(){
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UnaryOperator<JsonObject> legacyConvertFromSQL(Table<?> table){
+        Map<String, Converter<Object, Object>> pojoConverters = table
+                .fieldStream()
+                .filter(f -> f.getConverter() != null)
+                .collect(Collectors.toMap(Field::getName, v -> ((Converter<Object, Object>) v.getConverter())));
+        return json -> {
+            JsonObject theCopy = new JsonObject();
+            for (Map.Entry<String, Object> jsonMap : json.getMap().entrySet()) {
+                Converter<Object, Object> converter = pojoConverters.get(jsonMap.getKey());
+                if(converter!=null){
+                    theCopy.put(jsonMap.getKey(), converter.from(jsonMap.getValue()));
+                }else{
+                    theCopy.put(jsonMap.getKey(), jsonMap.getValue());
+                }
+            }
+            return theCopy;
+        };
+    }
+
+    private static Object legacyConvertToAsyncDriverTypes(Object object){
+        if (object instanceof Instant) {
+            Instant convert = (Instant) object;
+            org.joda.time.Instant i = org.joda.time.Instant.parse(convert.toString());
+            return i.toDateTime();
+        }
+        return object;
+    }
+}
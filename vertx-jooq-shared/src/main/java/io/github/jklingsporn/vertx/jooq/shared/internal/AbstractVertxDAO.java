@@ -1,10 +1,12 @@
 package io.github.jklingsporn.vertx.jooq.shared.internal;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.cache.TableVersions;
 import io.vertx.core.impl.Arguments;
 import org.jooq.*;
 import org.jooq.impl.DSL;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.using;
@@ -22,24 +24,104 @@ import static org.jooq.impl.DSL.using;
 public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_MANY, FIND_ONE,EXECUTE, INSERT_RETURNING> implements GenericVertxDAO<P,T, FIND_MANY, FIND_ONE,EXECUTE, INSERT_RETURNING>
 {
 
+    /**
+     * The maximum number of rows of one multi-row upsert-statement.
+     */
+    private static final int UPSERT_CHUNK_MAX_ROWS = 1000;
+    private static final EnumSet<SQLDialect> MULTI_ROW_UPSERT_SUPPORT = EnumSet.of(SQLDialect.MYSQL, SQLDialect.POSTGRES);
+    private static final Field<Object> DEFAULT = DSL.defaultValue();
+    /**
+     * The maximum number of fields with a default value for which the rendered <code>INSERT</code>-statements are
+     * kept. There is one statement per combination of defaulted fields.
+     */
+    private static final int MAX_RENDERED_INSERT_DEFAULTS = 4;
+
     private final Class<P> type;
     private final Table<R> table;
+    private final RecordPojoMapper<R, P> reflectiveMapper;
     private final QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor;
+    /**
+     * The fields of the table, the fields of the primary key and their indexes, computed once so the operations
+     * only have to bind the values. The primary key is <code>null</code> if the table has none.
+     */
+    private final Field<?>[] fields;
+    private final TableField<R, ?>[] primaryKey;
+    private final int[] primaryKeyIndexes;
+    /**
+     * The indexes of the fields that are set to <code>DEFAULT</code> when they are <code>null</code> on insert.
+     */
+    private final int[] defaultableIndexes;
+    /**
+     * Increments the version of the table in {@link TableVersions#shared()}. Each write runs it before the statement
+     * is executed and after it has completed, so that query results loaded while the statement was running are not
+     * cached.
+     */
+    private final Runnable incrementTableVersion;
     private Configuration configuration;
+    private DSLContext dslContext;
+    private volatile boolean reuseRenderedQueries = true;
+    private volatile RenderedQuery findOneByIdQuery;
+    private volatile RenderedQuery deleteByIdQuery;
+    private volatile RenderedQuery updateQuery;
+    /**
+     * The rendered <code>INSERT</code>-statements indexed by the bit mask of the fields that are set to
+     * <code>DEFAULT</code>, see {@link #defaultableIndexes}. The statements are rendered on first use by any thread.
+     */
+    private volatile AtomicReferenceArray<RenderedQuery> insertQueries;
 
 
     protected AbstractVertxDAO(Table<R> table, Class<P> type, QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor, Configuration configuration) {
         this.type = type;
         this.table = table;
+        this.reflectiveMapper = RecordPojoMapper.reflective(table, type);
         this.queryExecutor = queryExecutor;
+        this.fields = table.fields();
+        UniqueKey<R> pk = table.getPrimaryKey();
+        this.primaryKey = pk == null ? null : pk.getFieldsArray();
+        this.primaryKeyIndexes = pk == null ? new int[0] : pk.getFields().stream().mapToInt(table.fieldsRow()::indexOf).toArray();
+        List<Integer> defaultable = new ArrayList<>();
+        for (int i = 0; i < fields.length; i++) {
+            DataType<?> dataType = fields[i].getDataType();
+            if (!dataType.nullable() && !dataType.identity()) {
+                defaultable.add(i);
+            }
+        }
+        this.defaultableIndexes = defaultable.stream().mapToInt(Integer::intValue).toArray();
+        String tableName = TableVersions.nameOf(table);
+        this.incrementTableVersion = () -> TableVersions.shared().increment(tableName);
         setConfiguration(configuration);
     }
 
     public AbstractVertxDAO setConfiguration(Configuration configuration) {
         this.configuration = configuration;
+        this.dslContext = configuration == null ? null : using(configuration);
+        clearRenderedQueries();
+        return this;
+    }
+
+    /**
+     * The SQL of <code>findOneById</code>, <code>deleteById</code>, <code>update</code> and <code>insert</code> only
+     * depends on the table and the configuration. By default, it is rendered on the first call and subsequent calls only
+     * bind the new values. Updates of POJOs that track changes are rendered on each call because they depend on the
+     * changed fields. Inserts are rendered once for each combination of fields that are set to <code>DEFAULT</code>.
+     * @param reuseRenderedQueries <code>false</code> to construct and render the queries on each call, e.g. because
+     *                             the settings of the configuration are changed at runtime.
+     * @return a reference to this
+     * @see RenderedQuery
+     */
+    public AbstractVertxDAO setReuseRenderedQueries(boolean reuseRenderedQueries) {
+        this.reuseRenderedQueries = reuseRenderedQueries;
+        clearRenderedQueries();
         return this;
     }
 
+    private void clearRenderedQueries(){
+        this.findOneByIdQuery = null;
+        this.deleteByIdQuery = null;
+        this.updateQuery = null;
+        this.insertQueries = defaultableIndexes.length <= MAX_RENDERED_INSERT_DEFAULTS ? new AtomicReferenceArray<>(1 << defaultableIndexes.length) : null;
+    }
+
     public Table<R> getTable() {
         return table;
     }
@@ -48,31 +130,164 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         return configuration;
     }
 
+    /**
+     * @return the <code>DSLContext</code> of the {@link #configuration()}, created once per configuration.
+     */
+    protected DSLContext dsl() {
+        return dslContext;
+    }
+
     protected QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor(){
         return this.queryExecutor;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * @return the mapper used to create the records of the POJOs. Generated DAOs return a mapper that sets the values
+     * of the records directly, by default the values are copied using reflection.
+     */
+    protected RecordPojoMapper<R, P> mapper(){
+        return reflectiveMapper;
+    }
+
+    /**
+     * Performs an async <code>UPDATE</code> statement for a given POJO. If the POJO tracks changes, only the changed
+     * fields are updated and no statement is executed at all if no field except the primary key has been changed.
+     * @param object
+     * @return the result type returned for all insert, update and delete-operations.
+     * @see VertxPojo#changedFields()
+     */
     @Override
     public EXECUTE update(P object){
         Objects.requireNonNull(object);
-        DSLContext dslContext = using(configuration());
-        R record = dslContext.newRecord(getTable(), object);
-        Condition where = DSL.trueCondition();
-        UniqueKey<R> pk = getTable().getPrimaryKey();
-        for (TableField<R,?> tableField : pk.getFields()) {
-            //exclude primary keys from update
-            record.changed(tableField,false);
-            where = where.and(((TableField<R,Object>)tableField).eq(record.get(tableField)));
+        Objects.requireNonNull(primaryKey,()->"No primary key");
+        BitSet changed = changedFields(object);
+        if (changed != null && changed.isEmpty()) {
+            return queryExecutor().executeAll(Collections.emptyList());
+        }
+        incrementTableVersion.run();
+        if (changed != null || !reuseRenderedQueries) {
+            return written(queryExecutor().execute(updateQuery(dsl(), object, changed)));
+        }
+        RenderedQuery rendered = updateQuery;
+        if (rendered != null) {
+            R record = mapper().unmap(dsl(), object);
+            Object[] bindValues = new Object[fields.length + primaryKeyIndexes.length];
+            for (int i = 0; i < fields.length; i++) {
+                bindValues[i] = record.get(i);
+            }
+            for (int i = 0; i < primaryKeyIndexes.length; i++) {
+                bindValues[fields.length + i] = record.get(primaryKeyIndexes[i]);
+            }
+            return written(queryExecutor().execute(rendered, bindValues));
+        }
+        Query query = updateQuery(dsl(), object, null);
+        Field<?>[] parameters = Arrays.copyOf(fields, fields.length + primaryKey.length);
+        System.arraycopy(primaryKey, 0, parameters, fields.length, primaryKey.length);
+        updateQuery = RenderedQuery.of(query, parameters);
+        return written(queryExecutor().execute(query));
+    }
+
+    /**
+     * Increments the version of the table when a write has completed. The version has to be incremented before the
+     * write is executed as well.
+     * @param result the result of the write
+     * @return the result type returned for all insert, update and delete-operations.
+     * @see TableVersions
+     */
+    private EXECUTE written(EXECUTE result){
+        return queryExecutor().afterExecute(result, incrementTableVersion);
+    }
+
+    /**
+     * Performs an async <code>UPDATE</code> statement for each POJO using {@link QueryExecutor#executeAll(List)}.
+     * Like {@link #update(Object)}, POJOs that track changes only update their changed fields and are skipped if
+     * nothing except the primary key has been changed.
+     * @param pojos
+     * @return the result type returned for all insert, update and delete-operations.
+     */
+    @Override
+    public EXECUTE update(Collection<P> pojos){
+        Arguments.require(!pojos.isEmpty(), "No elements");
+        Objects.requireNonNull(primaryKey,()->"No primary key");
+        DSLContext dslContext = dsl();
+        List<Query> queries = new ArrayList<>(pojos.size());
+        for (P pojo : pojos) {
+            BitSet changed = changedFields(Objects.requireNonNull(pojo));
+            if (changed == null || !changed.isEmpty()) {
+                queries.add(updateQuery(dslContext, pojo, changed));
+            }
+        }
+        if (queries.isEmpty()) {
+            return queryExecutor().executeAll(queries);
+        }
+        incrementTableVersion.run();
+        return written(queryExecutor().executeAll(queries));
+    }
+
+    /**
+     * @param dslContext
+     * @param object
+     * @return an <code>UPDATE</code>-statement that updates the changed fields of the POJO or all fields if the POJO
+     * does not track changes or has no changes.
+     */
+    protected Query updateQuery(DSLContext dslContext, P object){
+        return updateQuery(dslContext, object, changedFields(object));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Query updateQuery(DSLContext dslContext, P object, BitSet changed){
+        R record = mapper().unmap(dslContext, object);
+        if (changed != null && !changed.isEmpty()) {
+            record.changed(false);
+            for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+                record.changed(i, true);
+            }
+        }
+        Condition[] where = new Condition[primaryKeyIndexes.length];
+        for (int i = 0; i < primaryKeyIndexes.length; i++) {
+            where[i] = ((TableField<R,Object>) primaryKey[i]).eq(record.get(primaryKeyIndexes[i]));
+        }
+        //sets the changed fields of the record, which are all fields unless only the changes are updated
+        return dslContext.update(getTable()).set(record).where(where);
+    }
+
+    /**
+     * @param pojo
+     * @return the indexes of the fields except the primary key that have been changed or <code>null</code> if the
+     * POJO does not track changes.
+     * @see VertxPojo#changedFields()
+     */
+    protected BitSet changedFields(P pojo){
+        if (!(pojo instanceof VertxPojo)) {
+            return null;
+        }
+        BitSet changed = ((VertxPojo) pojo).changedFields();
+        if (changed == null) {
+            return null;
+        }
+        BitSet changedWithoutKey = (BitSet) changed.clone();
+        for (int index : primaryKeyIndexes) {
+            changedWithoutKey.clear(index);
+        }
+        return changedWithoutKey;
+    }
+
+    /**
+     * @param pojos
+     * @return one <code>UPDATE</code>-statement per POJO in the order of <code>pojos</code>.
+     * @see #updateQuery(DSLContext, Object)
+     */
+    protected List<Query> updateQueries(Collection<P> pojos){
+        DSLContext dslContext = dsl();
+        List<Query> queries = new ArrayList<>(pojos.size());
+        for (P pojo : pojos) {
+            queries.add(updateQuery(dslContext, Objects.requireNonNull(pojo)));
         }
-        Map<String, Object> valuesToUpdate =
-                Arrays.stream(record.fields())
-                        .collect(HashMap::new, (m, f) -> m.put(f.getName(), f.getValue(record)), HashMap::putAll);
-        return queryExecutor().execute(dslContext.update(getTable()).set(valuesToUpdate).where(where));
+        return queries;
     }
 
-    private SelectConditionStep<R> selectQuery(Condition condition) {
-        return using(configuration()).selectFrom(getTable()).where(condition);
+    protected SelectConditionStep<R> selectQuery(Condition condition) {
+        return dsl().selectFrom(getTable()).where(condition);
     }
 
     @Override
@@ -92,27 +307,47 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
 
     @Override
     public FIND_MANY findAll() {
-        return findManyByCondition(DSL.trueCondition());
+        return queryExecutor().findMany(dsl().selectFrom(getTable()));
     }
 
     @Override
     public FIND_ONE findOneById(T id){
-        return findOneByCondition(equalKey(id));
+        if (!reuseRenderedQueries) {
+            return findOneByCondition(equalKey(id));
+        }
+        RenderedQuery rendered = findOneByIdQuery;
+        if (rendered != null) {
+            return queryExecutor().findOne(rendered, keyValues(id));
+        }
+        ResultQuery<R> query = dsl().selectFrom(getTable()).where(equalKey(id));
+        findOneByIdQuery = RenderedQuery.of(query, primaryKey, fields);
+        return queryExecutor().findOne(query);
     }
 
     @Override
     public FIND_ONE findOneByCondition(Condition condition){
-        return queryExecutor().findOne(using(configuration()).selectFrom(getTable()).where(condition));
+        return queryExecutor().findOne(dsl().selectFrom(getTable()).where(condition));
     }
 
     @Override
     public EXECUTE deleteByCondition(Condition condition){
-        return queryExecutor().execute(using(configuration()).deleteFrom(getTable()).where(condition));
+        incrementTableVersion.run();
+        return written(queryExecutor().execute(dsl().deleteFrom(getTable()).where(condition)));
     }
 
     @Override
     public EXECUTE deleteById(T id){
-        return deleteByCondition(equalKey(id));
+        if (!reuseRenderedQueries) {
+            return deleteByCondition(equalKey(id));
+        }
+        incrementTableVersion.run();
+        RenderedQuery rendered = deleteByIdQuery;
+        if (rendered != null) {
+            return written(queryExecutor().execute(rendered, keyValues(id)));
+        }
+        Query query = dsl().deleteFrom(getTable()).where(equalKey(id));
+        deleteByIdQuery = RenderedQuery.of(query, primaryKey);
+        return written(queryExecutor().execute(query));
     }
 
     @Override
@@ -123,20 +358,150 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
     @Override
     public EXECUTE insert(P pojo){
         Objects.requireNonNull(pojo);
-        DSLContext dslContext = using(configuration());
-        return queryExecutor().execute(dslContext.insertInto(getTable()).set(newRecord(dslContext,pojo)));
+        incrementTableVersion.run();
+        DSLContext dslContext = dsl();
+        AtomicReferenceArray<RenderedQuery> rendered = insertQueries;
+        if (!reuseRenderedQueries || rendered == null) {
+            return written(queryExecutor().execute(dslContext.insertInto(getTable()).set(newRecord(dslContext,pojo))));
+        }
+        R record = mapper().unmap(dslContext, pojo);
+        int defaulted = 0;
+        for (int i = 0; i < defaultableIndexes.length; i++) {
+            if (record.get(defaultableIndexes[i]) == null) {
+                defaulted |= 1 << i;
+            }
+        }
+        RenderedQuery query = rendered.get(defaulted);
+        if (query != null) {
+            Object[] bindValues = new Object[fields.length - Integer.bitCount(defaulted)];
+            for (int i = 0, j = 0; i < fields.length; i++) {
+                if (!isDefaulted(i, defaulted)) {
+                    bindValues[j++] = record.get(i);
+                }
+            }
+            return written(queryExecutor().execute(query, bindValues));
+        }
+        Field<?>[] parameters = new Field<?>[fields.length - Integer.bitCount(defaulted)];
+        for (int i = 0, j = 0; i < fields.length; i++) {
+            if (!isDefaulted(i, defaulted)) {
+                parameters[j++] = fields[i];
+            }
+        }
+        Query insert = dslContext.insertInto(getTable()).set(setDefault(record));
+        rendered.set(defaulted, RenderedQuery.of(insert, parameters));
+        return written(queryExecutor().execute(insert));
+    }
+
+    /**
+     * @param index the index of a field
+     * @param defaulted the bit mask of the defaultable fields that are set to <code>DEFAULT</code>.
+     * @return <code>true</code> if the field is set to <code>DEFAULT</code>.
+     */
+    private boolean isDefaulted(int index, int defaulted){
+        for (int i = 0; i < defaultableIndexes.length; i++) {
+            if (defaultableIndexes[i] == index) {
+                return (defaulted & (1 << i)) != 0;
+            }
+        }
+        return false;
     }
 
     @Override
     public EXECUTE insert(Collection<P> pojos){
         Arguments.require(!pojos.isEmpty(), "No elements");
-        DSLContext dslContext = using(configuration());
+        incrementTableVersion.run();
+        DSLContext dslContext = dsl();
+        return written(queryExecutor().execute(insertValues(dslContext, rowValues(dslContext, pojos))));
+    }
+
+    @Override
+    public EXECUTE upsert(P pojo){
+        Objects.requireNonNull(pojo);
+        incrementTableVersion.run();
+        return written(queryExecutor().execute(upsertQueries(Collections.singletonList(pojo)).get(0)));
+    }
+
+    @Override
+    public EXECUTE upsert(Collection<P> pojos){
+        Arguments.require(!pojos.isEmpty(), "No elements");
+        incrementTableVersion.run();
+        return written(queryExecutor().executeAll(upsertQueries(pojos)));
+    }
+
+    /**
+     * Creates the statements to upsert the POJOs. For MySQL and Postgres, the POJOs are split into multi-row
+     * statements that update the existing rows with the values of the rows that could not be inserted. Other
+     * dialects get one <code>MERGE</code>-statement per POJO because jOOQ's emulation only supports one row.
+     * @param pojos
+     * @return the statements in the order they should be executed.
+     */
+    protected List<Query> upsertQueries(Collection<P> pojos){
+        DSLContext dslContext = dsl();
+        SQLDialect family = configuration().dialect().family();
+        List<Field<?>> valueFields = upsertFields();
+        List<Query> queries = new ArrayList<>();
+        if (!MULTI_ROW_UPSERT_SUPPORT.contains(family)) {
+            for (P pojo : pojos) {
+                Record record = newRecord(dslContext, Objects.requireNonNull(pojo));
+                Map<Field<?>, Object> valuesToUpdate = new LinkedHashMap<>();
+                for (Field<?> field : valueFields) {
+                    valuesToUpdate.put(field, record.get(field));
+                }
+                InsertOnDuplicateStep<R> insert = dslContext.insertInto(getTable()).set(record);
+                queries.add(valuesToUpdate.isEmpty() ? insert.onDuplicateKeyIgnore() : insert.onDuplicateKeyUpdate().set(valuesToUpdate));
+            }
+            return queries;
+        }
+        Map<Field<?>, Field<?>> valuesToUpdate = new LinkedHashMap<>();
+        for (Field<?> field : valueFields) {
+            valuesToUpdate.put(field, family == SQLDialect.MYSQL
+                    ? DSL.field("values({0})", field.getDataType(), DSL.name(field.getName()))
+                    : DSL.field(DSL.name("excluded", field.getName()), field.getDataType()));
+        }
+        for (List<Object[]> chunk : InsertChunks.split(rowValues(dslContext, pojos), UPSERT_CHUNK_MAX_ROWS, fields.length)) {
+            queries.add(onDuplicateKey(insertValues(dslContext, chunk), valuesToUpdate));
+        }
+        return queries;
+    }
+
+    /**
+     * @param dslContext the context the records are created with
+     * @param pojos the POJOs
+     * @return the values of the records of the POJOs in the order of the fields of the table.
+     */
+    protected List<Object[]> rowValues(DSLContext dslContext, Collection<P> pojos){
+        List<Object[]> rows = new ArrayList<>(pojos.size());
+        for (P pojo : pojos) {
+            rows.add(values(newRecord(dslContext, Objects.requireNonNull(pojo))));
+        }
+        return rows;
+    }
+
+    /**
+     * @param dslContext the context the statement is created with
+     * @param rows the values of each row, see {@link #rowValues(DSLContext, Collection)}
+     * @return a multi-row <code>INSERT</code>-statement
+     */
+    protected InsertValuesStepN<R> insertValues(DSLContext dslContext, List<Object[]> rows){
         InsertSetStep<R> insertSetStep = dslContext.insertInto(getTable());
         InsertValuesStepN<R> insertValuesStepN = null;
-        for (P pojo : pojos) {
-            insertValuesStepN = insertSetStep.values(newRecord(dslContext, pojo).intoArray());
+        for (Object[] row : rows) {
+            insertValuesStepN = insertSetStep.values(row);
         }
-        return queryExecutor().execute(insertValuesStepN);
+        return insertValuesStepN;
+    }
+
+    private Query onDuplicateKey(InsertOnDuplicateStep<R> insert, Map<Field<?>, Field<?>> valuesToUpdate){
+        return valuesToUpdate.isEmpty() ? insert.onDuplicateKeyIgnore() : insert.onDuplicateKeyUpdate().set(valuesToUpdate);
+    }
+
+    /**
+     * @return the fields that are updated when an upsert hits an existing row: all fields except the primary key.
+     */
+    private List<Field<?>> upsertFields(){
+        List<Field<?>> upsertFields = new ArrayList<>(Arrays.asList(fields));
+        upsertFields.removeAll(Arrays.asList(primaryKey));
+        return upsertFields;
     }
 
     @SuppressWarnings("unchecked")
@@ -144,8 +509,9 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         UniqueKey<?> key = getTable().getPrimaryKey();
         //usually key shouldn't be null because DAO generation is omitted in such cases
         Objects.requireNonNull(key,()->"No primary key");
-        DSLContext dslContext = using(configuration());
-        return queryExecutor().insertReturning(
+        incrementTableVersion.run();
+        DSLContext dslContext = dsl();
+        return queryExecutor().afterInsertReturning(queryExecutor().insertReturning(
                 dslContext.insertInto(getTable()).set(newRecord(dslContext, object)).returning(key.getFields()),
                 record->{
                     Objects.requireNonNull(record, () -> "Failed inserting record or no key");
@@ -154,17 +520,16 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
                         return ((Record1<T>)key1).value1();
                     }
                     return (T) key1;
-                });
+                }), incrementTableVersion);
     }
 
     @SuppressWarnings("unchecked")
     protected Condition equalKey(T id){
-        UniqueKey<?> uk = getTable().getPrimaryKey();
-        Objects.requireNonNull(uk,()->"No primary key");
+        Objects.requireNonNull(primaryKey,()->"No primary key");
         /**
          * Copied from jOOQs DAOImpl#equal-method
          */
-        TableField<? extends Record, ?>[] pk = uk.getFieldsArray();
+        TableField<R, ?>[] pk = primaryKey;
         Condition condition;
         if (pk.length == 1) {
             condition = ((Field<Object>) pk[0]).equal(pk[0].getDataType().convert(id));
@@ -175,14 +540,39 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         return condition;
     }
 
+    /**
+     * @param id
+     * @return the values of the primary key fields in the order of the fields, like they are bound by
+     * {@link #equalKey(Object)}.
+     */
+    protected Object[] keyValues(T id){
+        TableField<R, ?>[] pk = primaryKey;
+        if (pk.length == 1) {
+            return new Object[]{pk[0].getDataType().convert(id)};
+        }
+        return values((Record) id);
+    }
+
+    /**
+     * @param record
+     * @return the values of the record in the order of its fields. Unlike <code>Record#intoArray()</code>, this
+     * does not use the reflective <code>RecordMapper</code>.
+     */
+    protected static Object[] values(Record record){
+        Object[] values = new Object[record.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = record.get(i);
+        }
+        return values;
+    }
+
     @SuppressWarnings("unchecked")
     protected Condition equalKeys(Collection<T> ids){
-        UniqueKey<?> uk = getTable().getPrimaryKey();
-        Objects.requireNonNull(uk,()->"No primary key");
+        Objects.requireNonNull(primaryKey,()->"No primary key");
         /**
          * Copied from jOOQs DAOImpl#equal-method
          */
-        TableField<? extends Record, ?>[] pk = uk.getFieldsArray();
+        TableField<R, ?>[] pk = primaryKey;
         Condition condition;
         if (pk.length == 1) {
             if (ids.size() == 1) {
@@ -198,12 +588,11 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
 
     @SuppressWarnings("unchecked")
     protected /* non-final */ T compositeKeyRecord(Object... values) {
-        UniqueKey<R> key = table.getPrimaryKey();
-        if (key == null)
+        if (primaryKey == null)
             return null;
 
-        TableField<R, Object>[] fields = (TableField<R, Object>[]) key.getFieldsArray();
-        Record result = DSL.using(configuration)
+        TableField<R, Object>[] fields = (TableField<R, Object>[]) primaryKey;
+        Record result = dsl()
                 .newRecord(fields);
 
         for (int i = 0; i < values.length; i++)
@@ -218,7 +607,54 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
      * @return a new {@code Record} based on the pojo.
      */
     protected Record newRecord(DSLContext dslContext, P pojo) {
-        return setDefault(dslContext.newRecord(getTable(), pojo));
+        return setDefault(mapper().unmap(dslContext, pojo));
+    }
+
+    /**
+     * @param pojos
+     * @return new {@code Record}s based on the pojos that can be used in batches. Instead of being set to
+     * <code>DEFAULT</code>, fields that have a default value are marked as unchanged so they are omitted from
+     * <code>INSERT</code>-statements.
+     */
+    protected List<R> newRecords(Collection<P> pojos) {
+        DSLContext dslContext = dsl();
+        List<R> records = new ArrayList<>(pojos.size());
+        for (P pojo : pojos) {
+            R record = mapper().unmap(dslContext, pojo);
+            for (int i : defaultableIndexes){
+                if (record.get(i) == null) {
+                    record.changed(i, false);
+                }
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * @param pojos
+     * @return new {@code Record}s based on the pojos that can be used in batches. The fields except the primary key
+     * are marked as changed like the fields updated by {@link #updateQuery(DSLContext, Object)}.
+     */
+    protected List<R> updateRecords(Collection<P> pojos) {
+        DSLContext dslContext = dsl();
+        List<R> records = new ArrayList<>(pojos.size());
+        for (P pojo : pojos) {
+            R record = mapper().unmap(dslContext, Objects.requireNonNull(pojo));
+            BitSet changed = changedFields(pojo);
+            if (changed != null && !changed.isEmpty()) {
+                record.changed(false);
+                for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+                    record.changed(i, true);
+                }
+            }
+            for (int index : primaryKeyIndexes) {
+                //exclude primary keys from update
+                record.changed(index, false);
+            }
+            records.add(record);
+        }
+        return records;
     }
 
     /**
@@ -226,14 +662,11 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
      * @param record the record
      * @return the record
      */
+    @SuppressWarnings("unchecked")
     private Record setDefault(Record record) {
-        int size = record.size();
-        for (int i = 0; i < size; i++)
+        for (int i : defaultableIndexes)
             if (record.get(i) == null) {
-                @SuppressWarnings("unchecked")
-                Field<Object> field = (Field<Object>) record.field(i);
-                if (!field.getDataType().nullable() && !field.getDataType().identity())
-                    record.set(field, DSL.defaultValue());
+                record.set((Field<Object>) fields[i], DEFAULT);
             }
 
         return record;
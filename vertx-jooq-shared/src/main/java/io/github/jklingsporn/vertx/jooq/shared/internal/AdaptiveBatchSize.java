@@ -0,0 +1,96 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Determines how many rows are written at once by bulk operations. After each chunk the size is adapted to the
+ * observed latency: chunks that completed faster than the target latency let the size grow, slower chunks let it
+ * shrink. The size changes by a factor of two at most per chunk and always stays within the configured bounds.
+ * Instances are meant to be shared by all bulk operations of a <code>QueryExecutor</code>, so the learned size
+ * carries over to subsequent operations.
+ */
+public class AdaptiveBatchSize {
+
+    public static final int DEFAULT_INITIAL_SIZE = 500;
+    public static final int DEFAULT_MIN_SIZE = 10;
+    public static final int DEFAULT_MAX_SIZE = 10000;
+    public static final long DEFAULT_TARGET_LATENCY_MILLIS = 200;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyNanos;
+    private volatile int size;
+
+    /**
+     * @param initialSize the size of the first chunk.
+     * @param minSize the minimum size.
+     * @param maxSize the maximum size.
+     * @param targetLatency the time a chunk should take.
+     * @param unit the unit of <code>targetLatency</code>.
+     */
+    public AdaptiveBatchSize(int initialSize, int minSize, int maxSize, long targetLatency, TimeUnit unit) {
+        if(minSize < 1 || maxSize < minSize){
+            throw new IllegalArgumentException("Invalid bounds: "+minSize+" - "+maxSize);
+        }
+        if(targetLatency <= 0){
+            throw new IllegalArgumentException("targetLatency must be positive");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetLatencyNanos = unit.toNanos(targetLatency);
+        this.size = clamp(initialSize);
+    }
+
+    /**
+     * @return an <code>AdaptiveBatchSize</code> using the default values.
+     */
+    public static AdaptiveBatchSize create(){
+        return new AdaptiveBatchSize(DEFAULT_INITIAL_SIZE, DEFAULT_MIN_SIZE, DEFAULT_MAX_SIZE, DEFAULT_TARGET_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param size the size of all chunks.
+     * @return an <code>AdaptiveBatchSize</code> that never changes.
+     */
+    public static AdaptiveBatchSize fixed(int size){
+        return new AdaptiveBatchSize(size, size, size, DEFAULT_TARGET_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the size of the next chunk.
+     */
+    public int get() {
+        return size;
+    }
+
+    /**
+     * Adapts the size to the latency of a completed chunk. Chunks that are smaller than the current size, e.g. the
+     * last chunk of an operation, are only used to grow the size if they were fast enough for the current size.
+     * @param chunkSize the number of rows of the chunk.
+     * @param elapsedNanos the time it took to write the chunk.
+     */
+    public void record(int chunkSize, long elapsedNanos){
+        if(chunkSize < 1){
+            return;
+        }
+        int current = size;
+        double rowsOnTarget = chunkSize * (double) targetLatencyNanos / Math.max(1L, elapsedNanos);
+        if(chunkSize < current && rowsOnTarget < current){
+            return;
+        }
+        int next = (int) Math.min(Math.max(rowsOnTarget, current / 2d), current * 2d);
+        size = clamp(next);
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private int clamp(int value){
+        return Math.max(minSize, Math.min(maxSize, value));
+    }
+}
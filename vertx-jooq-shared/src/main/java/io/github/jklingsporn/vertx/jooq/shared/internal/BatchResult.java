@@ -0,0 +1,90 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of a bulk operation that has been split into chunks.
+ */
+public class BatchResult {
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private int rows;
+
+    /**
+     * Adds the result of a completed chunk.
+     * @param chunk the chunk
+     * @return a reference to this
+     */
+    public BatchResult add(Chunk chunk){
+        chunks.add(chunk);
+        rows += chunk.getRows();
+        return this;
+    }
+
+    /**
+     * @return the results of all chunks in the order they have been executed.
+     */
+    public List<Chunk> getChunks() {
+        return Collections.unmodifiableList(chunks);
+    }
+
+    /**
+     * @return the number of affected rows of all chunks.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{rows=" + rows + ", chunks=" + chunks + '}';
+    }
+
+    /**
+     * The result of one chunk.
+     */
+    public static class Chunk {
+
+        private final int offset;
+        private final int size;
+        private final int rows;
+        private final long elapsedNanos;
+
+        /**
+         * @param offset the index of the first element of this chunk.
+         * @param size the number of elements of this chunk.
+         * @param rows the number of affected rows.
+         * @param elapsedNanos the time it took to execute the chunk.
+         */
+        public Chunk(int offset, int size, int rows, long elapsedNanos) {
+            this.offset = offset;
+            this.size = size;
+            this.rows = rows;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public long getElapsed(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "Chunk{offset=" + offset + ", size=" + size + ", rows=" + rows + ", elapsedMillis=" + getElapsed(TimeUnit.MILLISECONDS) + '}';
+        }
+    }
+}
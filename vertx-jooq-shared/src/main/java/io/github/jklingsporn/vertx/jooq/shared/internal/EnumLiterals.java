@@ -0,0 +1,43 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import org.jooq.EnumType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Looks up the constants of jOOQ's <code>EnumTypes</code> by their literal. The constants of each enum are put into a
+ * map the first time the enum is used, so the lookup neither copies <code>values()</code> nor scans the constants.
+ * The reverse is <code>EnumType#getLiteral()</code>.
+ */
+public final class EnumLiterals {
+
+    private static final ClassValue<Map<String, Object>> CONSTANTS = new ClassValue<Map<String, Object>>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            if(constants == null){
+                return Collections.emptyMap();
+            }
+            Map<String, Object> byLiteral = new HashMap<>(constants.length * 2);
+            for (Object constant : constants) {
+                byLiteral.put(((EnumType) constant).getLiteral(), constant);
+            }
+            return byLiteral;
+        }
+    };
+
+    private EnumLiterals() {
+    }
+
+    /**
+     * @param type the enum
+     * @param literal the literal, may be <code>null</code>.
+     * @param <E> the enum type
+     * @return the constant with the given literal or <code>null</code> if there is none.
+     */
+    public static <E extends EnumType> E fromLiteral(Class<E> type, String literal) {
+        return literal == null ? null : type.cast(CONSTANTS.get(type).get(literal));
+    }
+}
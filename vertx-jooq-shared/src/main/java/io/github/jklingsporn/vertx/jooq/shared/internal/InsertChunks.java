@@ -0,0 +1,76 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.impl.Arguments;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits the rows of multi-row <code>INSERT</code>-statements into chunks, so that no statement exceeds the number
+ * of bind values supported by the database or the size accepted by the server.
+ */
+public final class InsertChunks {
+
+    /**
+     * The maximum number of bind values of one statement. The Postgres and MySQL protocols count the parameters of a
+     * statement with an unsigned 16-bit integer and thus allow up to 65535 values. This is a deliberately conservative
+     * cap shared by all drivers, because some drivers, e.g. older versions of the Postgres JDBC driver,
+     * reject counts above the range of a signed 16-bit integer.
+     */
+    public static final int MAX_BIND_VALUES = Short.MAX_VALUE;
+
+    private InsertChunks() {
+    }
+
+    /**
+     * @param maxRows the maximum number of rows per statement.
+     * @param valuesPerRow the number of bind values of each row.
+     * @return the number of rows of one statement, limited by <code>maxRows</code> and {@link #MAX_BIND_VALUES}.
+     */
+    public static int rowsPerChunk(int maxRows, int valuesPerRow) {
+        return Math.max(1, Math.min(maxRows, MAX_BIND_VALUES / Math.max(1, valuesPerRow)));
+    }
+
+    /**
+     * Splits the rows into chunks of at most {@link #rowsPerChunk(int, int)} rows and <code>maxBytes</code> bytes.
+     * A single row that exceeds <code>maxBytes</code> is a chunk on its own.
+     * @param rows the rows in the order they are inserted.
+     * @param maxRows the maximum number of rows per statement.
+     * @param valuesPerRow the number of bind values of each row.
+     * @param rowBytes estimates the size of a row in bytes.
+     * @param maxBytes the maximum estimated size of a chunk in bytes.
+     * @param <E> the type of the rows
+     * @return the chunks
+     */
+    public static <E> List<List<E>> split(Collection<E> rows, int maxRows, int valuesPerRow, ToLongFunction<E> rowBytes, long maxBytes) {
+        Arguments.require(maxRows > 0, "maxRows must be positive");
+        int rowsPerChunk = rowsPerChunk(maxRows, valuesPerRow);
+        List<List<E>> chunks = new ArrayList<>();
+        List<E> chunk = null;
+        long bytes = 0;
+        for (E row : rows) {
+            long size = rowBytes.applyAsLong(row);
+            if (chunk != null && (chunk.size() == rowsPerChunk || bytes + size > maxBytes)) {
+                chunk = null;
+            }
+            if (chunk == null) {
+                chunk = new ArrayList<>(Math.min(rowsPerChunk, rows.size()));
+                chunks.add(chunk);
+                bytes = 0;
+            }
+            chunk.add(row);
+            bytes += size;
+        }
+        return chunks;
+    }
+
+    /**
+     * Splits the rows into chunks of at most {@link #rowsPerChunk(int, int)} rows.
+     * @see #split(Collection, int, int, ToLongFunction, long)
+     */
+    public static <E> List<List<E>> split(Collection<E> rows, int maxRows, int valuesPerRow) {
+        return split(rows, maxRows, valuesPerRow, row -> 0, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,349 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.jooq.EnumType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+
+/**
+ * Writes and reads <code>VertxPojos</code> using Jackson's streaming API instead of creating a <code>JsonObject</code>
+ * first. The JSON is the same as the one of <code>VertxPojo#toJson</code> and <code>VertxPojo#fromJson</code>:
+ * <code>Instants</code> are ISO-8601 strings, binary values are Base64-encoded and enums are written by their literal.
+ * The <code>write-</code> and <code>read-</code>methods are called by the <code>writeJson</code> and
+ * <code>readJson</code>-methods that are generated by the <code>VertxGenerator</code>.
+ */
+public final class JsonStreams {
+
+    private static final JsonFactory FACTORY = Json.mapper.getFactory();
+    private static final ObjectWriter WRITER = Json.mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final ObjectReader MAP_READER = Json.mapper.readerFor(Map.class);
+    private static final ObjectReader LIST_READER = Json.mapper.readerFor(List.class);
+
+    private JsonStreams() {
+    }
+
+    /**
+     * @param pojo the POJO
+     * @return a <code>Buffer</code> containing the JSON of the given POJO.
+     * @throws EncodeException if the POJO cannot be encoded.
+     */
+    public static Buffer toBuffer(VertxPojo pojo) {
+        Buffer buffer = Buffer.buffer();
+        try (JsonGenerator generator = FACTORY.createGenerator(new BufferOutputStream(buffer))) {
+            pojo.writeJson(generator);
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage());
+        }
+        return buffer;
+    }
+
+    /**
+     * @param pojos the POJOs
+     * @return a <code>Buffer</code> containing a JSON-array of the given POJOs.
+     * @throws EncodeException if a POJO cannot be encoded.
+     */
+    public static Buffer toBuffer(Collection<? extends VertxPojo> pojos) {
+        Buffer buffer = Buffer.buffer();
+        try (JsonGenerator generator = FACTORY.createGenerator(new BufferOutputStream(buffer))) {
+            generator.writeStartArray();
+            for (VertxPojo pojo : pojos) {
+                pojo.writeJson(generator);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage());
+        }
+        return buffer;
+    }
+
+    /**
+     * @param buffer a <code>Buffer</code> containing a JSON-object.
+     * @param pojo the POJO to set the values of.
+     * @param <P> the POJO-type
+     * @return the given POJO
+     * @throws DecodeException if the <code>Buffer</code> does not contain a valid JSON-object.
+     */
+    public static <P extends VertxPojo> P fromBuffer(Buffer buffer, P pojo) {
+        try (JsonParser parser = createParser(buffer)) {
+            pojo.readJson(parser);
+        } catch (IOException e) {
+            throw new DecodeException(e.getMessage());
+        }
+        return pojo;
+    }
+
+    /**
+     * @param buffer a <code>Buffer</code> containing a JSON-array of objects.
+     * @param pojoSupplier creates a POJO for each object of the array.
+     * @param <P> the POJO-type
+     * @return the POJOs in the order of the array.
+     * @throws DecodeException if the <code>Buffer</code> does not contain a valid JSON-array.
+     */
+    public static <P extends VertxPojo> List<P> listFromBuffer(Buffer buffer, Supplier<P> pojoSupplier) {
+        List<P> pojos = new ArrayList<>();
+        try (JsonParser parser = createParser(buffer)) {
+            if(parser.nextToken() != JsonToken.START_ARRAY){
+                throw new JsonParseException(parser, "Expected an array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                P pojo = pojoSupplier.get();
+                pojo.readJson(parser);
+                pojos.add(pojo);
+            }
+        } catch (IOException e) {
+            throw new DecodeException(e.getMessage());
+        }
+        return pojos;
+    }
+
+    private static JsonParser createParser(Buffer buffer) throws IOException {
+        InputStream in = new ByteBufInputStream(buffer.getByteBuf());
+        return FACTORY.createParser(in);
+    }
+
+    /**
+     * Writes the given <code>JsonObject</code> or <code>JsonArray</code>.
+     * @param generator the generator
+     * @param json the JSON, may be <code>null</code>.
+     * @throws IOException if writing fails.
+     */
+    public static void writeValue(JsonGenerator generator, Object json) throws IOException {
+        if(json == null){
+            generator.writeNull();
+        }else{
+            WRITER.writeValue(generator, json);
+        }
+    }
+
+    /**
+     * Writes all entries of the given <code>JsonObject</code> as fields of the current object. Used by the generated
+     * <code>writeJson</code>-methods for columns that are only handled by a custom <code>toJson</code>-conversion.
+     * @param generator the generator
+     * @param json the fields to write
+     * @throws IOException if writing fails.
+     */
+    public static void writeFields(JsonGenerator generator, JsonObject json) throws IOException {
+        for (Map.Entry<String, Object> field : json.getMap().entrySet()) {
+            generator.writeFieldName(field.getKey());
+            writeValue(generator, field.getValue());
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, Integer value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, Short value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, Byte value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, Long value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, Float value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, Double value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, Boolean value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeBooleanField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, String value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeStringField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, byte[] value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeBinaryField(name, value);
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, Instant value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeStringField(name, ISO_INSTANT.format(value));
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, EnumType value) throws IOException {
+        if(value == null){
+            generator.writeNullField(name);
+        }else{
+            generator.writeStringField(name, value.getLiteral());
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, JsonObject value) throws IOException {
+        generator.writeFieldName(name);
+        writeValue(generator, value);
+    }
+
+    public static void writeField(JsonGenerator generator, String name, JsonArray value) throws IOException {
+        generator.writeFieldName(name);
+        writeValue(generator, value);
+    }
+
+    /**
+     * Moves the parser to the start of an object unless it is already positioned there.
+     * @param parser the parser
+     * @throws IOException if the next token is not the start of an object.
+     */
+    public static void startObject(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if(token == null){
+            token = parser.nextToken();
+        }
+        if(token != JsonToken.START_OBJECT){
+            throw new JsonParseException(parser, "Expected an object");
+        }
+    }
+
+    private static boolean isNull(JsonParser parser) {
+        return parser.getCurrentToken() == JsonToken.VALUE_NULL;
+    }
+
+    public static Integer readInteger(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getIntValue();
+    }
+
+    public static Short readShort(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getShortValue();
+    }
+
+    public static Byte readByte(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getByteValue();
+    }
+
+    public static Long readLong(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getLongValue();
+    }
+
+    public static Float readFloat(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getFloatValue();
+    }
+
+    public static Double readDouble(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getDoubleValue();
+    }
+
+    public static Boolean readBoolean(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getBooleanValue();
+    }
+
+    public static String readString(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getValueAsString();
+    }
+
+    public static byte[] readBinary(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getBinaryValue();
+    }
+
+    public static Instant readInstant(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : Instant.from(ISO_INSTANT.parse(parser.getText()));
+    }
+
+    public static <E extends EnumType> E readEnum(JsonParser parser, Class<E> type) throws IOException {
+        return isNull(parser) ? null : EnumLiterals.fromLiteral(type, parser.getText());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static JsonObject readJsonObject(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : new JsonObject(MAP_READER.<Map<String, Object>>readValue(parser));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static JsonArray readJsonArray(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : new JsonArray(LIST_READER.<List<Object>>readValue(parser));
+    }
+
+    /**
+     * Appends everything written by the generator to a <code>Buffer</code>. The generator buffers the output itself,
+     * so the <code>Buffer</code> is appended in chunks.
+     */
+    private static final class BufferOutputStream extends OutputStream {
+
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.appendBytes(b, off, len);
+        }
+    }
+}
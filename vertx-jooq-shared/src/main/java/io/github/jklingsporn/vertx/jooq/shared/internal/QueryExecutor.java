@@ -5,6 +5,7 @@ import org.jooq.Query;
 import org.jooq.ResultQuery;
 import org.jooq.UpdatableRecord;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -42,6 +43,40 @@ public interface QueryExecutor<R extends UpdatableRecord<R>, T, FIND_MANY, FIND_
      */
     EXECUTE execute(Query query);
 
+    /**
+     * Executes the queries one after another and returns the sum of their results. Implementations may send several
+     * queries to the database at once, e.g. as JDBC-batch. The queries executed before a failing query are not rolled
+     * back unless they are part of a transaction. If there are no queries, the result is <code>0</code> and the database
+     * is not accessed.
+     * @param queries
+     * @return the result type returned for all insert, update and delete-operations.
+     */
+    EXECUTE executeAll(List<? extends Query> queries);
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before and returns many values.
+     * @param query
+     * @param bindValues a value for each parameter of the query.
+     * @return the result type returned for all find-many-values-operations.
+     */
+    FIND_MANY findMany(RenderedQuery query, Object... bindValues);
+
+    /**
+     * Runs a <code>SELECT</code>-statement that has been rendered before and returns at most one value or <code>null</code>.
+     * @param query
+     * @param bindValues a value for each parameter of the query.
+     * @return the result type returned for all find-one-value-operations.
+     */
+    FIND_ONE findOne(RenderedQuery query, Object... bindValues);
+
+    /**
+     * Executes a query that has been rendered before and returns the result of the execution.
+     * @param query
+     * @param bindValues a value for each parameter of the query.
+     * @return the result type returned for all insert, update and delete-operations.
+     */
+    EXECUTE execute(RenderedQuery query, Object... bindValues);
+
     /**
      * Performs an async <code>INSERT</code> statement for a given POJO and returns it's primary key.
      * @param query
@@ -50,4 +85,22 @@ public interface QueryExecutor<R extends UpdatableRecord<R>, T, FIND_MANY, FIND_
      */
     INSERT_RETURNING insertReturning(InsertResultStep<R> query,Function<Object,T> keyMapper);
 
+    /**
+     * Runs an action when a write has completed, whether it succeeded or failed. Lazy result types run the action
+     * each time the write has been executed.
+     * @param result the result of a write, e.g. of {@link #execute(Query)}
+     * @param action the action, e.g. incrementing the version of the written table
+     * @return the result type returned for all insert, update and delete-operations, completed after the action has run.
+     */
+    EXECUTE afterExecute(EXECUTE result, Runnable action);
+
+    /**
+     * Runs an action when an insert has completed, whether it succeeded or failed.
+     * @param result the result of {@link #insertReturning(InsertResultStep, Function)}
+     * @param action the action
+     * @return the result type returned for INSERT_RETURNING, completed after the action has run.
+     * @see #afterExecute(Object, Runnable)
+     */
+    INSERT_RETURNING afterInsertReturning(INSERT_RETURNING result, Runnable action);
+
 }
@@ -0,0 +1,58 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.impl.Arguments;
+import org.jooq.Query;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Named query templates of a <code>QueryExecutor</code>. A template is rendered once when it is registered and can
+ * then be run by the <code>QueryExecutor</code> with different bind values, without constructing and rendering the
+ * query on each call. The templates are shared with the <code>QueryExecutors</code> of sessions and transactions.
+ * @see RenderedQuery#template(Query)
+ */
+public class QueryTemplates {
+
+    private final ConcurrentMap<String, RenderedQuery> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Renders the template and registers it under the given name, replacing a template registered before.
+     * @param name the name
+     * @param template the template, attached to the configuration it is rendered with.
+     * @return the rendered template.
+     * @throws IllegalArgumentException if the template can not be rendered, see {@link RenderedQuery#template(Query)}.
+     */
+    public RenderedQuery register(String name, Query template) {
+        RenderedQuery rendered = RenderedQuery.template(template);
+        templates.put(name, rendered);
+        return rendered;
+    }
+
+    /**
+     * @param name the name
+     * @return the template registered under the given name.
+     * @throws IllegalArgumentException if there is no such template.
+     */
+    public RenderedQuery get(String name) {
+        RenderedQuery rendered = templates.get(name);
+        Arguments.require(rendered != null, "No template registered under " + name);
+        return rendered;
+    }
+
+    /**
+     * @param name the name
+     * @return whether a template is registered under the given name.
+     */
+    public boolean contains(String name) {
+        return templates.containsKey(name);
+    }
+
+    /**
+     * @param name the name
+     * @return the removed template or <code>null</code> if there was no such template.
+     */
+    public RenderedQuery remove(String name) {
+        return templates.remove(name);
+    }
+}
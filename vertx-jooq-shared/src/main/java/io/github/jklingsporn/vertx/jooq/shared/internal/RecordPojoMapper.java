@@ -0,0 +1,151 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import org.jooq.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Maps the records of a table to POJOs and the POJOs back to records. The code generator creates one instance per table
+ * that reads and writes the values of the fields by index, so the DAOs and <code>QueryExecutors</code> don't have to
+ * use jOOQ's reflective <code>DefaultRecordMapper</code> and <code>Record#from(Object)</code>. Records that do not
+ * consist of the fields of the table, e.g. the result of a query template selecting other columns, are still mapped
+ * using reflection.
+ * @param <R> the <code>Record</code> type.
+ * @param <P> the POJO-type
+ */
+public class RecordPojoMapper<R extends TableRecord<R>, P> {
+
+    private final Table<R> table;
+    private final Class<P> type;
+    private final Field<?>[] fields;
+    private final ValuesMapper<P> mapper;
+    private final RecordUnmapper<P, R> unmapper;
+
+    private RecordPojoMapper(Table<R> table, Class<P> type, ValuesMapper<P> mapper, RecordUnmapper<P, R> unmapper) {
+        this.table = table;
+        this.type = type;
+        this.fields = table == null ? null : table.fields();
+        this.mapper = mapper;
+        this.unmapper = unmapper;
+    }
+
+    /**
+     * @param table the table
+     * @param type the POJO-type
+     * @param mapper creates a POJO from the values of the fields of the table, reading the values by index.
+     * @param unmapper creates a record from a POJO.
+     * @param <R> the <code>Record</code> type.
+     * @param <P> the POJO-type
+     * @return a mapper that does not use reflection.
+     */
+    public static <R extends TableRecord<R>, P> RecordPojoMapper<R,P> of(Table<R> table, Class<P> type, ValuesMapper<P> mapper, RecordUnmapper<P, R> unmapper){
+        return new RecordPojoMapper<>(table, type, mapper, unmapper);
+    }
+
+    /**
+     * @param table the table or <code>null</code> if the mapper is only used to map records to POJOs.
+     * @param type the POJO-type
+     * @param <R> the <code>Record</code> type.
+     * @param <P> the POJO-type
+     * @return a mapper that uses jOOQ's reflective mapping.
+     */
+    public static <R extends TableRecord<R>, P> RecordPojoMapper<R,P> reflective(Table<R> table, Class<P> type){
+        return new RecordPojoMapper<>(table, type, null, null);
+    }
+
+    /**
+     * @return the POJO-type
+     */
+    public Class<P> getType() {
+        return type;
+    }
+
+    /**
+     * @return the table or <code>null</code> if the mapper is only used to map records to POJOs.
+     */
+    public Table<R> getTable() {
+        return table;
+    }
+
+    /**
+     * @return <code>true</code> if this mapper maps the records using reflection.
+     */
+    public boolean isReflective() {
+        return mapper == null;
+    }
+
+    /**
+     * @param values returns the value of the field of the table at the given index.
+     * @return the POJO
+     * @throws IllegalStateException if this mapper is reflective.
+     */
+    public P map(IntFunction<Object> values){
+        if(mapper == null){
+            throw new IllegalStateException("Reflective mapper of " + type.getName());
+        }
+        return mapper.map(values);
+    }
+
+    /**
+     * @param record the record
+     * @return the POJO or <code>null</code> if the record is <code>null</code>.
+     */
+    public P map(Record record){
+        if(record == null){
+            return null;
+        }
+        return mapper != null && matches(record.fields()) ? mapper.map(record::get) : record.into(type);
+    }
+
+    /**
+     * @param result the result
+     * @return the POJOs in the order of the result.
+     */
+    public List<P> map(Result<?> result){
+        if(mapper == null || !matches(result.fields())){
+            return result.into(type);
+        }
+        List<P> pojos = new ArrayList<>(result.size());
+        for (Record record : result) {
+            pojos.add(mapper.map(record::get));
+        }
+        return pojos;
+    }
+
+    /**
+     * @param dslContext the context the record is attached to.
+     * @param pojo the POJO
+     * @return a new record with all fields set to the values of the POJO and marked as changed.
+     */
+    public R unmap(DSLContext dslContext, P pojo){
+        if(unmapper == null){
+            return dslContext.newRecord(table, pojo);
+        }
+        R record = unmapper.unmap(pojo);
+        record.attach(dslContext.configuration());
+        return record;
+    }
+
+    private boolean matches(Field<?>[] fields){
+        //the fields of records fetched from the table are the same instances
+        return this.fields == fields || Arrays.equals(this.fields, fields);
+    }
+
+    /**
+     * Creates a POJO from the values of a row, e.g. by calling the setters of the POJO.
+     * @param <P> the POJO-type
+     */
+    @FunctionalInterface
+    public interface ValuesMapper<P> {
+
+        /**
+         * @param values returns the value of the field of the table at the given index, converted to the type of the
+         *               field.
+         * @return the POJO
+         */
+        P map(IntFunction<Object> values);
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.impl.Arguments;
+import org.jooq.*;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.TooManyRowsException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.jooq.impl.DSL.val;
+
+/**
+ * The SQL of a jOOQ-query that has been rendered once and can be executed again with other bind values. This skips
+ * constructing and rendering the query on every call, which is useful for statements that are executed over and over
+ * again and only differ in their bind values, e.g. the <code>findOneById</code> of a DAO or the templates registered
+ * at a <code>QueryExecutor</code>. The bind values have the
+ * types of the fields they are compared with or assigned to and are converted using the fields' converters when the
+ * query is executed. On JDBC, the SQL is executed as plain SQL query of the <code>DSLContext</code> and the values are
+ * bound using the bindings of the fields, so the query is not constructed again but <code>ExecuteListener</code>s are
+ * notified and <code>Settings</code> like the query timeout or the statement type still apply.
+ */
+public class RenderedQuery {
+
+    private final String sql;
+    private final Field<?>[] parameters;
+    private final Field<?>[] fields;
+
+    private RenderedQuery(String sql, Field<?>[] parameters, Field<?>[] fields) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.fields = fields;
+    }
+
+    /**
+     * Renders the given query.
+     * @param query the query, attached to the configuration it is rendered with.
+     * @param parameters the fields of the bind values of the query in the order they are rendered.
+     * @return the rendered query or <code>null</code> if the query does not have a bind value for each parameter, e.g.
+     * because a comparison with <code>null</code> has been rendered as <code>IS NULL</code> or bind values are
+     * inlined. Such queries can not be reused.
+     */
+    public static RenderedQuery of(Query query, Field<?>... parameters) {
+        return of(query, parameters, null);
+    }
+
+    /**
+     * Renders the given <code>SELECT</code>-statement.
+     * @param query the query, attached to the configuration it is rendered with.
+     * @param parameters the fields of the bind values of the query in the order they are rendered.
+     * @param fields the selected fields in the order they are selected.
+     * @return the rendered query or <code>null</code> if the query can not be reused.
+     * @see #of(Query, Field[])
+     */
+    public static RenderedQuery of(Query query, Field<?>[] parameters, Field<?>[] fields) {
+        int bindValues = 0;
+        for (Param<?> param : query.getParams().values()) {
+            if(!param.isInline()){
+                bindValues++;
+            }
+        }
+        if(bindValues != parameters.length){
+            return null;
+        }
+        return new RenderedQuery(query.getSQL(), parameters, fields);
+    }
+
+    /**
+     * Renders a query template. Every bind value of the template is a parameter of the rendered query, in the order
+     * they appear in the SQL. Use <code>DSL.param(name, field)</code> as placeholder for a value that is compared
+     * with or assigned to a field, so the value is converted like the field's values.
+     * @param template the template, attached to the configuration it is rendered with.
+     * @return the rendered query.
+     * @throws IllegalArgumentException if the template has inlined bind values or uses a named parameter twice.
+     */
+    public static RenderedQuery template(Query template) {
+        List<Field<?>> parameters = new ArrayList<>();
+        for (Param<?> param : template.getParams().values()) {
+            Arguments.require(!param.isInline(), "Inlined bind values are not supported");
+            parameters.add(param);
+        }
+        //named parameters that are used twice are only returned once by getParams
+        Arguments.require(template.getBindValues().size() == parameters.size(), "Parameter names must be unique");
+        Field<?>[] fields = template instanceof Select ? ((Select<?>) template).getSelect().toArray(new Field<?>[0]) : null;
+        return new RenderedQuery(template.getSQL(), parameters.toArray(new Field<?>[parameters.size()]), fields);
+    }
+
+    /**
+     * @return the SQL with a placeholder for each bind value.
+     */
+    public String getSQL() {
+        return sql;
+    }
+
+    /**
+     * @return the fields of the bind values in the order they are bound.
+     */
+    public List<Field<?>> getParameters() {
+        return Arrays.asList(parameters);
+    }
+
+    /**
+     * Executes this query on the connection of the given context.
+     * @param dslContext the context
+     * @param bindValues a value for each parameter.
+     * @return the number of affected rows.
+     */
+    public int execute(DSLContext dslContext, Object... bindValues) {
+        return dslContext.query(sql, (Object[]) params(bindValues)).execute();
+    }
+
+    /**
+     * Runs this <code>SELECT</code>-statement on the connection of the given context and maps the result into the
+     * given type.
+     * @param dslContext the context
+     * @param type the type to map the result into, e.g. a POJO.
+     * @param bindValues a value for each parameter.
+     * @param <E> the result type
+     * @return the mapped row or <code>null</code> if there is no row.
+     * @throws TooManyRowsException if there is more than one row.
+     */
+    public <E> E fetchOneInto(DSLContext dslContext, Class<? extends E> type, Object... bindValues) {
+        Record record = fetchOne(dslContext, bindValues);
+        return record == null ? null : record.into(type);
+    }
+
+    /**
+     * Runs this <code>SELECT</code>-statement on the connection of the given context.
+     * @param dslContext the context
+     * @param bindValues a value for each parameter.
+     * @return the row or <code>null</code> if there is no row.
+     * @throws TooManyRowsException if there is more than one row.
+     */
+    public Record fetchOne(DSLContext dslContext, Object... bindValues) {
+        Result<Record> result = fetch(dslContext, bindValues);
+        switch (result.size()) {
+            case 0: return null;
+            case 1: return result.get(0);
+            default: throw new TooManyRowsException(String.format("Found more than one row: %d", result.size()));
+        }
+    }
+
+    /**
+     * Runs this <code>SELECT</code>-statement on the connection of the given context and maps the result into the
+     * given type.
+     * @param dslContext the context
+     * @param type the type to map the result into, e.g. a POJO.
+     * @param bindValues a value for each parameter.
+     * @param <E> the result type
+     * @return the mapped rows.
+     */
+    public <E> List<E> fetchInto(DSLContext dslContext, Class<? extends E> type, Object... bindValues) {
+        return fetch(dslContext, bindValues).into(type);
+    }
+
+    /**
+     * Runs this <code>SELECT</code>-statement on the connection of the given context.
+     * @param dslContext the context
+     * @param bindValues a value for each parameter.
+     * @return the result with the values of the selected fields.
+     */
+    public Result<Record> fetch(DSLContext dslContext, Object... bindValues) {
+        Arguments.require(fields != null, "Not a SELECT-statement");
+        //closing the result set also closes the statement
+        try(ResultSet resultSet = dslContext.resultQuery(sql, (Object[]) params(bindValues)).fetchResultSet()){
+            //read the values using the bindings and converters of the selected fields
+            return dslContext.fetch(resultSet, fields);
+        } catch (SQLException e) {
+            throw new DataAccessException(e.getMessage(), e);
+        }
+    }
+
+    private Param<?>[] params(Object... bindValues) {
+        Arguments.require(bindValues.length == parameters.length, "Expected " + parameters.length + " bind values");
+        Param<?>[] params = new Param<?>[bindValues.length];
+        for (int i = 0; i < bindValues.length; i++) {
+            params[i] = param(parameters[i], bindValues[i]);
+        }
+        return params;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X> Param<X> param(Field<X> field, Object value) {
+        return val((X) value, field.getDataType());
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
@@ -1,5 +1,13 @@
 package io.github.jklingsporn.vertx.jooq.shared.internal;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import io.vertx.core.buffer.Buffer;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Created by jensklingsporn on 12.02.18.
  */
@@ -17,4 +25,78 @@ public interface VertxPojo {
      * @return a JSON-representation of this POJO.
      */
     public io.vertx.core.json.JsonObject toJson();
+
+    /**
+     * Writes this <code>VertxPOJO</code> as JSON-object to the given generator. POJOs generated with JSON-streaming
+     * write their fields directly, others write the result of {@link #toJson()}.
+     * @param generator the generator
+     * @throws IOException if writing fails.
+     * @see JsonStreams
+     */
+    public default void writeJson(JsonGenerator generator) throws IOException {
+        JsonStreams.writeValue(generator, toJson());
+    }
+
+    /**
+     * Sets the values of this POJO from the JSON-object the given parser is positioned at, or the next one if the
+     * parser has not been started yet. Afterwards, the parser is positioned at the end of that object. POJOs generated
+     * with JSON-streaming only set the fields contained in the JSON, others use {@link #fromJson(io.vertx.core.json.JsonObject)}.
+     * @param parser the parser
+     * @return a reference to this <code>VertxPOJO</code>
+     * @throws IOException if the JSON cannot be read.
+     */
+    public default VertxPojo readJson(JsonParser parser) throws IOException {
+        JsonStreams.startObject(parser);
+        return fromJson(JsonStreams.readJsonObject(parser));
+    }
+
+    /**
+     * @return a <code>Buffer</code> containing the JSON-representation of this POJO, written by
+     * {@link #writeJson(JsonGenerator)}.
+     */
+    public default Buffer toBuffer(){
+        return JsonStreams.toBuffer(this);
+    }
+
+    /**
+     * @return the indexes of the fields that have been set since {@link #resetChangedFields()} has been called or
+     * <code>null</code> if this POJO does not track changes. The indexes correspond to the fields of the table. The
+     * returned <code>BitSet</code> must not be modified.
+     */
+    public default BitSet changedFields(){
+        return null;
+    }
+
+    /**
+     * Clears the changes tracked so far. POJOs that have been generated with change tracking start tracking changes
+     * after the first call of this method. Other POJOs ignore this call.
+     */
+    public default void resetChangedFields(){
+    }
+
+    /**
+     * Resets the changes of the given object if it is a <code>VertxPojo</code>. The <code>QueryExecutors</code> call
+     * this for every POJO fetched from the database, so only values set afterwards are written by an update.
+     * @param pojo the POJO, may be <code>null</code>.
+     * @param <P> the POJO-type
+     * @return the given POJO
+     */
+    public static <P> P trackChanges(P pojo){
+        if(pojo instanceof VertxPojo){
+            ((VertxPojo) pojo).resetChangedFields();
+        }
+        return pojo;
+    }
+
+    /**
+     * Resets the changes of all given objects that are <code>VertxPojos</code>.
+     * @param pojos the POJOs
+     * @param <P> the POJO-type
+     * @return the given list
+     * @see #trackChanges(Object)
+     */
+    public static <P> List<P> trackChangesOfAll(List<P> pojos){
+        pojos.forEach(VertxPojo::trackChanges);
+        return pojos;
+    }
 }
@@ -0,0 +1,449 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.jooq.EnumType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A <code>MessageCodec</code> that sends POJOs over the event bus without converting them into JSON. When the
+ * message is delivered locally, the receiver gets a copy of the POJO (or the POJO itself, if copying is disabled).
+ * When it is sent to another node, the fields are written one after another into the <code>Buffer</code>, preceded by
+ * a bitmap marking the fields that are <code>null</code>. Subclasses are generated by the <code>VertxGenerator</code>
+ * for each table.
+ * @param <P> the POJO-type
+ */
+public abstract class VertxPojoCodec<P> implements MessageCodec<P, P> {
+
+    private final Class<P> type;
+    private final int fields;
+    private final boolean copyOnLocalDelivery;
+    private final ListCodec listCodec = new ListCodec();
+
+    /**
+     * @param type the POJO-type. Its name is the name of this codec.
+     * @param fields the number of fields written by {@link #encode(Writer, Object)}.
+     * @param copyOnLocalDelivery whether a local receiver gets a copy of the POJO sent or the same instance. Only
+     *                            disable copying if the POJOs are not modified after they have been sent.
+     */
+    protected VertxPojoCodec(Class<P> type, int fields, boolean copyOnLocalDelivery) {
+        this.type = type;
+        this.fields = fields;
+        this.copyOnLocalDelivery = copyOnLocalDelivery;
+    }
+
+    /**
+     * Writes the fields of the given POJO.
+     * @param writer the writer
+     * @param pojo the POJO
+     */
+    protected abstract void encode(Writer writer, P pojo);
+
+    /**
+     * Creates a POJO and reads its fields in the order they have been written by {@link #encode(Writer, Object)}.
+     * @param reader the reader
+     * @return the POJO
+     */
+    protected abstract P decode(Reader reader);
+
+    /**
+     * @param pojo the POJO
+     * @return a copy of the given POJO that can be modified without changing the original, e.g. mutable
+     * <code>JsonObjects</code> are copied as well.
+     */
+    protected abstract P copy(P pojo);
+
+    @Override
+    public void encodeToWire(Buffer buffer, P pojo) {
+        encode(new Writer(buffer, fields), pojo);
+    }
+
+    @Override
+    public P decodeFromWire(int pos, Buffer buffer) {
+        return decode(new Reader(buffer, pos, fields));
+    }
+
+    @Override
+    public P transform(P pojo) {
+        return copyOnLocalDelivery ? copy(pojo) : pojo;
+    }
+
+    @Override
+    public String name() {
+        return type.getName();
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+
+    /**
+     * @return the POJO-type
+     */
+    public Class<P> type() {
+        return type;
+    }
+
+    /**
+     * @return a codec for lists of POJOs, e.g. the results of <code>findMany</code>. Lists are not sent with this
+     * codec by default, set it as codec name of the <code>DeliveryOptions</code> instead.
+     * @see io.vertx.core.eventbus.DeliveryOptions#setCodecName(String)
+     */
+    public MessageCodec<List<P>, List<P>> listCodec() {
+        return listCodec;
+    }
+
+    /**
+     * Registers the given codecs as default codecs of their POJO-types and their list codecs by name.
+     * @param eventBus the event bus
+     * @param codecs the codecs
+     */
+    public static void registerAll(EventBus eventBus, Collection<? extends VertxPojoCodec<?>> codecs) {
+        for (VertxPojoCodec<?> codec : codecs) {
+            register(eventBus, codec);
+        }
+    }
+
+    private static <P> void register(EventBus eventBus, VertxPojoCodec<P> codec) {
+        eventBus.registerDefaultCodec(codec.type(), codec);
+        eventBus.registerCodec(codec.listCodec());
+    }
+
+    /**
+     * Removes the codecs registered by {@link #registerAll(EventBus, Collection)}.
+     * @param eventBus the event bus
+     * @param codecs the codecs
+     */
+    public static void unregisterAll(EventBus eventBus, Collection<? extends VertxPojoCodec<?>> codecs) {
+        for (VertxPojoCodec<?> codec : codecs) {
+            eventBus.unregisterDefaultCodec(codec.type());
+            eventBus.unregisterCodec(codec.listCodec().name());
+        }
+    }
+
+    /**
+     * Writes the size of the list followed by the POJOs. Each POJO is preceded by a byte marking whether the element
+     * is <code>null</code>.
+     */
+    private class ListCodec implements MessageCodec<List<P>, List<P>> {
+
+        private static final byte NULL_ELEMENT = 0;
+        private static final byte ELEMENT = 1;
+
+        @Override
+        public void encodeToWire(Buffer buffer, List<P> pojos) {
+            buffer.appendInt(pojos.size());
+            for (P pojo : pojos) {
+                if(pojo == null){
+                    buffer.appendByte(NULL_ELEMENT);
+                }else{
+                    buffer.appendByte(ELEMENT);
+                    encode(new Writer(buffer, fields), pojo);
+                }
+            }
+        }
+
+        @Override
+        public List<P> decodeFromWire(int pos, Buffer buffer) {
+            int size = buffer.getInt(pos);
+            List<P> pojos = new ArrayList<>(size);
+            int position = pos + 4;
+            for (int i = 0; i < size; i++) {
+                if(buffer.getByte(position++) == NULL_ELEMENT){
+                    pojos.add(null);
+                    continue;
+                }
+                Reader reader = new Reader(buffer, position, fields);
+                pojos.add(decode(reader));
+                position = reader.position;
+            }
+            return pojos;
+        }
+
+        @Override
+        public List<P> transform(List<P> pojos) {
+            if(!copyOnLocalDelivery){
+                return pojos;
+            }
+            List<P> copies = new ArrayList<>(pojos.size());
+            for (P pojo : pojos) {
+                copies.add(pojo == null ? null : copy(pojo));
+            }
+            return copies;
+        }
+
+        @Override
+        public String name() {
+            return type.getName() + "List";
+        }
+
+        @Override
+        public byte systemCodecID() {
+            return -1;
+        }
+    }
+
+    /**
+     * Appends the fields of one POJO to a <code>Buffer</code>. Each <code>write</code>-method writes one field, a
+     * <code>null</code> value is only marked in the bitmap in front of the fields.
+     */
+    public static final class Writer {
+
+        private final Buffer buffer;
+        private final int nulls;
+        private int index;
+
+        Writer(Buffer buffer, int fields) {
+            this.buffer = buffer;
+            this.nulls = buffer.length();
+            for (int i = 0; i < (fields + 7) / 8; i++) {
+                buffer.appendByte((byte) 0);
+            }
+        }
+
+        private boolean isNull(Object value) {
+            int field = index++;
+            if(value == null){
+                int pos = nulls + field / 8;
+                buffer.setByte(pos, (byte) (buffer.getByte(pos) | 1 << (field % 8)));
+                return true;
+            }
+            return false;
+        }
+
+        private void writeBytes(byte[] value) {
+            buffer.appendInt(value.length);
+            buffer.appendBytes(value);
+        }
+
+        public void writeInteger(Integer value) {
+            if(!isNull(value)){
+                buffer.appendInt(value);
+            }
+        }
+
+        public void writeShort(Short value) {
+            if(!isNull(value)){
+                buffer.appendShort(value);
+            }
+        }
+
+        public void writeByte(Byte value) {
+            if(!isNull(value)){
+                buffer.appendByte(value);
+            }
+        }
+
+        public void writeLong(Long value) {
+            if(!isNull(value)){
+                buffer.appendLong(value);
+            }
+        }
+
+        public void writeFloat(Float value) {
+            if(!isNull(value)){
+                buffer.appendFloat(value);
+            }
+        }
+
+        public void writeDouble(Double value) {
+            if(!isNull(value)){
+                buffer.appendDouble(value);
+            }
+        }
+
+        public void writeBoolean(Boolean value) {
+            if(!isNull(value)){
+                buffer.appendByte(value ? (byte) 1 : (byte) 0);
+            }
+        }
+
+        public void writeString(String value) {
+            if(!isNull(value)){
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        public void writeBinary(byte[] value) {
+            if(!isNull(value)){
+                writeBytes(value);
+            }
+        }
+
+        public void writeInstant(Instant value) {
+            if(!isNull(value)){
+                buffer.appendLong(value.getEpochSecond());
+                buffer.appendInt(value.getNano());
+            }
+        }
+
+        public void writeEnum(EnumType value) {
+            writeString(value == null ? null : value.getLiteral());
+        }
+
+        public void writeJsonObject(JsonObject value) {
+            if(!isNull(value)){
+                Buffer json = value.toBuffer();
+                buffer.appendInt(json.length());
+                buffer.appendBuffer(json);
+            }
+        }
+
+        public void writeJsonArray(JsonArray value) {
+            if(!isNull(value)){
+                Buffer json = value.toBuffer();
+                buffer.appendInt(json.length());
+                buffer.appendBuffer(json);
+            }
+        }
+    }
+
+    /**
+     * Reads the fields written by a {@link Writer} in the same order.
+     */
+    public static final class Reader {
+
+        private final Buffer buffer;
+        private final int nulls;
+        private int index;
+        private int position;
+
+        Reader(Buffer buffer, int pos, int fields) {
+            this.buffer = buffer;
+            this.nulls = pos;
+            this.position = pos + (fields + 7) / 8;
+        }
+
+        private boolean isNull() {
+            int field = index++;
+            return (buffer.getByte(nulls + field / 8) & 1 << (field % 8)) != 0;
+        }
+
+        private int readLength() {
+            int length = buffer.getInt(position);
+            position += 4;
+            return length;
+        }
+
+        public Integer readInteger() {
+            if(isNull()){
+                return null;
+            }
+            int value = buffer.getInt(position);
+            position += 4;
+            return value;
+        }
+
+        public Short readShort() {
+            if(isNull()){
+                return null;
+            }
+            short value = buffer.getShort(position);
+            position += 2;
+            return value;
+        }
+
+        public Byte readByte() {
+            if(isNull()){
+                return null;
+            }
+            return buffer.getByte(position++);
+        }
+
+        public Long readLong() {
+            if(isNull()){
+                return null;
+            }
+            long value = buffer.getLong(position);
+            position += 8;
+            return value;
+        }
+
+        public Float readFloat() {
+            if(isNull()){
+                return null;
+            }
+            float value = buffer.getFloat(position);
+            position += 4;
+            return value;
+        }
+
+        public Double readDouble() {
+            if(isNull()){
+                return null;
+            }
+            double value = buffer.getDouble(position);
+            position += 8;
+            return value;
+        }
+
+        public Boolean readBoolean() {
+            if(isNull()){
+                return null;
+            }
+            return buffer.getByte(position++) != 0;
+        }
+
+        public String readString() {
+            if(isNull()){
+                return null;
+            }
+            int length = readLength();
+            String value = buffer.getString(position, position + length, StandardCharsets.UTF_8.name());
+            position += length;
+            return value;
+        }
+
+        public byte[] readBinary() {
+            if(isNull()){
+                return null;
+            }
+            int length = readLength();
+            byte[] value = buffer.getBytes(position, position + length);
+            position += length;
+            return value;
+        }
+
+        public Instant readInstant() {
+            if(isNull()){
+                return null;
+            }
+            Instant value = Instant.ofEpochSecond(buffer.getLong(position), buffer.getInt(position + 8));
+            position += 12;
+            return value;
+        }
+
+        public <E extends EnumType> E readEnum(Class<E> type) {
+            return EnumLiterals.fromLiteral(type, readString());
+        }
+
+        public JsonObject readJsonObject() {
+            if(isNull()){
+                return null;
+            }
+            int length = readLength();
+            JsonObject value = new JsonObject(buffer.getBuffer(position, position + length));
+            position += length;
+            return value;
+        }
+
+        public JsonArray readJsonArray() {
+            if(isNull()){
+                return null;
+            }
+            int length = readLength();
+            JsonArray value = new JsonArray(buffer.getBuffer(position, position + length));
+            position += length;
+            return value;
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package io.github.jklingsporn.vertx.jooq.shared.internal.async;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.InsertChunks;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
 import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import org.jooq.*;
-import org.jooq.impl.DSL;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -23,6 +28,16 @@ public abstract class AbstractAsyncVertxDAO<R extends UpdatableRecord<R>, P, T,
 
     static EnumSet<SQLDialect> INSERT_RETURNING_SUPPORT = EnumSet.of(SQLDialect.MYSQL,SQLDialect.MYSQL_5_7,SQLDialect.MYSQL_8_0);
 
+    /**
+     * The default maximum number of rows of one <code>INSERT</code>-statement created by {@link #insertChunked(Collection, boolean)}.
+     */
+    public static final int DEFAULT_CHUNK_MAX_ROWS = 1000;
+    /**
+     * The default maximum estimated size in bytes of one <code>INSERT</code>-statement created by
+     * {@link #insertChunked(Collection, boolean)}. This is well below the default <code>max_allowed_packet</code> of MySQL.
+     */
+    public static final long DEFAULT_CHUNK_MAX_BYTES = 1024 * 1024;
+
     protected AbstractAsyncVertxDAO(Table<R> table, Class<P> type, QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor, Configuration configuration) {
         super(table, type, queryExecutor, configuration);
     }
@@ -36,10 +51,96 @@ public abstract class AbstractAsyncVertxDAO<R extends UpdatableRecord<R>, P, T,
         throw new UnsupportedOperationException("Cannot be converted");
     }
 
+    /**
+     * Inserts the POJOs using multi-row <code>INSERT</code>-statements of at most {@link #DEFAULT_CHUNK_MAX_ROWS} rows
+     * and an estimated size of {@link #DEFAULT_CHUNK_MAX_BYTES} bytes each.
+     * @param pojos the POJOs to insert.
+     * @param transactional if <code>true</code>, all statements are executed in one transaction.
+     * @return the total number of inserted rows.
+     * @see #insertChunked(Collection, int, long, boolean)
+     */
+    public EXECUTE insertChunked(Collection<P> pojos, boolean transactional) {
+        return insertChunked(pojos, DEFAULT_CHUNK_MAX_ROWS, DEFAULT_CHUNK_MAX_BYTES, transactional);
+    }
+
+    /**
+     * Splits the POJOs into multi-row <code>INSERT</code>-statements that are limited by the number of rows and by
+     * their estimated size, so large imports do not exceed the packet size of the database. The statements are
+     * executed one after another on a single connection.
+     * @param pojos the POJOs to insert.
+     * @param maxRows the maximum number of rows per statement.
+     * @param maxBytes the maximum estimated size of the bind values of a statement in bytes. A single row that
+     *                 exceeds this size is inserted on its own.
+     * @param transactional if <code>true</code>, all statements are executed in one transaction. Otherwise the
+     *                      statements that have been executed before a failing statement are not rolled back.
+     * @return the total number of inserted rows.
+     */
+    @SuppressWarnings("unchecked")
+    public EXECUTE insertChunked(Collection<P> pojos, int maxRows, long maxBytes, boolean transactional) {
+        Arguments.require(!pojos.isEmpty(), "No elements");
+        Arguments.require(maxRows > 0, "maxRows must be positive");
+        return ((AsyncQueryExecutor<?, ?, EXECUTE>) queryExecutor()).executeAll(insertChunks(pojos, maxRows, maxBytes), transactional);
+    }
+
+    /**
+     * @param pojos the POJOs to insert.
+     * @param maxRows the maximum number of rows per statement.
+     * @param maxBytes the maximum estimated size of the bind values of a statement in bytes.
+     * @return multi-row <code>INSERT</code>-statements containing all POJOs.
+     */
+    protected List<Query> insertChunks(Collection<P> pojos, int maxRows, long maxBytes) {
+        DSLContext dslContext = dsl();
+        List<Query> chunks = new ArrayList<>();
+        for (List<Object[]> chunk : InsertChunks.split(rowValues(dslContext, pojos), maxRows, getTable().fields().length, this::estimateBytes, maxBytes)) {
+            chunks.add(insertValues(dslContext, chunk));
+        }
+        return chunks;
+    }
+
+    /**
+     * Estimates the number of bytes the values occupy when they are sent to the database.
+     * @param values the values of a row
+     * @return the estimated size in bytes.
+     */
+    protected long estimateBytes(Object[] values) {
+        long bytes = 0;
+        for (Object value : values) {
+            //the placeholder and the type information
+            bytes += 4;
+            if (value instanceof CharSequence) {
+                bytes += utf8Length((CharSequence) value);
+            } else if (value instanceof byte[]) {
+                bytes += ((byte[]) value).length;
+            } else if (value instanceof JsonObject || value instanceof JsonArray) {
+                bytes += utf8Length(value.toString());
+            } else if (value != null) {
+                bytes += 8;
+            }
+        }
+        return bytes;
+    }
+
+    private static long utf8Length(CharSequence value) {
+        long bytes = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                //a surrogate pair takes four bytes
+                bytes += 2;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
     @Override
     public INSERT_RETURNING insertReturningPrimary(P object) {
         Arguments.require(INSERT_RETURNING_SUPPORT.contains(configuration().dialect()), "Only MySQL supported");
-        DSLContext dslContext = DSL.using(configuration());
+        DSLContext dslContext = dsl();
         return queryExecutor().insertReturning(dslContext.insertInto(getTable()).set(newRecord(dslContext, object)).returning(), keyConverter());
     }
 }
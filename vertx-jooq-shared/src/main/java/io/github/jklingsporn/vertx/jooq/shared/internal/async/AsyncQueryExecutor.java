@@ -4,6 +4,8 @@ import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.ResultQuery;
 
+import java.util.List;
+
 /**
  * @param <FIND_MANY_JSON> a type to represent many <code>JsonObject</code>s.
  * @param <FIND_ONE_JSON> a type to represent one <code>JsonObject</code>.
@@ -36,4 +38,13 @@ public interface AsyncQueryExecutor<FIND_MANY_JSON, FIND_ONE_JSON, EXECUTE> {
      */
     EXECUTE execute(Query query);
 
+    /**
+     * Executes the queries one after another on one connection and returns the sum of their results.
+     * @param queries the queries
+     * @param transactional if <code>true</code>, the queries are executed in a transaction that is rolled back if
+     *                      one of the queries fails.
+     * @return the total number of affected rows.
+     */
+    EXECUTE executeAll(List<? extends Query> queries, boolean transactional);
+
 }
@@ -0,0 +1,365 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.GenericVertxDAO;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.impl.Arguments;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.OrderField;
+import org.jooq.Query;
+import org.jooq.Table;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A DAO that reads the POJOs of <code>findOneById</code> and <code>findManyByIds</code> from an {@link EntityCache}
+ * and only queries the ids that are not cached. Inserts, updates, upserts and deletes are executed by the delegate and
+ * invalidate the entries of the written ids. Deletes by condition invalidate the whole cache. All other operations are
+ * passed to the delegate. With a {@link QueryResultCache}, the results of <code>findManyByCondition</code> and
+ * <code>findAll</code> are cached as well until the table of the DAO or another table of the query is written through
+ * a DAO, see {@link TableVersions}. Subclasses convert the result types of their API from and to <code>Futures</code>.
+ * @param <P> the POJO-type
+ * @param <T> the Key-Type
+ * @param <FIND_MANY> the result type returned for all findManyXYZ-operations.
+ * @param <FIND_ONE> the result type returned for all findOneXYZ-operations.
+ * @param <EXECUTE> the result type returned for all insert, update and delete-operations.
+ * @param <INSERT_RETURNING> the result type returned for the insertReturning-operation.
+ */
+public abstract class AbstractCachingVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> implements GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> {
+
+    private final GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> delegate;
+    private final Function<P, T> keyFunction;
+    private final EntityCache<T, P> cache;
+    /**
+     * The table of the delegate, <code>null</code> if it is not an {@link AbstractVertxDAO}.
+     */
+    private final Table<?> table;
+    private volatile CacheInvalidationChannel<T> invalidationChannel;
+    private volatile DSLContext queryDsl;
+    private volatile QueryResultCache<P> queryCache;
+
+    /**
+     * @param delegate the DAO that queries the database
+     * @param keyFunction returns the primary key of a POJO, e.g. <code>Something::getSomeid</code>
+     * @param cache the cache. To keep the cache consistent, all writes to the table should go through this DAO.
+     */
+    protected AbstractCachingVertxDAO(GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> delegate, Function<P, T> keyFunction, EntityCache<T, P> cache) {
+        this.delegate = delegate;
+        this.keyFunction = keyFunction;
+        this.cache = cache;
+        this.table = delegate instanceof AbstractVertxDAO ? ((AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?>) delegate).getTable() : null;
+    }
+
+    protected abstract Future<P> findOneToFuture(FIND_ONE result);
+
+    /**
+     * @param result supplies the result. Call it when the returned result is executed, e.g. when a lazy result
+     *               type is subscribed.
+     * @return the result type of the API
+     */
+    protected abstract FIND_ONE findOneFromFuture(Supplier<Future<P>> result);
+
+    protected abstract Future<List<P>> findManyToFuture(FIND_MANY result);
+
+    protected abstract FIND_MANY findManyFromFuture(Supplier<Future<List<P>>> result);
+
+    protected abstract Future<Integer> executeToFuture(EXECUTE result);
+
+    protected abstract EXECUTE executeFromFuture(Supplier<Future<Integer>> result);
+
+    protected abstract Future<T> insertReturningToFuture(INSERT_RETURNING result);
+
+    protected abstract INSERT_RETURNING insertReturningFromFuture(Supplier<Future<T>> result);
+
+    public GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> delegate() {
+        return delegate;
+    }
+
+    public EntityCache<T, P> cache() {
+        return cache;
+    }
+
+    /**
+     * @param invalidationChannel the channel to publish the writes of this DAO on, so that the caches of other
+     *                            verticle instances and nodes evict the written ids. <code>null</code> to only
+     *                            invalidate the cache of this DAO.
+     * @return this
+     */
+    public AbstractCachingVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> setInvalidationChannel(CacheInvalidationChannel<T> invalidationChannel) {
+        this.invalidationChannel = invalidationChannel;
+        return this;
+    }
+
+    /**
+     * Caches the results of <code>findManyByCondition</code> and <code>findAll</code>. The queries are rendered using
+     * the configuration of the delegate at the time this method is called.
+     * @param queryCache the cache, <code>null</code> to pass these queries to the delegate.
+     * @return this
+     * @throws IllegalArgumentException if the delegate is not a generated DAO, e.g. a DAO service proxy
+     */
+    public AbstractCachingVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> setQueryCache(QueryResultCache<P> queryCache) {
+        if (queryCache != null) {
+            Arguments.require(table != null, "Results can only be cached for DAOs extending AbstractVertxDAO");
+            this.queryDsl = QueryKey.dsl(((AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?>) delegate).configuration());
+        }
+        this.queryCache = queryCache;
+        return this;
+    }
+
+    public QueryResultCache<P> queryCache() {
+        return queryCache;
+    }
+
+    @Override
+    public FIND_ONE findOneById(T id) {
+        Objects.requireNonNull(id);
+        return findOneFromFuture(() -> {
+            Object[] found = new Object[1];
+            switch (cache.get(id, pojo -> found[0] = pojo)) {
+                case HIT:
+                    return Future.succeededFuture(cast(found[0]));
+                case NEGATIVE_HIT:
+                    return Future.succeededFuture();
+                default:
+                    long epoch = cache.epoch();
+                    return findOneToFuture(delegate.findOneById(id)).map(pojo -> {
+                        cache.put(id, pojo, epoch);
+                        return pojo;
+                    });
+            }
+        });
+    }
+
+    @Override
+    public FIND_MANY findManyByIds(Collection<T> ids) {
+        return findManyFromFuture(() -> {
+            Collection<T> distinctIds = new LinkedHashSet<>(ids);
+            Map<T, P> found = new HashMap<>();
+            List<T> missing = new ArrayList<>();
+            for (T id : distinctIds) {
+                if (cache.get(id, pojo -> found.put(id, pojo)) == EntityCache.Lookup.MISS) {
+                    missing.add(id);
+                }
+            }
+            if (missing.isEmpty()) {
+                return Future.succeededFuture(inOrder(distinctIds, found));
+            }
+            long epoch = cache.epoch();
+            return findManyToFuture(delegate.findManyByIds(missing)).map(loaded -> {
+                Map<T, P> loadedById = new HashMap<>();
+                for (P pojo : loaded) {
+                    loadedById.put(keyFunction.apply(pojo), pojo);
+                }
+                for (T id : missing) {
+                    cache.put(id, loadedById.get(id), epoch);
+                }
+                found.putAll(loadedById);
+                return inOrder(distinctIds, found);
+            });
+        });
+    }
+
+    private List<P> inOrder(Collection<T> ids, Map<T, P> found) {
+        List<P> pojos = new ArrayList<>(found.size());
+        for (T id : ids) {
+            P pojo = found.get(id);
+            if (pojo != null) {
+                pojos.add(pojo);
+            }
+        }
+        return pojos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private P cast(Object pojo) {
+        return (P) pojo;
+    }
+
+    /**
+     * Executes a write and invalidates the written ids before it is executed and after it has completed, so that
+     * lookups that were executed while the statement was running are not cached. Afterwards, the invalidation is
+     * published to the caches of other instances.
+     */
+    private EXECUTE invalidating(Supplier<EXECUTE> write, Invalidation<T> invalidation) {
+        return executeFromFuture(() -> {
+            invalidation.applyTo(cache);
+            return afterwards(executeToFuture(write.get()), invalidation);
+        });
+    }
+
+    private <X> Future<X> afterwards(Future<X> result, Invalidation<T> invalidation) {
+        return afterwards(result, ar -> invalidation);
+    }
+
+    /**
+     * Invalidates the cache when the write has completed, whether it succeeded or failed.
+     * @param result the result of the write
+     * @param invalidationOf returns the entries to invalidate for the outcome of the write
+     */
+    private <X> Future<X> afterwards(Future<X> result, Function<AsyncResult<X>, Invalidation<T>> invalidationOf) {
+        Future<X> invalidated = Future.future();
+        result.setHandler(ar -> {
+            Invalidation<T> invalidation = invalidationOf.apply(ar);
+            invalidation.applyTo(cache);
+            CacheInvalidationChannel<T> channel = invalidationChannel;
+            if (channel != null) {
+                channel.publish(invalidation);
+            }
+            invalidated.handle(ar);
+        });
+        return invalidated;
+    }
+
+    private Invalidation<T> invalidationOf(Collection<P> pojos) {
+        List<T> ids = new ArrayList<>(pojos.size());
+        boolean generatedIds = false;
+        for (P pojo : pojos) {
+            T id = keyFunction.apply(Objects.requireNonNull(pojo));
+            if (id == null) {
+                //the id is generated by the database and could be cached as not existing
+                generatedIds = true;
+            } else {
+                ids.add(id);
+            }
+        }
+        return Invalidation.of(ids, generatedIds);
+    }
+
+    @Override
+    public EXECUTE insert(P pojo) {
+        return invalidating(() -> delegate.insert(pojo), invalidationOf(Collections.singletonList(pojo)));
+    }
+
+    @Override
+    public EXECUTE insert(Collection<P> pojos) {
+        return invalidating(() -> delegate.insert(pojos), invalidationOf(pojos));
+    }
+
+    @Override
+    public INSERT_RETURNING insertReturningPrimary(P pojo) {
+        Objects.requireNonNull(pojo);
+        return insertReturningFromFuture(() -> {
+            cache.invalidateNegatives();
+            //the id of a failed insert is not known, but the row might have been inserted anyway, e.g. on a timeout
+            return afterwards(insertReturningToFuture(delegate.insertReturningPrimary(pojo)), ar -> ar.succeeded()
+                    ? Invalidation.of(Collections.singletonList(ar.result()), true)
+                    : Invalidation.of(Collections.emptyList(), true));
+        });
+    }
+
+    @Override
+    public EXECUTE update(P pojo) {
+        return invalidating(() -> delegate.update(pojo), invalidationOf(Collections.singletonList(pojo)));
+    }
+
+    @Override
+    public EXECUTE update(Collection<P> pojos) {
+        return invalidating(() -> delegate.update(pojos), invalidationOf(pojos));
+    }
+
+    @Override
+    public EXECUTE upsert(P pojo) {
+        return invalidating(() -> delegate.upsert(pojo), invalidationOf(Collections.singletonList(pojo)));
+    }
+
+    @Override
+    public EXECUTE upsert(Collection<P> pojos) {
+        return invalidating(() -> delegate.upsert(pojos), invalidationOf(pojos));
+    }
+
+    @Override
+    public EXECUTE deleteById(T id) {
+        return invalidating(() -> delegate.deleteById(id), Invalidation.of(Collections.singletonList(id), false));
+    }
+
+    @Override
+    public EXECUTE deleteByIds(Collection<T> ids) {
+        return invalidating(() -> delegate.deleteByIds(ids), Invalidation.of(ids, false));
+    }
+
+    @Override
+    public EXECUTE deleteByCondition(Condition condition) {
+        return invalidating(() -> delegate.deleteByCondition(condition), Invalidation.all());
+    }
+
+    @Override
+    public FIND_ONE findOneByCondition(Condition condition) {
+        return delegate.findOneByCondition(condition);
+    }
+
+    @Override
+    public FIND_MANY findManyByCondition(Condition condition) {
+        return cachedQuery(dsl -> dsl.selectFrom(table).where(condition), () -> delegate.findManyByCondition(condition));
+    }
+
+    @Override
+    public FIND_MANY findManyByCondition(Condition condition, OrderField<?>... orderFields) {
+        return cachedQuery(dsl -> dsl.selectFrom(table).where(condition).orderBy(orderFields), () -> delegate.findManyByCondition(condition, orderFields));
+    }
+
+    @Override
+    public FIND_MANY findAll() {
+        return cachedQuery(dsl -> dsl.selectFrom(table), delegate::findAll);
+    }
+
+    /**
+     * Returns the cached result of a query or loads it using the delegate. Stale results are refreshed in the
+     * background.
+     * @param query creates the query the delegate executes, which is only rendered to compute the key.
+     * @param load executes the query using the delegate
+     */
+    private FIND_MANY cachedQuery(Function<DSLContext, Query> query, Supplier<FIND_MANY> load) {
+        QueryResultCache<P> queryCache = this.queryCache;
+        if (queryCache == null) {
+            return load.get();
+        }
+        DSLContext dsl = queryDsl;
+        return findManyFromFuture(() -> {
+            QueryKey key = QueryKey.of(dsl, query.apply(dsl));
+            List<List<P>> found = new ArrayList<>(1);
+            switch (queryCache.get(key, found::add)) {
+                case HIT:
+                case STALE:
+                    return Future.succeededFuture(found.get(0));
+                case REFRESH:
+                    load(queryCache, key, load);
+                    return Future.succeededFuture(found.get(0));
+                default:
+                    return load(queryCache, key, load);
+            }
+        });
+    }
+
+    private Future<List<P>> load(QueryResultCache<P> queryCache, QueryKey key, Supplier<FIND_MANY> load) {
+        long[] versions = queryCache.versions(key);
+        Future<List<P>> result;
+        try {
+            result = findManyToFuture(load.get());
+        } catch (RuntimeException e) {
+            //e.g. the query cannot be rendered by the delegate
+            queryCache.refreshFailed(key);
+            return Future.failedFuture(e);
+        }
+        Future<List<P>> loaded = Future.future();
+        result.setHandler(ar -> {
+            if (ar.succeeded()) {
+                queryCache.put(key, ar.result(), versions);
+            } else {
+                queryCache.refreshFailed(key);
+            }
+            loaded.handle(ar);
+        });
+        return loaded;
+    }
+}
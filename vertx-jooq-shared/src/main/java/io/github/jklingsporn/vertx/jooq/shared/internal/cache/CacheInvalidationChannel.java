@@ -0,0 +1,218 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.service.DAOServiceCodec;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.jooq.Table;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the {@link EntityCache}s of one table in sync across verticle instances and nodes. The writes of a
+ * <code>CachingVertxDAO</code> that uses this channel are published on the address of the table, and all channels
+ * listening on it evict the written ids from their caches. Writes are collected and published once per event loop
+ * tick, so a batch of writes results in one message. A channel ignores its own messages because the writing DAO has
+ * invalidated its cache already. A channel that knows its table also increments the version of the table in
+ * {@link TableVersions#shared()} on each message, so that the results of the {@link QueryResultCache}s of this
+ * process are invalidated by the writes of other processes as well.
+ * <p>
+ * A message consists of the 16 bytes of the UUID of the publishing channel, one byte for the kind of the invalidation
+ * and, unless all entries are invalidated, the list of ids encoded by the {@link DAOServiceCodec}. <code>Integer</code>,
+ * <code>Long</code>, <code>Short</code>, <code>String</code> and <code>UUID</code> keys are written by their value,
+ * composite keys (<code>Records</code>) by the number of their values followed by the values in the order of the
+ * primary key. The decoded <code>Records</code> equal the keys of the table because <code>Records</code> are compared
+ * by their values. Ids of other types are not sent, all entries are invalidated instead. A message that cannot be
+ * decoded, e.g. because it has been published by an incompatible version, invalidates all entries as well.
+ * @param <T> the Key-Type
+ */
+public class CacheInvalidationChannel<T> {
+
+    private static final byte IDS = 0;
+    private static final byte IDS_AND_NEGATIVES = 1;
+    private static final byte ALL = 2;
+    private static final int HEADER_LENGTH = 17;
+
+    private final Vertx vertx;
+    private final String address;
+    /**
+     * The qualified name of the table, <code>null</code> if it is not known.
+     */
+    private final String table;
+    private final EntityCache<T, ?> cache;
+    private final DAOServiceCodec keyCodec;
+    private final UUID origin = UUID.randomUUID();
+    private Invalidation<T> pending;
+    private MessageConsumer<Buffer> consumer;
+
+    /**
+     * Creates a channel listening on the address <code>vertx-jooq.invalidation.&lt;schema&gt;.&lt;table&gt;</code>.
+     * @param vertx the vertx instance
+     * @param table the table of the cached POJOs
+     * @param cache the cache to invalidate
+     */
+    public CacheInvalidationChannel(Vertx vertx, Table<?> table, EntityCache<T, ?> cache) {
+        this(vertx, "vertx-jooq.invalidation." + TableVersions.nameOf(table), table, cache);
+    }
+
+    /**
+     * @param vertx the vertx instance
+     * @param address the address of the channel, one per table
+     * @param table the table of the cached POJOs
+     * @param cache the cache to invalidate
+     */
+    public CacheInvalidationChannel(Vertx vertx, String address, Table<?> table, EntityCache<T, ?> cache) {
+        this(vertx, address, TableVersions.nameOf(table), cache);
+    }
+
+    /**
+     * Creates a channel that does not know its table, so the messages it receives only invalidate the cache, but not
+     * the cached query results.
+     * @param vertx the vertx instance
+     * @param address the address of the channel, one per table
+     * @param cache the cache to invalidate
+     */
+    public CacheInvalidationChannel(Vertx vertx, String address, EntityCache<T, ?> cache) {
+        this(vertx, address, (String) null, cache);
+    }
+
+    private CacheInvalidationChannel(Vertx vertx, String address, String table, EntityCache<T, ?> cache) {
+        this.vertx = vertx;
+        this.address = address;
+        this.table = table;
+        this.cache = cache;
+        this.keyCodec = new DAOServiceCodec(address, null);
+    }
+
+    public String address() {
+        return address;
+    }
+
+    /**
+     * Starts listening for the invalidations published by other channels.
+     * @return a future completed when the consumer has been registered on all nodes
+     */
+    public Future<Void> start() {
+        Future<Void> started = Future.future();
+        consumer = vertx.eventBus().consumer(address, this::handle);
+        consumer.completionHandler(started);
+        return started;
+    }
+
+    /**
+     * Stops listening and publishes the pending invalidations.
+     * @return a future completed when the consumer has been unregistered
+     */
+    public Future<Void> close() {
+        flush();
+        Future<Void> closed = Future.future();
+        if (consumer == null) {
+            closed.complete();
+        } else {
+            consumer.unregister(closed);
+        }
+        return closed;
+    }
+
+    /**
+     * Publishes the invalidation of the given ids at the end of the current event loop tick.
+     * @param ids the written ids
+     */
+    public void publish(Collection<T> ids) {
+        publish(Invalidation.of(ids, false));
+    }
+
+    /**
+     * Publishes the invalidation of all entries at the end of the current event loop tick.
+     */
+    public void publishAll() {
+        publish(Invalidation.all());
+    }
+
+    void publish(Invalidation<T> invalidation) {
+        boolean first;
+        synchronized (this) {
+            first = pending == null;
+            pending = first ? invalidation : pending.merge(invalidation);
+        }
+        if (first) {
+            vertx.getOrCreateContext().runOnContext(v -> flush());
+        }
+    }
+
+    private void flush() {
+        Invalidation<T> invalidation;
+        synchronized (this) {
+            invalidation = pending;
+            pending = null;
+        }
+        if (invalidation == null) {
+            return;
+        }
+        Buffer message = Buffer.buffer()
+                .appendLong(origin.getMostSignificantBits())
+                .appendLong(origin.getLeastSignificantBits());
+        Buffer ids = invalidation.isAll() ? null : encode(invalidation.ids());
+        if (ids == null) {
+            message.appendByte(ALL);
+        } else {
+            message.appendByte(invalidation.negatives() ? IDS_AND_NEGATIVES : IDS).appendBuffer(ids);
+        }
+        vertx.eventBus().publish(address, message);
+    }
+
+    /**
+     * @return the encoded ids or <code>null</code> if the type of the ids is not supported by the codec.
+     */
+    private Buffer encode(Collection<T> ids) {
+        Buffer buffer = Buffer.buffer();
+        try {
+            keyCodec.encodeToWire(buffer, new ArrayList<>(ids));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return buffer;
+    }
+
+    private void handle(Message<Buffer> message) {
+        Buffer body = message.body();
+        if (body == null || body.length() < HEADER_LENGTH) {
+            invalidate(Invalidation.all());
+            return;
+        }
+        if (body.getLong(0) == origin.getMostSignificantBits() && body.getLong(8) == origin.getLeastSignificantBits()) {
+            return;
+        }
+        invalidate(decode(body));
+    }
+
+    private void invalidate(Invalidation<T> invalidation) {
+        invalidation.applyTo(cache);
+        if (table != null) {
+            TableVersions.shared().increment(table);
+        }
+    }
+
+    /**
+     * @return the invalidation of the message or the invalidation of all entries if it cannot be decoded.
+     */
+    @SuppressWarnings("unchecked")
+    private Invalidation<T> decode(Buffer body) {
+        byte kind = body.getByte(HEADER_LENGTH - 1);
+        if (kind != IDS && kind != IDS_AND_NEGATIVES) {
+            return Invalidation.all();
+        }
+        Object ids;
+        try {
+            ids = keyCodec.decodeFromWire(HEADER_LENGTH, body);
+        } catch (RuntimeException e) {
+            return Invalidation.all();
+        }
+        return ids instanceof List ? Invalidation.of((List<T>) ids, kind == IDS_AND_NEGATIVES) : Invalidation.all();
+    }
+}
@@ -0,0 +1,265 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import io.vertx.core.impl.Arguments;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded cache of POJOs by their primary key, used by the caching DAOs. When the cache is full, the least recently
+ * used entry is evicted. Entries expire after a time to live and ids that have not been found can be cached as well
+ * (negative caching), usually with a shorter time to live. The cache can be shared by DAOs running on different
+ * event loops, therefore the POJOs are copied when they are put into and returned from the cache.
+ * @param <T> the Key-Type
+ * @param <P> the POJO-type
+ */
+public class EntityCache<T, P> {
+
+    /**
+     * The result of {@link #get(Object, Consumer)}.
+     */
+    public enum Lookup {
+        /**
+         * The POJO is cached.
+         */
+        HIT,
+        /**
+         * The id is cached as not existing.
+         */
+        NEGATIVE_HIT,
+        /**
+         * The id is not cached.
+         */
+        MISS
+    }
+
+    private static final Object ABSENT = new Object();
+
+    private final int maxSize;
+    private final LongSupplier nanoTime;
+    private final Map<T, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long ttlNanos = Long.MAX_VALUE;
+    private volatile long negativeTtlNanos = 0;
+    private final UnaryOperator<P> copy;
+    /**
+     * Incremented on each invalidation, so that loads that started before can be discarded.
+     */
+    private long epoch;
+
+    /**
+     * @param maxSize the maximum number of cached ids, including the ids that are cached as not existing.
+     * @param copy copies the POJOs when they are put into and returned from the cache, e.g. the copy constructor of
+     *             the POJO. Only pass <code>UnaryOperator.identity()</code> if the POJOs are never modified, because
+     *             all callers would get the same instance.
+     */
+    public EntityCache(int maxSize, UnaryOperator<P> copy) {
+        this(maxSize, copy, System::nanoTime);
+    }
+
+    EntityCache(int maxSize, UnaryOperator<P> copy, LongSupplier nanoTime) {
+        Arguments.require(maxSize > 0, "maxSize must be positive");
+        Arguments.require(copy != null, "copy must not be null");
+        this.maxSize = maxSize;
+        this.copy = copy;
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<T, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<T, Entry> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param ttl the time after which a cached POJO expires. By default, POJOs do not expire and are only evicted
+     *            when the cache is full or invalidated by a write of the DAO.
+     * @param unit the unit of <code>ttl</code>
+     * @return this
+     */
+    public EntityCache<T, P> setTtl(long ttl, TimeUnit unit) {
+        this.ttlNanos = unit.toNanos(ttl);
+        return this;
+    }
+
+    /**
+     * @param negativeTtl the time an id that has not been found is cached as not existing. Defaults to
+     *                    <code>0</code>, which disables negative caching.
+     * @param unit the unit of <code>negativeTtl</code>
+     * @return this
+     */
+    public EntityCache<T, P> setNegativeTtl(long negativeTtl, TimeUnit unit) {
+        this.negativeTtlNanos = unit.toNanos(negativeTtl);
+        return this;
+    }
+
+    /**
+     * Returns the cached POJO and counts the lookup.
+     * @param id the id
+     * @param found receives the cached POJO, if any
+     * @return whether the POJO of the id is cached, cached as not existing or not cached at all.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Lookup get(T id, Consumer<P> found) {
+        Entry entry = lookup(id);
+        if (entry == null) {
+            misses.increment();
+            return Lookup.MISS;
+        }
+        if (entry.value == ABSENT) {
+            negativeHits.increment();
+            return Lookup.NEGATIVE_HIT;
+        }
+        hits.increment();
+        found.accept(copy.apply((P) entry.value));
+        return Lookup.HIT;
+    }
+
+    private Entry lookup(T id) {
+        Entry entry = entries.get(id);
+        if (entry != null && entry.expires - nanoTime.getAsLong() <= 0) {
+            entries.remove(id);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * @return the current epoch, which has to be passed to {@link #put(Object, Object, long)} when the POJO loaded
+     * from the database is put into the cache.
+     */
+    public synchronized long epoch() {
+        return epoch;
+    }
+
+    /**
+     * Caches the POJO of an id, or the id as not existing if <code>pojo</code> is <code>null</code>. The POJO is not
+     * cached if an entry has been invalidated since the load started, because it might have been loaded before the
+     * write that caused the invalidation.
+     * @param id the id
+     * @param pojo the POJO loaded from the database or <code>null</code>
+     * @param epoch the {@link #epoch()} before the POJO has been loaded
+     */
+    public synchronized void put(T id, P pojo, long epoch) {
+        if (epoch != this.epoch || id == null) {
+            return;
+        }
+        long ttl = pojo == null ? negativeTtlNanos : ttlNanos;
+        if (ttl <= 0) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        //avoid an overflow for the default ttl
+        long expires = ttl > Long.MAX_VALUE - now ? now + (Long.MAX_VALUE >> 1) : now + ttl;
+        entries.put(id, new Entry(pojo == null ? ABSENT : copy.apply(pojo), expires));
+    }
+
+    /**
+     * Removes the entry of an id.
+     * @param id the id
+     */
+    public synchronized void invalidate(T id) {
+        epoch++;
+        entries.remove(id);
+    }
+
+    /**
+     * Removes the entries of the given ids.
+     * @param ids the ids
+     */
+    public synchronized void invalidateAll(Collection<T> ids) {
+        epoch++;
+        for (T id : ids) {
+            entries.remove(id);
+        }
+    }
+
+    /**
+     * Removes all ids that are cached as not existing, e.g. after POJOs with generated ids have been inserted.
+     */
+    public synchronized void invalidateNegatives() {
+        epoch++;
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().value == ABSENT) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void invalidateAll() {
+        epoch++;
+        entries.clear();
+    }
+
+    /**
+     * @return the number of cached ids, including expired entries that have not been removed yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups that returned a cached POJO.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups of ids that are cached as not existing.
+     */
+    public long negativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to query the database.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries removed because the cache was full.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the ratio of lookups that did not query the database, or <code>0</code> if there were no lookups.
+     */
+    public double hitRate() {
+        long hits = hitCount() + negativeHitCount();
+        long lookups = hits + missCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long expires;
+
+        Entry(Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The entries of an {@link EntityCache} that are invalidated by a write: the written ids, the ids that are cached as
+ * not existing if the write might have generated ids, or all entries if the written ids are not known.
+ * @param <T> the Key-Type
+ */
+final class Invalidation<T> {
+
+    private final Set<T> ids;
+    private final boolean negatives;
+    private final boolean all;
+
+    private Invalidation(Set<T> ids, boolean negatives, boolean all) {
+        this.ids = ids;
+        this.negatives = negatives;
+        this.all = all;
+    }
+
+    static <T> Invalidation<T> of(Collection<T> ids, boolean negatives) {
+        return new Invalidation<>(new LinkedHashSet<>(ids), negatives, false);
+    }
+
+    static <T> Invalidation<T> all() {
+        return new Invalidation<>(Collections.emptySet(), false, true);
+    }
+
+    Set<T> ids() {
+        return ids;
+    }
+
+    boolean negatives() {
+        return negatives;
+    }
+
+    boolean isAll() {
+        return all;
+    }
+
+    /**
+     * @param other another invalidation
+     * @return an invalidation of the entries of both invalidations
+     */
+    Invalidation<T> merge(Invalidation<T> other) {
+        if (all || other.all) {
+            return all();
+        }
+        Set<T> merged = new LinkedHashSet<>(ids);
+        merged.addAll(other.ids);
+        return new Invalidation<>(merged, negatives || other.negatives, false);
+    }
+
+    void applyTo(EntityCache<T, ?> cache) {
+        if (all) {
+            cache.invalidateAll();
+            return;
+        }
+        if (!ids.isEmpty()) {
+            cache.invalidateAll(ids);
+        }
+        if (negatives) {
+            cache.invalidateNegatives();
+        }
+    }
+}
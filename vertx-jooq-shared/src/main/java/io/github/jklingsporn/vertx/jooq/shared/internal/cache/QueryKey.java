@@ -0,0 +1,100 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.RenderContext;
+import org.jooq.VisitContext;
+import org.jooq.VisitListenerProvider;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultVisitListener;
+import org.jooq.impl.DefaultVisitListenerProvider;
+import org.jooq.impl.TableImpl;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The key of a {@link QueryResultCache}: the rendered SQL and the bind values of a query, together with the names of
+ * the tables it reads.
+ */
+final class QueryKey {
+
+    private static final Object TABLES = new Object();
+
+    /**
+     * Collects the tables visited while a query is rendered. An aliased table is collected by the name of the table,
+     * because jOOQ visits the table when it declares the alias. Plain SQL tables and tables that are only referenced by
+     * plain SQL, e.g. in a condition created by <code>DSL.condition(String)</code>, are not collected, so writes to them
+     * do not invalidate the cached result.
+     */
+    private static final VisitListenerProvider TABLE_COLLECTOR = new DefaultVisitListenerProvider(new DefaultVisitListener() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public void visitStart(VisitContext context) {
+            Set<String> tables = (Set<String>) context.data(TABLES);
+            if (tables != null && context.queryPart() instanceof TableImpl) {
+                tables.add(TableVersions.nameOf((TableImpl<?>) context.queryPart()));
+            }
+        }
+    });
+
+    private final String sql;
+    private final Object[] bindValues;
+    private final String[] tables;
+    private final int hash;
+
+    private QueryKey(String sql, Object[] bindValues, String[] tables) {
+        this.sql = sql;
+        this.bindValues = bindValues;
+        this.tables = tables;
+        this.hash = 31 * sql.hashCode() + Arrays.deepHashCode(bindValues);
+    }
+
+    /**
+     * @param configuration the configuration of a DAO
+     * @return a <code>DSLContext</code> to create the queries passed to {@link #of(DSLContext, Query)}.
+     */
+    static DSLContext dsl(Configuration configuration) {
+        VisitListenerProvider[] providers = configuration.visitListenerProviders();
+        VisitListenerProvider[] withCollector = Arrays.copyOf(providers, providers.length + 1);
+        withCollector[providers.length] = TABLE_COLLECTOR;
+        return DSL.using(configuration.derive(withCollector));
+    }
+
+    /**
+     * @param dsl a context created by {@link #dsl(Configuration)}
+     * @param query the query
+     * @return the key of the query
+     */
+    static QueryKey of(DSLContext dsl, Query query) {
+        Set<String> tables = new LinkedHashSet<>();
+        RenderContext context = dsl.renderContext();
+        context.data(TABLES, tables);
+        String sql = context.visit(query).render();
+        return new QueryKey(sql, dsl.extractBindValues(query).toArray(), tables.toArray(new String[tables.size()]));
+    }
+
+    String[] tables() {
+        return tables;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof QueryKey)) return false;
+        QueryKey other = (QueryKey) o;
+        return hash == other.hash && sql.equals(other.sql) && Arrays.deepEquals(bindValues, other.bindValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return sql + " " + Arrays.deepToString(bindValues);
+    }
+}
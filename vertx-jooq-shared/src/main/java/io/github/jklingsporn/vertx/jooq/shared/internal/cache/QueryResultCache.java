@@ -0,0 +1,263 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import io.vertx.core.impl.Arguments;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded cache of the results of <code>findManyByCondition</code> and <code>findAll</code>, keyed by the rendered
+ * SQL and the bind values of the query. Each result is tagged with the {@link TableVersions} of the tables of its query
+ * and is invalid as soon as one of them has been written through a caching DAO. Optionally, invalid or expired
+ * results are still returned for a while and refreshed in the background (stale-while-revalidate). When the cache is
+ * full, the least recently used result is evicted. The cache can be shared by DAOs running on different event loops,
+ * therefore the POJOs are copied when they are put into and returned from the cache.
+ * @param <P> the POJO-type
+ */
+public class QueryResultCache<P> {
+
+    /**
+     * The result of {@link #get(QueryKey, Consumer)}.
+     */
+    enum Lookup {
+        /**
+         * The result is cached and valid.
+         */
+        HIT,
+        /**
+         * A stale result is returned and is being refreshed already.
+         */
+        STALE,
+        /**
+         * A stale result is returned and has to be refreshed by the caller.
+         */
+        REFRESH,
+        /**
+         * The result is not cached.
+         */
+        MISS
+    }
+
+    private final int maxSize;
+    private final TableVersions tableVersions;
+    private final LongSupplier nanoTime;
+    private final Map<QueryKey, Entry<P>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long ttlNanos = Long.MAX_VALUE;
+    private volatile long maxStaleNanos = 0;
+    private final UnaryOperator<P> copy;
+
+    /**
+     * @param maxSize the maximum number of cached results.
+     * @param copy copies the POJOs when they are put into and returned from the cache, e.g. the copy constructor of
+     *             the POJO. Only pass <code>UnaryOperator.identity()</code> if the POJOs are never modified, because
+     *             all callers would get the same instances.
+     */
+    public QueryResultCache(int maxSize, UnaryOperator<P> copy) {
+        this(maxSize, copy, TableVersions.shared(), System::nanoTime);
+    }
+
+    QueryResultCache(int maxSize, UnaryOperator<P> copy, TableVersions tableVersions, LongSupplier nanoTime) {
+        Arguments.require(maxSize > 0, "maxSize must be positive");
+        Arguments.require(copy != null, "copy must not be null");
+        this.maxSize = maxSize;
+        this.copy = copy;
+        this.tableVersions = tableVersions;
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<QueryKey, Entry<P>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, Entry<P>> eldest) {
+                if (size() > QueryResultCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param ttl the time after which a cached result expires. By default, results do not expire and are only evicted
+     *            when the cache is full or one of the tables of the query has been written.
+     * @param unit the unit of <code>ttl</code>
+     * @return this
+     */
+    public QueryResultCache<P> setTtl(long ttl, TimeUnit unit) {
+        this.ttlNanos = unit.toNanos(ttl);
+        return this;
+    }
+
+    /**
+     * Returns results that are invalid or expired if they have been loaded less than <code>maxStale</code> ago and
+     * refreshes them in the background, so that callers do not wait for the database. Callers might not see their own
+     * writes then. Defaults to <code>0</code>, which always loads invalid results before they are returned.
+     * @param maxStale the maximum age of a stale result
+     * @param unit the unit of <code>maxStale</code>
+     * @return this
+     */
+    public QueryResultCache<P> setMaxStale(long maxStale, TimeUnit unit) {
+        this.maxStaleNanos = unit.toNanos(maxStale);
+        return this;
+    }
+
+    /**
+     * @return the versions of the tables the results are tagged with.
+     */
+    public TableVersions tableVersions() {
+        return tableVersions;
+    }
+
+    synchronized Lookup get(QueryKey key, Consumer<List<P>> found) {
+        Entry<P> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return Lookup.MISS;
+        }
+        long now = nanoTime.getAsLong();
+        if (entry.expires - now > 0 && Arrays.equals(entry.versions, versions(key))) {
+            hits.increment();
+            found.accept(copyAll(entry.result));
+            return Lookup.HIT;
+        }
+        if (now - entry.loaded < maxStaleNanos) {
+            staleHits.increment();
+            found.accept(copyAll(entry.result));
+            if (entry.refreshing) {
+                return Lookup.STALE;
+            }
+            entry.refreshing = true;
+            return Lookup.REFRESH;
+        }
+        entries.remove(key);
+        misses.increment();
+        return Lookup.MISS;
+    }
+
+    /**
+     * @return the current versions of the tables of the query, which have to be passed to
+     * {@link #put(QueryKey, List, long[])} when the result loaded from the database is put into the cache.
+     */
+    long[] versions(QueryKey key) {
+        String[] tables = key.tables();
+        long[] versions = new long[tables.length];
+        for (int i = 0; i < tables.length; i++) {
+            versions[i] = tableVersions.version(tables[i]);
+        }
+        return versions;
+    }
+
+    /**
+     * Caches the result of a query. The result is not cached if one of the tables has been written since the load
+     * started, because it might have been loaded before the write.
+     * @param key the query
+     * @param result the result loaded from the database
+     * @param versions the {@link #versions(QueryKey)} before the result has been loaded
+     */
+    synchronized void put(QueryKey key, List<P> result, long[] versions) {
+        if (ttlNanos <= 0 || !Arrays.equals(versions, versions(key))) {
+            refreshFailed(key);
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        //avoid an overflow for the default ttl
+        long expires = ttlNanos > Long.MAX_VALUE - now ? now + (Long.MAX_VALUE >> 1) : now + ttlNanos;
+        entries.put(key, new Entry<>(copyAll(result), versions, now, expires));
+    }
+
+    /**
+     * Lets the next lookup of a stale result refresh it again.
+     * @param key the query
+     */
+    synchronized void refreshFailed(QueryKey key) {
+        Entry<P> entry = entries.get(key);
+        if (entry != null) {
+            entry.refreshing = false;
+        }
+    }
+
+    private List<P> copyAll(List<P> result) {
+        List<P> copies = new ArrayList<>(result.size());
+        for (P pojo : result) {
+            copies.add(copy.apply(pojo));
+        }
+        return copies;
+    }
+
+    /**
+     * Removes all results.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return the number of cached results, including invalid results that have not been removed yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups that returned a valid result.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that returned a stale result.
+     */
+    public long staleHitCount() {
+        return staleHits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to query the database.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of results removed because the cache was full.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the ratio of lookups that did not wait for the database, or <code>0</code> if there were no lookups.
+     */
+    public double hitRate() {
+        long hits = hitCount() + staleHitCount();
+        long lookups = hits + missCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private static final class Entry<P> {
+
+        private final List<P> result;
+        private final long[] versions;
+        private final long loaded;
+        private final long expires;
+        private boolean refreshing;
+
+        Entry(List<P> result, long[] versions, long loaded, long expires) {
+            this.result = result;
+            this.versions = versions;
+            this.loaded = loaded;
+            this.expires = expires;
+        }
+    }
+}
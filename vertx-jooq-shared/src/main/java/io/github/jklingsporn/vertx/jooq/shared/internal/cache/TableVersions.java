@@ -0,0 +1,74 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import org.jooq.Table;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A version counter per table, incremented by the DAOs before each write and after it has completed and by a
+ * {@link CacheInvalidationChannel} when another instance has written the table. The results of a
+ * {@link QueryResultCache} are tagged with the versions of the tables of their query and are invalid as soon as one
+ * of these versions has been incremented. The versions are only known within one process, the writes of other
+ * processes are only noticed through a {@link CacheInvalidationChannel} of the written table.
+ */
+public class TableVersions {
+
+    private static final TableVersions SHARED = new TableVersions();
+
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * @return the versions used by all DAOs of this process.
+     */
+    public static TableVersions shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param table the table
+     * @return the qualified name of the table the versions are kept by, e.g. <code>vertx.something</code>
+     */
+    public static String nameOf(Table<?> table) {
+        return String.join(".", table.getQualifiedName().getName());
+    }
+
+    /**
+     * @param table the qualified name of the table, e.g. <code>vertx.something</code>
+     * @return the current version of the table
+     */
+    public long version(String table) {
+        AtomicLong version = versions.get(table);
+        return version == null ? 0 : version.get();
+    }
+
+    /**
+     * @param table the table
+     * @return the current version of the table
+     */
+    public long version(Table<?> table) {
+        return version(nameOf(table));
+    }
+
+    /**
+     * Increments the version of a table. Call this after the table has been written without using a DAO, e.g. by a
+     * <code>QueryExecutor</code>.
+     * @param table the qualified name of the table, e.g. <code>vertx.something</code>
+     */
+    public void increment(String table) {
+        AtomicLong version = versions.get(table);
+        if (version == null) {
+            version = versions.computeIfAbsent(table, t -> new AtomicLong());
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * @param table the table that has been written
+     * @see #increment(String)
+     */
+    public void increment(Table<?> table) {
+        increment(nameOf(table));
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AdaptiveBatchSize;
+import io.github.jklingsporn.vertx.jooq.shared.internal.BatchResult;
+import org.jooq.BatchBindStep;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.TableRecord;
+import org.jooq.UpdatableRecord;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes records in chunks using JDBC-batches: records rendering the same statement share one
+ * <code>PreparedStatement</code> that is executed once per chunk. This is blocking code and must be run on a
+ * {@link JDBCWorkerPool}. If a chunk fails, the chunks executed before are not rolled back unless the operation is
+ * part of a transaction.
+ */
+public class JDBCBatch {
+
+    private JDBCBatch() {
+    }
+
+    /**
+     * Inserts the records.
+     * @param dslContext the context the chunks are executed with.
+     * @param records the records to insert.
+     * @param batchSize determines the size of each chunk and is adapted after each chunk.
+     * @return the result of all chunks.
+     * @throws org.jooq.exception.DataAccessException if a chunk fails.
+     */
+    public static BatchResult insert(DSLContext dslContext, List<? extends TableRecord<?>> records, AdaptiveBatchSize batchSize){
+        BatchResult result = new BatchResult();
+        execute(records, batchSize, chunk -> dslContext.batchInsert(chunk).execute(),
+                (offset, counts, elapsed) -> result.add(new BatchResult.Chunk(offset, counts.length, sum(counts), elapsed)));
+        return result;
+    }
+
+    /**
+     * Updates the records using their primary keys. Only changed fields are updated.
+     * @param dslContext the context the chunks are executed with.
+     * @param records the records to update.
+     * @param batchSize determines the size of each chunk and is adapted after each chunk.
+     * @return the number of updated rows of each record in the order of <code>records</code>. Drivers that do not
+     * report the count of each statement return <code>java.sql.Statement.SUCCESS_NO_INFO</code>.
+     * @throws org.jooq.exception.DataAccessException if a chunk fails.
+     */
+    public static List<Integer> update(DSLContext dslContext, List<? extends UpdatableRecord<?>> records, AdaptiveBatchSize batchSize){
+        List<Integer> result = new ArrayList<>(records.size());
+        execute(records, batchSize, chunk -> dslContext.batchUpdate(chunk).execute(),
+                (offset, counts, elapsed) -> {
+                    for (int count : counts) {
+                        result.add(count);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Executes arbitrary queries. Consecutive queries rendering the same SQL share one <code>PreparedStatement</code>
+     * to which the bind values of each query are added, so the order of the queries is kept.
+     * @param dslContext the context the chunks are executed with.
+     * @param queries the queries to execute.
+     * @param batchSize determines the size of each chunk and is adapted after each chunk.
+     * @return the result of all chunks.
+     * @throws org.jooq.exception.DataAccessException if a chunk fails.
+     */
+    public static BatchResult execute(DSLContext dslContext, List<? extends Query> queries, AdaptiveBatchSize batchSize){
+        BatchResult result = new BatchResult();
+        execute(queries, batchSize, chunk -> executeGrouped(dslContext, chunk),
+                (offset, counts, elapsed) -> result.add(new BatchResult.Chunk(offset, counts.length, sum(counts), elapsed)));
+        return result;
+    }
+
+    private static int[] executeGrouped(DSLContext dslContext, List<? extends Query> queries){
+        int[] counts = new int[queries.size()];
+        int offset = 0;
+        while(offset < queries.size()){
+            Query template = queries.get(offset);
+            String sql = dslContext.render(template);
+            BatchBindStep batch = dslContext.batch(template).bind(dslContext.extractBindValues(template).toArray());
+            int end = offset + 1;
+            while(end < queries.size()){
+                Query query = queries.get(end);
+                if(!sql.equals(dslContext.render(query))){
+                    break;
+                }
+                batch = batch.bind(dslContext.extractBindValues(query).toArray());
+                end++;
+            }
+            int[] groupCounts = batch.execute();
+            System.arraycopy(groupCounts, 0, counts, offset, Math.min(groupCounts.length, end - offset));
+            offset = end;
+        }
+        return counts;
+    }
+
+    private static <E> void execute(List<E> elements, AdaptiveBatchSize batchSize, Function<List<E>, int[]> batch, ChunkHandler chunkHandler){
+        int offset = 0;
+        while(offset < elements.size()){
+            int size = Math.min(batchSize.get(), elements.size() - offset);
+            long start = System.nanoTime();
+            int[] counts = batch.apply(elements.subList(offset, offset + size));
+            long elapsed = System.nanoTime() - start;
+            batchSize.record(size, elapsed);
+            chunkHandler.handle(offset, counts, elapsed);
+            offset += size;
+        }
+    }
+
+    private static int sum(int[] counts){
+        int rows = 0;
+        for (int count : counts) {
+            //drivers may not report the count of each statement
+            rows += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return rows;
+    }
+
+    private interface ChunkHandler {
+        void handle(int offset, int[] counts, long elapsedNanos);
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A <code>ReadStream</code> backed by a lazy jOOQ <code>Cursor</code>. Rows are fetched and mapped in chunks of
+ * <code>fetchSize</code> on the {@link JDBCWorkerPool} and handed to the caller's context as the consumer asks for
+ * them: the next chunk is only fetched when all rows of the previous chunk have been consumed and the stream is not
+ * paused. The stream starts when a handler is set. Setting the handler to <code>null</code> or calling
+ * {@link #close()} cancels the stream and closes the cursor. All methods must be called on the same context.
+ * @param <R> the <code>Record</code> type.
+ * @param <P> the type of the streamed elements, e.g. the POJO-type.
+ */
+public class JDBCCursorReadStream<R extends Record, P> implements ReadStream<P> {
+
+    private final JDBCWorkerPool workerPool;
+    private final ResultQuery<R> query;
+    private final Function<Result<R>, List<P>> chunkMapper;
+    private final int fetchSize;
+    private final Deque<P> buffer = new ArrayDeque<>();
+
+    private volatile Cursor<R> cursor;
+    private Handler<P> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private boolean paused;
+    private boolean fetching;
+    private boolean exhausted;
+    private boolean closed;
+
+    /**
+     * @param workerPool the pool the cursor is opened and fetched on.
+     * @param query the query, attached to a <code>Configuration</code>.
+     * @param chunkMapper maps a chunk of records, e.g. <code>result -&gt; result.into(pojoType)</code>.
+     * @param fetchSize the number of rows fetched at once. This is also passed to the JDBC-driver as fetch size.
+     */
+    public JDBCCursorReadStream(JDBCWorkerPool workerPool, ResultQuery<R> query, Function<Result<R>, List<P>> chunkMapper, int fetchSize) {
+        if(fetchSize < 1){
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        this.workerPool = workerPool;
+        this.query = query;
+        this.chunkMapper = chunkMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public JDBCCursorReadStream<R, P> exceptionHandler(Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public JDBCCursorReadStream<R, P> handler(Handler<P> handler) {
+        if(handler == null){
+            this.handler = null;
+            close();
+        }else{
+            this.handler = handler;
+            deliver();
+        }
+        return this;
+    }
+
+    @Override
+    public JDBCCursorReadStream<R, P> pause() {
+        paused = true;
+        return this;
+    }
+
+    @Override
+    public JDBCCursorReadStream<R, P> resume() {
+        if(paused){
+            paused = false;
+            deliver();
+        }
+        return this;
+    }
+
+    @Override
+    public JDBCCursorReadStream<R, P> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    /**
+     * Cancels this stream and closes the underlying cursor. No more elements are delivered and the end handler is
+     * not called.
+     */
+    public void close(){
+        if(closed){
+            return;
+        }
+        closed = true;
+        buffer.clear();
+        if(!fetching){
+            //otherwise the cursor is closed when the current fetch completes
+            closeCursor();
+        }
+    }
+
+    private void deliver(){
+        while(!paused && !closed && handler != null && !buffer.isEmpty()){
+            handler.handle(buffer.poll());
+        }
+        if(closed || !buffer.isEmpty()){
+            return;
+        }
+        if(exhausted){
+            closed = true;
+            if(endHandler != null){
+                endHandler.handle(null);
+            }
+        }else if(!paused && handler != null){
+            fetch();
+        }
+    }
+
+    private void fetch(){
+        if(fetching){
+            return;
+        }
+        fetching = true;
+        workerPool.<List<P>>executeBlocking(f -> {
+            try{
+                if(cursor == null){
+                    cursor = query.fetchSize(fetchSize).fetchLazy();
+                }
+                Result<R> chunk = cursor.fetchNext(fetchSize);
+                if(chunk.size() < fetchSize){
+                    cursor.close();
+                }
+                f.complete(chunkMapper.apply(chunk));
+            }catch (RuntimeException e){
+                if(cursor != null){
+                    cursor.close();
+                }
+                throw e;
+            }
+        }, true, res -> {
+            fetching = false;
+            if(closed){
+                closeCursor();
+            }else if(res.failed()){
+                closed = true;
+                buffer.clear();
+                if(exceptionHandler != null){
+                    exceptionHandler.handle(res.cause());
+                }
+            }else{
+                List<P> chunk = res.result();
+                exhausted = chunk.size() < fetchSize;
+                buffer.addAll(chunk);
+                deliver();
+            }
+        });
+    }
+
+    private void closeCursor(){
+        Cursor<R> c = cursor;
+        if(c != null && !c.isClosed()){
+            workerPool.<Void>executeBlocking(f -> {
+                c.close();
+                f.complete();
+            }, false, res -> {});
+        }
+    }
+}
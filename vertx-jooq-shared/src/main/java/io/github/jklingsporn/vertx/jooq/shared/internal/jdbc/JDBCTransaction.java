@@ -0,0 +1,166 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A transaction of the JDBC-<code>QueryExecutors</code>. Beginning the transaction acquires one connection from the
+ * <code>ConnectionProvider</code> of the given <code>Configuration</code> which is used by all statements until the
+ * transaction is committed or rolled back. All blocking code of a transaction is executed one after another on the
+ * {@link JDBCWorkerPool} using the transaction as ordering key.
+ */
+public class JDBCTransaction {
+
+    private final Configuration configuration;
+    private final JDBCWorkerPool workerPool;
+    private Connection connection;
+    private boolean autoCommit;
+
+    /**
+     * @param configuration the configuration to acquire the connection from.
+     * @param workerPool the pool the blocking code is executed on.
+     */
+    public JDBCTransaction(Configuration configuration, JDBCWorkerPool workerPool) {
+        this.configuration = configuration;
+        this.workerPool = workerPool;
+    }
+
+    /**
+     * Acquires the connection and disables auto-commit.
+     * @param resultHandler called with a <code>Configuration</code> that uses the acquired connection.
+     */
+    public void begin(Handler<AsyncResult<Configuration>> resultHandler){
+        executeBlocking(f -> {
+            ConnectionProvider connectionProvider = configuration.connectionProvider();
+            Connection c = connectionProvider.acquire();
+            try{
+                autoCommit = c.getAutoCommit();
+                if(autoCommit){
+                    c.setAutoCommit(false);
+                }
+            }catch (SQLException e){
+                connectionProvider.release(c);
+                throw new DataAccessException("Failed beginning transaction", e);
+            }
+            connection = c;
+            f.complete(configuration.derive(new DefaultConnectionProvider(c)));
+        }, resultHandler);
+    }
+
+    /**
+     * Commits the transaction and releases the connection.
+     * @param resultHandler
+     */
+    public void commit(Handler<AsyncResult<Void>> resultHandler){
+        end(true, resultHandler);
+    }
+
+    /**
+     * Rolls the transaction back and releases the connection.
+     * @param resultHandler
+     */
+    public void rollback(Handler<AsyncResult<Void>> resultHandler){
+        end(false, resultHandler);
+    }
+
+    /**
+     * Executes the blocking code after all previously submitted code of this transaction has completed.
+     * @param blockingCodeHandler the blocking code
+     * @param resultHandler the handler called on the caller's context when the blocking code has completed.
+     * @param <X> the result type
+     */
+    public <X> void executeBlocking(Handler<Future<X>> blockingCodeHandler, Handler<AsyncResult<X>> resultHandler){
+        workerPool.executeBlocking(this, blockingCodeHandler, resultHandler);
+    }
+
+    /**
+     * @return a pool that executes all blocking code as part of this transaction, so a {@link JDBCCursorReadStream}
+     * opened on the connection of the transaction fetches its chunks one after another with the other statements of
+     * the transaction. Code submitted before the transaction has begun or after it has ended fails.
+     */
+    public JDBCWorkerPool asWorkerPool(){
+        return new TransactionWorkerPool(this);
+    }
+
+    private void end(boolean commit, Handler<AsyncResult<Void>> resultHandler){
+        executeBlocking(f -> {
+            Connection c = connection;
+            if(c == null){
+                throw new IllegalStateException("Transaction not active");
+            }
+            connection = null;
+            try{
+                if(commit){
+                    c.commit();
+                }else{
+                    c.rollback();
+                }
+                f.complete();
+            }catch (SQLException e){
+                throw new DataAccessException(commit ? "Failed committing transaction" : "Failed rolling back transaction", e);
+            }finally {
+                try{
+                    if(autoCommit){
+                        c.setAutoCommit(true);
+                    }
+                }catch (SQLException e){
+                    //the connection is released anyway
+                }finally {
+                    configuration.connectionProvider().release(c);
+                }
+            }
+        }, resultHandler);
+    }
+
+    /**
+     * Runs ordered and unordered executions as well as executions with another ordering key using the ordering key
+     * of the transaction.
+     */
+    private static class TransactionWorkerPool extends JDBCWorkerPool {
+
+        private final JDBCTransaction transaction;
+
+        TransactionWorkerPool(JDBCTransaction transaction) {
+            super(transaction.workerPool.vertx(), transaction.workerPool.getName(), null);
+            this.transaction = transaction;
+        }
+
+        @Override
+        public <X> void executeBlocking(Handler<Future<X>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<X>> resultHandler) {
+            transaction.executeBlocking(f -> {
+                if(transaction.connection == null){
+                    throw new IllegalStateException("Transaction not active");
+                }
+                blockingCodeHandler.handle(f);
+            }, resultHandler);
+        }
+
+        @Override
+        public <X> void executeBlocking(Object orderingKey, Handler<Future<X>> blockingCodeHandler, Handler<AsyncResult<X>> resultHandler) {
+            executeBlocking(blockingCodeHandler, true, resultHandler);
+        }
+
+        @Override
+        public int getQueueDepth() {
+            return transaction.workerPool.getQueueDepth();
+        }
+
+        @Override
+        public int getRunningCount() {
+            return transaction.workerPool.getRunningCount();
+        }
+
+        @Override
+        public void close() {
+            //the pool is owned by the executor that started the transaction
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Closeable;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The pool of threads the JDBC-<code>QueryExecutors</code> run their blocking code on. By default, queries are
+ * executed using <code>Vertx#executeBlocking</code> and thus compete with any other blocking code for the
+ * threads of the vertx worker pool. Use {@link #create(Vertx, String, int, long)} to run queries on a named
+ * <code>WorkerExecutor</code> instead, which allows sizing database concurrency according to your connection pool.
+ * Named pools are shared across verticles: calling <code>create</code> with the same name on the same
+ * <code>Vertx</code> instance returns the same pool. A named pool is not bound to the verticle that created it: it
+ * is running until it is closed explicitly or the <code>Vertx</code> instance is closed.
+ */
+public class JDBCWorkerPool implements Shareable {
+
+    private static final String POOLS_MAP_NAME = "vertx-jooq.jdbc.workerpools";
+    private static final Object POOLS_LOCK = new Object();
+    /**
+     * The key of the pool using the vertx worker pool in the map of pools, reserved for {@link #shared(Vertx)}.
+     */
+    private static final String SHARED_POOL_KEY = ".vertx-worker-pool";
+
+    private final Vertx vertx;
+    private final String name;
+    private final WorkerExecutor workerExecutor;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Map<Object, Deque<Runnable>> keyedQueues = new HashMap<>();
+
+    protected JDBCWorkerPool(Vertx vertx, String name, WorkerExecutor workerExecutor) {
+        this.vertx = vertx;
+        this.name = name;
+        this.workerExecutor = workerExecutor;
+    }
+
+    /**
+     * Returns the pool that executes blocking code using the worker pool of the given <code>Vertx</code>-instance.
+     * There is one such pool per <code>Vertx</code>-instance, so all executors using it share the ordering of keyed
+     * executions and the queue depth.
+     * @param vertx the vertx instance
+     * @return the pool
+     */
+    public static JDBCWorkerPool shared(Vertx vertx) {
+        return getOrCreate(vertx, SHARED_POOL_KEY, () -> new JDBCWorkerPool(vertx, null, null));
+    }
+
+    /**
+     * Returns a dedicated pool using the default max execute time.
+     * @see #create(Vertx, String, int, long)
+     */
+    public static JDBCWorkerPool create(Vertx vertx, String name, int poolSize) {
+        return create(vertx, name, poolSize, VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME);
+    }
+
+    /**
+     * Returns a dedicated pool backed by a shared, named <code>WorkerExecutor</code>. If a pool with the same name
+     * has already been created for the given <code>Vertx</code>-instance, that pool is returned and
+     * <code>poolSize</code> and <code>maxExecuteTime</code> are ignored.
+     * @param vertx the vertx instance
+     * @param name the name of the pool
+     * @param poolSize the number of threads, usually the size of your connection pool
+     * @param maxExecuteTime the max time in nanoseconds a query may run before vertx logs a blocked thread warning
+     * @return the pool
+     * @see Vertx#createSharedWorkerExecutor(String, int, long)
+     */
+    public static JDBCWorkerPool create(Vertx vertx, String name, int poolSize, long maxExecuteTime) {
+        Objects.requireNonNull(name);
+        return getOrCreate(vertx, name, () -> new JDBCWorkerPool(vertx, name, createDetachedExecutor(vertx, name, poolSize, maxExecuteTime)));
+    }
+
+    /**
+     * Vertx closes a <code>WorkerExecutor</code> when the verticle that created it is undeployed. Because the pool is
+     * shared with other verticles, the executor is detached from the context of the caller.
+     */
+    private static WorkerExecutor createDetachedExecutor(Vertx vertx, String name, int poolSize, long maxExecuteTime){
+        Context context = vertx.getOrCreateContext();
+        WorkerExecutor workerExecutor = vertx.createSharedWorkerExecutor(name, poolSize, maxExecuteTime);
+        if(workerExecutor instanceof Closeable){
+            context.removeCloseHook((Closeable) workerExecutor);
+        }
+        return workerExecutor;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <P extends JDBCWorkerPool> P getOrCreate(Vertx vertx, String name, Supplier<P> poolSupplier){
+        synchronized (POOLS_LOCK){
+            LocalMap<String, JDBCWorkerPool> pools = vertx.sharedData().getLocalMap(POOLS_MAP_NAME);
+            JDBCWorkerPool pool = pools.get(name);
+            if(pool == null){
+                pool = poolSupplier.get();
+                pools.put(name, pool);
+            }
+            return (P) pool;
+        }
+    }
+
+    /**
+     * Executes the blocking code on this pool.
+     * @param blockingCodeHandler the blocking code
+     * @param ordered if <code>true</code>, executions of the same context are run one after another. Otherwise
+     *                executions may run in parallel.
+     * @param resultHandler the handler called on the caller's context when the blocking code has completed.
+     * @param <X> the result type
+     * @see Vertx#executeBlocking(Handler, boolean, Handler)
+     */
+    public <X> void executeBlocking(Handler<Future<X>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<X>> resultHandler){
+        queued.incrementAndGet();
+        dispatch(blockingCodeHandler, ordered, resultHandler);
+    }
+
+    /**
+     * Executes the blocking code on this pool. Executions sharing the same <code>orderingKey</code> are run one after
+     * another in the order they have been submitted, regardless of the context they have been submitted from.
+     * Executions with different keys may run in parallel.
+     * @param orderingKey the key, e.g. the primary key of the row that is changed.
+     * @param blockingCodeHandler the blocking code
+     * @param resultHandler the handler called on the caller's context when the blocking code has completed.
+     * @param <X> the result type
+     */
+    public <X> void executeBlocking(Object orderingKey, Handler<Future<X>> blockingCodeHandler, Handler<AsyncResult<X>> resultHandler){
+        Objects.requireNonNull(orderingKey);
+        queued.incrementAndGet();
+        Handler<AsyncResult<X>> runNextHandler = res -> {
+            try{
+                resultHandler.handle(res);
+            }finally {
+                runNext(orderingKey);
+            }
+        };
+        synchronized (keyedQueues){
+            Deque<Runnable> queue = keyedQueues.get(orderingKey);
+            if(queue != null){
+                //dispatch from the caller's context, so the result is also handled there
+                Context context = vertx.getOrCreateContext();
+                queue.add(() -> context.runOnContext(v -> dispatch(blockingCodeHandler, false, runNextHandler)));
+                return;
+            }
+            keyedQueues.put(orderingKey, new ArrayDeque<>());
+        }
+        dispatch(blockingCodeHandler, false, runNextHandler);
+    }
+
+    private void runNext(Object orderingKey){
+        Runnable next;
+        synchronized (keyedQueues){
+            Deque<Runnable> queue = keyedQueues.get(orderingKey);
+            next = queue.poll();
+            if(next == null){
+                keyedQueues.remove(orderingKey);
+            }
+        }
+        if(next != null){
+            next.run();
+        }
+    }
+
+    private <X> void dispatch(Handler<Future<X>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<X>> resultHandler){
+        Handler<Future<X>> measured = future -> {
+            queued.decrementAndGet();
+            running.incrementAndGet();
+            try{
+                blockingCodeHandler.handle(future);
+            }finally {
+                running.decrementAndGet();
+            }
+        };
+        doExecuteBlocking(measured, ordered, resultHandler);
+    }
+
+    /**
+     * Hands the blocking code over to the threads of this pool. Subclasses overriding this method must call the
+     * <code>resultHandler</code> on the caller's context.
+     * @param blockingCodeHandler the blocking code
+     * @param ordered if <code>true</code>, executions of the same context are run one after another.
+     * @param resultHandler the handler called when the blocking code has completed.
+     * @param <X> the result type
+     */
+    protected <X> void doExecuteBlocking(Handler<Future<X>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<X>> resultHandler){
+        if(workerExecutor == null){
+            vertx.executeBlocking(blockingCodeHandler, ordered, resultHandler);
+        }else{
+            workerExecutor.executeBlocking(blockingCodeHandler, ordered, resultHandler);
+        }
+    }
+
+    protected Vertx vertx() {
+        return vertx;
+    }
+
+    /**
+     * @return the number of tasks that have been submitted to this pool but have not been started yet. This includes
+     * tasks waiting for a previous task with the same ordering key.
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * @return the number of tasks that are currently executed.
+     */
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    /**
+     * @return the name of this pool or <code>null</code> if this pool uses the vertx worker pool.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Closes the underlying <code>WorkerExecutor</code>. Does nothing when using the vertx worker pool.
+     */
+    public void close(){
+        if(name != null){
+            synchronized (POOLS_LOCK){
+                vertx.sharedData().getLocalMap(POOLS_MAP_NAME).remove(name);
+            }
+        }
+        if(workerExecutor != null){
+            workerExecutor.close();
+        }
+    }
+}
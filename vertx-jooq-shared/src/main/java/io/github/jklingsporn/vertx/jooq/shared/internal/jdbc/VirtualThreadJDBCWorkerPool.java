@@ -0,0 +1,105 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A {@link JDBCWorkerPool} that runs each query on its own virtual thread instead of a thread of a worker pool.
+ * Because virtual threads are cheap, the number of queries in flight is no longer capped by the size of a worker pool
+ * but only by the size of your connection pool. Results are handed back to the caller's context. Ordered executions
+ * are serialized per context. Virtual threads require a Java 21 runtime, use {@link #isSupported()} to check for
+ * availability.
+ */
+public class VirtualThreadJDBCWorkerPool extends JDBCWorkerPool {
+
+    private static final String NAME = "vertx-jooq-virtual-threads";
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private final ExecutorService executorService;
+
+    protected VirtualThreadJDBCWorkerPool(Vertx vertx, String name, ExecutorService executorService) {
+        super(vertx, name, null);
+        this.executorService = executorService;
+    }
+
+    /**
+     * Returns the virtual thread pool of the given <code>Vertx</code>-instance. The pool is shared across verticles
+     * and created on first access.
+     * @param vertx the vertx instance
+     * @return the pool
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads.
+     */
+    public static VirtualThreadJDBCWorkerPool shared(Vertx vertx) {
+        if(!isSupported()){
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later.");
+        }
+        return getOrCreate(vertx, NAME, () -> new VirtualThreadJDBCWorkerPool(vertx, NAME, newVirtualThreadExecutor()));
+    }
+
+    /**
+     * @return <code>true</code> if the runtime supports virtual threads.
+     */
+    public static boolean isSupported(){
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    private static Method findVirtualThreadExecutorFactory(){
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadExecutor(){
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Could not create virtual thread executor.", e);
+        }
+    }
+
+    @Override
+    public <X> void executeBlocking(Handler<Future<X>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<X>> resultHandler) {
+        if(ordered){
+            executeBlocking(vertx().getOrCreateContext(), blockingCodeHandler, resultHandler);
+        }else{
+            super.executeBlocking(blockingCodeHandler, false, resultHandler);
+        }
+    }
+
+    @Override
+    protected <X> void doExecuteBlocking(Handler<Future<X>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<X>> resultHandler) {
+        Context context = vertx().getOrCreateContext();
+        try{
+            executorService.execute(() -> {
+                Future<X> future = Future.future();
+                try{
+                    blockingCodeHandler.handle(future);
+                }catch (Throwable e){
+                    future.tryFail(e);
+                }
+                context.runOnContext(v -> resultHandler.handle(future));
+            });
+        }catch (RejectedExecutionException e){
+            context.runOnContext(v -> resultHandler.handle(Future.failedFuture(e)));
+        }
+    }
+
+    /**
+     * Shuts down the underlying <code>ExecutorService</code>. Queries that are already running are completed.
+     */
+    @Override
+    public void close() {
+        super.close();
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.service;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+
+/**
+ * Sends the operations of a DAO to the {@link AbstractDAOServiceVerticle} listening on the given address. Subclasses
+ * implement the {@link GenericDAOService}-interface of their API by converting the <code>Futures</code> returned by
+ * {@link #request(DAOServiceAction, Object...)}. Operations taking a <code>Condition</code> are not part of that
+ * interface, because <code>Conditions</code> are not sent over the event bus.
+ * @param <P> the POJO-type
+ * @param <T> the Key-Type
+ */
+public abstract class AbstractDAOServiceProxy<P, T> {
+
+    private final Vertx vertx;
+    private final String address;
+    private final DAOServiceCodec codec;
+    private long sendTimeout = DeliveryOptions.DEFAULT_TIMEOUT;
+
+    /**
+     * @param vertx the vertx instance
+     * @param address the address of the service
+     * @param codec the codec of the requests and replies. Registered on the event bus unless there is a codec with
+     *              the same name already.
+     */
+    protected AbstractDAOServiceProxy(Vertx vertx, String address, DAOServiceCodec codec) {
+        this.vertx = vertx;
+        this.address = address;
+        this.codec = codec;
+        codec.register(vertx.eventBus());
+    }
+
+    /**
+     * @param sendTimeout the milliseconds to wait for the reply of the service.
+     * @return this
+     */
+    public AbstractDAOServiceProxy<P, T> setSendTimeout(long sendTimeout) {
+        this.sendTimeout = sendTimeout;
+        return this;
+    }
+
+    protected Vertx vertx() {
+        return vertx;
+    }
+
+    /**
+     * Sends the given action to the service.
+     * @param action the operation to perform
+     * @param args the arguments of the operation
+     * @param <X> the type of the result
+     * @return a <code>Future</code> completed with the reply of the service, failed with a
+     * <code>ReplyException</code> if the service failed or did not answer in time.
+     */
+    @SuppressWarnings("unchecked")
+    protected <X> Future<X> request(DAOServiceAction action, Object... args) {
+        Future<X> result = Future.future();
+        DeliveryOptions options = new DeliveryOptions()
+                .setCodecName(codec.name())
+                .setSendTimeout(sendTimeout)
+                .addHeader(DAOServiceAction.HEADER, action.name());
+        vertx.eventBus().send(address, args, options, ar -> {
+            if(ar.succeeded()){
+                result.complete((X) ar.result().body());
+            }else{
+                result.fail(ar.cause());
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,284 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.service;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.SQLStateClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Exposes a DAO on the event bus. The requests sent by a {@link AbstractDAOServiceProxy} are executed by the DAO and
+ * the results are sent back using the {@link DAOServiceCodec}. <code>findOneById</code>- and
+ * <code>findManyByIds</code>-requests that arrive at the same time are merged into one <code>findManyByIds</code>
+ * query, so that many concurrent lookups result in one <code>SELECT ... WHERE id IN (...)</code>.
+ * @param <P> the POJO-type
+ * @param <T> the Key-Type
+ * @param <DAO> the type of the DAO
+ */
+public abstract class AbstractDAOServiceVerticle<P, T, DAO extends GenericDAOService<P, T, ?, ?, ?, ?>> extends AbstractVerticle {
+
+    private final String address;
+    private final DAOServiceCodec codec;
+    private final Function<Vertx, DAO> daoFactory;
+    private final DeliveryOptions replyOptions;
+    private final List<Message<Object>> pendingLookups = new ArrayList<>();
+    private final Set<T> pendingIds = new LinkedHashSet<>();
+    private int maxBatchSize = 1000;
+    private long maxBatchDelay = 0;
+    private DAO dao;
+    private MessageConsumer<Object> consumer;
+
+    /**
+     * @param address the address to listen on
+     * @param codec the codec of the requests and replies
+     * @param daoFactory creates the DAO when the verticle is started
+     */
+    protected AbstractDAOServiceVerticle(String address, DAOServiceCodec codec, Function<Vertx, DAO> daoFactory) {
+        this.address = address;
+        this.codec = codec;
+        this.daoFactory = daoFactory;
+        this.replyOptions = new DeliveryOptions().setCodecName(codec.name());
+    }
+
+    /**
+     * Converts the result of a DAO-operation into a <code>Future</code>.
+     * @param result the result of the DAO-operation, e.g. a <code>Single</code>
+     * @return a <code>Future</code> that completes with the result. Empty results have to be converted into
+     * <code>null</code>.
+     */
+    protected abstract Future<Object> toFuture(Object result);
+
+    /**
+     * @param pojo the POJO
+     * @return the primary key of the POJO
+     */
+    protected abstract T getId(P pojo);
+
+    /**
+     * @return the DAO that executes the requests. Available after the verticle has been started.
+     */
+    protected DAO dao() {
+        return dao;
+    }
+
+    /**
+     * @param maxBatchSize the maximum number of ids queried at once. When the number of pending ids reaches this
+     *                     limit, the query is executed immediately. Defaults to 1000.
+     * @return this
+     */
+    public AbstractDAOServiceVerticle<P, T, DAO> setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * @param maxBatchDelay the milliseconds to wait for further lookups before the query is executed. Defaults to
+     *                      <code>0</code>, which only merges the lookups that have already been received.
+     * @return this
+     */
+    public AbstractDAOServiceVerticle<P, T, DAO> setMaxBatchDelay(long maxBatchDelay) {
+        this.maxBatchDelay = maxBatchDelay;
+        return this;
+    }
+
+    /**
+     * @param failure the exception thrown by the DAO or the cause of its failed result
+     * @return the failure code sent to the proxy: <code>400</code> if the arguments of the request were rejected,
+     * <code>409</code> if an integrity constraint has been violated, e.g. because a POJO with the same key already
+     * exists, <code>501</code> if the DAO does not support the operation and <code>500</code> otherwise.
+     */
+    protected int failureCode(Throwable failure) {
+        if(failure instanceof IllegalArgumentException || failure instanceof ClassCastException || failure instanceof NullPointerException){
+            return 400;
+        }
+        if(failure instanceof DataAccessException
+                && ((DataAccessException) failure).sqlStateClass() == SQLStateClass.C23_INTEGRITY_CONSTRAINT_VIOLATION){
+            return 409;
+        }
+        if(failure instanceof UnsupportedOperationException){
+            return 501;
+        }
+        return 500;
+    }
+
+    /**
+     * @param failure the exception thrown by the DAO or the cause of its failed result
+     * @return the failure message sent to the proxy: the class of the exception followed by its message, if any.
+     */
+    protected String failureMessage(Throwable failure) {
+        return failure.getMessage() == null ? failure.getClass().getName() : failure.getClass().getName() + ": " + failure.getMessage();
+    }
+
+    @Override
+    public void start(Future<Void> startFuture) {
+        codec.register(vertx.eventBus());
+        dao = daoFactory.apply(vertx);
+        consumer = vertx.eventBus().consumer(address, this::handle);
+        consumer.completionHandler(startFuture);
+    }
+
+    /**
+     * Fails the lookups that have not been queried yet, so their senders do not have to wait for the timeout.
+     */
+    @Override
+    public void stop(Future<Void> stopFuture) {
+        List<Message<Object>> lookups = new ArrayList<>(pendingLookups);
+        pendingLookups.clear();
+        pendingIds.clear();
+        for (Message<Object> lookup : lookups) {
+            lookup.fail(503, "Service stopped");
+        }
+        consumer.unregister(stopFuture);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handle(Message<Object> message) {
+        DAOServiceAction action;
+        try {
+            action = DAOServiceAction.valueOf(message.headers().get(DAOServiceAction.HEADER));
+        } catch (RuntimeException e) {
+            message.fail(400, "Unknown action " + message.headers().get(DAOServiceAction.HEADER));
+            return;
+        }
+        if(!(message.body() instanceof Object[])){
+            message.fail(400, "Invalid arguments");
+            return;
+        }
+        Object[] args = (Object[]) message.body();
+        if(action == DAOServiceAction.FIND_ONE_BY_ID || action == DAOServiceAction.FIND_MANY_BY_IDS){
+            try {
+                lookup(message, action, args[0]);
+            } catch (RuntimeException e) {
+                message.fail(400, "Invalid arguments: " + failureMessage(e));
+            }
+            return;
+        }
+        Object result;
+        try {
+            switch (action) {
+                case INSERT:
+                    result = dao.insert((P) args[0]);
+                    break;
+                case INSERT_ALL:
+                    result = dao.insert((Collection<P>) args[0]);
+                    break;
+                case INSERT_RETURNING_PRIMARY:
+                    result = dao.insertReturningPrimary((P) args[0]);
+                    break;
+                case UPDATE:
+                    result = dao.update((P) args[0]);
+                    break;
+                case UPDATE_ALL:
+                    result = dao.update((Collection<P>) args[0]);
+                    break;
+                case UPSERT:
+                    result = dao.upsert((P) args[0]);
+                    break;
+                case UPSERT_ALL:
+                    result = dao.upsert((Collection<P>) args[0]);
+                    break;
+                case DELETE_BY_ID:
+                    result = dao.deleteById((T) args[0]);
+                    break;
+                case DELETE_BY_IDS:
+                    result = dao.deleteByIds((Collection<T>) args[0]);
+                    break;
+                case FIND_ALL:
+                    result = dao.findAll();
+                    break;
+                default:
+                    throw new UnsupportedOperationException(action.name());
+            }
+        } catch (RuntimeException e) {
+            message.fail(failureCode(e), failureMessage(e));
+            return;
+        }
+        toFuture(result).setHandler(ar -> {
+            if(ar.succeeded()){
+                message.reply(ar.result(), replyOptions);
+            }else{
+                message.fail(failureCode(ar.cause()), failureMessage(ar.cause()));
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void lookup(Message<Object> message, DAOServiceAction action, Object ids) {
+        if(action == DAOServiceAction.FIND_MANY_BY_IDS && !(ids instanceof Collection)){
+            throw new IllegalArgumentException("ids must be a collection");
+        }
+        boolean first = pendingLookups.isEmpty();
+        if(action == DAOServiceAction.FIND_ONE_BY_ID){
+            pendingIds.add((T) ids);
+        }else{
+            pendingIds.addAll((Collection<T>) ids);
+        }
+        pendingLookups.add(message);
+        if(pendingIds.size() >= maxBatchSize){
+            flush();
+        }else if(first){
+            if(maxBatchDelay > 0){
+                vertx.setTimer(maxBatchDelay, timerId -> flush());
+            }else{
+                context.runOnContext(v -> flush());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flush() {
+        if(pendingLookups.isEmpty()){
+            //flushed before because the batch was full
+            return;
+        }
+        List<Message<Object>> lookups = new ArrayList<>(pendingLookups);
+        List<T> ids = new ArrayList<>(pendingIds);
+        pendingLookups.clear();
+        pendingIds.clear();
+        Future<Object> result;
+        try {
+            result = toFuture(dao.findManyByIds(ids));
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+        result.setHandler(ar -> {
+            if(ar.failed()){
+                for (Message<Object> lookup : lookups) {
+                    lookup.fail(failureCode(ar.cause()), failureMessage(ar.cause()));
+                }
+                return;
+            }
+            Map<T, P> found = new HashMap<>();
+            for (P pojo : (List<P>) ar.result()) {
+                found.put(getId(pojo), pojo);
+            }
+            for (Message<Object> lookup : lookups) {
+                Object requested = ((Object[]) lookup.body())[0];
+                if(DAOServiceAction.FIND_ONE_BY_ID.name().equals(lookup.headers().get(DAOServiceAction.HEADER))){
+                    lookup.reply(found.get(requested), replyOptions);
+                }else{
+                    List<P> pojos = new ArrayList<>();
+                    for (Object id : new LinkedHashSet<>((Collection<Object>) requested)) {
+                        P pojo = found.get(id);
+                        if(pojo != null){
+                            pojos.add(pojo);
+                        }
+                    }
+                    lookup.reply(pojos, replyOptions);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.service;
+
+/**
+ * The operations of a <code>GenericVertxDAO</code> that can be requested from an {@link AbstractDAOServiceVerticle}.
+ * The name of the action is sent in the {@link #HEADER}, the arguments of the operation are the body of the message.
+ * Operations taking a <code>Condition</code> are not available, see {@link DAOServiceCodec}.
+ */
+public enum DAOServiceAction {
+
+    INSERT,
+    INSERT_ALL,
+    INSERT_RETURNING_PRIMARY,
+    UPDATE,
+    UPDATE_ALL,
+    UPSERT,
+    UPSERT_ALL,
+    DELETE_BY_ID,
+    DELETE_BY_IDS,
+    FIND_ONE_BY_ID,
+    FIND_MANY_BY_IDS,
+    FIND_ALL;
+
+    public static final String HEADER = "action";
+}
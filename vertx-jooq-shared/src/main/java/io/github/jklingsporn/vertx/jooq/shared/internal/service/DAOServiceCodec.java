@@ -0,0 +1,250 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.service;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojoCodec;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes the requests and replies of a DAO-service. POJOs are sent using the <code>VertxPojoCodec</code> of the DAO,
+ * collections and arrays are sent element by element. Keys are written explicitly: <code>Integers</code>,
+ * <code>Longs</code>, <code>Shorts</code>, <code>Strings</code> and <code>UUIDs</code> by their value, composite keys
+ * (<code>Records</code>) by the number of their values followed by the values. Other types, e.g.
+ * <code>Conditions</code>, cannot be sent to another node, because a codec that deserializes arbitrary classes
+ * received from any peer of the event bus could be used to execute code or SQL. When the message is delivered
+ * locally, only the POJOs are copied.
+ */
+public class DAOServiceCodec implements MessageCodec<Object, Object> {
+
+    private static final byte NULL = 0;
+    private static final byte POJO = 1;
+    private static final byte LIST = 2;
+    private static final byte ARRAY = 3;
+    private static final byte INTEGER = 4;
+    private static final byte LONG = 5;
+    private static final byte STRING = 6;
+    private static final byte SHORT = 7;
+    private static final byte UUID_VALUE = 8;
+    private static final byte RECORD = 9;
+
+    private final String name;
+    private final VertxPojoCodec<Object> pojoCodec;
+
+    /**
+     * @param name the name of the codec
+     * @param pojoCodec the codec of the POJOs of the DAO or <code>null</code> if no POJOs are sent, e.g. only keys.
+     */
+    @SuppressWarnings("unchecked")
+    public DAOServiceCodec(String name, VertxPojoCodec<?> pojoCodec) {
+        this.name = name;
+        this.pojoCodec = (VertxPojoCodec<Object>) pojoCodec;
+    }
+
+    /**
+     * Registers this codec unless there is a codec registered with the same name already, e.g. by another
+     * instance of the service or a proxy.
+     * @param eventBus the event bus
+     */
+    public void register(EventBus eventBus) {
+        try {
+            eventBus.registerCodec(this);
+        } catch (IllegalStateException alreadyRegistered) {
+            //the codecs of the same DAO are interchangeable
+        }
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, Object value) {
+        if(value == null){
+            buffer.appendByte(NULL);
+        }else if(pojoCodec != null && pojoCodec.type().isInstance(value)){
+            buffer.appendByte(POJO);
+            int lengthPos = buffer.length();
+            buffer.appendInt(0);
+            pojoCodec.encodeToWire(buffer, value);
+            buffer.setInt(lengthPos, buffer.length() - lengthPos - 4);
+        }else if(value instanceof Collection){
+            buffer.appendByte(LIST);
+            buffer.appendInt(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                encodeToWire(buffer, element);
+            }
+        }else if(value instanceof Object[]){
+            buffer.appendByte(ARRAY);
+            buffer.appendInt(((Object[]) value).length);
+            for (Object element : (Object[]) value) {
+                encodeToWire(buffer, element);
+            }
+        }else if(value instanceof Integer){
+            buffer.appendByte(INTEGER);
+            buffer.appendInt((Integer) value);
+        }else if(value instanceof Long){
+            buffer.appendByte(LONG);
+            buffer.appendLong((Long) value);
+        }else if(value instanceof String){
+            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            buffer.appendByte(STRING);
+            buffer.appendInt(bytes.length);
+            buffer.appendBytes(bytes);
+        }else if(value instanceof Short){
+            buffer.appendByte(SHORT);
+            buffer.appendShort((Short) value);
+        }else if(value instanceof UUID){
+            buffer.appendByte(UUID_VALUE);
+            buffer.appendLong(((UUID) value).getMostSignificantBits());
+            buffer.appendLong(((UUID) value).getLeastSignificantBits());
+        }else if(value instanceof Record){
+            Record record = (Record) value;
+            buffer.appendByte(RECORD);
+            buffer.appendInt(record.size());
+            for (int i = 0; i < record.size(); i++) {
+                encodeToWire(buffer, record.get(i));
+            }
+        }else{
+            throw new IllegalArgumentException("Cannot encode " + value.getClass().getName());
+        }
+    }
+
+    @Override
+    public Object decodeFromWire(int pos, Buffer buffer) {
+        return decode(buffer, new int[]{pos});
+    }
+
+    private Object decode(Buffer buffer, int[] position) {
+        byte type = buffer.getByte(position[0]++);
+        switch (type) {
+            case NULL:
+                return null;
+            case POJO: {
+                int length = readSize(buffer, position);
+                Object pojo = pojoCodec.decodeFromWire(position[0], buffer);
+                position[0] += length;
+                return pojo;
+            }
+            case LIST: {
+                int size = readSize(buffer, position);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(decode(buffer, position));
+                }
+                return list;
+            }
+            case ARRAY: {
+                Object[] array = new Object[readSize(buffer, position)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = decode(buffer, position);
+                }
+                return array;
+            }
+            case INTEGER:
+                return readInt(buffer, position);
+            case LONG: {
+                long value = buffer.getLong(position[0]);
+                position[0] += 8;
+                return value;
+            }
+            case STRING: {
+                int length = readSize(buffer, position);
+                String value = buffer.getString(position[0], position[0] + length, StandardCharsets.UTF_8.name());
+                position[0] += length;
+                return value;
+            }
+            case SHORT: {
+                short value = buffer.getShort(position[0]);
+                position[0] += 2;
+                return value;
+            }
+            case UUID_VALUE: {
+                UUID value = new UUID(buffer.getLong(position[0]), buffer.getLong(position[0] + 8));
+                position[0] += 16;
+                return value;
+            }
+            case RECORD: {
+                Object[] values = new Object[readSize(buffer, position)];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = decode(buffer, position);
+                }
+                return record(values);
+            }
+            default:
+                throw new IllegalStateException("Unknown type " + type);
+        }
+    }
+
+    private static int readInt(Buffer buffer, int[] position) {
+        int value = buffer.getInt(position[0]);
+        position[0] += 4;
+        return value;
+    }
+
+    /**
+     * Reads the length of a value or the number of elements, which cannot exceed the remaining bytes of the
+     * <code>Buffer</code>, so a corrupt message does not allocate arbitrary amounts of memory.
+     */
+    private static int readSize(Buffer buffer, int[] position) {
+        int size = readInt(buffer, position);
+        if(size < 0 || size > buffer.length() - position[0]){
+            throw new IllegalStateException("Invalid size " + size);
+        }
+        return size;
+    }
+
+    /**
+     * @param values the values of a composite key
+     * @return a <code>Record</code> holding the values. <code>Records</code> are equal if their values are equal, so it
+     * equals the key of the POJO, although its fields are not the fields of the table.
+     */
+    @SuppressWarnings("unchecked")
+    private static Record record(Object[] values) {
+        Field<?>[] fields = new Field<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Class<?> type = values[i] == null ? Object.class : values[i].getClass();
+            fields[i] = DSL.field(DSL.name("key" + i), type);
+        }
+        Record record = DSL.using(SQLDialect.DEFAULT).newRecord(fields);
+        for (int i = 0; i < values.length; i++) {
+            record.set((Field<Object>) fields[i], values[i]);
+        }
+        return record;
+    }
+
+    @Override
+    public Object transform(Object value) {
+        if(pojoCodec != null && pojoCodec.type().isInstance(value)){
+            return pojoCodec.transform(value);
+        }else if(value instanceof Collection){
+            List<Object> list = new ArrayList<>(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                list.add(transform(element));
+            }
+            return list;
+        }else if(value instanceof Object[]){
+            Object[] array = ((Object[]) value).clone();
+            for (int i = 0; i < array.length; i++) {
+                array[i] = transform(array[i]);
+            }
+            return array;
+        }
+        return value;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+}
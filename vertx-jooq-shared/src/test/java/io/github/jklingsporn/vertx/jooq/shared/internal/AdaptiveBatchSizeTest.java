@@ -0,0 +1,58 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by jensklingsporn on 16.10.18.
+ */
+public class AdaptiveBatchSizeTest {
+
+    private final long target = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    public void fastChunksShouldGrowSize(){
+        AdaptiveBatchSize batchSize = new AdaptiveBatchSize(100, 10, 1000, 100, TimeUnit.MILLISECONDS);
+        batchSize.record(100, target / 10);
+        Assert.assertEquals(200, batchSize.get());
+        batchSize.record(200, target / 10);
+        batchSize.record(400, target / 10);
+        batchSize.record(800, target / 10);
+        Assert.assertEquals(1000, batchSize.get());
+    }
+
+    @Test
+    public void slowChunksShouldShrinkSize(){
+        AdaptiveBatchSize batchSize = new AdaptiveBatchSize(100, 10, 1000, 100, TimeUnit.MILLISECONDS);
+        batchSize.record(100, target * 10);
+        Assert.assertEquals(50, batchSize.get());
+        batchSize.record(50, target * 10);
+        batchSize.record(25, target * 10);
+        batchSize.record(12, target * 10);
+        Assert.assertEquals(10, batchSize.get());
+    }
+
+    @Test
+    public void chunksOnTargetShouldKeepSize(){
+        AdaptiveBatchSize batchSize = new AdaptiveBatchSize(100, 10, 1000, 100, TimeUnit.MILLISECONDS);
+        batchSize.record(100, target);
+        Assert.assertEquals(100, batchSize.get());
+    }
+
+    @Test
+    public void smallSlowChunkShouldNotShrinkSize(){
+        AdaptiveBatchSize batchSize = new AdaptiveBatchSize(100, 10, 1000, 100, TimeUnit.MILLISECONDS);
+        batchSize.record(5, target);
+        Assert.assertEquals(100, batchSize.get());
+    }
+
+    @Test
+    public void fixedSizeShouldNeverChange(){
+        AdaptiveBatchSize batchSize = AdaptiveBatchSize.fixed(42);
+        batchSize.record(42, 1);
+        batchSize.record(42, target * 100);
+        Assert.assertEquals(42, batchSize.get());
+    }
+}
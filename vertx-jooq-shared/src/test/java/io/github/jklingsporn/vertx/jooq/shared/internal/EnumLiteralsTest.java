@@ -0,0 +1,57 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import org.jooq.Catalog;
+import org.jooq.EnumType;
+import org.jooq.Schema;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Created by jensklingsporn on 24.10.18.
+ */
+public class EnumLiteralsTest {
+
+    @Test
+    public void literalShouldReturnConstant(){
+        Assert.assertEquals(Status.IN_PROGRESS, EnumLiterals.fromLiteral(Status.class, "in progress"));
+        Assert.assertEquals(Status.DONE, EnumLiterals.fromLiteral(Status.class, "done"));
+    }
+
+    @Test
+    public void unknownLiteralShouldReturnNull(){
+        Assert.assertNull(EnumLiterals.fromLiteral(Status.class, "IN_PROGRESS"));
+        Assert.assertNull(EnumLiterals.fromLiteral(Status.class, null));
+    }
+
+    enum Status implements EnumType {
+
+        IN_PROGRESS("in progress"),
+        DONE("done");
+
+        private final String literal;
+
+        Status(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public Catalog getCatalog() {
+            return null;
+        }
+
+        @Override
+        public Schema getSchema() {
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return "status";
+        }
+
+        @Override
+        public String getLiteral() {
+            return literal;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Created by jensklingsporn on 18.10.18.
+ */
+public class InsertChunksTest {
+
+    @Test
+    public void rowsPerChunkShouldBeLimitedByBindValues() {
+        Assert.assertEquals(1000, InsertChunks.rowsPerChunk(1000, 10));
+        Assert.assertEquals(InsertChunks.MAX_BIND_VALUES / 100, InsertChunks.rowsPerChunk(1000, 100));
+        Assert.assertEquals(1, InsertChunks.rowsPerChunk(1000, InsertChunks.MAX_BIND_VALUES + 1));
+    }
+
+    @Test
+    public void splitShouldKeepOrderAndLimitRows() {
+        List<List<Integer>> chunks = InsertChunks.split(Arrays.asList(1, 2, 3, 4, 5), 2, 1);
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)), chunks);
+        Assert.assertTrue(InsertChunks.split(Collections.<Integer>emptyList(), 2, 1).isEmpty());
+    }
+
+    @Test
+    public void splitShouldLimitBytes() {
+        List<List<Integer>> chunks = InsertChunks.split(Arrays.asList(3, 3, 10, 1, 1), 100, 1, Integer::longValue, 7);
+        Assert.assertEquals(Arrays.asList(Arrays.asList(3, 3), Collections.singletonList(10), Arrays.asList(1, 1)), chunks);
+    }
+}
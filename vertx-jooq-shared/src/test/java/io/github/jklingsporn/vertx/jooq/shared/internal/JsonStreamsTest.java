@@ -0,0 +1,202 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Created by jensklingsporn on 25.10.18.
+ */
+public class JsonStreamsTest {
+
+    private static Pojo newPojo(){
+        Pojo pojo = new Pojo();
+        pojo.smallNumber = 7;
+        pojo.ratio = 0.5f;
+        pojo.timestamp = Instant.parse("2018-10-25T10:15:30.123Z");
+        pojo.binary = new byte[]{1, 2, 3, -1};
+        pojo.status = EnumLiteralsTest.Status.IN_PROGRESS;
+        pojo.json = new JsonObject().put("foo", new JsonArray().add(1).add(new JsonObject().put("bar", true)));
+        return pojo;
+    }
+
+    @Test
+    public void toBufferShouldReturnSameJsonAsToJson(){
+        Pojo pojo = newPojo();
+        Assert.assertEquals(pojo.toJson(), new JsonObject(pojo.toBuffer().toString()));
+        Assert.assertEquals(new Pojo().toJson(), new JsonObject(new Pojo().toBuffer().toString()));
+    }
+
+    @Test
+    public void fromBufferShouldReturnEqualPojo(){
+        Pojo pojo = newPojo();
+        Assert.assertEquals(pojo, JsonStreams.fromBuffer(pojo.toBuffer(), new Pojo()));
+        Assert.assertEquals(pojo, JsonStreams.fromBuffer(Buffer.buffer(pojo.toJson().encode()), new Pojo()));
+    }
+
+    @Test
+    public void unknownFieldsShouldBeSkipped(){
+        JsonObject json = newPojo().toJson().put("unknown", new JsonObject().put("status", "done"));
+        Assert.assertEquals(newPojo(), JsonStreams.fromBuffer(Buffer.buffer(json.encode()), new Pojo()));
+    }
+
+    @Test
+    public void listShouldBeWrittenAsArray(){
+        Buffer buffer = JsonStreams.toBuffer(Arrays.asList(newPojo(), new Pojo()));
+        Assert.assertEquals(new JsonArray().add(newPojo().toJson()).add(new Pojo().toJson()), new JsonArray(buffer.toString()));
+        Assert.assertEquals(Arrays.asList(newPojo(), new Pojo()), JsonStreams.listFromBuffer(buffer, Pojo::new));
+    }
+
+    @Test
+    public void pojosWithoutStreamingShouldUseJsonObject(){
+        FallbackPojo pojo = new FallbackPojo();
+        pojo.fromJson(new JsonObject().put("foo", "bar"));
+        Assert.assertEquals(pojo.toJson(), new JsonObject(pojo.toBuffer().toString()));
+        Assert.assertEquals(pojo.toJson(), JsonStreams.fromBuffer(pojo.toBuffer(), new FallbackPojo()).toJson());
+    }
+
+    @Test
+    public void writeFieldsShouldWriteAllEntriesOfAJsonObject(){
+        FallbackPojo pojo = new FallbackPojo(){
+            @Override
+            public void writeJson(JsonGenerator generator) throws IOException {
+                generator.writeStartObject();
+                JsonStreams.writeField(generator, "before", 1);
+                JsonStreams.writeFields(generator, toJson());
+                generator.writeEndObject();
+            }
+        };
+        pojo.fromJson(new JsonObject().put("foo", "bar").putNull("empty").put("nested", new JsonObject().put("list", new JsonArray().add(1))));
+        Assert.assertEquals(pojo.toJson().put("before", 1), new JsonObject(pojo.toBuffer().toString()));
+    }
+
+    @Test(expected = DecodeException.class)
+    public void invalidJsonShouldFail(){
+        JsonStreams.fromBuffer(Buffer.buffer("[]"), new Pojo());
+    }
+
+    /**
+     * Implements the JSON-methods like the code generated by the <code>VertxGenerator</code>.
+     */
+    static class Pojo implements VertxPojo {
+
+        Byte smallNumber;
+        Float ratio;
+        Instant timestamp;
+        byte[] binary;
+        EnumLiteralsTest.Status status;
+        JsonObject json;
+
+        @Override
+        public Pojo fromJson(JsonObject json) {
+            this.smallNumber = json.getInteger("smallNumber")==null?null:json.getInteger("smallNumber").byteValue();
+            this.ratio = json.getFloat("ratio");
+            this.timestamp = json.getInstant("timestamp");
+            this.binary = json.getBinary("binary");
+            this.status = EnumLiterals.fromLiteral(EnumLiteralsTest.Status.class, json.getString("status"));
+            this.json = json.getJsonObject("json");
+            return this;
+        }
+
+        @Override
+        public JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.put("smallNumber", smallNumber);
+            json.put("ratio", ratio);
+            json.put("timestamp", timestamp);
+            json.put("binary", binary);
+            json.put("status", status==null?null:status.getLiteral());
+            json.put("json", this.json);
+            return json;
+        }
+
+        @Override
+        public void writeJson(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            JsonStreams.writeField(generator, "smallNumber", smallNumber);
+            JsonStreams.writeField(generator, "ratio", ratio);
+            JsonStreams.writeField(generator, "timestamp", timestamp);
+            JsonStreams.writeField(generator, "binary", binary);
+            JsonStreams.writeField(generator, "status", status);
+            JsonStreams.writeField(generator, "json", json);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public Pojo readJson(JsonParser parser) throws IOException {
+            JsonStreams.startObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "smallNumber":
+                        smallNumber = JsonStreams.readByte(parser);
+                        break;
+                    case "ratio":
+                        ratio = JsonStreams.readFloat(parser);
+                        break;
+                    case "timestamp":
+                        timestamp = JsonStreams.readInstant(parser);
+                        break;
+                    case "binary":
+                        binary = JsonStreams.readBinary(parser);
+                        break;
+                    case "status":
+                        status = JsonStreams.readEnum(parser, EnumLiteralsTest.Status.class);
+                        break;
+                    case "json":
+                        json = JsonStreams.readJsonObject(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Pojo)) return false;
+            Pojo pojo = (Pojo) o;
+            return Objects.equals(smallNumber, pojo.smallNumber) &&
+                    Objects.equals(ratio, pojo.ratio) &&
+                    Objects.equals(timestamp, pojo.timestamp) &&
+                    Arrays.equals(binary, pojo.binary) &&
+                    status == pojo.status &&
+                    Objects.equals(json, pojo.json);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(smallNumber, ratio, timestamp, status, json);
+        }
+    }
+
+    static class FallbackPojo implements VertxPojo {
+
+        private JsonObject json = new JsonObject();
+
+        @Override
+        public FallbackPojo fromJson(JsonObject json) {
+            this.json = json.copy();
+            return this;
+        }
+
+        @Override
+        public JsonObject toJson() {
+            return json.copy();
+        }
+    }
+}
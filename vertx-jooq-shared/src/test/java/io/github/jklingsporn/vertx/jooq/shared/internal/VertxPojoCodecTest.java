@@ -0,0 +1,112 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by jensklingsporn on 26.10.18.
+ */
+public class VertxPojoCodecTest {
+
+    private static JsonStreamsTest.Pojo newPojo(){
+        JsonStreamsTest.Pojo pojo = new JsonStreamsTest.Pojo();
+        pojo.smallNumber = -7;
+        pojo.ratio = 0.5f;
+        pojo.timestamp = java.time.Instant.parse("2018-10-26T10:15:30.123456789Z");
+        pojo.binary = new byte[]{1, 2, 3, -1};
+        pojo.status = EnumLiteralsTest.Status.IN_PROGRESS;
+        pojo.json = new io.vertx.core.json.JsonObject().put("foo", "bär");
+        return pojo;
+    }
+
+    @Test
+    public void decodeFromWireShouldReturnEqualPojo(){
+        PojoCodec codec = new PojoCodec(true);
+        Buffer buffer = Buffer.buffer().appendString("header");
+        codec.encodeToWire(buffer, newPojo());
+        Assert.assertEquals(newPojo(), codec.decodeFromWire(6, buffer));
+    }
+
+    @Test
+    public void nullValuesShouldOnlyBeMarked(){
+        PojoCodec codec = new PojoCodec(true);
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, new JsonStreamsTest.Pojo());
+        Assert.assertEquals(1, buffer.length());
+        Assert.assertEquals(new JsonStreamsTest.Pojo(), codec.decodeFromWire(0, buffer));
+    }
+
+    @Test
+    public void listCodecShouldDecodeAllPojos(){
+        PojoCodec codec = new PojoCodec(true);
+        List<JsonStreamsTest.Pojo> pojos = Arrays.asList(newPojo(), new JsonStreamsTest.Pojo(), newPojo());
+        Buffer buffer = Buffer.buffer();
+        codec.listCodec().encodeToWire(buffer, pojos);
+        Assert.assertEquals(pojos, codec.listCodec().decodeFromWire(0, buffer));
+    }
+
+    @Test
+    public void listCodecShouldKeepNullElements(){
+        PojoCodec codec = new PojoCodec(true);
+        List<JsonStreamsTest.Pojo> pojos = Arrays.asList(null, newPojo(), null);
+        Buffer buffer = Buffer.buffer().appendString("header");
+        codec.listCodec().encodeToWire(buffer, pojos);
+        Assert.assertEquals(pojos, codec.listCodec().decodeFromWire(6, buffer));
+        Assert.assertEquals(pojos, codec.listCodec().transform(pojos));
+    }
+
+    @Test
+    public void transformShouldCopyUnlessDisabled(){
+        JsonStreamsTest.Pojo pojo = newPojo();
+        JsonStreamsTest.Pojo copy = new PojoCodec(true).transform(pojo);
+        Assert.assertNotSame(pojo, copy);
+        Assert.assertEquals(pojo, copy);
+        Assert.assertSame(pojo, new PojoCodec(false).transform(pojo));
+        Assert.assertSame(pojo, new PojoCodec(false).listCodec().transform(Arrays.asList(pojo)).get(0));
+    }
+
+    private static class PojoCodec extends VertxPojoCodec<JsonStreamsTest.Pojo> {
+
+        PojoCodec(boolean copyOnLocalDelivery) {
+            super(JsonStreamsTest.Pojo.class, 6, copyOnLocalDelivery);
+        }
+
+        @Override
+        protected void encode(Writer writer, JsonStreamsTest.Pojo pojo) {
+            writer.writeByte(pojo.smallNumber);
+            writer.writeFloat(pojo.ratio);
+            writer.writeInstant(pojo.timestamp);
+            writer.writeBinary(pojo.binary);
+            writer.writeEnum(pojo.status);
+            writer.writeJsonObject(pojo.json);
+        }
+
+        @Override
+        protected JsonStreamsTest.Pojo decode(Reader reader) {
+            JsonStreamsTest.Pojo pojo = new JsonStreamsTest.Pojo();
+            pojo.smallNumber = reader.readByte();
+            pojo.ratio = reader.readFloat();
+            pojo.timestamp = reader.readInstant();
+            pojo.binary = reader.readBinary();
+            pojo.status = reader.readEnum(EnumLiteralsTest.Status.class);
+            pojo.json = reader.readJsonObject();
+            return pojo;
+        }
+
+        @Override
+        protected JsonStreamsTest.Pojo copy(JsonStreamsTest.Pojo pojo) {
+            JsonStreamsTest.Pojo copy = new JsonStreamsTest.Pojo();
+            copy.smallNumber = pojo.smallNumber;
+            copy.ratio = pojo.ratio;
+            copy.timestamp = pojo.timestamp;
+            copy.binary = pojo.binary == null ? null : pojo.binary.clone();
+            copy.status = pojo.status;
+            copy.json = pojo.json == null ? null : pojo.json.copy();
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * Created by jensklingsporn on 05.11.18.
+ */
+public class CacheInvalidationChannelTest {
+
+    private static final String ADDRESS = "vertx-jooq.invalidation.test";
+
+    private final Vertx vertx = Vertx.vertx();
+    private final EntityCache<Integer, String> writerCache = new EntityCache<Integer, String>(10, UnaryOperator.identity()).setNegativeTtl(1, TimeUnit.MINUTES);
+    private final EntityCache<Integer, String> readerCache = new EntityCache<Integer, String>(10, UnaryOperator.identity()).setNegativeTtl(1, TimeUnit.MINUTES);
+    private final CacheInvalidationChannel<Integer> writer = new CacheInvalidationChannel<>(vertx, ADDRESS, writerCache);
+    private final CacheInvalidationChannel<Integer> reader = new CacheInvalidationChannel<>(vertx, ADDRESS, readerCache);
+
+    @After
+    public void after() {
+        vertx.close();
+    }
+
+    private static void await(Future<?> future) throws Exception {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        future.setHandler(ar -> {
+            if (ar.succeeded()) {
+                result.complete(ar.result());
+            } else {
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        result.get(3, TimeUnit.SECONDS);
+    }
+
+    private static void fill(EntityCache<Integer, String> cache) {
+        cache.put(1, "one", cache.epoch());
+        cache.put(2, "two", cache.epoch());
+        cache.put(3, "three", cache.epoch());
+        cache.put(4, null, cache.epoch());
+    }
+
+    @Test
+    public void writesOfOneTickShouldBePublishedAsOneMessage() throws Exception {
+        await(CompositeFuture.all(writer.start(), reader.start()));
+        fill(writerCache);
+        fill(readerCache);
+        AtomicInteger messages = new AtomicInteger();
+        CompletableFuture<Void> received = new CompletableFuture<>();
+        vertx.eventBus().<Buffer>consumer(ADDRESS, msg -> {
+            messages.incrementAndGet();
+            //the reader is registered before, so it has processed the message already
+            vertx.setTimer(50, id -> received.complete(null));
+        });
+        vertx.runOnContext(v -> {
+            writer.publish(Collections.singletonList(1));
+            writer.publish(Invalidation.of(Arrays.asList(2, 1), true));
+        });
+        received.get(3, TimeUnit.SECONDS);
+        Assert.assertEquals(1, messages.get());
+        Assert.assertEquals(1, readerCache.size());
+        //the writer ignores its own messages
+        Assert.assertEquals(4, writerCache.size());
+    }
+
+    @Test
+    public void publishAllShouldClearOtherCaches() throws Exception {
+        await(CompositeFuture.all(writer.start(), reader.start()));
+        fill(readerCache);
+        CompletableFuture<Void> received = new CompletableFuture<>();
+        vertx.eventBus().<Buffer>consumer(ADDRESS, msg -> vertx.setTimer(50, id -> received.complete(null)));
+        writer.publishAll();
+        received.get(3, TimeUnit.SECONDS);
+        Assert.assertEquals(0, readerCache.size());
+        await(writer.close());
+    }
+
+    /**
+     * Publishes a message and waits until the channels registered before have received it.
+     */
+    private void publishAndWait(Runnable publish) throws Exception {
+        CompletableFuture<Void> received = new CompletableFuture<>();
+        vertx.eventBus().<Buffer>consumer(ADDRESS, msg -> vertx.setTimer(50, id -> received.complete(null)))
+                .completionHandler(v -> publish.run());
+        received.get(3, TimeUnit.SECONDS);
+    }
+
+    private static Buffer header(byte kind) {
+        UUID origin = UUID.randomUUID();
+        return Buffer.buffer().appendLong(origin.getMostSignificantBits()).appendLong(origin.getLeastSignificantBits()).appendByte(kind);
+    }
+
+    @Test
+    public void receivedInvalidationsShouldIncrementTheTableVersion() throws Exception {
+        Table<?> table = DSL.table(DSL.name("vertx", "versioned"));
+        CacheInvalidationChannel<Integer> versionedWriter = new CacheInvalidationChannel<>(vertx, ADDRESS, table, writerCache);
+        CacheInvalidationChannel<Integer> versionedReader = new CacheInvalidationChannel<>(vertx, ADDRESS, table, readerCache);
+        await(CompositeFuture.all(versionedWriter.start(), versionedReader.start()));
+        long version = TableVersions.shared().version(table);
+        publishAndWait(() -> versionedWriter.publish(Collections.singletonList(1)));
+        //the writer ignores its own message because the writing DAO has incremented the version already
+        Assert.assertEquals(version + 1, TableVersions.shared().version(table));
+        //a message that cannot be decoded is received by both channels
+        publishAndWait(() -> vertx.eventBus().publish(ADDRESS, Buffer.buffer().appendInt(1)));
+        Assert.assertEquals(version + 3, TableVersions.shared().version(table));
+    }
+
+    @Test
+    public void invalidMessagesShouldClearTheCache() throws Exception {
+        await(reader.start());
+        Buffer[] invalid = {
+                Buffer.buffer().appendInt(1),
+                header((byte) 42),
+                header((byte) 0).appendByte((byte) 99),
+                //a list of ids whose size exceeds the message
+                header((byte) 0).appendByte((byte) 2).appendInt(Integer.MAX_VALUE),
+                header((byte) 1).appendByte((byte) 2).appendInt(1).appendByte((byte) 4)
+        };
+        for (Buffer message : invalid) {
+            fill(readerCache);
+            publishAndWait(() -> vertx.eventBus().publish(ADDRESS, message));
+            Assert.assertEquals(0, readerCache.size());
+        }
+    }
+
+    @Test
+    public void compositeKeysShouldBeInvalidated() throws Exception {
+        EntityCache<Record, String> compositeCache = new EntityCache<>(10, UnaryOperator.identity());
+        CacheInvalidationChannel<Record> compositeWriter = new CacheInvalidationChannel<>(vertx, ADDRESS, new EntityCache<Record, String>(10, UnaryOperator.identity()));
+        CacheInvalidationChannel<Record> compositeReader = new CacheInvalidationChannel<>(vertx, ADDRESS, compositeCache);
+        await(compositeReader.start());
+        Record written = key(1, "one");
+        Record other = key(2, "two");
+        compositeCache.put(written, "written", compositeCache.epoch());
+        compositeCache.put(other, "other", compositeCache.epoch());
+        publishAndWait(() -> vertx.runOnContext(v -> compositeWriter.publish(Collections.singletonList(key(1, "one")))));
+        Assert.assertEquals(1, compositeCache.size());
+        Assert.assertEquals(EntityCache.Lookup.HIT, compositeCache.get(other, pojo -> {}));
+        Assert.assertEquals(EntityCache.Lookup.MISS, compositeCache.get(written, pojo -> {}));
+    }
+
+    private static Record key(int id, String name) {
+        Record key = DSL.using(SQLDialect.DEFAULT).newRecord(DSL.field(DSL.name("id"), Integer.class), DSL.field(DSL.name("name"), String.class));
+        key.set(DSL.field(DSL.name("id"), Integer.class), id);
+        key.set(DSL.field(DSL.name("name"), String.class), name);
+        return key;
+    }
+
+    @Test
+    public void unsupportedKeysShouldClearOtherCaches() throws Exception {
+        EntityCache<LocalDate, String> dateCache = new EntityCache<>(10, UnaryOperator.identity());
+        CacheInvalidationChannel<LocalDate> dateWriter = new CacheInvalidationChannel<>(vertx, ADDRESS, new EntityCache<LocalDate, String>(10, UnaryOperator.identity()));
+        CacheInvalidationChannel<LocalDate> dateReader = new CacheInvalidationChannel<>(vertx, ADDRESS, dateCache);
+        await(dateReader.start());
+        dateCache.put(LocalDate.of(2018, 11, 5), "written", dateCache.epoch());
+        dateCache.put(LocalDate.of(2018, 11, 6), "other", dateCache.epoch());
+        publishAndWait(() -> vertx.runOnContext(v -> dateWriter.publish(Collections.singletonList(LocalDate.of(2018, 11, 5)))));
+        Assert.assertEquals(0, dateCache.size());
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Created by jensklingsporn on 02.11.18.
+ */
+public class EntityCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private static EntityCache.Lookup get(EntityCache<Integer, String> cache, Integer id, AtomicReference<String> found) {
+        found.set(null);
+        return cache.get(id, found::set);
+    }
+
+    @Test
+    public void fullCacheShouldEvictLeastRecentlyUsed() {
+        EntityCache<Integer, String> cache = new EntityCache<>(2, UnaryOperator.identity(), now::get);
+        AtomicReference<String> found = new AtomicReference<>();
+        cache.put(1, "one", cache.epoch());
+        cache.put(2, "two", cache.epoch());
+        Assert.assertEquals(EntityCache.Lookup.HIT, get(cache, 1, found));
+        cache.put(3, "three", cache.epoch());
+        Assert.assertEquals(EntityCache.Lookup.MISS, get(cache, 2, found));
+        Assert.assertEquals(EntityCache.Lookup.HIT, get(cache, 1, found));
+        Assert.assertEquals("one", found.get());
+        Assert.assertEquals(EntityCache.Lookup.HIT, get(cache, 3, found));
+        Assert.assertEquals(1, cache.evictionCount());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void entriesShouldExpire() {
+        EntityCache<Integer, String> cache = new EntityCache<Integer, String>(10, UnaryOperator.identity(), now::get)
+                .setTtl(10, TimeUnit.NANOSECONDS)
+                .setNegativeTtl(5, TimeUnit.NANOSECONDS);
+        AtomicReference<String> found = new AtomicReference<>();
+        cache.put(1, "one", cache.epoch());
+        cache.put(2, null, cache.epoch());
+        now.set(4);
+        Assert.assertEquals(EntityCache.Lookup.HIT, get(cache, 1, found));
+        Assert.assertEquals(EntityCache.Lookup.NEGATIVE_HIT, get(cache, 2, found));
+        Assert.assertNull(found.get());
+        now.set(5);
+        Assert.assertEquals(EntityCache.Lookup.MISS, get(cache, 2, found));
+        now.set(10);
+        Assert.assertEquals(EntityCache.Lookup.MISS, get(cache, 1, found));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void negativeCachingShouldBeDisabledByDefault() {
+        EntityCache<Integer, String> cache = new EntityCache<>(10, UnaryOperator.identity(), now::get);
+        cache.put(1, null, cache.epoch());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void loadsStartedBeforeInvalidationShouldNotBeCached() {
+        EntityCache<Integer, String> cache = new EntityCache<Integer, String>(10, UnaryOperator.identity(), now::get).setNegativeTtl(1, TimeUnit.MINUTES);
+        long epoch = cache.epoch();
+        cache.invalidate(1);
+        cache.put(1, "stale", epoch);
+        Assert.assertEquals(0, cache.size());
+
+        cache.put(1, "one", cache.epoch());
+        cache.put(2, null, cache.epoch());
+        cache.put(3, "three", cache.epoch());
+        cache.invalidateNegatives();
+        AtomicReference<String> found = new AtomicReference<>();
+        Assert.assertEquals(EntityCache.Lookup.MISS, get(cache, 2, found));
+        cache.invalidateAll(Arrays.asList(1, 2));
+        Assert.assertEquals(EntityCache.Lookup.MISS, get(cache, 1, found));
+        Assert.assertEquals(EntityCache.Lookup.HIT, get(cache, 3, found));
+        cache.invalidateAll();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void metricsShouldCountLookups() {
+        EntityCache<Integer, String> cache = new EntityCache<Integer, String>(10, UnaryOperator.identity(), now::get).setNegativeTtl(1, TimeUnit.MINUTES);
+        AtomicReference<String> found = new AtomicReference<>();
+        Assert.assertEquals(0, cache.hitRate(), 0);
+        cache.put(1, "one", cache.epoch());
+        cache.put(2, null, cache.epoch());
+        get(cache, 1, found);
+        get(cache, 2, found);
+        get(cache, 3, found);
+        get(cache, 1, found);
+        Assert.assertEquals(2, cache.hitCount());
+        Assert.assertEquals(1, cache.negativeHitCount());
+        Assert.assertEquals(1, cache.missCount());
+        Assert.assertEquals(0.75, cache.hitRate(), 0.001);
+    }
+
+    @Test
+    public void copyFunctionShouldBeAppliedOnPutAndGet() {
+        AtomicLong copies = new AtomicLong();
+        EntityCache<Integer, String> cache = new EntityCache<>(10, s -> {
+            copies.incrementAndGet();
+            return new String(s);
+        }, now::get);
+        String one = "one";
+        cache.put(1, one, cache.epoch());
+        AtomicReference<String> found = new AtomicReference<>();
+        get(cache, 1, found);
+        Assert.assertEquals(one, found.get());
+        Assert.assertNotSame(one, found.get());
+        Assert.assertEquals(2, copies.get());
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.cache;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Created by jensklingsporn on 06.11.18.
+ */
+public class QueryResultCacheTest {
+
+    private static final Table<Record> SOMETHING = DSL.table(DSL.name("vertx", "something"));
+    private static final Table<Record> OTHER = DSL.table(DSL.name("vertx", "other"));
+    private static final Field<Integer> ID = DSL.field(DSL.name("id"), Integer.class);
+
+    private final AtomicLong now = new AtomicLong();
+    private final TableVersions tableVersions = new TableVersions();
+    private final DSLContext dsl = QueryKey.dsl(new DefaultConfiguration().set(SQLDialect.POSTGRES));
+
+    private QueryKey key(int id) {
+        return QueryKey.of(dsl, dsl.selectFrom(SOMETHING).where(ID.eq(id)));
+    }
+
+    private static QueryResultCache.Lookup get(QueryResultCache<String> cache, QueryKey key, AtomicReference<List<String>> found) {
+        found.set(null);
+        return cache.get(key, found::set);
+    }
+
+    @Test
+    public void keyShouldContainBindValuesAndTables() {
+        Assert.assertEquals(key(1), key(1));
+        Assert.assertNotEquals(key(1), key(2));
+        Assert.assertArrayEquals(new String[]{"vertx.something"}, key(1).tables());
+        QueryKey subquery = QueryKey.of(dsl, dsl.selectFrom(SOMETHING).where(ID.in(dsl.select(ID).from(OTHER))));
+        Assert.assertArrayEquals(new String[]{"vertx.something", "vertx.other"}, subquery.tables());
+    }
+
+    @Test
+    public void aliasesShouldBeResolvedAndPlainSQLShouldNotBeRecorded() {
+        Table<Record> alias = OTHER.as("o");
+        QueryKey aliased = QueryKey.of(dsl, dsl.selectFrom(SOMETHING).where(ID.in(dsl.select(DSL.field(DSL.name("o", "id"), Integer.class)).from(alias))));
+        Assert.assertArrayEquals(new String[]{"vertx.something", "vertx.other"}, aliased.tables());
+        QueryKey plainSQL = QueryKey.of(dsl, dsl.selectFrom(SOMETHING).where("id in (select id from vertx.other)"));
+        Assert.assertArrayEquals(new String[]{"vertx.something"}, plainSQL.tables());
+    }
+
+    @Test
+    public void writeToATableOfTheQueryShouldInvalidateResult() {
+        QueryResultCache<String> cache = new QueryResultCache<>(10, UnaryOperator.identity(), tableVersions, now::get);
+        AtomicReference<List<String>> found = new AtomicReference<>();
+        QueryKey key = QueryKey.of(dsl, dsl.selectFrom(SOMETHING).where(ID.in(dsl.select(ID).from(OTHER))));
+        cache.put(key, Arrays.asList("one", "two"), cache.versions(key));
+        Assert.assertEquals(QueryResultCache.Lookup.HIT, get(cache, key, found));
+        Assert.assertEquals(Arrays.asList("one", "two"), found.get());
+
+        tableVersions.increment("vertx.unrelated");
+        Assert.assertEquals(QueryResultCache.Lookup.HIT, get(cache, key, found));
+        tableVersions.increment(OTHER);
+        Assert.assertEquals(QueryResultCache.Lookup.MISS, get(cache, key, found));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void resultLoadedBeforeAWriteShouldNotBeCached() {
+        QueryResultCache<String> cache = new QueryResultCache<>(10, UnaryOperator.identity(), tableVersions, now::get);
+        AtomicReference<List<String>> found = new AtomicReference<>();
+        long[] versions = cache.versions(key(1));
+        tableVersions.increment(SOMETHING);
+        cache.put(key(1), Collections.singletonList("one"), versions);
+        Assert.assertEquals(QueryResultCache.Lookup.MISS, get(cache, key(1), found));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void staleResultShouldBeReturnedWhileRefreshing() {
+        QueryResultCache<String> cache = new QueryResultCache<String>(10, UnaryOperator.identity(), tableVersions, now::get)
+                .setTtl(10, TimeUnit.NANOSECONDS)
+                .setMaxStale(20, TimeUnit.NANOSECONDS);
+        AtomicReference<List<String>> found = new AtomicReference<>();
+        cache.put(key(1), Collections.singletonList("one"), cache.versions(key(1)));
+        now.set(10);
+        Assert.assertEquals(QueryResultCache.Lookup.REFRESH, get(cache, key(1), found));
+        Assert.assertEquals(Collections.singletonList("one"), found.get());
+        Assert.assertEquals(QueryResultCache.Lookup.STALE, get(cache, key(1), found));
+        cache.refreshFailed(key(1));
+        Assert.assertEquals(QueryResultCache.Lookup.REFRESH, get(cache, key(1), found));
+        cache.put(key(1), Collections.singletonList("refreshed"), cache.versions(key(1)));
+        Assert.assertEquals(QueryResultCache.Lookup.HIT, get(cache, key(1), found));
+        Assert.assertEquals(Collections.singletonList("refreshed"), found.get());
+
+        tableVersions.increment(SOMETHING);
+        now.set(29);
+        Assert.assertEquals(QueryResultCache.Lookup.REFRESH, get(cache, key(1), found));
+        now.set(30);
+        Assert.assertEquals(QueryResultCache.Lookup.MISS, get(cache, key(1), found));
+        Assert.assertEquals(4, cache.staleHitCount());
+        Assert.assertEquals(1, cache.hitCount());
+        Assert.assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    public void fullCacheShouldEvictLeastRecentlyUsed() {
+        QueryResultCache<String> cache = new QueryResultCache<>(2, s -> s + "'", tableVersions, now::get);
+        AtomicReference<List<String>> found = new AtomicReference<>();
+        cache.put(key(1), Collections.singletonList("one"), cache.versions(key(1)));
+        cache.put(key(2), Collections.singletonList("two"), cache.versions(key(2)));
+        Assert.assertEquals(QueryResultCache.Lookup.HIT, get(cache, key(1), found));
+        Assert.assertEquals(Collections.singletonList("one''"), found.get());
+        cache.put(key(3), Collections.singletonList("three"), cache.versions(key(3)));
+        Assert.assertEquals(QueryResultCache.Lookup.MISS, get(cache, key(2), found));
+        Assert.assertEquals(QueryResultCache.Lookup.HIT, get(cache, key(1), found));
+        Assert.assertEquals(1, cache.evictionCount());
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Vertx;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by jensklingsporn on 16.10.18.
+ */
+public class JDBCWorkerPoolTest {
+
+    private Vertx vertx;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void createWithSameNameShouldReturnSamePool(){
+        JDBCWorkerPool pool = JDBCWorkerPool.create(vertx, "db", 2);
+        Assert.assertSame(pool, JDBCWorkerPool.create(vertx, "db", 4));
+        Assert.assertNotSame(pool, JDBCWorkerPool.create(vertx, "other-db", 2));
+    }
+
+    @Test
+    public void sharedShouldReturnOnePoolPerVertx(){
+        JDBCWorkerPool pool = JDBCWorkerPool.shared(vertx);
+        Assert.assertSame(pool, JDBCWorkerPool.shared(vertx));
+        Assert.assertNull(pool.getName());
+        Vertx other = Vertx.vertx();
+        try {
+            Assert.assertNotSame(pool, JDBCWorkerPool.shared(other));
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void closedPoolShouldBeRecreated(){
+        JDBCWorkerPool pool = JDBCWorkerPool.create(vertx, "db", 2);
+        pool.close();
+        Assert.assertNotSame(pool, JDBCWorkerPool.create(vertx, "db", 2));
+    }
+
+    @Test
+    public void poolShouldSurviveUndeploymentOfCreatingVerticle() throws Exception {
+        CompletableFuture<JDBCWorkerPool> created = new CompletableFuture<>();
+        CompletableFuture<String> deployed = new CompletableFuture<>();
+        vertx.deployVerticle(new AbstractVerticle() {
+            @Override
+            public void start() {
+                created.complete(JDBCWorkerPool.create(vertx, "db", 1));
+            }
+        }, res -> deployed.complete(res.result()));
+        CompletableFuture<Void> undeployed = new CompletableFuture<>();
+        vertx.undeploy(deployed.get(1, TimeUnit.SECONDS), res -> undeployed.complete(null));
+        undeployed.get(1, TimeUnit.SECONDS);
+        JDBCWorkerPool pool = JDBCWorkerPool.create(vertx, "db", 1);
+        Assert.assertSame(created.get(), pool);
+        CountDownLatch latch = new CountDownLatch(1);
+        pool.<Void>executeBlocking(f -> f.complete(), false, res -> {
+            Assert.assertTrue(res.succeeded());
+            latch.countDown();
+        });
+        Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void executeBlockingShouldRunOnNamedPool() throws InterruptedException {
+        JDBCWorkerPool pool = JDBCWorkerPool.create(vertx, "db", 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        pool.<String>executeBlocking(f -> f.complete(Thread.currentThread().getName()), true, res -> {
+            Assert.assertTrue(res.succeeded());
+            Assert.assertTrue(res.result().startsWith("db"));
+            latch.countDown();
+        });
+        Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void queueDepthShouldCountWaitingTasks() throws InterruptedException {
+        JDBCWorkerPool pool = JDBCWorkerPool.create(vertx, "db", 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(3);
+        pool.<Void>executeBlocking(f -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            f.complete();
+        }, false, res -> completed.countDown());
+        Assert.assertTrue(started.await(1, TimeUnit.SECONDS));
+        pool.<Void>executeBlocking(f -> f.complete(), false, res -> completed.countDown());
+        pool.<Void>executeBlocking(f -> f.complete(), false, res -> completed.countDown());
+        Assert.assertEquals(2, pool.getQueueDepth());
+        Assert.assertEquals(1, pool.getRunningCount());
+        release.countDown();
+        Assert.assertTrue(completed.await(1, TimeUnit.SECONDS));
+        Assert.assertEquals(0, pool.getQueueDepth());
+    }
+
+    @Test
+    public void unorderedExecutionsShouldRunInParallel() throws InterruptedException {
+        JDBCWorkerPool pool = JDBCWorkerPool.create(vertx, "db", 2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch completed = new CountDownLatch(2);
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < 2; i++) {
+                pool.<Boolean>executeBlocking(f -> {
+                    bothStarted.countDown();
+                    try {
+                        f.complete(bothStarted.await(1, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        f.fail(e);
+                    }
+                }, false, res -> {
+                    Assert.assertTrue(res.result());
+                    completed.countDown();
+                });
+            }
+        });
+        Assert.assertTrue(completed.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void executionsWithSameKeyShouldRunInOrder() throws InterruptedException {
+        JDBCWorkerPool pool = JDBCWorkerPool.create(vertx, "db", 4);
+        int executions = 20;
+        List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(executions);
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < executions; i++) {
+                int value = i;
+                pool.<Void>executeBlocking("key", f -> {
+                    executionOrder.add(value);
+                    f.complete();
+                }, res -> completed.countDown());
+            }
+        });
+        Assert.assertTrue(completed.await(2, TimeUnit.SECONDS));
+        for (int i = 0; i < executions; i++) {
+            Assert.assertEquals(i, executionOrder.get(i).intValue());
+        }
+        Assert.assertEquals(0, pool.getQueueDepth());
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by jensklingsporn on 16.10.18.
+ */
+public class VirtualThreadJDBCWorkerPoolTest {
+
+    private Vertx vertx;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharedShouldFailWithoutVirtualThreads(){
+        Assume.assumeFalse(VirtualThreadJDBCWorkerPool.isSupported());
+        VirtualThreadJDBCWorkerPool.shared(vertx);
+    }
+
+    @Test
+    public void sharedShouldReturnSamePool(){
+        Assume.assumeTrue(VirtualThreadJDBCWorkerPool.isSupported());
+        Assert.assertSame(VirtualThreadJDBCWorkerPool.shared(vertx), VirtualThreadJDBCWorkerPool.shared(vertx));
+    }
+
+    @Test
+    public void resultShouldBeHandledOnCallersContext() throws InterruptedException {
+        Assume.assumeTrue(VirtualThreadJDBCWorkerPool.isSupported());
+        JDBCWorkerPool pool = VirtualThreadJDBCWorkerPool.shared(vertx);
+        Context context = vertx.getOrCreateContext();
+        CountDownLatch latch = new CountDownLatch(1);
+        context.runOnContext(v -> pool.<Boolean>executeBlocking(f -> f.complete(Context.isOnWorkerThread()), true, res -> {
+            Assert.assertTrue(res.succeeded());
+            Assert.assertFalse(res.result());
+            Assert.assertSame(context, Vertx.currentContext());
+            latch.countDown();
+        }));
+        Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+}